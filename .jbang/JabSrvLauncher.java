@@ -6,9 +6,11 @@
 //RUNTIME_OPTIONS --enable-native-access=ALL-UNNAMED
 
 //SOURCES ../jabsrv-cli/src/main/java/org/jabref/http/server/cli/ServerCli.java
+//SOURCES ../jabsrv-cli/src/main/java/org/jabref/http/server/cli/LoadTestCli.java
 //FILES tinylog.properties=../jabsrv-cli/src/main/resources/tinylog.properties
 
 //SOURCES ../jabsrv/src/main/java/org/jabref/http/dto/BibEntryDTO.java
+//SOURCES ../jabsrv/src/main/java/org/jabref/http/dto/EndpointMetricsDTO.java
 //SOURCES ../jabsrv/src/main/java/org/jabref/http/dto/cayw/SimpleJson.java
 //SOURCES ../jabsrv/src/main/java/org/jabref/http/dto/GlobalExceptionMapper.java
 //SOURCES ../jabsrv/src/main/java/org/jabref/http/dto/GsonFactory.java
@@ -30,13 +32,20 @@
 //SOURCES ../jabsrv/src/main/java/org/jabref/http/server/command/Command.java
 //SOURCES ../jabsrv/src/main/java/org/jabref/http/server/command/CommandResource.java
 //SOURCES ../jabsrv/src/main/java/org/jabref/http/server/command/SelectEntriesCommand.java
+//SOURCES ../jabsrv/src/main/java/org/jabref/http/server/ConcurrencyLimit.java
+//SOURCES ../jabsrv/src/main/java/org/jabref/http/server/ConcurrencyLimitFeature.java
 //SOURCES ../jabsrv/src/main/java/org/jabref/http/server/CORSFilter.java
 //SOURCES ../jabsrv/src/main/java/org/jabref/http/server/LibrariesResource.java
 //SOURCES ../jabsrv/src/main/java/org/jabref/http/server/LibraryResource.java
+//SOURCES ../jabsrv/src/main/java/org/jabref/http/server/MetricsResource.java
 //SOURCES ../jabsrv/src/main/java/org/jabref/http/server/PreferencesFactory.java
+//SOURCES ../jabsrv/src/main/java/org/jabref/http/server/RequestMetricsFilter.java
 //SOURCES ../jabsrv/src/main/java/org/jabref/http/server/RootResource.java
 //SOURCES ../jabsrv/src/main/java/org/jabref/http/server/Server.java
+//SOURCES ../jabsrv/src/main/java/org/jabref/http/server/ServerConfiguration.java
 //SOURCES ../jabsrv/src/main/java/org/jabref/http/server/services/FilesToServe.java
+//SOURCES ../jabsrv/src/main/java/org/jabref/http/server/services/LibraryCache.java
+//SOURCES ../jabsrv/src/main/java/org/jabref/http/server/services/RequestMetrics.java
 //SOURCES ../jabsrv/src/main/java/org/jabref/http/server/services/ServerUtils.java
 
 // REPOS mavencentral,snapshots=https://central.sonatype.com/repository/maven-snapshots/
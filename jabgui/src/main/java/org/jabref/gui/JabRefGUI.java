@@ -35,6 +35,7 @@ import org.jabref.gui.util.WebViewStore;
 import org.jabref.http.manager.HttpServerManager;
 import org.jabref.logic.UiCommand;
 import org.jabref.logic.ai.AiService;
+import org.jabref.logic.bibtex.BibEntrySerializationCache;
 import org.jabref.logic.citation.SearchCitationsRelationsService;
 import org.jabref.logic.journals.JournalAbbreviationLoader;
 import org.jabref.logic.journals.JournalAbbreviationRepository;
@@ -157,6 +158,7 @@ public class JabRefGUI extends Application {
 
         BibEntryTypesManager entryTypesManager = preferences.getCustomEntryTypesRepository();
         Injector.setModelOrService(BibEntryTypesManager.class, entryTypesManager);
+        Injector.setModelOrService(BibEntrySerializationCache.class, new BibEntrySerializationCache());
         Injector.setModelOrService(JournalAbbreviationRepository.class, JournalAbbreviationLoader.loadRepository(preferences.getJournalAbbreviationPreferences()));
         Injector.setModelOrService(ProtectedTermsLoader.class, new ProtectedTermsLoader(preferences.getProtectedTermsPreferences()));
 
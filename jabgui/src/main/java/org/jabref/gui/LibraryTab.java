@@ -6,6 +6,7 @@ import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.Random;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 import javax.swing.undo.UndoManager;
@@ -64,6 +65,8 @@ import org.jabref.logic.importer.FetcherClientException;
 import org.jabref.logic.importer.FetcherException;
 import org.jabref.logic.importer.FetcherServerException;
 import org.jabref.logic.importer.ParserResult;
+import org.jabref.logic.integrity.IncrementalIntegrityCheck;
+import org.jabref.logic.integrity.IntegrityCheck;
 import org.jabref.logic.journals.JournalAbbreviationRepository;
 import org.jabref.logic.l10n.Localization;
 import org.jabref.logic.pdf.FileAnnotationCache;
@@ -80,6 +83,7 @@ import org.jabref.model.database.BibDatabase;
 import org.jabref.model.database.BibDatabaseContext;
 import org.jabref.model.database.event.BibDatabaseContextChangedEvent;
 import org.jabref.model.database.event.EntriesAddedEvent;
+import org.jabref.model.database.event.EntriesChangedBatchEvent;
 import org.jabref.model.database.event.EntriesRemovedEvent;
 import org.jabref.model.entry.Author;
 import org.jabref.model.entry.BibEntry;
@@ -156,6 +160,7 @@ public class LibraryTab extends Tab implements CommandSelectionTab {
 
     private ImportHandler importHandler;
     private IndexManager indexManager;
+    private IncrementalIntegrityCheck integrityCheck;
 
     private final AiService aiService;
 
@@ -242,7 +247,9 @@ public class LibraryTab extends Tab implements CommandSelectionTab {
         this.bibDatabaseContext.getDatabase().registerListener(this);
         this.bibDatabaseContext.getMetaData().registerListener(this);
 
-        this.getDatabase().registerListener(new UpdateTimestampListener(preferences));
+        UpdateTimestampListener updateTimestampListener = new UpdateTimestampListener(preferences);
+        this.getDatabase().registerListener(updateTimestampListener);
+        this.getDatabase().addBatchEditCompletion(updateTimestampListener::completeBatchEdit);
 
         aiService.setupDatabase(bibDatabaseContext);
 
@@ -317,6 +324,26 @@ public class LibraryTab extends Tab implements CommandSelectionTab {
         indexManager.close();
     }
 
+    /**
+     * Returns the integrity check of this library, which keeps its messages up to date while the library is edited.
+     * It is created at the first call.
+     *
+     * @param integrityCheckFactory creates the integrity check for the library
+     */
+    public synchronized IncrementalIntegrityCheck getIntegrityCheck(Function<BibDatabaseContext, IntegrityCheck> integrityCheckFactory) {
+        if (integrityCheck == null) {
+            integrityCheck = new IncrementalIntegrityCheck(bibDatabaseContext, integrityCheckFactory);
+        }
+        return integrityCheck;
+    }
+
+    private synchronized void closeIntegrityCheck() {
+        if (integrityCheck != null) {
+            integrityCheck.close();
+            integrityCheck = null;
+        }
+    }
+
     private void onDatabaseLoadingFailed(Exception ex) {
         loading.set(false);
 
@@ -344,6 +371,7 @@ public class LibraryTab extends Tab implements CommandSelectionTab {
         foundExistingBibDatabase.ifPresent(databaseContext -> stateManager.getOpenDatabases().remove(databaseContext));
 
         this.bibDatabaseContext = bibDatabaseContext;
+        closeIntegrityCheck();
 
         stateManager.getOpenDatabases().add(bibDatabaseContext);
 
@@ -699,6 +727,7 @@ public class LibraryTab extends Tab implements CommandSelectionTab {
         } catch (RuntimeException e) {
             LOGGER.error("Problem when closing index manager", e);
         }
+        closeIntegrityCheck();
 
         try {
             AutosaveManager.shutdown(bibDatabaseContext);
@@ -1053,6 +1082,11 @@ public class LibraryTab extends Tab implements CommandSelectionTab {
         public void listen(FieldChangedEvent fieldChangedEvent) {
             indexManager.updateEntry(fieldChangedEvent);
         }
+
+        @Subscribe
+        public void listen(EntriesChangedBatchEvent entriesChangedBatchEvent) {
+            indexManager.updateEntries(entriesChangedBatchEvent);
+        }
     }
 
     public static class DatabaseNotification extends NotificationPane {
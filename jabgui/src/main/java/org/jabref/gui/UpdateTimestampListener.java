@@ -1,8 +1,16 @@
 package org.jabref.gui;
 
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Set;
+
 import org.jabref.logic.preferences.CliPreferences;
+import org.jabref.model.database.BibDatabase;
+import org.jabref.model.entry.BibEntry;
 import org.jabref.model.entry.event.EntriesEventSource;
 import org.jabref.model.entry.event.EntryChangedEvent;
+import org.jabref.model.entry.event.FieldChangedEvent;
 import org.jabref.model.entry.field.StandardField;
 
 import com.google.common.eventbus.Subscribe;
@@ -26,4 +34,23 @@ class UpdateTimestampListener {
                     preferences.getTimestampPreferences().now());
         }
     }
+
+    /**
+     * Updates the timestamps of the entries changed by a batch edit. Has to be added as completion of the batch edits
+     * (see {@link BibDatabase#addBatchEditCompletion}), thus the timestamps are part of the batch edit.
+     */
+    void completeBatchEdit(List<FieldChangedEvent> fieldChanges) {
+        if (!preferences.getTimestampPreferences().shouldAddModificationDate()) {
+            return;
+        }
+        Set<BibEntry> changedEntries = Collections.newSetFromMap(new IdentityHashMap<>());
+        for (FieldChangedEvent fieldChange : fieldChanges) {
+            if (fieldChange.getEntriesEventSource() != EntriesEventSource.CLEANUP_TIMESTAMP) {
+                changedEntries.add(fieldChange.getBibEntry());
+            }
+        }
+
+        String now = preferences.getTimestampPreferences().now();
+        changedEntries.forEach(entry -> entry.setField(StandardField.MODIFICATIONDATE, now));
+    }
 }
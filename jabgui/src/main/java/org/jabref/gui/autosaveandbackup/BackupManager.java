@@ -1,6 +1,7 @@
 package org.jabref.gui.autosaveandbackup;
 
 import java.io.IOException;
+import java.io.StringWriter;
 import java.io.Writer;
 import java.nio.charset.Charset;
 import java.nio.charset.StandardCharsets;
@@ -8,8 +9,12 @@ import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.StandardCopyOption;
 import java.nio.file.attribute.FileTime;
+import java.time.Instant;
+import java.util.ArrayList;
 import java.util.HashSet;
+import java.util.IdentityHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.Queue;
 import java.util.Set;
@@ -18,30 +23,42 @@ import java.util.concurrent.ExecutorService;
 import java.util.concurrent.LinkedBlockingQueue;
 import java.util.concurrent.ScheduledThreadPoolExecutor;
 import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
 
 import javafx.scene.control.TableColumn;
 
 import org.jabref.gui.LibraryTab;
 import org.jabref.gui.maintable.BibEntryTableViewModel;
 import org.jabref.gui.maintable.columns.MainTableColumn;
+import org.jabref.logic.bibtex.BibEntrySerializationCache;
+import org.jabref.logic.bibtex.BibEntryWriter;
+import org.jabref.logic.bibtex.FieldWriter;
 import org.jabref.logic.bibtex.InvalidFieldValueException;
 import org.jabref.logic.exporter.AtomicFileWriter;
 import org.jabref.logic.exporter.BibDatabaseWriter;
 import org.jabref.logic.exporter.BibWriter;
+import org.jabref.logic.exporter.MetaDataSerializer;
 import org.jabref.logic.exporter.SelfContainedSaveConfiguration;
+import org.jabref.logic.importer.ImportFormatPreferences;
+import org.jabref.logic.importer.OpenDatabase;
+import org.jabref.logic.importer.ParserResult;
 import org.jabref.logic.preferences.CliPreferences;
 import org.jabref.logic.util.BackupFileType;
 import org.jabref.logic.util.CoarseChangeFilter;
 import org.jabref.logic.util.io.BackupFileUtil;
+import org.jabref.logic.util.io.BackupJournal;
 import org.jabref.model.database.BibDatabase;
 import org.jabref.model.database.BibDatabaseContext;
+import org.jabref.model.database.BibDatabaseMode;
 import org.jabref.model.database.event.BibDatabaseContextChangedEvent;
 import org.jabref.model.entry.BibEntry;
 import org.jabref.model.entry.BibEntryTypesManager;
 import org.jabref.model.entry.BibtexString;
 import org.jabref.model.metadata.SaveOrder;
 import org.jabref.model.metadata.SelfContainedSaveOrder;
+import org.jabref.model.util.DummyFileUpdateMonitor;
 
+import com.airhacks.afterburner.injection.Injector;
 import com.google.common.eventbus.Subscribe;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -51,6 +68,9 @@ import org.slf4j.LoggerFactory;
  * An intelligent {@link ExecutorService} with a {@link BlockingQueue} prevents a high load while making backups and
  * rejects all redundant backup tasks. This class does not manage the .bak file which is created when opening a
  * database.
+ * <p>
+ * After a full backup has been written, entry changes are appended to a {@link BackupJournal} next to it. A new full
+ * backup is written if something else than entries changed or the journal grew too large.
  */
 public class BackupManager {
 
@@ -60,6 +80,9 @@ public class BackupManager {
 
     private static final int DELAY_BETWEEN_BACKUP_ATTEMPTS_IN_SECONDS = 19;
 
+    // A new full backup is written as soon as the journal exceeds this fraction of the size of the last full backup
+    private static final double MAXIMUM_JOURNAL_SIZE_RATIO = 0.25;
+
     private static final Set<BackupManager> RUNNING_INSTANCES = new HashSet<>();
 
     private final BibDatabaseContext bibDatabaseContext;
@@ -74,6 +97,18 @@ public class BackupManager {
     private final Queue<Path> backupFilesQueue = new LinkedBlockingQueue<>();
     private boolean needsBackup = false;
 
+    // Copies of the entries written at the last backup. A copy is reused as long as its original entry is not modified.
+    private final Map<BibEntry, EntryCopy> entryCopies = new IdentityHashMap<>();
+    private final BibEntrySerializationCache entrySerializationCache = Injector.instantiateModelOrService(BibEntrySerializationCache.class);
+
+    // Journal of the entry changes since the last full backup; null if changes cannot be journaled
+    private BackupJournal journal;
+    private final Map<BibEntry, JournaledEntry> journaledEntries = new IdentityHashMap<>();
+    private NonEntryState journalNonEntryState;
+    private int baseEntryCount;
+    private int nextEntryId;
+    private long baseSize;
+
     BackupManager(LibraryTab libraryTab, BibDatabaseContext bibDatabaseContext, CoarseChangeFilter coarseChangeFilter, BibEntryTypesManager entryTypesManager, CliPreferences preferences) {
         this.bibDatabaseContext = bibDatabaseContext;
         this.coarseChangeFilter = coarseChangeFilter;
@@ -174,6 +209,18 @@ public class BackupManager {
                 // If we cannot get the timestamp, we do show any warning
                 return false;
             }
+            BackupJournal journal = BackupJournal.forBackup(latestBackupPath);
+            try {
+                if (Files.exists(journal.getPath())
+                        && (Files.getLastModifiedTime(journal.getPath()).compareTo(currentFileLastModifiedTime) > 0)
+                        && !journal.read().batches().isEmpty()) {
+                    // Changes were journaled after the file was written last
+                    LOGGER.info("Backup journal {} contains changes not contained in {}", journal.getPath(), originalPath);
+                    return true;
+                }
+            } catch (IOException e) {
+                LOGGER.debug("Could not get timestamp of backup journal {}", journal.getPath(), e);
+            }
             if (latestBackupFileLastModifiedTime.compareTo(currentFileLastModifiedTime) <= 0) {
                 // Backup is older than current file
                 // We treat the backup as non-different (even if it could differ)
@@ -194,23 +241,71 @@ public class BackupManager {
     }
 
     /**
-     * Restores the backup file by copying and overwriting the original one.
+     * Restores the backup by overwriting the original file. Changes journaled after the latest full backup are
+     * replayed until the given point in time.
      *
      * @param originalPath Path to the file which should be equalized to the backup file.
+     * @param pointInTime  The latest journaled changes to restore. Use {@link Instant#MAX} to restore all changes.
      */
-    public static void restoreBackup(Path originalPath, Path backupDir) {
+    public static void restoreBackup(Path originalPath, Path backupDir, Instant pointInTime, CliPreferences preferences, BibEntryTypesManager entryTypesManager) {
         Optional<Path> backupPath = getLatestBackupPath(originalPath, backupDir);
         if (backupPath.isEmpty()) {
             LOGGER.error("There is no backup file");
             return;
         }
         try {
-            Files.copy(backupPath.get(), originalPath, StandardCopyOption.REPLACE_EXISTING);
+            if (BackupJournal.forBackup(backupPath.get()).read().batches().isEmpty()) {
+                Files.copy(backupPath.get(), originalPath, StandardCopyOption.REPLACE_EXISTING);
+                return;
+            }
+
+            BibDatabaseContext restoredContext = loadBackup(originalPath, backupDir, pointInTime, preferences.getImportFormatPreferences()).getDatabaseContext();
+            SelfContainedSaveOrder saveOrder = restoredContext.getMetaData().getSaveOrder()
+                                                              .filter(so -> so.getOrderType() != SaveOrder.OrderType.TABLE)
+                                                              .map(SelfContainedSaveOrder::of)
+                                                              .orElse(SaveOrder.getDefaultSaveOrder());
+            SelfContainedSaveConfiguration saveConfiguration = (SelfContainedSaveConfiguration) new SelfContainedSaveConfiguration()
+                    .withMakeBackup(false)
+                    .withSaveOrder(saveOrder);
+            Charset encoding = restoredContext.getMetaData().getEncoding().orElse(StandardCharsets.UTF_8);
+            try (Writer writer = new AtomicFileWriter(originalPath, encoding, false)) {
+                new BibDatabaseWriter(
+                        new BibWriter(writer, restoredContext.getDatabase().getNewLineSeparator()),
+                        saveConfiguration,
+                        preferences.getFieldPreferences(),
+                        preferences.getCitationKeyPatternPreferences(),
+                        entryTypesManager)
+                        .saveDatabase(restoredContext);
+            }
         } catch (IOException e) {
             LOGGER.error("Error while restoring the backup file.", e);
         }
     }
 
+    /**
+     * Loads the latest full backup of the given file and replays the journaled changes until the given point in time.
+     *
+     * @param pointInTime The latest journaled changes to apply. Use {@link Instant#MAX} to apply all changes.
+     */
+    public static ParserResult loadBackup(Path originalPath, Path backupDir, Instant pointInTime, ImportFormatPreferences importFormatPreferences) throws IOException {
+        Path backupPath = getLatestBackupPath(originalPath, backupDir).orElseThrow(() -> new IOException("There is no backup file for " + originalPath));
+        ParserResult parserResult = OpenDatabase.loadDatabase(backupPath, importFormatPreferences, new DummyFileUpdateMonitor());
+        BackupJournal.Journal journal = BackupJournal.forBackup(backupPath).read();
+        if (!journal.batches().isEmpty()) {
+            BackupJournal.replay(parserResult.getDatabase(), journal, pointInTime, importFormatPreferences);
+        }
+        return parserResult;
+    }
+
+    /**
+     * Returns the points in time the changes since the latest full backup were journaled at, oldest first
+     */
+    public static List<Instant> getBackupPointsInTime(Path originalPath, Path backupDir) {
+        return getLatestBackupPath(originalPath, backupDir)
+                .map(backupPath -> BackupJournal.forBackup(backupPath).read().getPointsInTime())
+                .orElse(List.of());
+    }
+
     Optional<Path> determineBackupPathForNewBackup(Path backupDir) {
         return bibDatabaseContext.getDatabasePath().map(path -> BackupManager.getBackupPathForNewBackup(path, backupDir));
     }
@@ -220,18 +315,30 @@ public class BackupManager {
      *
      * <em>SIDE EFFECT: Deletes oldest backup file</em>
      *
-     * @param backupPath the full path to the file where the library should be backed up to
+     * @param backupPath the full path to the file where the library should be backed up to, unused if the changes can be appended to the journal
      */
     void performBackup(Path backupPath) {
         if (!needsBackup) {
             return;
         }
 
+        if (canAppendToJournal()) {
+            try {
+                appendToJournal();
+                // The journal is up-to-date, thus we currently do not need any new backup
+                this.needsBackup = false;
+                return;
+            } catch (IOException e) {
+                LOGGER.warn("Could not append to backup journal {}. Writing a full backup.", journal.getPath(), e);
+            }
+        }
+
         // We opted for "while" to delete backups in case there are more than 10
         while (backupFilesQueue.size() >= MAXIMUM_BACKUP_FILE_COUNT) {
             Path oldestBackupFile = backupFilesQueue.poll();
             try {
                 Files.delete(oldestBackupFile);
+                Files.deleteIfExists(BackupJournal.forBackup(oldestBackupFile).getPath());
             } catch (IOException e) {
                 LOGGER.error("Could not delete backup file {}", oldestBackupFile, e);
             }
@@ -263,15 +370,19 @@ public class BackupManager {
 
         // "Clone" the database context
         // We "know" that "only" the BibEntries might be changed during writing (see [org.jabref.logic.exporter.BibDatabaseWriter.savePartOfDatabase])
-        List<BibEntry> list = bibDatabaseContext.getDatabase().getEntries().stream()
-                                                .map(BibEntry::new)
-                                                .toList();
+        // Only entries modified since the last backup are copied, all others are reused (including their serialization)
+        List<BibEntry> originals = bibDatabaseContext.getDatabase().getEntriesSnapshot();
+        List<BibEntry> list = copyModifiedEntries(originals);
+        NonEntryState nonEntryState = getNonEntryState();
         BibDatabase bibDatabaseClone = new BibDatabase(list);
         bibDatabaseContext.getDatabase().getStringValues().stream().map(BibtexString::clone)
                           .map(BibtexString.class::cast)
                           .forEach(bibDatabaseClone::addString);
         BibDatabaseContext bibDatabaseContextClone = new BibDatabaseContext(bibDatabaseClone, bibDatabaseContext.getMetaData());
 
+        // The entries in the order the writer wrote them, which is the order they are read from the backup again
+        List<BibEntry> writtenEntries = new ArrayList<>();
+
         Charset encoding = bibDatabaseContext.getMetaData().getEncoding().orElse(StandardCharsets.UTF_8);
         // We want to have successful backups only
         // Thus, we do not use a plain "FileWriter", but the "AtomicFileWriter"
@@ -279,22 +390,160 @@ public class BackupManager {
         //          This MUST NOT create a broken backup file that then jabref wants to "restore" from?
         try (Writer writer = new AtomicFileWriter(backupPath, encoding, false)) {
             BibWriter bibWriter = new BibWriter(writer, bibDatabaseContext.getDatabase().getNewLineSeparator());
-            new BibDatabaseWriter(
+            BibDatabaseWriter databaseWriter = new BibDatabaseWriter(
                     bibWriter,
                     saveConfiguration,
                     preferences.getFieldPreferences(),
                     preferences.getCitationKeyPatternPreferences(),
-                    entryTypesManager)
-                    // we save the clone to prevent the original database (and thus the UI) from being changed
-                    .saveDatabase(bibDatabaseContextClone);
+                    entryTypesManager,
+                    entrySerializationCache) {
+                @Override
+                protected void writeEntries(List<BibEntry> entries, BibDatabaseMode mode) throws IOException {
+                    writtenEntries.addAll(entries);
+                    super.writeEntries(entries, mode);
+                }
+            };
+            // we save the clone to prevent the original database (and thus the UI) from being changed
+            databaseWriter.saveDatabase(bibDatabaseContextClone);
             backupFilesQueue.add(backupPath);
+            startJournal(backupPath, originals, list, writtenEntries, nonEntryState);
 
             // We wrote the file successfully
             // Thus, we currently do not need any new backup
             this.needsBackup = false;
         } catch (IOException e) {
             logIfCritical(backupPath, e);
+        } finally {
+            // The copies are reused at the next backup and must not keep the clone alive
+            list.forEach(entry -> entry.unregisterListener(bibDatabaseClone));
+        }
+    }
+
+    /**
+     * Returns copies of the given entries. Entries not modified since the last call are not copied again, but the
+     * previous copy is returned. Copies of entries not contained in the given list are dropped.
+     */
+    synchronized List<BibEntry> copyModifiedEntries(List<BibEntry> entries) {
+        Map<BibEntry, EntryCopy> currentCopies = new IdentityHashMap<>(entries.size());
+        List<BibEntry> copies = entries.stream().map(entry -> {
+            EntryCopy copy = entryCopies.get(entry);
+            // Read the count before copying: a concurrent modification then leads to a new copy at the next backup
+            long modificationCount = entry.getModificationCount();
+            if ((copy == null) || (copy.modificationCount() != modificationCount)) {
+                copy = new EntryCopy(modificationCount, new BibEntry(entry));
+            }
+            currentCopies.put(entry, copy);
+            return copy.entry();
+        }).toList();
+        entryCopies.clear();
+        entryCopies.putAll(currentCopies);
+        return copies;
+    }
+
+    /**
+     * Starts a new journal for the given full backup. The written entries get their position in the backup as ID.
+     *
+     * @param writtenCopies the copies in the order they were written to the backup
+     */
+    private synchronized void startJournal(Path backupPath, List<BibEntry> originals, List<BibEntry> copies, List<BibEntry> writtenCopies, NonEntryState nonEntryState) {
+        Map<BibEntry, BibEntry> originalByCopy = new IdentityHashMap<>(copies.size());
+        for (int i = 0; i < copies.size(); i++) {
+            originalByCopy.put(copies.get(i), originals.get(i));
+        }
+
+        journaledEntries.clear();
+        for (BibEntry copy : writtenCopies) {
+            BibEntry original = originalByCopy.get(copy);
+            journaledEntries.put(original, new JournaledEntry(journaledEntries.size(), entryCopies.get(original).modificationCount()));
+        }
+        baseEntryCount = writtenCopies.size();
+        nextEntryId = writtenCopies.size();
+        journalNonEntryState = nonEntryState;
+        journal = BackupJournal.forBackup(backupPath);
+        try {
+            // A full backup written to the same path before (i.e., in the same second) left a journal based on its entries
+            Files.deleteIfExists(journal.getPath());
+            baseSize = Files.size(backupPath);
+        } catch (IOException e) {
+            LOGGER.debug("Could not start backup journal {}", journal.getPath(), e);
+            journal = null;
+        }
+    }
+
+    /**
+     * Changes outside of entries (strings, preamble, metadata, ...) are not journaled, but lead to a new full backup.
+     * This also happens if the journal grew too large compared to the full backup.
+     */
+    private synchronized boolean canAppendToJournal() {
+        return (journal != null)
+                && getNonEntryState().equals(journalNonEntryState)
+                && (journal.getSize() <= baseSize * MAXIMUM_JOURNAL_SIZE_RATIO);
+    }
+
+    /**
+     * Appends all entries added, modified, or removed since the last backup as one batch to the journal.
+     */
+    private synchronized void appendToJournal() throws IOException {
+        BibEntryWriter entryWriter = new BibEntryWriter(new FieldWriter(preferences.getFieldPreferences()), entryTypesManager);
+        boolean reformat = preferences.getLibraryPreferences().shouldAlwaysReformatOnSave();
+        String newLineSeparator = bibDatabaseContext.getDatabase().getNewLineSeparator();
+
+        Map<BibEntry, JournaledEntry> currentEntries = new IdentityHashMap<>();
+        List<BackupJournal.JournalRecord> records = new ArrayList<>();
+        int entryId = nextEntryId;
+        for (BibEntry entry : bibDatabaseContext.getDatabase().getEntriesSnapshot()) {
+            long modificationCount = entry.getModificationCount();
+            JournaledEntry journaledEntry = journaledEntries.get(entry);
+            if ((journaledEntry != null) && (journaledEntry.modificationCount() == modificationCount)) {
+                currentEntries.put(entry, journaledEntry);
+                continue;
+            }
+
+            // Same treatment as in BibDatabaseWriter#savePartOfDatabase, applied to a copy to leave the library untouched
+            BibEntry copy = new BibEntry(entry);
+            if (copy.isEmpty()) {
+                continue;
+            }
+            BibDatabaseWriter.applySaveActions(copy, bibDatabaseContext.getMetaData(), preferences.getFieldPreferences());
+            StringWriter serialization = new StringWriter();
+            entryWriter.write(copy, new BibWriter(serialization, newLineSeparator), bibDatabaseContext.getMode(), reformat);
+
+            journaledEntry = new JournaledEntry(journaledEntry == null ? entryId++ : journaledEntry.entryId(), modificationCount);
+            records.add(new BackupJournal.EntryWritten(journaledEntry.entryId(), serialization.toString()));
+            currentEntries.put(entry, journaledEntry);
+        }
+        journaledEntries.forEach((entry, journaledEntry) -> {
+            if (!currentEntries.containsKey(entry)) {
+                records.add(new BackupJournal.EntryRemoved(journaledEntry.entryId()));
+            }
+        });
+
+        if (!records.isEmpty()) {
+            journal.append(baseEntryCount, new BackupJournal.Batch(Instant.now(), records));
         }
+        journaledEntries.clear();
+        journaledEntries.putAll(currentEntries);
+        nextEntryId = entryId;
+    }
+
+    private NonEntryState getNonEntryState() {
+        BibDatabase database = bibDatabaseContext.getDatabase();
+        Map<String, String> strings = database.getStringValues().stream()
+                                              .collect(Collectors.toMap(BibtexString::getName, BibtexString::getContent, (first, _) -> first));
+        return new NonEntryState(
+                database.getPreamble(),
+                database.getEpilog(),
+                strings,
+                MetaDataSerializer.getSerializedStringMap(bibDatabaseContext.getMetaData(), preferences.getCitationKeyPatternPreferences().getKeyPatterns()));
+    }
+
+    private record EntryCopy(long modificationCount, BibEntry entry) {
+    }
+
+    private record JournaledEntry(int entryId, long modificationCount) {
+    }
+
+    private record NonEntryState(Optional<String> preamble, String epilog, Map<String, String> strings, Map<String, String> metaData) {
     }
 
     private static Path determineDiscardedFile(Path file, Path backupDir) {
@@ -358,6 +607,8 @@ public class BackupManager {
                 List<Path> allSavFiles = Files.list(backupDir)
                                               // just list the .sav belonging to the given targetFile
                                               .filter(p -> p.getFileName().toString().startsWith(prefix))
+                                              // journals are deleted together with their backup
+                                              .filter(p -> !p.getFileName().toString().endsWith(BackupJournal.JOURNAL_EXTENSION))
                                               .sorted().toList();
                 backupFilesQueue.addAll(allSavFiles);
             } catch (IOException e) {
@@ -2,15 +2,26 @@ package org.jabref.gui.backup;
 
 import java.io.IOException;
 import java.nio.file.Path;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.format.DateTimeFormatter;
+import java.time.format.FormatStyle;
+import java.util.List;
 import java.util.Optional;
 
 import javafx.scene.control.ButtonBar;
 import javafx.scene.control.ButtonType;
+import javafx.scene.control.ComboBox;
 import javafx.scene.control.Hyperlink;
+import javafx.scene.control.Label;
+import javafx.scene.layout.HBox;
+import javafx.scene.layout.VBox;
 
 import org.jabref.gui.FXDialog;
+import org.jabref.gui.autosaveandbackup.BackupManager;
 import org.jabref.gui.desktop.os.NativeDesktop;
 import org.jabref.gui.frame.ExternalApplicationsPreferences;
+import org.jabref.gui.util.ViewModelListCellFactory;
 import org.jabref.logic.l10n.Localization;
 import org.jabref.logic.util.BackupFileType;
 import org.jabref.logic.util.io.BackupFileUtil;
@@ -26,6 +37,8 @@ public class BackupResolverDialog extends FXDialog {
 
     private static final Logger LOGGER = LoggerFactory.getLogger(BackupResolverDialog.class);
 
+    private final ComboBox<Instant> pointInTime = new ComboBox<>();
+
     public BackupResolverDialog(Path originalPath, Path backupDir, ExternalApplicationsPreferences externalApplicationsPreferences) {
         super(AlertType.CONFIRMATION, Localization.lang("Backup found"), true);
         setHeaderText(null);
@@ -56,6 +69,28 @@ public class BackupResolverDialog extends FXDialog {
                 }
             }
         });
-        getDialogPane().setContent(contentLabel);
+
+        List<Instant> pointsInTime = BackupManager.getBackupPointsInTime(originalPath, backupDir);
+        if (pointsInTime.size() > 1) {
+            // Changes were journaled several times after the latest full backup: allow to go back in time
+            DateTimeFormatter formatter = DateTimeFormatter.ofLocalizedDateTime(FormatStyle.MEDIUM).withZone(ZoneId.systemDefault());
+            new ViewModelListCellFactory<Instant>()
+                    .withText(formatter::format)
+                    .install(pointInTime);
+            pointInTime.getItems().setAll(pointsInTime.reversed());
+            pointInTime.getSelectionModel().selectFirst();
+            HBox pointInTimeBox = new HBox(10, new Label(Localization.lang("Point in time")), pointInTime);
+            getDialogPane().setContent(new VBox(10, contentLabel, pointInTimeBox));
+        } else {
+            getDialogPane().setContent(contentLabel);
+        }
+    }
+
+    /**
+     * Returns the point in time the backup should be restored or reviewed at. {@link Instant#MAX} stands for the
+     * latest state.
+     */
+    public Instant getSelectedPointInTime() {
+        return Optional.ofNullable(pointInTime.getValue()).orElse(Instant.MAX);
     }
 }
@@ -19,6 +19,7 @@ import org.jabref.logic.l10n.Localization;
 import org.jabref.logic.preferences.CliPreferences;
 import org.jabref.logic.util.BackgroundTask;
 import org.jabref.logic.util.TaskExecutor;
+import org.jabref.model.database.BatchEdit;
 import org.jabref.model.entry.BibEntry;
 
 public class GenerateCitationKeyAction extends SimpleCommand {
@@ -121,16 +122,14 @@ public class GenerateCitationKeyAction extends SimpleCommand {
                         compound = new NamedCompound(Localization.lang("Autogenerate citation keys"));
                         CitationKeyGenerator keyGenerator =
                                 new CitationKeyGenerator(databaseContext, preferences.getCitationKeyPatternPreferences());
-                        int entriesDone = 0;
-                        for (BibEntry entry : entries) {
-                            keyGenerator.generateAndSetKey(entry)
-                                        .ifPresent(fieldChange -> compound.addEdit(new UndoableKeyChange(fieldChange)));
-                            entriesDone++;
-                            int finalEntriesDone = entriesDone;
-                            UiTaskExecutor.runInJavaFXThread(() -> {
-                                updateProgress(finalEntriesDone, entries.size());
-                                messageProperty().set(Localization.lang("%0/%1 entries", finalEntriesDone, entries.size()));
-                            });
+                        // the listeners of the library are notified once at the end
+                        try (BatchEdit _ = databaseContext.beginBatchEdit()) {
+                            keyGenerator.generateAndSetKeys(List.copyOf(entries), entriesDone ->
+                                                UiTaskExecutor.runInJavaFXThread(() -> {
+                                                    updateProgress(entriesDone, entries.size());
+                                                    messageProperty().set(Localization.lang("%0/%1 entries", entriesDone, entries.size()));
+                                                }))
+                                        .forEach(fieldChange -> compound.addEdit(new UndoableKeyChange(fieldChange)));
                         }
                         compound.end();
                     });
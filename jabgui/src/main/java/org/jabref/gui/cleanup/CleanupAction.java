@@ -1,8 +1,11 @@
 package org.jabref.gui.cleanup;
 
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 import java.util.function.Supplier;
 import java.util.stream.Collectors;
 
@@ -104,31 +107,6 @@ public class CleanupAction extends SimpleCommand {
         });
     }
 
-    /**
-     * Runs the cleanup on the entry and records the change.
-     *
-     * @return true iff entry was modified
-     */
-    private boolean doCleanup(BibDatabaseContext databaseContext, CleanupPreferences preset, BibEntry entry, NamedCompound ce) {
-        // Create and run cleaner
-        CleanupWorker cleaner = new CleanupWorker(
-                databaseContext,
-                preferences.getFilePreferences(),
-                preferences.getTimestampPreferences()
-        );
-
-        List<FieldChange> changes = cleaner.cleanup(preset, entry);
-
-        // Register undo action
-        for (FieldChange change : changes) {
-            ce.addEdit(new UndoableFieldChange(change));
-        }
-
-        failures.addAll(cleaner.getFailures());
-
-        return !changes.isEmpty();
-    }
-
     private void showResults() {
         if (isCanceled) {
             return;
@@ -150,14 +128,22 @@ public class CleanupAction extends SimpleCommand {
     private void cleanup(BibDatabaseContext databaseContext, CleanupPreferences cleanupPreferences) {
         this.failures.clear();
 
+        CleanupWorker cleaner = new CleanupWorker(
+                databaseContext,
+                preferences.getFilePreferences(),
+                preferences.getTimestampPreferences()
+        );
+        List<FieldChange> changes = cleaner.cleanup(cleanupPreferences, List.copyOf(stateManager.getSelectedEntries()));
+        failures.addAll(cleaner.getFailures());
+
         // undo granularity is on set of all entries
         NamedCompound ce = new NamedCompound(Localization.lang("Clean up entries"));
-
-        for (BibEntry entry : List.copyOf(stateManager.getSelectedEntries())) {
-            if (doCleanup(databaseContext, cleanupPreferences, entry, ce)) {
-                modifiedEntriesCount++;
-            }
+        Set<BibEntry> modifiedEntries = Collections.newSetFromMap(new IdentityHashMap<>());
+        for (FieldChange change : changes) {
+            ce.addEdit(new UndoableFieldChange(change));
+            modifiedEntries.add(change.getEntry());
         }
+        modifiedEntriesCount = modifiedEntries.size();
 
         ce.end();
 
@@ -2,6 +2,7 @@ package org.jabref.gui.dialogs;
 
 import java.io.IOException;
 import java.nio.file.Path;
+import java.time.Instant;
 import java.util.List;
 import java.util.Optional;
 
@@ -26,10 +27,8 @@ import org.jabref.logic.importer.ImportFormatPreferences;
 import org.jabref.logic.importer.OpenDatabase;
 import org.jabref.logic.importer.ParserResult;
 import org.jabref.logic.l10n.Localization;
-import org.jabref.logic.util.BackupFileType;
-import org.jabref.logic.util.io.BackupFileUtil;
 import org.jabref.model.database.BibDatabaseContext;
-import org.jabref.model.util.DummyFileUpdateMonitor;
+import org.jabref.model.entry.BibEntryTypesManager;
 import org.jabref.model.util.FileUpdateMonitor;
 
 import org.slf4j.Logger;
@@ -44,43 +43,57 @@ public class BackupUIManager {
     private BackupUIManager() {
     }
 
+    private record BackupResolution(ButtonType action, Instant pointInTime) {
+    }
+
     public static Optional<ParserResult> showRestoreBackupDialog(DialogService dialogService,
                                                                  Path originalPath,
                                                                  GuiPreferences preferences,
                                                                  FileUpdateMonitor fileUpdateMonitor,
                                                                  UndoManager undoManager,
-                                                                 StateManager stateManager) {
-        Optional<ButtonType> actionOpt = showBackupResolverDialog(
+                                                                 StateManager stateManager,
+                                                                 BibEntryTypesManager entryTypesManager) {
+        Optional<BackupResolution> resolutionOpt = showBackupResolverDialog(
                 dialogService,
                 preferences.getExternalApplicationsPreferences(),
                 originalPath,
                 preferences.getFilePreferences().getBackupDirectory());
-        return actionOpt.flatMap(action -> {
-            if (action == BackupResolverDialog.RESTORE_FROM_BACKUP) {
-                BackupManager.restoreBackup(originalPath, preferences.getFilePreferences().getBackupDirectory());
+        return resolutionOpt.flatMap(resolution -> {
+            if (resolution.action() == BackupResolverDialog.RESTORE_FROM_BACKUP) {
+                BackupManager.restoreBackup(
+                        originalPath,
+                        preferences.getFilePreferences().getBackupDirectory(),
+                        resolution.pointInTime(),
+                        preferences,
+                        entryTypesManager);
                 return Optional.empty();
-            } else if (action == BackupResolverDialog.REVIEW_BACKUP) {
-                return showReviewBackupDialog(dialogService, originalPath, preferences, fileUpdateMonitor, undoManager, stateManager);
+            } else if (resolution.action() == BackupResolverDialog.REVIEW_BACKUP) {
+                return showReviewBackupDialog(dialogService, originalPath, resolution.pointInTime(), preferences, fileUpdateMonitor, undoManager, stateManager, entryTypesManager);
             }
             return Optional.empty();
         });
     }
 
-    private static Optional<ButtonType> showBackupResolverDialog(DialogService dialogService,
-                                                                 ExternalApplicationsPreferences externalApplicationsPreferences,
-                                                                 Path originalPath,
-                                                                 Path backupDir) {
-        return UiTaskExecutor.runInJavaFXThread(
-                () -> dialogService.showCustomDialogAndWait(new BackupResolverDialog(originalPath, backupDir, externalApplicationsPreferences)));
+    private static Optional<BackupResolution> showBackupResolverDialog(DialogService dialogService,
+                                                                       ExternalApplicationsPreferences externalApplicationsPreferences,
+                                                                       Path originalPath,
+                                                                       Path backupDir) {
+        return UiTaskExecutor.runInJavaFXThread(() -> {
+            BackupResolverDialog dialog = new BackupResolverDialog(originalPath, backupDir, externalApplicationsPreferences);
+            return dialogService.showCustomDialogAndWait(dialog)
+                                .map(action -> new BackupResolution(action, dialog.getSelectedPointInTime()));
+        });
     }
 
     private static Optional<ParserResult> showReviewBackupDialog(
             DialogService dialogService,
             Path originalPath,
+            Instant pointInTime,
             GuiPreferences preferences,
             FileUpdateMonitor fileUpdateMonitor,
             UndoManager undoManager,
-            StateManager stateManager) {
+            StateManager stateManager,
+            BibEntryTypesManager entryTypesManager) {
         try {
             ImportFormatPreferences importFormatPreferences = preferences.getImportFormatPreferences();
 
@@ -89,8 +102,7 @@ public class BackupUIManager {
             // This will be modified by using the `DatabaseChangesResolverDialog`.
             BibDatabaseContext originalDatabase = originalParserResult.getDatabaseContext();
 
-            Path backupPath = BackupFileUtil.getPathOfLatestExistingBackupFile(originalPath, BackupFileType.BACKUP, preferences.getFilePreferences().getBackupDirectory()).orElseThrow();
-            BibDatabaseContext backupDatabase = OpenDatabase.loadDatabase(backupPath, importFormatPreferences, new DummyFileUpdateMonitor()).getDatabaseContext();
+            BibDatabaseContext backupDatabase = BackupManager.loadBackup(originalPath, preferences.getFilePreferences().getBackupDirectory(), pointInTime, importFormatPreferences).getDatabaseContext();
 
             DatabaseChangeResolverFactory changeResolverFactory = new DatabaseChangeResolverFactory(dialogService, originalDatabase, preferences);
 
@@ -119,7 +131,7 @@ public class BackupUIManager {
                 }
 
                 // In case not all changes are resolved, start from scratch
-                return showRestoreBackupDialog(dialogService, originalPath, preferences, fileUpdateMonitor, undoManager, stateManager);
+                return showRestoreBackupDialog(dialogService, originalPath, preferences, fileUpdateMonitor, undoManager, stateManager, entryTypesManager);
             });
         } catch (IOException e) {
             LOGGER.error("Error while loading backup or current database", e);
@@ -1,10 +1,8 @@
 package org.jabref.gui.integrity;
 
-import java.util.ArrayList;
 import java.util.List;
 import java.util.function.Supplier;
 
-import javafx.collections.ObservableList;
 import javafx.concurrent.Task;
 
 import org.jabref.gui.DialogService;
@@ -13,12 +11,13 @@ import org.jabref.gui.StateManager;
 import org.jabref.gui.actions.SimpleCommand;
 import org.jabref.gui.preferences.GuiPreferences;
 import org.jabref.gui.util.UiTaskExecutor;
+import org.jabref.logic.integrity.IncrementalIntegrityCheck;
 import org.jabref.logic.integrity.IntegrityCheck;
 import org.jabref.logic.integrity.IntegrityMessage;
 import org.jabref.logic.journals.JournalAbbreviationRepository;
 import org.jabref.logic.l10n.Localization;
-import org.jabref.model.database.BibDatabaseContext;
-import org.jabref.model.entry.BibEntry;
+
+import com.airhacks.afterburner.injection.Injector;
 
 import static org.jabref.gui.actions.ActionHelper.needsDatabase;
 
@@ -29,47 +28,35 @@ public class IntegrityCheckAction extends SimpleCommand {
     private final Supplier<LibraryTab> tabSupplier;
     private final GuiPreferences preferences;
     private final StateManager stateManager;
-    private final JournalAbbreviationRepository abbreviationRepository;
 
     public IntegrityCheckAction(Supplier<LibraryTab> tabSupplier,
                                 GuiPreferences preferences,
                                 DialogService dialogService,
                                 StateManager stateManager,
-                                UiTaskExecutor taskExecutor,
-                                JournalAbbreviationRepository abbreviationRepository) {
+                                UiTaskExecutor taskExecutor) {
         this.tabSupplier = tabSupplier;
         this.stateManager = stateManager;
         this.taskExecutor = taskExecutor;
         this.preferences = preferences;
         this.dialogService = dialogService;
-        this.abbreviationRepository = abbreviationRepository;
         this.executable.bind(needsDatabase(this.stateManager));
     }
 
     @Override
     public void execute() {
-        BibDatabaseContext database = stateManager.getActiveDatabase().orElseThrow(() -> new NullPointerException("Database null"));
-        IntegrityCheck check = new IntegrityCheck(database,
+        LibraryTab libraryTab = tabSupplier.get();
+        // Called at each check, thus changes of the preferences and of the journal lists are taken into account
+        IncrementalIntegrityCheck check = libraryTab.getIntegrityCheck(databaseContext -> new IntegrityCheck(databaseContext,
                 preferences.getFilePreferences(),
                 preferences.getCitationKeyPatternPreferences(),
-                abbreviationRepository,
-                preferences.getEntryEditorPreferences().shouldAllowIntegerEditionBibtex());
+                Injector.instantiateModelOrService(JournalAbbreviationRepository.class),
+                preferences.getEntryEditorPreferences().shouldAllowIntegerEditionBibtex()));
 
         Task<List<IntegrityMessage>> task = new Task<>() {
             @Override
             protected List<IntegrityMessage> call() {
-                ObservableList<BibEntry> entries = database.getDatabase().getEntries();
-                List<IntegrityMessage> result = new ArrayList<>(check.checkDatabase(database.getDatabase()));
-                for (int i = 0; i < entries.size(); i++) {
-                    if (isCancelled()) {
-                        break;
-                    }
-
-                    BibEntry entry = entries.get(i);
-                    result.addAll(check.checkEntry(entry));
-                    updateProgress(i, entries.size());
-                }
-                return result;
+                // Only the entries modified since the last check are checked again, except for their linked files
+                return check.getMessages(this::isCancelled);
             }
         };
         task.setOnSucceeded(value -> {
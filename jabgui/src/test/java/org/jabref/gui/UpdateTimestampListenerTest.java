@@ -4,6 +4,7 @@ import java.util.Optional;
 
 import org.jabref.logic.preferences.CliPreferences;
 import org.jabref.logic.preferences.TimestampPreferences;
+import org.jabref.model.database.BatchEdit;
 import org.jabref.model.database.BibDatabase;
 import org.jabref.model.entry.BibEntry;
 import org.jabref.model.entry.field.StandardField;
@@ -75,4 +76,21 @@ class UpdateTimestampListenerTest {
 
         assertEquals(Optional.of(baseDate), bibEntry.getField(StandardField.MODIFICATIONDATE), "New timestamp set after entry changed even though updates were disabled");
     }
+
+    @Test
+    void updateTimestampAfterBatchEdit() {
+        when(timestampPreferencesMock.now()).thenReturn(newDate);
+        when(timestampPreferencesMock.shouldAddModificationDate()).thenReturn(true);
+        bibEntry.setField(StandardField.MODIFICATIONDATE, baseDate);
+        UpdateTimestampListener updateTimestampListener = new UpdateTimestampListener(preferencesMock);
+        database.registerListener(updateTimestampListener);
+        database.addBatchEditCompletion(updateTimestampListener::completeBatchEdit);
+
+        try (BatchEdit _ = database.beginBatchEdit()) {
+            bibEntry.setField(new UnknownField("test"), "some value");
+            assertEquals(Optional.of(baseDate), bibEntry.getField(StandardField.MODIFICATIONDATE), "Timestamp set before the batch edit ended");
+        }
+
+        assertEquals(Optional.of(newDate), bibEntry.getField(StandardField.MODIFICATIONDATE), "Timestamp not set correctly after batch edit");
+    }
 }
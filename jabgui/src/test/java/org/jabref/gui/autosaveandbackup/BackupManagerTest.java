@@ -6,22 +6,31 @@ import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.StandardCopyOption;
 import java.nio.file.attribute.FileTime;
+import java.time.Instant;
 import java.util.List;
 import java.util.Optional;
 
 import org.jabref.gui.LibraryTab;
 import org.jabref.logic.FilePreferences;
+import org.jabref.logic.bibtex.FieldPreferences;
+import org.jabref.logic.citationkeypattern.GlobalCitationKeyPatterns;
+import org.jabref.logic.importer.ImportFormatPreferences;
+import org.jabref.logic.importer.OpenDatabase;
 import org.jabref.logic.preferences.CliPreferences;
 import org.jabref.logic.util.BackupFileType;
 import org.jabref.logic.util.CoarseChangeFilter;
 import org.jabref.logic.util.Directories;
 import org.jabref.logic.util.io.BackupFileUtil;
+import org.jabref.logic.util.io.BackupJournal;
 import org.jabref.model.database.BibDatabase;
 import org.jabref.model.database.BibDatabaseContext;
+import org.jabref.model.entry.BibEntry;
 import org.jabref.model.entry.BibEntryTypesManager;
+import org.jabref.model.entry.field.StandardField;
 import org.jabref.model.groups.event.GroupUpdatedEvent;
 import org.jabref.model.metadata.MetaData;
 import org.jabref.model.metadata.event.MetaDataChangedEvent;
+import org.jabref.model.util.DummyFileUpdateMonitor;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -31,6 +40,8 @@ import org.mockito.Answers;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
@@ -38,10 +49,12 @@ import static org.mockito.Mockito.when;
 class BackupManagerTest {
 
     Path backupDir;
+    Path libraryPath;
 
     @BeforeEach
     void setup(@TempDir Path tempDir) {
         backupDir = tempDir.resolve("backup");
+        libraryPath = tempDir.resolve("library.bib");
     }
 
     @Test
@@ -192,4 +205,171 @@ class BackupManagerTest {
         // due to timing issues we cannot test that reliable
         assertEquals(fullBackupPath.get(), files.getFirst());
     }
+
+    @Test
+    void onlyModifiedEntriesAreCopiedAgain() {
+        BibEntry unchanged = new BibEntry().withField(StandardField.TITLE, "unchanged");
+        BibEntry modified = new BibEntry().withField(StandardField.TITLE, "original");
+        BackupManager manager = new BackupManager(
+                mock(LibraryTab.class),
+                new BibDatabaseContext(new BibDatabase()),
+                mock(CoarseChangeFilter.class),
+                mock(BibEntryTypesManager.class),
+                mock(CliPreferences.class));
+
+        List<BibEntry> firstCopies = manager.copyModifiedEntries(List.of(unchanged, modified));
+        modified.setField(StandardField.TITLE, "modified");
+        List<BibEntry> secondCopies = manager.copyModifiedEntries(List.of(unchanged, modified));
+
+        assertSame(firstCopies.getFirst(), secondCopies.getFirst());
+        assertNotSame(firstCopies.get(1), secondCopies.get(1));
+        assertEquals(Optional.of("modified"), secondCopies.get(1).getField(StandardField.TITLE));
+    }
+
+    @Test
+    void journaledChangesAreRestored() throws IOException {
+        Files.createDirectories(backupDir);
+        CliPreferences preferences = createPreferences();
+        BibEntryTypesManager entryTypesManager = new BibEntryTypesManager();
+        BibEntry a = new BibEntry().withCitationKey("a").withField(StandardField.TITLE, "A");
+        BibEntry b = new BibEntry().withCitationKey("b").withField(StandardField.TITLE, "B");
+        BibEntry c = new BibEntry().withCitationKey("c").withField(StandardField.TITLE, "C");
+        BibEntry d = new BibEntry().withCitationKey("d").withField(StandardField.TITLE, "D");
+        BibDatabaseContext databaseContext = new BibDatabaseContext(new BibDatabase(List.of(a, b, c)));
+        databaseContext.setDatabasePath(libraryPath);
+        BackupManager manager = new BackupManager(mock(LibraryTab.class), databaseContext, mock(CoarseChangeFilter.class), entryTypesManager, preferences);
+        Path backupPath = getBackupPath("2020-01-01--00.00.00");
+
+        manager.listen(new MetaDataChangedEvent(new MetaData()));
+        manager.performBackup(backupPath);
+
+        b.setField(StandardField.TITLE, "B modified");
+        databaseContext.getDatabase().insertEntry(d);
+        databaseContext.getDatabase().removeEntry(c);
+        manager.listen(new MetaDataChangedEvent(new MetaData()));
+        manager.performBackup(backupPath);
+
+        // The entry added by the first batch keeps its ID in the second batch
+        d.setField(StandardField.TITLE, "D modified");
+        manager.listen(new MetaDataChangedEvent(new MetaData()));
+        manager.performBackup(backupPath);
+
+        BackupJournal.Journal journal = BackupJournal.forBackup(backupPath).read();
+        assertEquals(3, journal.baseEntryCount());
+        assertEquals(List.of(
+                        List.of(new BackupJournal.EntryWritten(1, "written"), new BackupJournal.EntryWritten(3, "written"), new BackupJournal.EntryRemoved(2)),
+                        List.of(new BackupJournal.EntryWritten(3, "written"))),
+                journal.batches().stream().map(batch -> batch.records().stream().map(BackupManagerTest::withoutSerialization).toList()).toList());
+        assertEquals(2, BackupManager.getBackupPointsInTime(libraryPath, backupDir).size());
+
+        ImportFormatPreferences importFormatPreferences = preferences.getImportFormatPreferences();
+        assertEquals(List.of("a: A", "b: B", "c: C"),
+                getKeysAndTitles(BackupManager.loadBackup(libraryPath, backupDir, Instant.EPOCH, importFormatPreferences).getDatabase()));
+        assertEquals(List.of("a: A", "b: B modified", "d: D modified"),
+                getKeysAndTitles(BackupManager.loadBackup(libraryPath, backupDir, Instant.MAX, importFormatPreferences).getDatabase()));
+
+        BackupManager.restoreBackup(libraryPath, backupDir, Instant.MAX, preferences, entryTypesManager);
+        assertEquals(List.of("a: A", "b: B modified", "d: D modified"),
+                getKeysAndTitles(OpenDatabase.loadDatabase(libraryPath, importFormatPreferences, new DummyFileUpdateMonitor()).getDatabase()));
+    }
+
+    @Test
+    void changedPreambleLeadsToFullBackup() throws IOException {
+        Files.createDirectories(backupDir);
+        CliPreferences preferences = createPreferences();
+        BibEntry a = new BibEntry().withCitationKey("a").withField(StandardField.TITLE, "A");
+        BibEntry b = new BibEntry().withCitationKey("b").withField(StandardField.TITLE, "B");
+        BibDatabaseContext databaseContext = new BibDatabaseContext(new BibDatabase(List.of(a, b)));
+        databaseContext.setDatabasePath(libraryPath);
+        BackupManager manager = new BackupManager(mock(LibraryTab.class), databaseContext, mock(CoarseChangeFilter.class), new BibEntryTypesManager(), preferences);
+        Path firstBackupPath = getBackupPath("2020-01-01--00.00.00");
+        Path secondBackupPath = getBackupPath("2020-01-01--00.00.01");
+
+        manager.listen(new MetaDataChangedEvent(new MetaData()));
+        manager.performBackup(firstBackupPath);
+        a.setField(StandardField.TITLE, "A modified");
+        manager.listen(new MetaDataChangedEvent(new MetaData()));
+        manager.performBackup(firstBackupPath);
+
+        databaseContext.getDatabase().setPreamble("preamble");
+        manager.listen(new MetaDataChangedEvent(new MetaData()));
+        manager.performBackup(secondBackupPath);
+
+        assertTrue(Files.exists(secondBackupPath));
+        assertFalse(Files.exists(BackupJournal.forBackup(secondBackupPath).getPath()));
+        ImportFormatPreferences importFormatPreferences = preferences.getImportFormatPreferences();
+        BibDatabase restored = BackupManager.loadBackup(libraryPath, backupDir, Instant.MAX, importFormatPreferences).getDatabase();
+        assertEquals(Optional.of("preamble"), restored.getPreamble());
+        assertEquals(List.of("a: A modified", "b: B"), getKeysAndTitles(restored));
+
+        // Later changes are journaled against the new full backup
+        b.setField(StandardField.TITLE, "B modified");
+        manager.listen(new MetaDataChangedEvent(new MetaData()));
+        manager.performBackup(getBackupPath("2020-01-01--00.00.02"));
+
+        assertEquals(1, BackupManager.getBackupPointsInTime(libraryPath, backupDir).size());
+        assertEquals(List.of("a: A modified", "b: B modified"),
+                getKeysAndTitles(BackupManager.loadBackup(libraryPath, backupDir, Instant.MAX, importFormatPreferences).getDatabase()));
+    }
+
+    @Test
+    void fullBackupToSamePathDiscardsPreviousJournal() throws IOException {
+        Files.createDirectories(backupDir);
+        CliPreferences preferences = createPreferences();
+        BibEntry a = new BibEntry().withCitationKey("a").withField(StandardField.TITLE, "A");
+        BibDatabaseContext databaseContext = new BibDatabaseContext(new BibDatabase(List.of(a)));
+        databaseContext.setDatabasePath(libraryPath);
+        BackupManager manager = new BackupManager(mock(LibraryTab.class), databaseContext, mock(CoarseChangeFilter.class), new BibEntryTypesManager(), preferences);
+        Path backupPath = getBackupPath("2020-01-01--00.00.00");
+
+        manager.listen(new MetaDataChangedEvent(new MetaData()));
+        manager.performBackup(backupPath);
+        databaseContext.getDatabase().removeEntry(a);
+        manager.listen(new MetaDataChangedEvent(new MetaData()));
+        manager.performBackup(backupPath);
+
+        BibEntry b = new BibEntry().withCitationKey("b").withField(StandardField.TITLE, "B");
+        databaseContext.getDatabase().insertEntry(b);
+        databaseContext.getDatabase().setPreamble("preamble");
+        manager.listen(new MetaDataChangedEvent(new MetaData()));
+        manager.performBackup(backupPath);
+
+        assertEquals(List.of(), BackupManager.getBackupPointsInTime(libraryPath, backupDir));
+        assertEquals(List.of("b: B"),
+                getKeysAndTitles(BackupManager.loadBackup(libraryPath, backupDir, Instant.MAX, preferences.getImportFormatPreferences()).getDatabase()));
+    }
+
+    private Path getBackupPath(String timeSuffix) {
+        return backupDir.resolve(BackupFileUtil.getUniqueFilePrefix(libraryPath) + "--library.bib--" + timeSuffix + ".bak");
+    }
+
+    private static CliPreferences createPreferences() {
+        CliPreferences preferences = mock(CliPreferences.class, Answers.RETURNS_DEEP_STUBS);
+        FieldPreferences fieldPreferences = new FieldPreferences(true, List.of(), List.of());
+        when(preferences.getFieldPreferences()).thenReturn(fieldPreferences);
+        when(preferences.getCitationKeyPatternPreferences().getKeyPatterns()).thenReturn(GlobalCitationKeyPatterns.fromPattern("[auth][year]"));
+        ImportFormatPreferences importFormatPreferences = mock(ImportFormatPreferences.class, Answers.RETURNS_DEEP_STUBS);
+        when(importFormatPreferences.bibEntryPreferences().getKeywordSeparator()).thenReturn(',');
+        when(importFormatPreferences.fieldPreferences()).thenReturn(fieldPreferences);
+        when(preferences.getImportFormatPreferences()).thenReturn(importFormatPreferences);
+        return preferences;
+    }
+
+    /**
+     * The serialization depends on the writer, thus only the IDs are compared
+     */
+    private static BackupJournal.JournalRecord withoutSerialization(BackupJournal.JournalRecord journalRecord) {
+        return switch (journalRecord) {
+            case BackupJournal.EntryWritten(int entryId, String _) ->
+                    new BackupJournal.EntryWritten(entryId, "written");
+            case BackupJournal.EntryRemoved removed ->
+                    removed;
+        };
+    }
+
+    private static List<String> getKeysAndTitles(BibDatabase database) {
+        return database.getEntries().stream()
+                       .map(entry -> entry.getCitationKey().orElse("") + ": " + entry.getField(StandardField.TITLE).orElse(""))
+                       .toList();
+    }
 }
@@ -48,8 +48,16 @@ public class Convert implements Runnable {
     @Option(names = {"--output-format"}, description = "Output format")
     private String outputFormat = "bibtex";
 
+    @Option(names = {"--streaming"}, description = "Convert entry by entry, without loading the whole library into memory (BibTeX input only)")
+    private boolean streaming;
+
     @Override
     public void run() {
+        if (streaming) {
+            convertStreaming();
+            return;
+        }
+
         Optional<ParserResult> parserResult = ArgumentProcessor.importFile(inputFile, inputFormat, argumentProcessor.cliPreferences, sharedOptions.porcelain);
         if (parserResult.isEmpty()) {
             System.out.println(Localization.lang("Unable to open file '%0'.", inputFile));
@@ -73,6 +81,32 @@ public class Convert implements Runnable {
         exportFile(parserResult.get(), outputFile, outputFormat);
     }
 
+    private void convertStreaming() {
+        if ((outputFile == null) || ((inputFormat != null) && !"bibtex".equalsIgnoreCase(inputFormat))) {
+            System.out.println(Localization.lang("Streaming requires a BibTeX input file and an output file."));
+            return;
+        }
+
+        Optional<StreamingPipeline> pipeline = StreamingPipeline.create(outputFormat, argumentProcessor.cliPreferences, argumentProcessor.entryTypesManager);
+        if (pipeline.isEmpty()) {
+            System.out.println(Localization.lang("Export format '%0' does not support streaming.", outputFormat));
+            return;
+        }
+
+        if (!sharedOptions.porcelain) {
+            System.out.println(Localization.lang("Converting '%0' to '%1'.", inputFile, outputFormat));
+        }
+
+        try {
+            pipeline.get().run(Path.of(inputFile), null, outputFile);
+            if (!sharedOptions.porcelain) {
+                System.out.println(Localization.lang("Saved %0.", outputFile));
+            }
+        } catch (IOException ex) {
+            LOGGER.error("Could not convert file '{}'.", inputFile, ex);
+        }
+    }
+
     protected void exportFile(@NonNull ParserResult parserResult, @NonNull Path outputFile, String format) {
         if (!sharedOptions.porcelain) {
             System.out.println(Localization.lang("Exporting '%0'.", outputFile));
@@ -55,8 +55,16 @@ class Search implements Runnable {
     @Option(names = {"--output-format"}, description = "Output format: bib, txt, etc.")
     private String outputFormat = "bibtex";
 
+    @Option(names = {"--streaming"}, description = "Search entry by entry, without loading the whole library into memory and without search index")
+    private boolean streaming;
+
     @Override
     public void run() {
+        if (streaming) {
+            searchStreaming();
+            return;
+        }
+
         Optional<ParserResult> parserResult = ArgumentProcessor.importFile(
                 inputFile,
                 "bibtex",
@@ -135,4 +143,33 @@ class Search implements Runnable {
             }
         }
     }
+
+    private void searchStreaming() {
+        if (outputFile == null) {
+            System.out.println(Localization.lang("Streaming requires a BibTeX input file and an output file."));
+            return;
+        }
+
+        Optional<StreamingPipeline> pipeline = StreamingPipeline.create(outputFormat, argumentProcessor.cliPreferences, argumentProcessor.entryTypesManager);
+        if (pipeline.isEmpty()) {
+            System.out.println(Localization.lang("Export format '%0' does not support streaming.", outputFormat));
+            return;
+        }
+
+        SearchPreferences searchPreferences = argumentProcessor.cliPreferences.getSearchPreferences();
+        SearchQuery searchQuery = new SearchQuery(query, searchPreferences.getSearchFlags());
+        if (!searchQuery.isValid()) {
+            System.out.println(Localization.lang("Invalid search query '%0'.", query));
+            return;
+        }
+
+        try {
+            long matches = pipeline.get().run(Path.of(inputFile), searchQuery, outputFile);
+            if (matches == 0) {
+                System.out.println(Localization.lang("No search matches."));
+            }
+        } catch (IOException ex) {
+            LOGGER.error("Error occurred when searching", ex);
+        }
+    }
 }
@@ -0,0 +1,192 @@
+package org.jabref.cli;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.util.Optional;
+import java.util.function.BiConsumer;
+
+import org.jabref.logic.exporter.AtomicFileWriter;
+import org.jabref.logic.exporter.BibDatabaseWriter;
+import org.jabref.logic.exporter.BibWriter;
+import org.jabref.logic.exporter.ExporterFactory;
+import org.jabref.logic.exporter.SelfContainedSaveConfiguration;
+import org.jabref.logic.exporter.StreamingExporter;
+import org.jabref.logic.importer.ParserResult;
+import org.jabref.logic.importer.fileformat.BibtexImporter;
+import org.jabref.logic.journals.JournalAbbreviationRepository;
+import org.jabref.logic.os.OS;
+import org.jabref.logic.preferences.CliPreferences;
+import org.jabref.logic.search.query.SearchQueryConversion;
+import org.jabref.model.database.BibDatabase;
+import org.jabref.model.database.BibDatabaseContext;
+import org.jabref.model.entry.BibEntry;
+import org.jabref.model.entry.BibEntryTypesManager;
+import org.jabref.model.metadata.MetaData;
+import org.jabref.model.search.SearchMatcher;
+import org.jabref.model.search.query.SearchQuery;
+import org.jabref.model.util.DummyFileUpdateMonitor;
+
+import com.airhacks.afterburner.injection.Injector;
+import org.jspecify.annotations.Nullable;
+
+/**
+ * Reads a BibTeX file entry by entry, filters the entries, and writes each matching entry before the next one is read.
+ * Neither the library nor the matches are kept in memory, thus the memory used does not depend on the size of the file.
+ * <p>
+ * The file is read twice. The metadata (e.g., the database mode and the save actions) is stored at the end of the file
+ * and the database mode may have to be inferred from all entries, thus the first pass determines the metadata only.
+ * The second pass writes the entries using that metadata, so that they are written the same way as by a regular save.
+ * <p>
+ * The entries are filtered without search index (see {@link SearchQueryConversion#searchToMatcher}) and written in the
+ * order of the file. Cross-references are not resolved, since the referenced entries are not kept.
+ * <p>
+ * Used by the <code>--streaming</code> option of {@link Convert} and {@link Search}.
+ */
+class StreamingPipeline {
+
+    private final CliPreferences cliPreferences;
+    private final BibEntryTypesManager entryTypesManager;
+    private final @Nullable StreamingExporter exporter;
+
+    private StreamingPipeline(CliPreferences cliPreferences, BibEntryTypesManager entryTypesManager, @Nullable StreamingExporter exporter) {
+        this.cliPreferences = cliPreferences;
+        this.entryTypesManager = entryTypesManager;
+        this.exporter = exporter;
+    }
+
+    /**
+     * @return the pipeline writing the given format, or an empty optional if the format is unknown or its exporter
+     * needs all entries at once
+     */
+    static Optional<StreamingPipeline> create(String outputFormat, CliPreferences cliPreferences, BibEntryTypesManager entryTypesManager) {
+        if ("bibtex".equalsIgnoreCase(outputFormat)) {
+            return Optional.of(new StreamingPipeline(cliPreferences, entryTypesManager, null));
+        }
+        return ExporterFactory.create(cliPreferences)
+                              .getExporterByName(outputFormat)
+                              .filter(StreamingExporter.class::isInstance)
+                              .map(exporter -> new StreamingPipeline(cliPreferences, entryTypesManager, (StreamingExporter) exporter));
+    }
+
+    /**
+     * Writes the entries of the input file matching the search query to the output file. The output file is only
+     * written if there is at least one matching entry.
+     *
+     * @param searchQuery the query the entries have to match. If null, all entries are written.
+     * @return the number of entries written
+     */
+    long run(Path inputFile, @Nullable SearchQuery searchQuery, Path outputFile) throws IOException {
+        BibtexImporter importer = new BibtexImporter(cliPreferences.getImportFormatPreferences(), new DummyFileUpdateMonitor());
+        MetaData metaData = importer.importDatabase(inputFile, (_, _) -> { }).getMetaData();
+
+        EntryFilter entryFilter = new EntryFilter(inputFile, metaData, searchQuery, outputFile);
+        try {
+            ParserResult parserResult = importer.importDatabase(inputFile, entryFilter);
+            if (parserResult.hasWarnings()) {
+                System.out.println(parserResult.getErrorMessage());
+            }
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        } finally {
+            entryFilter.close();
+        }
+        return entryFilter.entriesWritten;
+    }
+
+    private StreamingExporter.EntryWriter startExport(BibDatabaseContext databaseContext, Path outputFile) throws IOException {
+        if (exporter != null) {
+            return exporter.startExport(
+                    databaseContext,
+                    outputFile,
+                    databaseContext.getFileDirectories(cliPreferences.getFilePreferences()),
+                    Injector.instantiateModelOrService(JournalAbbreviationRepository.class));
+        }
+
+        AtomicFileWriter fileWriter = new AtomicFileWriter(outputFile, StandardCharsets.UTF_8);
+        StreamingExporter.EntryWriter entryWriter;
+        try {
+            SelfContainedSaveConfiguration saveConfiguration = (SelfContainedSaveConfiguration) new SelfContainedSaveConfiguration()
+                    .withReformatOnSave(cliPreferences.getLibraryPreferences().shouldAlwaysReformatOnSave());
+            entryWriter = new BibDatabaseWriter(
+                    new BibWriter(fileWriter, OS.NEWLINE),
+                    saveConfiguration,
+                    cliPreferences.getFieldPreferences(),
+                    cliPreferences.getCitationKeyPatternPreferences(),
+                    entryTypesManager).startSave(databaseContext);
+        } catch (IOException e) {
+            fileWriter.close();
+            throw e;
+        }
+
+        return new StreamingExporter.EntryWriter() {
+            @Override
+            public void write(BibEntry entry) throws IOException {
+                entryWriter.write(entry);
+            }
+
+            @Override
+            public void close() throws IOException {
+                try (fileWriter) {
+                    entryWriter.close();
+                }
+            }
+        };
+    }
+
+    /**
+     * Receives the entries from the parser. The database of the parser holds the strings read so far, but no entries.
+     */
+    private class EntryFilter implements BiConsumer<BibEntry, BibDatabase> {
+
+        private final Path inputFile;
+        private final MetaData metaData;
+        private final @Nullable SearchQuery searchQuery;
+        private final Path outputFile;
+
+        // Set when the first entry is read
+        private BibDatabaseContext databaseContext;
+        private SearchMatcher matcher;
+        private StreamingExporter.EntryWriter entryWriter;
+        private long entriesWritten;
+
+        EntryFilter(Path inputFile, MetaData metaData, @Nullable SearchQuery searchQuery, Path outputFile) {
+            this.inputFile = inputFile;
+            this.metaData = metaData;
+            this.searchQuery = searchQuery;
+            this.outputFile = outputFile;
+        }
+
+        @Override
+        public void accept(BibEntry entry, BibDatabase database) {
+            if (databaseContext == null) {
+                databaseContext = new BibDatabaseContext(database, metaData);
+                databaseContext.setDatabasePath(inputFile.toAbsolutePath());
+                matcher = searchQuery == null
+                        ? _ -> true
+                        : SearchQueryConversion.searchToMatcher(searchQuery, database, cliPreferences.getBibEntryPreferences().getKeywordSeparator());
+            }
+            if (!matcher.isMatch(entry)) {
+                return;
+            }
+
+            try {
+                // Opened with the first match, thus no output is written if nothing matches
+                if (entryWriter == null) {
+                    entryWriter = startExport(databaseContext, outputFile);
+                }
+                entryWriter.write(entry);
+                entriesWritten++;
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+
+        void close() throws IOException {
+            if (entryWriter != null) {
+                entryWriter.close();
+            }
+        }
+    }
+}
@@ -0,0 +1,61 @@
+package org.jabref.cli;
+
+import java.io.IOException;
+import java.net.URISyntaxException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Objects;
+
+import org.jabref.logic.bibtex.FieldPreferences;
+import org.jabref.logic.importer.ImportFormatPreferences;
+import org.jabref.logic.importer.ParserResult;
+import org.jabref.logic.importer.fileformat.BibtexImporter;
+import org.jabref.logic.preferences.CliPreferences;
+import org.jabref.model.entry.BibEntryTypesManager;
+import org.jabref.model.util.DummyFileUpdateMonitor;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.Answers;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class StreamingPipelineTest {
+
+    private final CliPreferences preferences = mock(CliPreferences.class, Answers.RETURNS_DEEP_STUBS);
+    private final ImportFormatPreferences importFormatPreferences = mock(ImportFormatPreferences.class, Answers.RETURNS_DEEP_STUBS);
+    private final BibEntryTypesManager entryTypesManager = new BibEntryTypesManager();
+
+    @BeforeEach
+    void setUp() {
+        FieldPreferences fieldPreferences = new FieldPreferences(true, List.of(), List.of());
+        when(importFormatPreferences.fieldPreferences()).thenReturn(fieldPreferences);
+        when(preferences.getImportFormatPreferences()).thenReturn(importFormatPreferences);
+        when(preferences.getFieldPreferences()).thenReturn(fieldPreferences);
+    }
+
+    @Test
+    void streamingWritesBiblatexLibraryLikeRegularSave(@TempDir Path tempDir) throws URISyntaxException, IOException {
+        Path inputFile = Path.of(Objects.requireNonNull(StreamingPipelineTest.class.getResource("StreamingPipelineTestBiblatex.bib")).toURI());
+        Path savedFile = tempDir.resolve("saved.bib");
+        Path streamedFile = tempDir.resolve("streamed.bib");
+
+        ParserResult parserResult = new BibtexImporter(importFormatPreferences, new DummyFileUpdateMonitor()).importDatabase(inputFile);
+        ArgumentProcessor.saveDatabaseContext(preferences, entryTypesManager, parserResult.getDatabaseContext(), savedFile);
+
+        long entriesWritten = StreamingPipeline.create("bibtex", preferences, entryTypesManager).orElseThrow()
+                                               .run(inputFile, null, streamedFile);
+
+        String streamed = Files.readString(streamedFile);
+        assertEquals(2, entriesWritten);
+        assertEquals(Files.readString(savedFile), streamed);
+        // The mode is inferred from the @Online entry, the save actions are stored at the end of the file
+        assertTrue(streamed.contains("databaseType:biblatex;"));
+        assertTrue(streamed.contains("{open source software and the private-collective innovation model}"));
+    }
+}
@@ -0,0 +1,82 @@
+package org.jabref.benchmarks;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+import org.jabref.logic.importer.AuthorListParser;
+import org.jabref.model.entry.AuthorList;
+import org.jabref.model.entry.AuthorListCache;
+
+import org.openjdk.jmh.Main;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+
+/**
+ * Measures parsing and formatting authors from several threads, as done when sorting, indexing, or generating keys in
+ * parallel. The authors are picked at random from a library of {@link #numberOfDistinctAuthors} different author
+ * strings. {@link #parseWithoutCache()} parses each time. The hit rate of the cache (since the start of the benchmark)
+ * is printed after each iteration.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Threads(Threads.MAX)
+public class AuthorListBenchmarks {
+
+    @Param({"1000", "100000"})
+    private int numberOfDistinctAuthors;
+
+    private List<String> authors;
+
+    @Setup
+    public void init() {
+        authors = IntStream.range(0, numberOfDistinctAuthors)
+                           .mapToObj(i -> "Lastname" + i + ", Firstname and von Lastname" + (i % 100) + ", Jr., First Middle and {Institute " + (i % 10) + "}")
+                           .toList();
+    }
+
+    @Setup(Level.Iteration)
+    public void resetCache() {
+        AuthorListCache.getDefault().invalidateAll();
+    }
+
+    @TearDown(Level.Iteration)
+    public void printHitRate() {
+        System.out.println("Hit rate of the author list cache: " + AuthorListCache.getDefault().getStatistics().hitRate());
+    }
+
+    private String randomAuthors() {
+        return authors.get(ThreadLocalRandom.current().nextInt(authors.size()));
+    }
+
+    @Benchmark
+    public AuthorList parse() {
+        return AuthorList.parse(randomAuthors());
+    }
+
+    @Benchmark
+    public AuthorList parseWithoutCache() {
+        return new AuthorListParser().parse(randomAuthors());
+    }
+
+    @Benchmark
+    public String parseAndFormat() {
+        return AuthorList.fixAuthorLastNameFirst(randomAuthors(), true);
+    }
+
+    public static void main(String[] args) throws IOException {
+        Main.main(args);
+    }
+}
@@ -49,6 +49,8 @@ public class Benchmarks {
     private String bibtexString;
     private final BibDatabase database = new BibDatabase();
     private String latexConversionString;
+    private String simpleLatexConversionString;
+    private String plainTextConversionString;
     private String htmlConversionString;
 
     @Setup
@@ -72,6 +74,10 @@ public class Benchmarks {
 
         latexConversionString = "{A} \\textbf{bold} approach {\\it to} ${{\\Sigma}}{\\Delta}$ modulator \\textsuperscript{2} \\$";
 
+        simpleLatexConversionString = "Universit{\\\"a}t M{\\\"u}nchen and {\\'E}cole Polytechnique, Gda{\\'n}sk, {\\v{C}}esk{\\'e}, {\\ss} {\\o} {\\aa}";
+
+        plainTextConversionString = "A Journal about Plain Text Titles without any LaTeX Commands 2024";
+
         htmlConversionString = "<b>&Ouml;sterreich</b> &#8211; &amp; characters &#x2aa2; <i>italic</i>";
     }
 
@@ -127,6 +133,18 @@ public class Benchmarks {
         return f.format(latexConversionString);
     }
 
+    @Benchmark
+    public String latexToUnicodeConversionSimpleLatex() {
+        LatexToUnicodeFormatter f = new LatexToUnicodeFormatter();
+        return f.format(simpleLatexConversionString);
+    }
+
+    @Benchmark
+    public String latexToUnicodeConversionPlainText() {
+        LatexToUnicodeFormatter f = new LatexToUnicodeFormatter();
+        return f.format(plainTextConversionString);
+    }
+
     @Benchmark
     public String latexToHTMLConversion() {
         HTMLChars f = new HTMLChars();
@@ -0,0 +1,106 @@
+package org.jabref.benchmarks;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+import org.jabref.logic.citationkeypattern.BracketedPattern;
+import org.jabref.logic.citationkeypattern.CitationKeyGenerator;
+import org.jabref.logic.citationkeypattern.CitationKeyPatternPreferences;
+import org.jabref.logic.citationkeypattern.CompiledBracketedPattern;
+import org.jabref.logic.citationkeypattern.GlobalCitationKeyPatterns;
+import org.jabref.logic.util.io.FileUtil;
+import org.jabref.model.database.BibDatabase;
+import org.jabref.model.entry.BibEntry;
+import org.jabref.model.entry.field.StandardField;
+import org.jabref.model.entry.types.StandardEntryType;
+
+import org.openjdk.jmh.Main;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Measures the number of citation keys (and file names) generated per second. Each invocation expands the pattern for
+ * the next entry of the library. {@link #expandPatternString()} is the former way of expanding, parsing the pattern
+ * string for each entry.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class CitationKeyGenerationBenchmarks {
+
+    private static final int NUMBER_OF_ENTRIES = 1000;
+
+    @Param({"[auth][year]", "[auth:lower][shortyear]_[authorsAlpha][camel2:(untitled)]", "[authEtAl]-[authorLast]-[authorIni]-[shorttitle:abbr]"})
+    private String pattern;
+
+    private BibDatabase database;
+    private List<BibEntry> entries;
+    private CitationKeyGenerator keyGenerator;
+    private CompiledBracketedPattern compiledPattern;
+    private int next;
+
+    @Setup
+    public void init() {
+        // The entries are not part of the library, thus looking up the generated keys in the library is not measured
+        database = new BibDatabase();
+        entries = IntStream.range(0, NUMBER_OF_ENTRIES)
+                           .mapToObj(i -> new BibEntry(StandardEntryType.Article)
+                                   .withField(StandardField.AUTHOR, "Firstname Lastname" + i + " and FirstnameA von LastnameA and {Some Institution of Technology}")
+                                   .withField(StandardField.TITLE, "This is my {T}itle with some M{\\\"{o}}nch " + i)
+                                   .withField(StandardField.YEAR, String.valueOf(2000 + (i % 25))))
+                           .toList();
+
+        GlobalCitationKeyPatterns keyPatterns = GlobalCitationKeyPatterns.fromPattern(pattern);
+        CitationKeyPatternPreferences preferences = new CitationKeyPatternPreferences(
+                false,
+                false,
+                false,
+                CitationKeyPatternPreferences.KeySuffix.SECOND_WITH_A,
+                "",
+                "",
+                CitationKeyGenerator.DEFAULT_UNWANTED_CHARACTERS,
+                keyPatterns,
+                "",
+                ',');
+        keyGenerator = new CitationKeyGenerator(keyPatterns, database, preferences);
+        compiledPattern = CompiledBracketedPattern.compile(pattern);
+    }
+
+    private BibEntry nextEntry() {
+        next = (next + 1) % entries.size();
+        return entries.get(next);
+    }
+
+    @Benchmark
+    public String generateKey() {
+        return keyGenerator.generateKey(nextEntry());
+    }
+
+    @Benchmark
+    public String expandCompiledPattern() {
+        return compiledPattern.expand(nextEntry(), ';', database);
+    }
+
+    @Benchmark
+    public String expandPatternString() {
+        BibEntry entry = nextEntry();
+        return BracketedPattern.expandBrackets(pattern, BracketedPattern.expandBracketContent(';', entry, database));
+    }
+
+    @Benchmark
+    public String createFileName() {
+        return FileUtil.createFileNameFromPattern(database, nextEntry(), pattern);
+    }
+
+    public static void main(String[] args) throws IOException {
+        Main.main(args);
+    }
+}
@@ -0,0 +1,95 @@
+package org.jabref.benchmarks;
+
+import java.io.IOException;
+import java.util.List;
+
+import org.jabref.logic.citationstyle.CSLStyleLoader;
+import org.jabref.logic.citationstyle.CitationStyle;
+import org.jabref.logic.citationstyle.CitationStyleGenerator;
+import org.jabref.logic.citationstyle.CitationStyleOutputFormat;
+import org.jabref.model.database.BibDatabase;
+import org.jabref.model.database.BibDatabaseContext;
+import org.jabref.model.database.BibDatabaseMode;
+import org.jabref.model.entry.BibEntry;
+import org.jabref.model.entry.BibEntryTypesManager;
+import org.jabref.model.entry.field.StandardField;
+import org.jabref.model.entry.types.StandardEntryType;
+
+import org.openjdk.jmh.Main;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+
+/**
+ * Measures citations per second when several threads render with alternating citation styles.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+public class CitationStyleBenchmarks {
+
+    private static final int NUMBER_OF_STYLES = 4;
+
+    private final BibEntryTypesManager entryTypesManager = new BibEntryTypesManager();
+    private List<String> styles;
+    private List<BibEntry> entries;
+    private BibDatabaseContext databaseContext;
+
+    @State(Scope.Thread)
+    public static class StyleCounter {
+        private int next;
+    }
+
+    @Setup
+    public void init() {
+        styles = CSLStyleLoader.getInternalStyles().stream()
+                               .limit(NUMBER_OF_STYLES)
+                               .map(CitationStyle::getSource)
+                               .toList();
+
+        BibDatabase database = new BibDatabase();
+        for (int i = 0; i < 20; i++) {
+            database.insertEntry(new BibEntry(StandardEntryType.Article)
+                    .withCitationKey("key" + i)
+                    .withField(StandardField.AUTHOR, "Firstname Lastname and FirstnameA LastnameA" + i)
+                    .withField(StandardField.TITLE, "This is my title " + i)
+                    .withField(StandardField.JOURNAL, "Journal Title " + i)
+                    .withField(StandardField.YEAR, "20" + (10 + i)));
+        }
+        databaseContext = new BibDatabaseContext(database);
+        databaseContext.setMode(BibDatabaseMode.BIBLATEX);
+        entries = database.getEntries();
+    }
+
+    @Benchmark
+    @Threads(1)
+    public String citationWithMixedStylesSingleThread(StyleCounter counter) {
+        return generateCitation(counter);
+    }
+
+    @Benchmark
+    @Threads(4)
+    public String citationWithMixedStylesFourThreads(StyleCounter counter) {
+        return generateCitation(counter);
+    }
+
+    @Benchmark
+    @Threads(4)
+    public List<String> bibliographyWithMixedStylesFourThreads(StyleCounter counter) {
+        String style = styles.get(counter.next++ % styles.size());
+        return CitationStyleGenerator.generateBibliography(entries, style, CitationStyleOutputFormat.HTML, databaseContext, entryTypesManager);
+    }
+
+    private String generateCitation(StyleCounter counter) {
+        String style = styles.get(counter.next++ % styles.size());
+        BibEntry entry = entries.get(counter.next % entries.size());
+        return CitationStyleGenerator.generateCitation(List.of(entry), style, CitationStyleOutputFormat.HTML, databaseContext, entryTypesManager);
+    }
+
+    public static void main(String[] args) throws IOException {
+        Main.main(args);
+    }
+}
@@ -0,0 +1,96 @@
+package org.jabref.benchmarks;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.jabref.logic.FilePreferences;
+import org.jabref.logic.citationkeypattern.CitationKeyGenerator;
+import org.jabref.logic.citationkeypattern.CitationKeyPatternPreferences;
+import org.jabref.logic.citationkeypattern.GlobalCitationKeyPatterns;
+import org.jabref.logic.integrity.IntegrityCheck;
+import org.jabref.logic.integrity.IntegrityMessage;
+import org.jabref.logic.journals.JournalAbbreviationLoader;
+import org.jabref.logic.journals.JournalAbbreviationRepository;
+import org.jabref.model.database.BibDatabase;
+import org.jabref.model.database.BibDatabaseContext;
+import org.jabref.model.entry.BibEntry;
+import org.jabref.model.entry.field.StandardField;
+import org.jabref.model.entry.types.StandardEntryType;
+
+import org.openjdk.jmh.Main;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import static org.mockito.Mockito.mock;
+
+/**
+ * Measures the integrity check of a whole library. {@link #checkEntriesOneByOne()} is the former way of checking (one
+ * entry after the other, with lookups in the library for each entry); its run time grows quadratically with the
+ * number of entries.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+public class IntegrityCheckBenchmarks {
+
+    @Param({"10000", "100000"})
+    private int numberOfEntries;
+
+    private BibDatabaseContext databaseContext;
+    private IntegrityCheck integrityCheck;
+
+    @Setup
+    public void init() {
+        BibDatabase database = new BibDatabase();
+        for (int i = 0; i < numberOfEntries; i++) {
+            database.insertEntry(new BibEntry(StandardEntryType.Article)
+                    .withCitationKey("Lastname" + (2000 + (i % 25)) + ((i % 10 == 0) ? "" : i))
+                    .withField(StandardField.AUTHOR, "Firstname Lastname and FirstnameA LastnameA" + (i % 100))
+                    .withField(StandardField.TITLE, "This is my {T}itle with some M{\\\"{o}}nch " + i)
+                    .withField(StandardField.JOURNAL, "Journal Title " + (i % 500))
+                    .withField(StandardField.YEAR, String.valueOf(2000 + (i % 25)))
+                    .withField(StandardField.PAGES, (i % 300) + "--" + ((i % 300) + 10))
+                    .withField(StandardField.DOI, "10.1000/" + (i % (numberOfEntries / 2)))
+                    .withField(StandardField.CROSSREF, "Lastname" + (2000 + (i % 25))));
+        }
+        databaseContext = new BibDatabaseContext(database);
+
+        CitationKeyPatternPreferences citationKeyPatternPreferences = new CitationKeyPatternPreferences(
+                false,
+                false,
+                false,
+                CitationKeyPatternPreferences.KeySuffix.SECOND_WITH_B,
+                "",
+                "",
+                CitationKeyGenerator.DEFAULT_UNWANTED_CHARACTERS,
+                GlobalCitationKeyPatterns.fromPattern("[auth][year]"),
+                "",
+                ',');
+        JournalAbbreviationRepository abbreviationRepository = JournalAbbreviationLoader.loadBuiltInRepository();
+        integrityCheck = new IntegrityCheck(databaseContext, mock(FilePreferences.class), citationKeyPatternPreferences, abbreviationRepository, false);
+    }
+
+    @Benchmark
+    public List<IntegrityMessage> check() {
+        return integrityCheck.check();
+    }
+
+    @Benchmark
+    public List<IntegrityMessage> checkEntriesOneByOne() {
+        List<IntegrityMessage> result = new ArrayList<>();
+        for (BibEntry entry : databaseContext.getDatabase().getEntries()) {
+            result.addAll(integrityCheck.checkEntry(entry));
+        }
+        result.addAll(integrityCheck.checkDatabase(databaseContext.getDatabase()));
+        return result;
+    }
+
+    public static void main(String[] args) throws IOException {
+        Main.main(args);
+    }
+}
@@ -0,0 +1,102 @@
+package org.jabref.benchmarks;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import org.jabref.logic.bibtex.FieldPreferences;
+import org.jabref.logic.citationkeypattern.CitationKeyPatternPreferences;
+import org.jabref.logic.exporter.AtomicFileWriter;
+import org.jabref.logic.exporter.BibDatabaseWriter;
+import org.jabref.logic.exporter.BibWriter;
+import org.jabref.logic.exporter.SelfContainedSaveConfiguration;
+import org.jabref.logic.os.OS;
+import org.jabref.model.database.BibDatabase;
+import org.jabref.model.database.BibDatabaseContext;
+import org.jabref.model.entry.BibEntry;
+import org.jabref.model.entry.BibEntryTypesManager;
+import org.jabref.model.entry.field.StandardField;
+import org.jabref.model.entry.types.StandardEntryType;
+import org.jabref.model.metadata.MetaData;
+import org.jabref.model.metadata.SaveOrder;
+
+import org.mockito.Answers;
+import org.openjdk.jmh.Main;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import static org.mockito.Mockito.mock;
+
+/**
+ * Measures how many libraries per second are saved to disk, with and without reformatting the entries.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+public class SaveBenchmarks {
+
+    @Param({"1000", "50000"})
+    private int numberOfEntries;
+
+    @Param({"false", "true"})
+    private boolean reformat;
+
+    private final FieldPreferences fieldPreferences = new FieldPreferences(true, List.of(), List.of());
+    private final CitationKeyPatternPreferences citationKeyPatternPreferences = mock(CitationKeyPatternPreferences.class, Answers.RETURNS_DEEP_STUBS);
+    private final BibEntryTypesManager entryTypesManager = new BibEntryTypesManager();
+    private BibDatabaseContext databaseContext;
+    private SelfContainedSaveConfiguration saveConfiguration;
+    private Path file;
+
+    @Setup
+    public void init() throws IOException {
+        BibDatabase database = new BibDatabase();
+        for (int i = 0; i < numberOfEntries; i++) {
+            BibEntry entry = new BibEntry(StandardEntryType.Article)
+                    .withCitationKey("id" + i)
+                    .withField(StandardField.TITLE, "This is my title " + i)
+                    .withField(StandardField.AUTHOR, "Firstname Lastname and FirstnameA LastnameA and FirstnameB LastnameB" + i)
+                    .withField(StandardField.JOURNAL, "Journal Title " + i)
+                    .withField(StandardField.KEYWORDS, "testkeyword")
+                    .withField(StandardField.YEAR, "1" + i);
+            if (i % 2 == 0) {
+                // Simulate an entry read from disk which was not modified afterwards
+                entry.setParsedSerialization("@Article{id" + i + ", title = {This is my title " + i + "}}" + OS.NEWLINE);
+                entry.setChanged(false);
+            }
+            database.insertEntry(entry);
+        }
+        databaseContext = new BibDatabaseContext(database, new MetaData());
+        saveConfiguration = new SelfContainedSaveConfiguration(SaveOrder.getDefaultSaveOrder(), false, BibDatabaseWriter.SaveType.WITH_JABREF_META_DATA, reformat);
+        file = Files.createTempFile("jabref-save-benchmark", ".bib");
+    }
+
+    @TearDown
+    public void deleteFile() throws IOException {
+        Files.deleteIfExists(file);
+    }
+
+    @Benchmark
+    public void save() throws IOException {
+        try (AtomicFileWriter fileWriter = new AtomicFileWriter(file, StandardCharsets.UTF_8)) {
+            BibDatabaseWriter databaseWriter = new BibDatabaseWriter(
+                    new BibWriter(fileWriter, OS.NEWLINE),
+                    saveConfiguration,
+                    fieldPreferences,
+                    citationKeyPatternPreferences,
+                    entryTypesManager);
+            databaseWriter.saveDatabase(databaseContext);
+        }
+    }
+
+    public static void main(String[] args) throws IOException {
+        Main.main(args);
+    }
+}
@@ -0,0 +1,93 @@
+package org.jabref.logic.bibtex;
+
+import java.io.IOException;
+import java.io.StringWriter;
+import java.util.List;
+
+import org.jabref.logic.exporter.BibWriter;
+import org.jabref.model.database.BibDatabaseMode;
+import org.jabref.model.entry.BibEntry;
+import org.jabref.model.entry.BibEntryTypesManager;
+import org.jabref.model.entry.field.Field;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+
+/**
+ * Caches the BibTeX serialization of {@link BibEntry}s. A cached serialization is reused as long as the
+ * {@link BibEntry#getModificationCount() modification count} of the entry did not change, so that only entries
+ * modified since the last write have to be serialized again.
+ * <p>
+ * Entries are compared by identity and weakly referenced. Besides the modification count, a cached serialization is
+ * only reused if it was created with the same {@link FieldPreferences}, {@link BibEntryTypesManager}, database mode,
+ * reformat setting, and newline separator. Thus, one instance can be shared by all writers of the application (saving,
+ * backups, the HTTP server, ...). Changes of the entry types inside a {@link BibEntryTypesManager} are not detected;
+ * {@link #invalidateAll()} has to be called in that case.
+ */
+public class BibEntrySerializationCache {
+
+    private final Cache<BibEntry, CachedSerialization> cache = CacheBuilder.newBuilder()
+                                                                           .weakKeys()
+                                                                           .build();
+
+    /**
+     * Returns the serialization of the given entry as written by {@link BibEntryWriter#write(BibEntry, BibWriter, BibDatabaseMode, boolean)}
+     * into an empty {@link BibWriter}. The serialization is taken from the cache if the entry was not modified since
+     * it was cached.
+     */
+    public String getSerialization(BibEntry entry, BibEntryWriter entryWriter, BibDatabaseMode mode, boolean reformat, String newLineSeparator) throws IOException {
+        // Read the count before serializing: a concurrent modification then leads to a cache miss at the next call
+        long modificationCount = entry.getModificationCount();
+        WriterSettings writerSettings = WriterSettings.of(entryWriter);
+        CachedSerialization cached = cache.getIfPresent(entry);
+        if ((cached != null)
+                && (cached.modificationCount() == modificationCount)
+                && cached.writerSettings().equals(writerSettings)
+                && (cached.mode() == mode)
+                && (cached.reformat() == reformat)
+                && cached.newLineSeparator().equals(newLineSeparator)) {
+            return cached.serialization();
+        }
+
+        StringWriter writer = new StringWriter();
+        entryWriter.write(entry, new BibWriter(writer, newLineSeparator), mode, reformat);
+        String serialization = writer.toString();
+        cache.put(entry, new CachedSerialization(modificationCount, writerSettings, mode, reformat, newLineSeparator, serialization));
+        return serialization;
+    }
+
+    /**
+     * Writes the given entry using the cached serialization if possible. The output is the same as the one of
+     * {@link BibEntryWriter#write(BibEntry, BibWriter, BibDatabaseMode, boolean)}.
+     */
+    public void write(BibEntry entry, BibEntryWriter entryWriter, BibWriter out, BibDatabaseMode mode, boolean reformat) throws IOException {
+        out.writeSerializedBlock(getSerialization(entry, entryWriter, mode, reformat, out.getNewLineSeparator()));
+    }
+
+    public void invalidateAll() {
+        cache.invalidateAll();
+    }
+
+    public long size() {
+        return cache.size();
+    }
+
+    private record CachedSerialization(long modificationCount, WriterSettings writerSettings, BibDatabaseMode mode, boolean reformat, String newLineSeparator, String serialization) {
+    }
+
+    /**
+     * The settings of a {@link BibEntryWriter} its output depends on. The preferences are copied, because they may be
+     * changed by the user at any time.
+     */
+    private record WriterSettings(boolean resolveStrings, List<Field> resolvableFields, List<Field> nonWrappableFields, BibEntryTypesManager entryTypesManager) {
+
+        static WriterSettings of(BibEntryWriter entryWriter) {
+            FieldPreferences fieldPreferences = entryWriter.getFieldWriter().getPreferences();
+            return new WriterSettings(
+                    fieldPreferences.shouldResolveStrings(),
+                    List.copyOf(fieldPreferences.getResolvableFields()),
+                    List.copyOf(fieldPreferences.getNonWrappableFields()),
+                    entryWriter.getEntryTypesManager());
+        }
+    }
+}
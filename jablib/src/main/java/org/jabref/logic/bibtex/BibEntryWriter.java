@@ -46,6 +46,14 @@ public class BibEntryWriter {
         this.entryTypesManager = entryTypesManager;
     }
 
+    FieldWriter getFieldWriter() {
+        return fieldWriter;
+    }
+
+    BibEntryTypesManager getEntryTypesManager() {
+        return entryTypesManager;
+    }
+
     public String serializeAll(List<BibEntry> entries, BibDatabaseMode databaseMode) throws IOException {
         StringWriter writer = new StringWriter();
         BibWriter bibWriter = new BibWriter(writer, OS.NEWLINE);
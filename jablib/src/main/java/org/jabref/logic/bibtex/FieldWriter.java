@@ -31,6 +31,10 @@ public class FieldWriter {
         this.preferences = preferences;
     }
 
+    FieldPreferences getPreferences() {
+        return preferences;
+    }
+
     public static FieldWriter buildIgnoreHashes(FieldPreferences prefs) {
         return new FieldWriter(true, prefs);
     }
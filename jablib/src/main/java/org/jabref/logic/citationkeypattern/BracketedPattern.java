@@ -12,6 +12,7 @@ import java.util.Optional;
 import java.util.Scanner;
 import java.util.StringJoiner;
 import java.util.StringTokenizer;
+import java.util.function.Consumer;
 import java.util.function.Function;
 import java.util.function.Predicate;
 import java.util.regex.Matcher;
@@ -29,6 +30,7 @@ import org.jabref.model.entry.AuthorList;
 import org.jabref.model.entry.BibEntry;
 import org.jabref.model.entry.Keyword;
 import org.jabref.model.entry.KeywordList;
+import org.jabref.model.entry.field.Field;
 import org.jabref.model.entry.field.FieldFactory;
 import org.jabref.model.entry.field.InternalField;
 import org.jabref.model.entry.field.StandardField;
@@ -85,6 +87,15 @@ public class BracketedPattern {
 
     private static final Pattern WHITESPACE = Pattern.compile("\\p{javaWhitespace}");
 
+    private static final Pattern ABBREVIATION_IGNORED_CHARACTERS = Pattern.compile("[\\{\\}']");
+
+    private static final Pattern ABBREVIATION_WORD_SEPARATORS = Pattern.compile("[\\(\\) \r\n\"]");
+
+    /**
+     * Replaces escaped quotes (<code>\"</code>) while a pattern is parsed
+     */
+    private static final String ESCAPED_QUOTE_PLACEHOLDER = "\u0A17";
+
     private static final RemoveEnclosingBracesFormatter ENCLOSING_BRACES_FORMATTER = new RemoveEnclosingBracesFormatter();
 
     private enum Institution {
@@ -194,7 +205,7 @@ public class BracketedPattern {
     public static String expandBrackets(String pattern, Character keywordDelimiter, BibEntry entry, BibDatabase database) {
         Objects.requireNonNull(pattern);
         Objects.requireNonNull(entry);
-        return expandBrackets(pattern, expandBracketContent(keywordDelimiter, entry, database));
+        return CompiledBracketedPattern.of(pattern).expand(entry, keywordDelimiter, database);
     }
 
     /**
@@ -229,31 +240,47 @@ public class BracketedPattern {
      * @return The expanded pattern. Not null.
      */
     public static String expandBrackets(String pattern, Function<String, String> bracketContentHandler) {
-        Objects.requireNonNull(pattern);
         StringBuilder expandedPattern = new StringBuilder();
-        pattern = pattern.replace("\\\"", "\u0A17");
+        parse(pattern, expandedPattern::append, bracket -> expandedPattern.append(bracketContentHandler.apply(bracket)));
+        return restoreEscapedQuotes(expandedPattern.toString());
+    }
+
+    /**
+     * Splits a pattern into its literal text and the contents of its bracketed expressions. Escaped quotes are replaced
+     * by a placeholder, which has to be replaced back using {@link #restoreEscapedQuotes(String)} after expanding.
+     *
+     * @param literalConsumer        called for each piece of literal text, in the order of the pattern
+     * @param bracketContentConsumer called for the string representation of the content of each bracketed expression,
+     *                               in the order of the pattern
+     */
+    static void parse(String pattern, Consumer<String> literalConsumer, Consumer<String> bracketContentConsumer) {
+        Objects.requireNonNull(pattern);
+        pattern = pattern.replace("\\\"", ESCAPED_QUOTE_PLACEHOLDER);
         StringTokenizer parsedPattern = new StringTokenizer(pattern, "\\[]\"", true);
 
         while (parsedPattern.hasMoreTokens()) {
             String token = parsedPattern.nextToken();
             switch (token) {
-                case "\"" -> appendQuote(expandedPattern, parsedPattern);
-                case "[" -> {
-                    String fieldMarker = contentBetweenBrackets(parsedPattern, pattern);
-                    expandedPattern.append(bracketContentHandler.apply(fieldMarker));
+                case "\"" -> {
+                    StringBuilder quote = new StringBuilder();
+                    appendQuote(quote, parsedPattern);
+                    literalConsumer.accept(quote.toString());
                 }
+                case "[" -> bracketContentConsumer.accept(contentBetweenBrackets(parsedPattern, pattern));
                 case "\\" -> {
                     if (parsedPattern.hasMoreTokens()) {
-                        expandedPattern.append(parsedPattern.nextToken());
+                        literalConsumer.accept(parsedPattern.nextToken());
                     } else {
                         LOGGER.warn("Found a \"\\\" that is not part of an escape sequence");
                     }
                 }
-                default -> expandedPattern.append(token);
+                default -> literalConsumer.accept(token);
             }
         }
+    }
 
-        return expandedPattern.toString().replace("\u0A17", "\\\"");
+    static String restoreEscapedQuotes(String expandedPattern) {
+        return expandedPattern.replace(ESCAPED_QUOTE_PLACEHOLDER, "\\\"");
     }
 
     /**
@@ -328,144 +355,81 @@ public class BracketedPattern {
      */
     public static String getFieldValue(BibEntry entry, String pattern, Character keywordDelimiter, BibDatabase database) {
         try {
-            if (pattern.startsWith("auth") || pattern.startsWith("pureauth")) {
-                // result the author
-                String unparsedAuthors = entry.getResolvedFieldOrAlias(StandardField.AUTHOR, database).orElse("");
-
-                if (pattern.startsWith("pure")) {
-                    // "pure" is used in the context of authors to resolve to authors only and not fallback to editors
-                    // The other functionality of the pattern "ForeIni", ... is the same
-                    // Thus, remove the "pure" prefix so the remaining code in this section functions correctly
-                    //
-                    pattern = pattern.substring(4);
-                } else if (unparsedAuthors.isEmpty()) {
-                    // special feature: A pattern starting with "auth" falls back to the editor
-                    unparsedAuthors = entry.getResolvedFieldOrAlias(StandardField.EDITOR, database).orElse("");
-                }
-
-                AuthorList authorList = createAuthorList(unparsedAuthors);
-
-                // Gather all author-related checks, so we don't
-                // have to check all the time.
-                switch (pattern) {
-                    case "auth":
-                        return firstAuthor(authorList);
-                    case "authForeIni":
-                        return firstAuthorForenameInitials(authorList);
-                    case "authFirstFull":
-                        return firstAuthorVonAndLast(authorList);
-                    case "authors":
-                        return allAuthors(authorList);
-                    case "authorsAlpha":
-                        return authorsAlpha(authorList);
-                    case "authorsAlphaLNI":
-                        return authorsAlphaLNI(authorList);
-                    case "authorLast":
-                        return lastAuthor(authorList);
-                    case "authorLastForeIni":
-                        return lastAuthorForenameInitials(authorList);
-                    case "authorIni":
-                        return oneAuthorPlusInitials(authorList);
-                    case "auth.auth.ea":
-                        return authAuthEa(authorList);
-                    case "auth.etal":
-                        return authEtal(authorList, ".", ".etal");
-                    case "authEtAl":
-                        return authEtal(authorList, "", "EtAl");
-                    case "authshort":
-                        return authShort(authorList);
-                }
+            return compileFieldMarker(pattern).apply(new ExpansionContext(entry, keywordDelimiter, database));
+        } catch (NullPointerException ex) {
+            LOGGER.debug("Problem making expanding bracketed expression", ex);
+            return "";
+        }
+    }
 
-                if (pattern.matches("authIni[\\d]+")) {
-                    int num = Integer.parseInt(pattern.substring(7));
-                    return authIniN(authorList, num);
-                } else if (pattern.matches("auth[\\d]+_[\\d]+")) {
-                    String[] nums = pattern.substring(4).split("_");
-                    return authNofMth(authorList, Integer.parseInt(nums[0]),
-                            Integer.parseInt(nums[1]));
-                } else if (pattern.matches("auth\\d+")) {
-                    // authN. First N chars of the first author's last name.
-                    int num = Integer.parseInt(pattern.substring(4));
-                    return authN(authorList, num);
-                } else if (pattern.matches("authors\\d+")) {
-                    return nAuthors(authorList, Integer.parseInt(pattern.substring(7)));
-                } else {
-                    // This "auth" business was a dead end, so just
-                    // use it literally:
-                    return entry.getResolvedFieldOrAlias(FieldFactory.parseField(pattern), database).orElse("");
-                }
-            } else if (pattern.startsWith("ed")) {
-                // Gather all markers starting with "ed" here, so we
-                // don't have to check all the time.
-                String unparsedEditors = entry.getResolvedFieldOrAlias(StandardField.EDITOR, database).orElse("");
-                AuthorList editorList = createAuthorList(unparsedEditors);
-
-                switch (pattern) {
-                    case "edtr":
-                        return firstAuthor(editorList);
-                    case "edtrForeIni":
-                        return firstAuthorForenameInitials(editorList);
-                    case "editors":
-                        return allAuthors(editorList);
-                    case "editorLast":
-                        return lastAuthor(editorList); // Last author's last name
-                    case "editorLastForeIni":
-                        return lastAuthorForenameInitials(editorList);
-                    case "editorIni":
-                        return oneAuthorPlusInitials(editorList);
-                    case "edtr.edtr.ea":
-                        return authAuthEa(editorList);
-                    case "edtrshort":
-                        return authShort(editorList);
-                }
+    /**
+     * Evaluates a field marker compiled by {@link #compileFieldMarker(String)}
+     *
+     * @return String containing the evaluation result. Empty string if the pattern cannot be resolved.
+     */
+    static String getFieldValue(Function<ExpansionContext, String> fieldMarker, ExpansionContext context) {
+        try {
+            return fieldMarker.apply(context);
+        } catch (NullPointerException ex) {
+            LOGGER.debug("Problem making expanding bracketed expression", ex);
+            return "";
+        }
+    }
 
-                if (pattern.matches("edtrIni[\\d]+")) {
-                    int num = Integer.parseInt(pattern.substring(7));
-                    return authIniN(editorList, num);
-                } else if (pattern.matches("edtr[\\d]+_[\\d]+")) {
-                    String[] nums = pattern.substring(4).split("_");
-                    return authNofMth(editorList,
-                            Integer.parseInt(nums[0]),
-                            Integer.parseInt(nums[1]));
-                } else if (pattern.matches("edtr\\d+")) {
-                    String fa = firstAuthor(editorList);
-                    int num = Integer.parseInt(pattern.substring(4));
-                    if (num > fa.length()) {
-                        num = fa.length();
-                    }
-                    return fa.substring(0, num);
-                } else {
-                    // This "ed" business was a dead end, so just
-                    // use it literally:
-                    return entry.getResolvedFieldOrAlias(FieldFactory.parseField(pattern), database).orElse("");
-                }
-            } else if ("firstpage".equals(pattern)) {
-                return firstPage(entry.getResolvedFieldOrAlias(StandardField.PAGES, database).orElse(""));
-            } else if ("pageprefix".equals(pattern)) {
-                return pagePrefix(entry.getResolvedFieldOrAlias(StandardField.PAGES, database).orElse(""));
-            } else if ("lastpage".equals(pattern)) {
-                return lastPage(entry.getResolvedFieldOrAlias(StandardField.PAGES, database).orElse(""));
-            } else if ("title".equals(pattern)) {
-                return camelizeSignificantWordsInTitle(entry.getResolvedFieldOrAlias(StandardField.TITLE, database).orElse(""));
-            } else if ("fulltitle".equals(pattern)) {
-                return entry.getResolvedFieldOrAlias(StandardField.TITLE, database).orElse("");
-            } else if ("shorttitle".equals(pattern)) {
-                return getTitleWords(3,
-                        removeSmallWords(entry.getResolvedFieldOrAlias(StandardField.TITLE, database).orElse("")));
-            } else if ("shorttitleINI".equals(pattern)) {
-                return keepLettersAndDigitsOnly(
-                        applyModifiers(getTitleWordsWithSpaces(3, entry.getResolvedFieldOrAlias(StandardField.TITLE, database).orElse("")),
-                                List.of("abbr"), 0, Function.identity()));
-            } else if ("veryshorttitle".equals(pattern)) {
-                return getTitleWords(1,
-                        removeSmallWords(entry.getResolvedFieldOrAlias(StandardField.TITLE, database).orElse("")));
-            } else if (pattern.matches("camel[\\d]+")) {
-                int num = Integer.parseInt(pattern.substring(5));
-                return getCamelizedTitle_N(entry.getResolvedFieldOrAlias(StandardField.TITLE, database).orElse(""), num);
-            } else if ("camel".equals(pattern)) {
-                return getCamelizedTitle(entry.getResolvedFieldOrAlias(StandardField.TITLE, database).orElse(""));
-            } else if ("shortyear".equals(pattern)) {
-                String yearString = entry.getResolvedFieldOrAlias(StandardField.YEAR, database).orElse("");
+    /**
+     * Determines once how a field marker (such as auth, pureauth, authorLast) is evaluated. The returned function can
+     * be applied to many entries, possibly in parallel.
+     *
+     * @param pattern A pattern string (such as auth, pureauth, authorLast)
+     * @return a function evaluating the pattern for the entry of the given context
+     */
+    static Function<ExpansionContext, String> compileFieldMarker(String pattern) {
+        if (pattern.startsWith("auth") || pattern.startsWith("pureauth")) {
+            // "pure" is used in the context of authors to resolve to authors only and not fallback to editors
+            // The other functionality of the pattern "ForeIni", ... is the same
+            // Thus, remove the "pure" prefix so the remaining code in this section functions correctly
+            boolean pure = pattern.startsWith("pure");
+            String authorPattern = pure ? pattern.substring(4) : pattern;
+            Optional<Function<AuthorList, String>> authorFormat = compileAuthorMarker(authorPattern);
+            if (authorFormat.isPresent()) {
+                // special feature: A pattern starting with "auth" falls back to the editor
+                return context -> authorFormat.get().apply(pure ? context.getPureAuthors() : context.getAuthorsOrEditors());
+            }
+            // This "auth" business was a dead end, so just
+            // use it literally:
+            return resolvedField(FieldFactory.parseField(authorPattern));
+        } else if (pattern.startsWith("ed")) {
+            Optional<Function<AuthorList, String>> editorFormat = compileEditorMarker(pattern);
+            if (editorFormat.isPresent()) {
+                return context -> editorFormat.get().apply(context.getEditors());
+            }
+            // This "ed" business was a dead end, so just
+            // use it literally:
+            return resolvedField(FieldFactory.parseField(pattern));
+        } else if ("firstpage".equals(pattern)) {
+            return context -> firstPage(context.getResolvedField(StandardField.PAGES));
+        } else if ("pageprefix".equals(pattern)) {
+            return context -> pagePrefix(context.getResolvedField(StandardField.PAGES));
+        } else if ("lastpage".equals(pattern)) {
+            return context -> lastPage(context.getResolvedField(StandardField.PAGES));
+        } else if ("title".equals(pattern)) {
+            return context -> camelizeSignificantWordsInTitle(context.getResolvedField(StandardField.TITLE));
+        } else if ("fulltitle".equals(pattern)) {
+            return resolvedField(StandardField.TITLE);
+        } else if ("shorttitle".equals(pattern)) {
+            return context -> getTitleWords(3, removeSmallWords(context.getResolvedField(StandardField.TITLE)));
+        } else if ("shorttitleINI".equals(pattern)) {
+            return context -> keepLettersAndDigitsOnly(abbreviate(getTitleWordsWithSpaces(3, context.getResolvedField(StandardField.TITLE))));
+        } else if ("veryshorttitle".equals(pattern)) {
+            return context -> getTitleWords(1, removeSmallWords(context.getResolvedField(StandardField.TITLE)));
+        } else if (pattern.matches("camel[\\d]+")) {
+            int num = Integer.parseInt(pattern.substring(5));
+            return context -> getCamelizedTitle_N(context.getResolvedField(StandardField.TITLE), num);
+        } else if ("camel".equals(pattern)) {
+            return context -> getCamelizedTitle(context.getResolvedField(StandardField.TITLE));
+        } else if ("shortyear".equals(pattern)) {
+            return context -> {
+                String yearString = context.getResolvedField(StandardField.YEAR);
                 if (yearString.isEmpty()) {
                     return yearString;
                     // In press/in preparation/submitted
@@ -476,12 +440,14 @@ public class BracketedPattern {
                 } else {
                     return yearString;
                 }
-            } else if ("entrytype".equals(pattern)) {
-                return entry.getResolvedFieldOrAlias(InternalField.TYPE_HEADER, database).orElse("");
-            } else if (pattern.matches("keyword\\d+")) {
-                // according to LabelPattern.php, it returns keyword number n
-                int num = Integer.parseInt(pattern.substring(7));
-                KeywordList separatedKeywords = entry.getResolvedKeywords(keywordDelimiter, database);
+            };
+        } else if ("entrytype".equals(pattern)) {
+            return resolvedField(InternalField.TYPE_HEADER);
+        } else if (pattern.matches("keyword\\d+")) {
+            // according to LabelPattern.php, it returns keyword number n
+            int num = Integer.parseInt(pattern.substring(7));
+            return context -> {
+                KeywordList separatedKeywords = context.getResolvedKeywords();
                 if (separatedKeywords.size() < num) {
                     // not enough keywords
                     return "";
@@ -489,18 +455,19 @@ public class BracketedPattern {
                     // num counts from 1 to n, but index in arrayList count from 0 to n-1
                     return separatedKeywords.get(num - 1).toString();
                 }
-            } else if (pattern.matches("keywords\\d*")) {
-                // return all keywords, not separated
-                int num;
-                if (pattern.length() > 8) {
-                    num = Integer.parseInt(pattern.substring(8));
-                } else {
-                    num = Integer.MAX_VALUE;
-                }
-                KeywordList separatedKeywords = entry.getResolvedKeywords(keywordDelimiter, database);
+            };
+        } else if (pattern.matches("keywords\\d*")) {
+            // return all keywords, not separated
+            int num;
+            if (pattern.length() > 8) {
+                num = Integer.parseInt(pattern.substring(8));
+            } else {
+                num = Integer.MAX_VALUE;
+            }
+            return context -> {
                 StringBuilder sb = new StringBuilder();
                 int i = 0;
-                for (Keyword keyword : separatedKeywords) {
+                for (Keyword keyword : context.getResolvedKeywords()) {
                     // remove all spaces
                     sb.append(keyword.toString().replaceAll("\\s+", ""));
 
@@ -510,16 +477,102 @@ public class BracketedPattern {
                     }
                 }
                 return sb.toString();
-            } else {
-                // we haven't seen any special demands
-                return entry.getResolvedFieldOrAlias(FieldFactory.parseField(pattern), database).orElse("");
-            }
-        } catch (NullPointerException ex) {
-            LOGGER.debug("Problem making expanding bracketed expression", ex);
-            return "";
+            };
+        } else {
+            // we haven't seen any special demands
+            return resolvedField(FieldFactory.parseField(pattern));
         }
     }
 
+    private static Function<ExpansionContext, String> resolvedField(Field field) {
+        return context -> context.getResolvedField(field);
+    }
+
+    /**
+     * @param pattern an author marker without the "pure" prefix
+     * @return the formatting of the authors, or an empty optional if the marker is no author marker
+     */
+    private static Optional<Function<AuthorList, String>> compileAuthorMarker(String pattern) {
+        // Gather all author-related checks, so we don't
+        // have to check all the time.
+        Function<AuthorList, String> authorFormat = switch (pattern) {
+            case "auth" -> BracketedPattern::firstAuthor;
+            case "authForeIni" -> BracketedPattern::firstAuthorForenameInitials;
+            case "authFirstFull" -> BracketedPattern::firstAuthorVonAndLast;
+            case "authors" -> BracketedPattern::allAuthors;
+            case "authorsAlpha" -> BracketedPattern::authorsAlpha;
+            case "authorsAlphaLNI" -> BracketedPattern::authorsAlphaLNI;
+            case "authorLast" -> BracketedPattern::lastAuthor;
+            case "authorLastForeIni" -> BracketedPattern::lastAuthorForenameInitials;
+            case "authorIni" -> BracketedPattern::oneAuthorPlusInitials;
+            case "auth.auth.ea" -> BracketedPattern::authAuthEa;
+            case "auth.etal" -> authorList -> authEtal(authorList, ".", ".etal");
+            case "authEtAl" -> authorList -> authEtal(authorList, "", "EtAl");
+            case "authshort" -> BracketedPattern::authShort;
+            default -> null;
+        };
+        if (authorFormat != null) {
+            return Optional.of(authorFormat);
+        }
+
+        if (pattern.matches("authIni[\\d]+")) {
+            int num = Integer.parseInt(pattern.substring(7));
+            return Optional.of(authorList -> authIniN(authorList, num));
+        } else if (pattern.matches("auth[\\d]+_[\\d]+")) {
+            String[] nums = pattern.substring(4).split("_");
+            int n = Integer.parseInt(nums[0]);
+            int m = Integer.parseInt(nums[1]);
+            return Optional.of(authorList -> authNofMth(authorList, n, m));
+        } else if (pattern.matches("auth\\d+")) {
+            // authN. First N chars of the first author's last name.
+            int num = Integer.parseInt(pattern.substring(4));
+            return Optional.of(authorList -> authN(authorList, num));
+        } else if (pattern.matches("authors\\d+")) {
+            int num = Integer.parseInt(pattern.substring(7));
+            return Optional.of(authorList -> nAuthors(authorList, num));
+        }
+        return Optional.empty();
+    }
+
+    /**
+     * @return the formatting of the editors, or an empty optional if the marker is no editor marker
+     */
+    private static Optional<Function<AuthorList, String>> compileEditorMarker(String pattern) {
+        // Gather all markers starting with "ed" here, so we
+        // don't have to check all the time.
+        Function<AuthorList, String> editorFormat = switch (pattern) {
+            case "edtr" -> BracketedPattern::firstAuthor;
+            case "edtrForeIni" -> BracketedPattern::firstAuthorForenameInitials;
+            case "editors" -> BracketedPattern::allAuthors;
+            case "editorLast" -> BracketedPattern::lastAuthor; // Last author's last name
+            case "editorLastForeIni" -> BracketedPattern::lastAuthorForenameInitials;
+            case "editorIni" -> BracketedPattern::oneAuthorPlusInitials;
+            case "edtr.edtr.ea" -> BracketedPattern::authAuthEa;
+            case "edtrshort" -> BracketedPattern::authShort;
+            default -> null;
+        };
+        if (editorFormat != null) {
+            return Optional.of(editorFormat);
+        }
+
+        if (pattern.matches("edtrIni[\\d]+")) {
+            int num = Integer.parseInt(pattern.substring(7));
+            return Optional.of(editorList -> authIniN(editorList, num));
+        } else if (pattern.matches("edtr[\\d]+_[\\d]+")) {
+            String[] nums = pattern.substring(4).split("_");
+            int n = Integer.parseInt(nums[0]);
+            int m = Integer.parseInt(nums[1]);
+            return Optional.of(editorList -> authNofMth(editorList, n, m));
+        } else if (pattern.matches("edtr\\d+")) {
+            int num = Integer.parseInt(pattern.substring(4));
+            return Optional.of(editorList -> {
+                String fa = firstAuthor(editorList);
+                return fa.substring(0, Math.min(num, fa.length()));
+            });
+        }
+        return Optional.empty();
+    }
+
     /**
      * Parses the provided string to an {@link AuthorList}, which are then formatted by {@link LatexToUnicodeAdapter}.
      * Afterward, any institutions are formatted into an institution key.
@@ -573,16 +626,7 @@ public class BracketedPattern {
             String modifier = parts.get(j);
 
             if ("abbr".equals(modifier)) {
-                // Abbreviate - that is,
-                StringBuilder abbreviateSB = new StringBuilder();
-                String[] words = resultingLabel.replaceAll("[\\{\\}']", "")
-                                               .split("[\\(\\) \r\n\"]");
-                for (String word : words) {
-                    if (!word.isEmpty()) {
-                        abbreviateSB.append(word.charAt(0));
-                    }
-                }
-                resultingLabel = abbreviateSB.toString();
+                resultingLabel = abbreviate(resultingLabel);
             } else {
                 Optional<Formatter> formatter = Formatters.getFormatterForModifier(modifier);
                 if (formatter.isPresent()) {
@@ -601,6 +645,20 @@ public class BracketedPattern {
         return resultingLabel;
     }
 
+    /**
+     * Abbreviates the given label (modifier "abbr"), that is, keeps the first character of each word
+     */
+    static String abbreviate(String label) {
+        StringBuilder abbreviateSB = new StringBuilder();
+        String[] words = ABBREVIATION_WORD_SEPARATORS.split(ABBREVIATION_IGNORED_CHARACTERS.matcher(label).replaceAll(""));
+        for (String word : words) {
+            if (!word.isEmpty()) {
+                abbreviateSB.append(word.charAt(0));
+            }
+        }
+        return abbreviateSB.toString();
+    }
+
     /**
      * Determines "number" words out of the "title" field in the given BibTeX entry
      */
@@ -1406,4 +1464,63 @@ public class BracketedPattern {
         }
         return nameParts;
     }
+
+    /**
+     * The entry a pattern is expanded for. The author and editor lists are parsed at most once, even if used by several
+     * bracketed expressions of the pattern.
+     * <p>
+     * A context is used for a single expansion and is not thread-safe.
+     */
+    static final class ExpansionContext {
+
+        private final BibEntry entry;
+        private final Character keywordDelimiter;
+        private final BibDatabase database;
+
+        private AuthorList authorsOrEditors;
+        private AuthorList pureAuthors;
+        private AuthorList editors;
+
+        /**
+         * @param database the database to use for field resolving. May be null.
+         */
+        ExpansionContext(BibEntry entry, Character keywordDelimiter, BibDatabase database) {
+            this.entry = Objects.requireNonNull(entry);
+            this.keywordDelimiter = keywordDelimiter;
+            this.database = database;
+        }
+
+        String getResolvedField(Field field) {
+            return entry.getResolvedFieldOrAlias(field, database).orElse("");
+        }
+
+        KeywordList getResolvedKeywords() {
+            return entry.getResolvedKeywords(keywordDelimiter, database);
+        }
+
+        /**
+         * Returns the authors, or the editors if there are no authors
+         */
+        AuthorList getAuthorsOrEditors() {
+            if (authorsOrEditors == null) {
+                String unparsedAuthors = getResolvedField(StandardField.AUTHOR);
+                authorsOrEditors = unparsedAuthors.isEmpty() ? getEditors() : getPureAuthors();
+            }
+            return authorsOrEditors;
+        }
+
+        AuthorList getPureAuthors() {
+            if (pureAuthors == null) {
+                pureAuthors = createAuthorList(getResolvedField(StandardField.AUTHOR));
+            }
+            return pureAuthors;
+        }
+
+        AuthorList getEditors() {
+            if (editors == null) {
+                editors = createAuthorList(getResolvedField(StandardField.EDITOR));
+            }
+            return editors;
+        }
+    }
 }
@@ -1,19 +1,33 @@
 package org.jabref.logic.citationkeypattern;
 
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
-import java.util.function.Function;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.IntConsumer;
+import java.util.function.ToLongFunction;
 import java.util.regex.PatternSyntaxException;
+import java.util.stream.Collectors;
 
 import org.jabref.model.FieldChange;
 import org.jabref.model.database.BibDatabase;
 import org.jabref.model.database.BibDatabaseContext;
 import org.jabref.model.entry.BibEntry;
+import org.jabref.model.entry.field.Field;
+import org.jabref.model.entry.field.FieldFactory;
+import org.jabref.model.entry.field.FieldProperty;
+import org.jabref.model.entry.field.InternalField;
 import org.jabref.model.entry.types.EntryType;
 import org.jabref.model.strings.StringUtil;
 
+import com.google.common.annotations.VisibleForTesting;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -40,10 +54,22 @@ public class CitationKeyGenerator extends BracketedPattern {
 
     private static final Logger LOGGER = LoggerFactory.getLogger(CitationKeyGenerator.class);
 
+    /**
+     * The number of entries {@link #generateAndSetKeys(List, IntConsumer)} processes between two progress reports
+     */
+    private static final int GENERATION_CHUNK_SIZE = 1_000;
+
     private final AbstractCitationKeyPatterns citeKeyPattern;
     private final BibDatabase database;
     private final CitationKeyPatternPreferences citationKeyPatternPreferences;
     private final String unwantedCharacters;
+    private final ToLongFunction<String> citationKeyOccurrences;
+
+    /**
+     * The compiled patterns, keyed by the string representation of the pattern. The patterns are looked up for each
+     * entry, since the patterns of the library may be changed while the generator is used.
+     */
+    private final Map<String, CompiledBracketedPattern> compiledPatterns = new ConcurrentHashMap<>();
 
     public CitationKeyGenerator(BibDatabaseContext bibDatabaseContext, CitationKeyPatternPreferences citationKeyPatternPreferences) {
         this(bibDatabaseContext.getMetaData().getCiteKeyPatterns(citationKeyPatternPreferences.getKeyPatterns()),
@@ -51,11 +77,28 @@ public class CitationKeyGenerator extends BracketedPattern {
                 citationKeyPatternPreferences);
     }
 
+    /**
+     * @param citationKeyOccurrences returns the number of entries using the given citation key. Used instead of
+     *                               counting the entries of the database for each generated key, e.g., if the counts
+     *                               were computed once for checking many entries.
+     */
+    public CitationKeyGenerator(BibDatabaseContext bibDatabaseContext, CitationKeyPatternPreferences citationKeyPatternPreferences, ToLongFunction<String> citationKeyOccurrences) {
+        this(bibDatabaseContext.getMetaData().getCiteKeyPatterns(citationKeyPatternPreferences.getKeyPatterns()),
+                bibDatabaseContext.getDatabase(),
+                citationKeyPatternPreferences,
+                citationKeyOccurrences);
+    }
+
     public CitationKeyGenerator(AbstractCitationKeyPatterns citeKeyPattern, BibDatabase database, CitationKeyPatternPreferences citationKeyPatternPreferences) {
+        this(citeKeyPattern, database, citationKeyPatternPreferences, database::getNumberOfCitationKeyOccurrences);
+    }
+
+    private CitationKeyGenerator(AbstractCitationKeyPatterns citeKeyPattern, BibDatabase database, CitationKeyPatternPreferences citationKeyPatternPreferences, ToLongFunction<String> citationKeyOccurrences) {
         this.citeKeyPattern = Objects.requireNonNull(citeKeyPattern);
         this.database = Objects.requireNonNull(database);
         this.citationKeyPatternPreferences = Objects.requireNonNull(citationKeyPatternPreferences);
         this.unwantedCharacters = citationKeyPatternPreferences.getUnwantedCharacters();
+        this.citationKeyOccurrences = Objects.requireNonNull(citationKeyOccurrences);
     }
 
     /**
@@ -104,21 +147,28 @@ public class CitationKeyGenerator extends BracketedPattern {
         Objects.requireNonNull(entry);
         String currentKey = entry.getCitationKey().orElse(null);
 
-        String newKey = createCitationKeyFromPattern(entry);
-        newKey = replaceWithRegex(newKey);
-        newKey = appendLettersToKey(newKey, currentKey);
+        String newKey = expandPattern(entry);
+        newKey = appendLettersToKey(newKey, currentKey, citationKeyOccurrences);
         return cleanKey(newKey, unwantedCharacters);
     }
 
+    /**
+     * Returns the key for the given entry before a letter is appended to make it unique
+     */
+    private String expandPattern(BibEntry entry) {
+        return replaceWithRegex(createCitationKeyFromPattern(entry));
+    }
+
     /**
      * A letter will be appended to the key based on the user's preferences, either always or to prevent duplicated keys.
      *
-     * @param key    the new key
-     * @param oldKey the old key
+     * @param key                    the new key
+     * @param oldKey                 the old key
+     * @param citationKeyOccurrences returns the number of entries using the given citation key
      * @return a key, if needed, with an appended letter
      */
-    private String appendLettersToKey(String key, String oldKey) {
-        long occurrences = database.getNumberOfCitationKeyOccurrences(key);
+    private String appendLettersToKey(String key, String oldKey, ToLongFunction<String> citationKeyOccurrences) {
+        long occurrences = citationKeyOccurrences.applyAsLong(key);
 
         if ((occurrences > 0) && Objects.equals(oldKey, key)) {
             occurrences--; // No change, so we can accept one dupe.
@@ -139,7 +189,7 @@ public class CitationKeyGenerator extends BracketedPattern {
                 moddedKey = key + getAppendix(number);
                 number++;
 
-                occurrences = database.getNumberOfCitationKeyOccurrences(moddedKey);
+                occurrences = citationKeyOccurrences.applyAsLong(moddedKey);
                 // only happens if #getAddition() is buggy
                 if (Objects.equals(oldKey, moddedKey)) {
                     occurrences--;
@@ -178,31 +228,27 @@ public class CitationKeyGenerator extends BracketedPattern {
         if (citationKeyPattern == null || CitationKeyPattern.NULL_CITATION_KEY_PATTERN.equals(citationKeyPattern)) {
             return "";
         }
-        return expandBrackets(citationKeyPattern.stringRepresentation(), expandBracketContent(entry));
+        return compiledPatterns.computeIfAbsent(citationKeyPattern.stringRepresentation(), this::compile)
+                               .expand(entry, citationKeyPatternPreferences.getKeywordDelimiter(), database);
     }
 
     /**
-     * A helper method to create a {@link Function} that takes a single bracketed expression, expands it, and cleans the key.
-     *
-     * @param entry the {@link BibEntry} that a citation key is generated for
-     * @return a cleaned citation key for the given {@link BibEntry}
+     * Returns the number of patterns compiled so far. Each pattern is compiled once, regardless of the number of
+     * entries it is expanded for.
      */
-    private Function<String, String> expandBracketContent(BibEntry entry) {
-        Character keywordDelimiter = citationKeyPatternPreferences.getKeywordDelimiter();
-
-        return (String bracket) -> {
-            String expandedPattern;
-            List<String> fieldParts = parseFieldAndModifiers(bracket);
-
-            expandedPattern = removeUnwantedCharacters(getFieldValue(entry, fieldParts.getFirst(), keywordDelimiter, database), unwantedCharacters);
-            // check whether there is a modifier on the end such as
-            // ":lower":
-            if (fieldParts.size() > 1) {
-                // apply modifiers:
-                expandedPattern = applyModifiers(expandedPattern, fieldParts, 1, expandBracketContent(entry));
-            }
-            return cleanKey(expandedPattern, unwantedCharacters);
-        };
+    @VisibleForTesting
+    public int getNumberOfCompiledPatterns() {
+        return compiledPatterns.size();
+    }
+
+    /**
+     * Compiles the given pattern. The expansion of each bracketed expression is cleaned, thus the unwanted characters
+     * are removed before the modifiers are applied (and again after).
+     */
+    private CompiledBracketedPattern compile(String pattern) {
+        return CompiledBracketedPattern.compile(pattern,
+                fieldValue -> removeUnwantedCharacters(fieldValue, unwantedCharacters),
+                expandedBracket -> cleanKey(expandedBracket, unwantedCharacters));
     }
 
     /**
@@ -215,4 +261,99 @@ public class CitationKeyGenerator extends BracketedPattern {
         String newKey = generateKey(entry);
         return entry.setCitationKey(newKey);
     }
+
+    /**
+     * Generates and sets the citation keys of many entries. See {@link #generateAndSetKeys(List, IntConsumer)}.
+     */
+    public List<FieldChange> generateAndSetKeys(List<BibEntry> entries) {
+        return generateAndSetKeys(entries, _ -> { });
+    }
+
+    /**
+     * Generates and sets the citation keys of many entries. The keys are the same as if {@link #generateAndSetKey(BibEntry)}
+     * was called for one entry after the other: a key already used by an entry of the library, including the keys
+     * generated before, gets a letter appended.
+     * <p>
+     * The entries are processed in chunks. The patterns are expanded for all entries of a chunk in parallel. Then, the
+     * collisions are resolved in one pass over the entries of the chunk using the number of entries per key in the
+     * library, which is updated with each key set. Only if the patterns refer to fields changing while generating keys
+     * (the citation key itself or fields linking to other entries, which are updated if the linked key changes), the
+     * keys are generated one after the other.
+     *
+     * @param entries  the entries to generate the keys for, in the order the keys are generated
+     * @param progress receives the number of entries processed so far, after each chunk (or entry, if the keys are
+     *                 generated one after the other). Called by the calling thread.
+     * @return the changes of the keys
+     */
+    public List<FieldChange> generateAndSetKeys(List<BibEntry> entries, IntConsumer progress) {
+        List<FieldChange> changes = new ArrayList<>();
+        if (referencesChangingFields(entries)) {
+            for (int i = 0; i < entries.size(); i++) {
+                generateAndSetKey(entries.get(i)).ifPresent(changes::add);
+                progress.accept(i + 1);
+            }
+            return changes;
+        }
+
+        Set<BibEntry> databaseEntries = Collections.newSetFromMap(new IdentityHashMap<>());
+        Map<String, Long> keyCounts = new HashMap<>();
+        for (BibEntry entry : database.getEntries()) {
+            databaseEntries.add(entry);
+            entry.getCitationKey().ifPresent(key -> keyCounts.merge(key, 1L, Long::sum));
+        }
+
+        for (int chunkStart = 0; chunkStart < entries.size(); chunkStart += GENERATION_CHUNK_SIZE) {
+            List<BibEntry> chunk = entries.subList(chunkStart, Math.min(chunkStart + GENERATION_CHUNK_SIZE, entries.size()));
+            List<String> expandedKeys = chunk.parallelStream()
+                                             .map(this::expandPattern)
+                                             .toList();
+
+            for (int i = 0; i < chunk.size(); i++) {
+                BibEntry entry = chunk.get(i);
+                Optional<String> oldKey = entry.getCitationKey();
+                String newKey = appendLettersToKey(expandedKeys.get(i), oldKey.orElse(null), key -> keyCounts.getOrDefault(key, 0L));
+                Optional<FieldChange> change = entry.setCitationKey(cleanKey(newKey, unwantedCharacters));
+                if (change.isPresent() && databaseEntries.contains(entry)) {
+                    // Keep the counts equal to the ones of the library
+                    oldKey.ifPresent(key -> keyCounts.computeIfPresent(key, (_, count) -> count > 1 ? count - 1 : null));
+                    entry.getCitationKey().ifPresent(key -> keyCounts.merge(key, 1L, Long::sum));
+                }
+                change.ifPresent(changes::add);
+            }
+            progress.accept(chunkStart + chunk.size());
+        }
+        return changes;
+    }
+
+    /**
+     * Checks whether the patterns used for the given entries refer to the citation key or to fields linking to other
+     * entries
+     */
+    private boolean referencesChangingFields(List<BibEntry> entries) {
+        Set<EntryType> entryTypes = entries.stream()
+                                           .map(BibEntry::getType)
+                                           .collect(Collectors.toSet());
+        for (EntryType entryType : entryTypes) {
+            CitationKeyPattern citationKeyPattern = citeKeyPattern.getValue(entryType);
+            if ((citationKeyPattern == null) || CitationKeyPattern.NULL_CITATION_KEY_PATTERN.equals(citationKeyPattern)) {
+                continue;
+            }
+            List<String> brackets = new ArrayList<>();
+            // Only collects the bracketed expressions; the expanded key is not used
+            expandBrackets(citationKeyPattern.stringRepresentation(), bracket -> {
+                brackets.add(bracket);
+                return "";
+            });
+            for (String bracket : brackets) {
+                Field field = FieldFactory.parseField(parseFieldAndModifiers(bracket).getFirst());
+                Set<FieldProperty> properties = field.getProperties();
+                if ((field == InternalField.KEY_FIELD)
+                        || properties.contains(FieldProperty.SINGLE_ENTRY_LINK)
+                        || properties.contains(FieldProperty.MULTIPLE_ENTRY_LINK)) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
 }
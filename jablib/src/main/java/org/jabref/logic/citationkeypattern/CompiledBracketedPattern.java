@@ -0,0 +1,190 @@
+package org.jabref.logic.citationkeypattern;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.function.Function;
+import java.util.function.UnaryOperator;
+
+import org.jabref.logic.cleanup.Formatter;
+import org.jabref.logic.formatter.Formatters;
+import org.jabref.model.database.BibDatabase;
+import org.jabref.model.entry.BibEntry;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * A bracketed pattern, such as <code>[auth][year]</code>, parsed once for expanding it for many entries.
+ * <p>
+ * {@link BracketedPattern#expandBrackets(String, Character, BibEntry, BibDatabase)} parses the pattern string, the
+ * field markers, and the modifiers again for each entry. Here, the pattern is compiled into a list of literal texts and
+ * bracketed expressions. For each bracketed expression, the evaluation of the field marker and the modifiers (including
+ * their formatters) are determined when compiling. When expanding, the authors and editors of the entry are parsed at
+ * most once, even if the pattern contains several author markers.
+ * <p>
+ * Instances are immutable and can be used by several threads at the same time.
+ */
+public final class CompiledBracketedPattern {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(CompiledBracketedPattern.class);
+
+    private static final int MAXIMUM_CACHED_PATTERNS = 100;
+
+    /**
+     * The patterns compiled by {@link #of(String)}. Only a few patterns are in use at the same time (the file name
+     * pattern, the directory pattern, ...), thus a small cache suffices.
+     */
+    private static final Cache<String, CompiledBracketedPattern> COMPILED_PATTERNS = CacheBuilder.newBuilder()
+                                                                                                 .maximumSize(MAXIMUM_CACHED_PATTERNS)
+                                                                                                 .build();
+
+    private final String pattern;
+    private final List<Segment> segments;
+
+    private CompiledBracketedPattern(String pattern, List<Segment> segments) {
+        this.pattern = pattern;
+        this.segments = segments;
+    }
+
+    /**
+     * Compiles the given pattern
+     */
+    public static CompiledBracketedPattern compile(String pattern) {
+        return compile(pattern, UnaryOperator.identity(), UnaryOperator.identity());
+    }
+
+    /**
+     * Compiles the given pattern, post-processing the expansion of each bracketed expression
+     *
+     * @param fieldValueCleaner applied to the value of the field marker, before the modifiers are applied
+     * @param bracketCleaner    applied to the expansion of each bracketed expression, after the modifiers are applied
+     */
+    static CompiledBracketedPattern compile(String pattern, UnaryOperator<String> fieldValueCleaner, UnaryOperator<String> bracketCleaner) {
+        Objects.requireNonNull(pattern);
+        List<Segment> segments = new ArrayList<>();
+        StringBuilder literal = new StringBuilder();
+        BracketedPattern.parse(pattern, literal::append, bracket -> {
+            if (!literal.isEmpty()) {
+                segments.add(new Literal(literal.toString()));
+                literal.setLength(0);
+            }
+            segments.add(compileBracket(bracket, fieldValueCleaner, bracketCleaner));
+        });
+        if (!literal.isEmpty()) {
+            segments.add(new Literal(literal.toString()));
+        }
+        return new CompiledBracketedPattern(pattern, List.copyOf(segments));
+    }
+
+    /**
+     * Returns the compiled form of the given pattern. The compiled patterns are cached, thus callers expanding the
+     * same pattern string for many entries do not have to keep the compiled pattern.
+     */
+    public static CompiledBracketedPattern of(String pattern) {
+        Objects.requireNonNull(pattern);
+        CompiledBracketedPattern compiledPattern = COMPILED_PATTERNS.getIfPresent(pattern);
+        if (compiledPattern == null) {
+            compiledPattern = compile(pattern);
+            COMPILED_PATTERNS.put(pattern, compiledPattern);
+        }
+        return compiledPattern;
+    }
+
+    /**
+     * Expands the pattern using the given entry
+     *
+     * @param keywordDelimiter The keyword delimiter to use
+     * @param database         The database for field resolving. May be null.
+     * @return The expanded pattern. Not null.
+     */
+    public String expand(BibEntry entry, Character keywordDelimiter, BibDatabase database) {
+        return expand(new BracketedPattern.ExpansionContext(entry, keywordDelimiter, database));
+    }
+
+    private String expand(BracketedPattern.ExpansionContext context) {
+        StringBuilder expandedPattern = new StringBuilder();
+        for (Segment segment : segments) {
+            expandedPattern.append(segment.expand(context));
+        }
+        return BracketedPattern.restoreEscapedQuotes(expandedPattern.toString());
+    }
+
+    @Override
+    public String toString() {
+        return "CompiledBracketedPattern[pattern=" + pattern + "]";
+    }
+
+    private static Bracket compileBracket(String bracket, UnaryOperator<String> fieldValueCleaner, UnaryOperator<String> bracketCleaner) {
+        List<String> fieldParts = BracketedPattern.parseFieldAndModifiers(bracket);
+        List<Modifier> modifiers = new ArrayList<>();
+        for (String modifier : fieldParts.subList(1, fieldParts.size())) {
+            compileModifier(modifier, fieldValueCleaner, bracketCleaner).ifPresent(modifiers::add);
+        }
+        return new Bracket(BracketedPattern.compileFieldMarker(fieldParts.getFirst()), List.copyOf(modifiers), fieldValueCleaner, bracketCleaner);
+    }
+
+    /**
+     * Same as {@link BracketedPattern#applyModifiers(String, List, int, Function)} for a single modifier
+     *
+     * @return the modifier, or an empty optional if the modifier does not change the label
+     */
+    private static Optional<Modifier> compileModifier(String modifier, UnaryOperator<String> fieldValueCleaner, UnaryOperator<String> bracketCleaner) {
+        if ("abbr".equals(modifier)) {
+            return Optional.of((label, _, _) -> BracketedPattern.abbreviate(label));
+        }
+
+        Optional<Formatter> formatter = Formatters.getFormatterForModifier(modifier);
+        if (formatter.isPresent()) {
+            return Optional.of((label, _, _) -> formatter.get().format(label));
+        } else if ((modifier.length() >= 2) && (modifier.charAt(0) == '(') && modifier.endsWith(")")) {
+            if (modifier.length() == 2) {
+                return Optional.empty();
+            }
+            // Alternate text modifier in parentheses. Should be inserted if the label is empty
+            CompiledBracketedPattern alternateText = compile(modifier.substring(1, modifier.length() - 1), fieldValueCleaner, bracketCleaner);
+            return Optional.of((label, unmodifiedLabel, context) -> unmodifiedLabel.isEmpty() ? alternateText.expand(context) : label);
+        } else {
+            LOGGER.warn("Key generator warning: unknown modifier '{}'.", modifier);
+            return Optional.empty();
+        }
+    }
+
+    private sealed interface Segment permits Literal, Bracket {
+        String expand(BracketedPattern.ExpansionContext context);
+    }
+
+    private record Literal(String text) implements Segment {
+        @Override
+        public String expand(BracketedPattern.ExpansionContext context) {
+            return text;
+        }
+    }
+
+    private record Bracket(Function<BracketedPattern.ExpansionContext, String> fieldMarker,
+                           List<Modifier> modifiers,
+                           UnaryOperator<String> fieldValueCleaner,
+                           UnaryOperator<String> bracketCleaner) implements Segment {
+        @Override
+        public String expand(BracketedPattern.ExpansionContext context) {
+            String unmodifiedLabel = fieldValueCleaner.apply(BracketedPattern.getFieldValue(fieldMarker, context));
+            String label = unmodifiedLabel;
+            for (Modifier modifier : modifiers) {
+                label = modifier.apply(label, unmodifiedLabel, context);
+            }
+            return bracketCleaner.apply(label);
+        }
+    }
+
+    @FunctionalInterface
+    private interface Modifier {
+        /**
+         * @param label           the label modified by the previous modifiers
+         * @param unmodifiedLabel the label before any modifier was applied
+         */
+        String apply(String label, String unmodifiedLabel, BracketedPattern.ExpansionContext context);
+    }
+}
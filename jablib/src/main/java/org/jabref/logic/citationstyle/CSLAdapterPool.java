@@ -0,0 +1,108 @@
+package org.jabref.logic.citationstyle;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.Deque;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedDeque;
+
+import org.jspecify.annotations.NonNull;
+
+/**
+ * Keyed pool of {@link CSLAdapter}s. There is one pool per combination of style and output format, so that rendering
+ * with different styles does not throw away compiled styles, and several threads can render at the same time.
+ * <p>
+ * An adapter is used by exactly one thread while it is borrowed. Adapters which have not been used for
+ * {@link #getIdleTimeout()} are dropped.
+ */
+public class CSLAdapterPool {
+
+    public static final Duration DEFAULT_IDLE_TIMEOUT = Duration.ofMinutes(10);
+
+    private static final int MAXIMUM_IDLE_ADAPTERS_PER_KEY = Math.max(2, Runtime.getRuntime().availableProcessors());
+
+    private final Map<PoolKey, Deque<IdleAdapter>> idleAdapters = new ConcurrentHashMap<>();
+    private final Duration idleTimeout;
+
+    public CSLAdapterPool() {
+        this(DEFAULT_IDLE_TIMEOUT);
+    }
+
+    public CSLAdapterPool(@NonNull Duration idleTimeout) {
+        this.idleTimeout = idleTimeout;
+    }
+
+    /**
+     * Runs the given call with an adapter for the given style and output format. The adapter is exclusively used by
+     * the calling thread during the call.
+     */
+    public <T> T withAdapter(String style, CitationStyleOutputFormat outputFormat, AdapterCall<T> call) throws IOException {
+        PoolKey key = new PoolKey(style, outputFormat);
+        CSLAdapter adapter = borrow(key);
+        T result;
+        try {
+            result = call.apply(adapter);
+        } catch (IOException | RuntimeException e) {
+            // The state of the engine is unknown, thus it is not returned to the pool
+            evictIdleAdapters();
+            throw e;
+        }
+        release(key, adapter);
+        return result;
+    }
+
+    public Duration getIdleTimeout() {
+        return idleTimeout;
+    }
+
+    /**
+     * Returns the number of adapters currently waiting in the pool.
+     */
+    public int getIdleAdapterCount() {
+        return idleAdapters.values().stream().mapToInt(Deque::size).sum();
+    }
+
+    public void clear() {
+        idleAdapters.clear();
+    }
+
+    private CSLAdapter borrow(PoolKey key) throws IOException {
+        Deque<IdleAdapter> adapters = idleAdapters.get(key);
+        if (adapters != null) {
+            IdleAdapter idleAdapter = adapters.pollFirst();
+            if (idleAdapter != null) {
+                return idleAdapter.adapter();
+            }
+        }
+        return new CSLAdapter(key.style(), key.outputFormat());
+    }
+
+    private void release(PoolKey key, CSLAdapter adapter) {
+        Deque<IdleAdapter> adapters = idleAdapters.computeIfAbsent(key, _ -> new ConcurrentLinkedDeque<>());
+        // Most recently used adapters are taken first, so that surplus adapters at the end run into the idle timeout
+        adapters.offerFirst(new IdleAdapter(adapter, System.nanoTime()));
+        while (adapters.size() > MAXIMUM_IDLE_ADAPTERS_PER_KEY) {
+            adapters.pollLast();
+        }
+        evictIdleAdapters();
+    }
+
+    private void evictIdleAdapters() {
+        long oldestAllowed = System.nanoTime() - idleTimeout.toNanos();
+        idleAdapters.values().forEach(adapters -> adapters.removeIf(idleAdapter -> idleAdapter.releasedAt() - oldestAllowed <= 0));
+        // An adapter released concurrently into a removed deque is lost, which only costs its re-creation
+        idleAdapters.values().removeIf(Deque::isEmpty);
+    }
+
+    @FunctionalInterface
+    public interface AdapterCall<T> {
+        T apply(CSLAdapter adapter) throws IOException;
+    }
+
+    private record PoolKey(String style, CitationStyleOutputFormat outputFormat) {
+    }
+
+    private record IdleAdapter(CSLAdapter adapter, long releasedAt) {
+    }
+}
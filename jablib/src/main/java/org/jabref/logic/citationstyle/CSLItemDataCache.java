@@ -0,0 +1,87 @@
+package org.jabref.logic.citationstyle;
+
+import java.util.function.Supplier;
+
+import org.jabref.logic.bibtex.FieldWriter;
+import org.jabref.model.database.BibDatabaseMode;
+import org.jabref.model.entry.BibEntry;
+import org.jabref.model.entry.BibEntryTypesManager;
+import org.jabref.model.entry.event.FieldChangedEvent;
+import org.jabref.model.entry.field.StandardField;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.eventbus.Subscribe;
+import de.undercouch.citeproc.csl.CSLItemData;
+
+/**
+ * Caches the conversion of {@link BibEntry}s to {@link CSLItemData}, which includes LaTeX to Unicode conversion and
+ * name parsing. A cached item is dropped as soon as its entry posts a {@link FieldChangedEvent}.
+ * <p>
+ * Entries are compared by identity and weakly referenced. Entries with a crossref or with string references are not
+ * cached, because their CSL item depends on other parts of the library.
+ */
+public class CSLItemDataCache {
+
+    private static final int CACHE_SIZE = 8192;
+
+    private final Cache<BibEntry, CachedItem> cache = CacheBuilder.newBuilder()
+                                                                 .weakKeys()
+                                                                 .maximumSize(CACHE_SIZE)
+                                                                 .build();
+    private final EntryChangeListener entryChangeListener = new EntryChangeListener();
+
+    /**
+     * Returns the cached CSL item of the given entry or converts it using the given converter.
+     */
+    public CSLItemData get(BibEntry entry, BibDatabaseMode mode, BibEntryTypesManager entryTypesManager, Supplier<CSLItemData> converter) {
+        if (!isCacheable(entry)) {
+            return converter.get();
+        }
+
+        CachedItem cachedItem = cache.getIfPresent(entry);
+        if ((cachedItem != null) && (cachedItem.mode() == mode) && (cachedItem.entryTypesManager() == entryTypesManager)) {
+            return cachedItem.itemData();
+        }
+
+        // Registering the same listener twice has no effect
+        entry.registerListener(entryChangeListener);
+        CSLItemData itemData = converter.get();
+        cache.put(entry, new CachedItem(itemData, mode, entryTypesManager));
+        return itemData;
+    }
+
+    public void invalidate(BibEntry entry) {
+        cache.invalidate(entry);
+    }
+
+    public void invalidateAll() {
+        cache.invalidateAll();
+    }
+
+    public long size() {
+        return cache.size();
+    }
+
+    private static boolean isCacheable(BibEntry entry) {
+        if (entry.hasField(StandardField.CROSSREF)) {
+            return false;
+        }
+        for (String value : entry.getFieldValues()) {
+            if (value.indexOf(FieldWriter.BIBTEX_STRING_START_END_SYMBOL) >= 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private record CachedItem(CSLItemData itemData, BibDatabaseMode mode, BibEntryTypesManager entryTypesManager) {
+    }
+
+    private class EntryChangeListener {
+        @Subscribe
+        public void listen(FieldChangedEvent event) {
+            invalidate(event.getBibEntry());
+        }
+    }
+}
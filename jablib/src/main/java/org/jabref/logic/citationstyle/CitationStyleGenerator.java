@@ -16,12 +16,13 @@ import org.slf4j.LoggerFactory;
 
 /**
  * Facade to unify the access to the citation style engine. Use these methods if you need rendered BibTeX item(s) in a
- * given journal style. This class uses {@link CSLAdapter} to create output.
+ * given journal style. This class uses a pool of {@link CSLAdapter}s to create output, so that different styles and
+ * threads do not block each other.
  */
 public class CitationStyleGenerator {
 
     private static final Logger LOGGER = LoggerFactory.getLogger(CitationStyleGenerator.class);
-    private static final CSLAdapter CSL_ADAPTER = new CSLAdapter();
+    private static final CSLAdapterPool CSL_ADAPTER_POOL = new CSLAdapterPool();
 
     private CitationStyleGenerator() {
     }
@@ -33,7 +34,7 @@ public class CitationStyleGenerator {
      */
     public static String generateCitation(List<BibEntry> bibEntries, String style, CitationStyleOutputFormat outputFormat, BibDatabaseContext databaseContext, BibEntryTypesManager entryTypesManager) {
         try {
-            return CSL_ADAPTER.makeCitation(bibEntries, style, outputFormat, databaseContext, entryTypesManager).getText();
+            return CSL_ADAPTER_POOL.withAdapter(style, outputFormat, adapter -> adapter.makeCitation(bibEntries, databaseContext, entryTypesManager)).getText();
         } catch (IOException e) {
             LOGGER.error("Could not generate BibEntry citation", e);
             return Localization.lang("Cannot generate citation based on selected citation style.");
@@ -58,7 +59,7 @@ public class CitationStyleGenerator {
      */
     public static List<String> generateBibliography(List<BibEntry> bibEntries, String style, CitationStyleOutputFormat outputFormat, BibDatabaseContext databaseContext, BibEntryTypesManager entryTypesManager) {
         try {
-            return CSL_ADAPTER.makeBibliography(bibEntries, style, outputFormat, databaseContext, entryTypesManager);
+            return CSL_ADAPTER_POOL.withAdapter(style, outputFormat, adapter -> adapter.makeBibliography(bibEntries, databaseContext, entryTypesManager));
         } catch (IllegalArgumentException e) {
             LOGGER.error("Could not generate BibEntry bibliography. The CSL engine could not create a bibliography output for your item.", e);
             return List.of(Localization.lang("Cannot generate bibliography based on selected citation style."));
@@ -2,9 +2,11 @@ package org.jabref.logic.citationstyle;
 
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.HashMap;
 import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Locale;
+import java.util.Map;
 import java.util.Optional;
 import java.util.SequencedCollection;
 import java.util.stream.Collectors;
@@ -38,9 +40,15 @@ public class JabRefItemDataProvider implements ItemDataProvider {
 
     private static final BibTeXConverter BIBTEX_CONVERTER = new BibTeXConverter();
 
+    /**
+     * Shared by all providers, so that all CSL rendering paths (preview, OpenOffice, HTTP server) benefit from it
+     */
+    private static final CSLItemDataCache ITEM_DATA_CACHE = new CSLItemDataCache();
+
     private final StringJsonBuilderFactory stringJsonBuilderFactory;
 
     private final List<BibEntry> data = new ArrayList<>();
+    private final Map<String, BibEntry> dataByCitationKey = new HashMap<>();
 
     private BibDatabaseContext bibDatabaseContext;
     private BibEntryTypesManager entryTypesManager;
@@ -181,6 +189,11 @@ public class JabRefItemDataProvider implements ItemDataProvider {
     public void setData(List<BibEntry> data, BibDatabaseContext bibDatabaseContext, BibEntryTypesManager entryTypesManager) {
         this.data.clear();
         this.data.addAll(data);
+        this.dataByCitationKey.clear();
+        for (BibEntry entry : data) {
+            // The first entry wins in case of duplicate keys
+            dataByCitationKey.putIfAbsent(entry.getCitationKey().orElse(""), entry);
+        }
         this.bibDatabaseContext = bibDatabaseContext;
         this.entryTypesManager = entryTypesManager;
 
@@ -193,10 +206,16 @@ public class JabRefItemDataProvider implements ItemDataProvider {
 
     @Override
     public CSLItemData retrieveItem(String id) {
-        return data.stream()
-                   .filter(entry -> entry.getCitationKey().orElse("").equals(id))
-                   .map(entry -> bibEntryToCSLItemData(entry, bibDatabaseContext, entryTypesManager))
-                   .findFirst().orElse(null);
+        BibEntry entry = dataByCitationKey.get(id);
+        if (entry == null) {
+            return null;
+        }
+        return getCSLItemData(entry);
+    }
+
+    private CSLItemData getCSLItemData(BibEntry entry) {
+        return ITEM_DATA_CACHE.get(entry, bibDatabaseContext.getMode(), entryTypesManager,
+                () -> bibEntryToCSLItemData(entry, bibDatabaseContext, entryTypesManager));
     }
 
     @Override
@@ -210,7 +229,7 @@ public class JabRefItemDataProvider implements ItemDataProvider {
         List<BibEntry> entries = bibDatabaseContext.getEntries();
         this.setData(entries, bibDatabaseContext, entryTypesManager);
         return entries.stream()
-                      .map(entry -> bibEntryToCSLItemData(entry, bibDatabaseContext, entryTypesManager))
+                      .map(this::getCSLItemData)
                       .map(item -> item.toJson(stringJsonBuilderFactory.createJsonBuilder()))
                       .map(String.class::cast)
                       .collect(Collectors.joining(",", "[", "]"));
@@ -1,15 +1,20 @@
 package org.jabref.logic.cleanup;
 
 import java.util.ArrayList;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
 
 import org.jabref.logic.FilePreferences;
 import org.jabref.logic.JabRefException;
 import org.jabref.logic.preferences.TimestampPreferences;
 import org.jabref.model.FieldChange;
+import org.jabref.model.database.BatchEdit;
 import org.jabref.model.database.BibDatabaseContext;
 import org.jabref.model.entry.BibEntry;
+import org.jabref.model.entry.field.Field;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -45,6 +50,83 @@ public class CleanupWorker {
         return changes;
     }
 
+    /**
+     * Cleans up many entries at once.
+     * <p>
+     * The jobs of the preset are determined once for all entries. The jobs run on copies of the entries: consecutive
+     * jobs not touching files run in parallel over all entries, jobs moving or renaming files ({@link MoveFilesCleanup},
+     * {@link RenamePdfCleanup}) run on one entry after the other to avoid conflicts between the target files of
+     * different entries. For each entry, the jobs run in the order of the preset, as in {@link #cleanup(CleanupPreferences, BibEntry)}.
+     * <p>
+     * At the end, the changes are applied to the entries on the calling thread in one batch edit of the library (see
+     * {@link BibDatabaseContext#beginBatchEdit()}), thus the listeners of the library are notified once.
+     *
+     * @return the applied changes, at most one per entry and field
+     */
+    public List<FieldChange> cleanup(CleanupPreferences preset, List<BibEntry> entries) {
+        Objects.requireNonNull(preset);
+        Objects.requireNonNull(entries);
+
+        List<CleanupJob> jobs = determineCleanupActions(preset);
+        List<BibEntry> copies = entries.parallelStream()
+                                       .map(BibEntry::new)
+                                       .toList();
+
+        int stageStart = 0;
+        while (stageStart < jobs.size()) {
+            boolean touchesFiles = touchesFiles(jobs.get(stageStart));
+            int stageEnd = stageStart + 1;
+            while ((stageEnd < jobs.size()) && (touchesFiles(jobs.get(stageEnd)) == touchesFiles)) {
+                stageEnd++;
+            }
+
+            List<CleanupJob> stage = jobs.subList(stageStart, stageEnd);
+            if (touchesFiles) {
+                copies.forEach(copy -> stage.forEach(job -> job.cleanup(copy)));
+            } else {
+                copies.parallelStream().forEach(copy -> stage.forEach(job -> job.cleanup(copy)));
+            }
+            stageStart = stageEnd;
+        }
+
+        for (CleanupJob job : jobs) {
+            if (job instanceof MoveFilesCleanup cleanup) {
+                failures.addAll(cleanup.getIoExceptions());
+            }
+        }
+
+        List<FieldChange> changes = new ArrayList<>();
+        try (BatchEdit _ = databaseContext.beginBatchEdit()) {
+            for (int i = 0; i < entries.size(); i++) {
+                changes.addAll(applyChanges(entries.get(i), copies.get(i)));
+            }
+        }
+        return changes;
+    }
+
+    private static boolean touchesFiles(CleanupJob job) {
+        return (job instanceof MoveFilesCleanup) || (job instanceof RenamePdfCleanup);
+    }
+
+    /**
+     * Sets the fields of the entry to the values of the cleaned up copy
+     */
+    private static List<FieldChange> applyChanges(BibEntry entry, BibEntry cleanedUpCopy) {
+        Set<Field> fields = new LinkedHashSet<>(entry.getFields());
+        fields.addAll(cleanedUpCopy.getFields());
+
+        List<FieldChange> changes = new ArrayList<>();
+        for (Field field : fields) {
+            Optional<String> newValue = cleanedUpCopy.getField(field);
+            if (newValue.equals(entry.getField(field))) {
+                continue;
+            }
+            Optional<FieldChange> change = newValue.isPresent() ? entry.setField(field, newValue.get()) : entry.clearField(field);
+            change.ifPresent(changes::add);
+        }
+        return changes;
+    }
+
     private List<CleanupJob> determineCleanupActions(CleanupPreferences preset) {
         List<CleanupJob> jobs = new ArrayList<>();
 
@@ -1,5 +1,6 @@
 package org.jabref.logic.exporter;
 
+import java.io.BufferedOutputStream;
 import java.io.IOException;
 import java.io.OutputStreamWriter;
 import java.nio.charset.Charset;
@@ -18,6 +19,9 @@ import java.util.TreeSet;
  */
 public class AtomicFileWriter extends OutputStreamWriter {
 
+    // Large libraries are written in big chunks instead of the default 8 KiB ones
+    private static final int BUFFER_SIZE = 1 << 20;
+
     private final CharsetEncoder encoder;
     private final Set<Character> problemCharacters = new TreeSet<>();
 
@@ -26,7 +30,7 @@ public class AtomicFileWriter extends OutputStreamWriter {
     }
 
     public AtomicFileWriter(Path file, Charset encoding, boolean keepBackup) throws IOException {
-        super(new AtomicFileOutputStream(file, keepBackup), encoding);
+        super(new BufferedOutputStream(new AtomicFileOutputStream(file, keepBackup), BUFFER_SIZE), encoding);
         encoder = encoding.newEncoder();
     }
 
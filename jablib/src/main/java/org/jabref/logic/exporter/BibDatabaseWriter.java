@@ -1,22 +1,28 @@
 package org.jabref.logic.exporter;
 
 import java.io.IOException;
+import java.io.StringWriter;
+import java.io.UncheckedIOException;
 import java.io.Writer;
 import java.nio.charset.Charset;
 import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.Collections;
 import java.util.Comparator;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
 import java.util.SortedSet;
 import java.util.TreeSet;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
+import org.jabref.logic.bibtex.BibEntrySerializationCache;
 import org.jabref.logic.bibtex.BibEntryWriter;
 import org.jabref.logic.bibtex.FieldPreferences;
 import org.jabref.logic.bibtex.FieldWriter;
@@ -48,6 +54,7 @@ import org.jabref.model.metadata.SelfContainedSaveOrder;
 import org.jabref.model.strings.StringUtil;
 
 import org.jooq.lambda.Unchecked;
+import org.jspecify.annotations.Nullable;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -67,23 +74,43 @@ public class BibDatabaseWriter {
 
     private static final String STRING_PREFIX = "@String";
 
+    // Below this number of entries, serializing in parallel does not pay off
+    private static final int PARALLEL_SERIALIZATION_THRESHOLD = 512;
+    // Number of entries serialized in parallel before they are written, limits the memory used for the serializations
+    private static final int SERIALIZATION_CHUNK_SIZE = 8192;
+
     protected final BibWriter bibWriter;
     protected final SelfContainedSaveConfiguration saveConfiguration;
     protected final CitationKeyPatternPreferences keyPatternPreferences;
     protected final List<FieldChange> saveActionsFieldChanges = new ArrayList<>();
     protected final BibEntryTypesManager entryTypesManager;
     protected final FieldPreferences fieldPreferences;
+    protected final @Nullable BibEntrySerializationCache entrySerializationCache;
 
     public BibDatabaseWriter(BibWriter bibWriter,
                              SelfContainedSaveConfiguration saveConfiguration,
                              FieldPreferences fieldPreferences,
                              CitationKeyPatternPreferences keyPatternPreferences,
                              BibEntryTypesManager entryTypesManager) {
+        this(bibWriter, saveConfiguration, fieldPreferences, keyPatternPreferences, entryTypesManager, null);
+    }
+
+    /**
+     * @param entrySerializationCache if present, the serializations of entries not modified since the last write
+     *                                using this cache are reused
+     */
+    public BibDatabaseWriter(BibWriter bibWriter,
+                             SelfContainedSaveConfiguration saveConfiguration,
+                             FieldPreferences fieldPreferences,
+                             CitationKeyPatternPreferences keyPatternPreferences,
+                             BibEntryTypesManager entryTypesManager,
+                             @Nullable BibEntrySerializationCache entrySerializationCache) {
         this.bibWriter = Objects.requireNonNull(bibWriter);
         this.saveConfiguration = saveConfiguration;
         this.keyPatternPreferences = keyPatternPreferences;
         this.fieldPreferences = fieldPreferences;
         this.entryTypesManager = entryTypesManager;
+        this.entrySerializationCache = entrySerializationCache;
         assert saveConfiguration.getSaveOrder().getOrderType() != SaveOrder.OrderType.TABLE;
     }
 
@@ -230,10 +257,10 @@ public class BibDatabaseWriter {
                 // Otherwise (enrich returns empty optional) it is a completely unknown entry type, so ignore it
                 entryTypesManager.enrich(entry.getType(), bibDatabaseContext.getMode()).ifPresent(typesToWrite::add);
             }
-
-            writeEntry(entry, bibDatabaseContext.getMode());
         }
 
+        writeEntries(sortedEntries, bibDatabaseContext.getMode());
+
         if (saveConfiguration.getSaveType() == SaveType.WITH_JABREF_META_DATA) {
             // Write meta data.
             writeMetaData(bibDatabaseContext.getMetaData(), keyPatternPreferences.getKeyPatterns());
@@ -246,6 +273,27 @@ public class BibDatabaseWriter {
         writeEpilogue(bibDatabaseContext.getDatabase().getEpilog());
     }
 
+    /**
+     * Starts saving entries one after another, as they are passed to the returned writer, instead of all at once. Thus,
+     * arbitrarily large numbers of entries can be saved without keeping them in memory.
+     * <p>
+     * The database ID, the prolog, the preamble, and the strings known at this point are written immediately. The
+     * entries are written in the order they are passed, not sorted by the save order, and the save actions are applied
+     * to them, but no citation keys are generated. Strings and a preamble added to the database later on, the metadata,
+     * and the type definitions are written when the returned writer is closed. Closing the returned writer does not
+     * close the underlying {@link BibWriter}.
+     * <p>
+     * The entries are written using the database mode and the save actions of the metadata of the given context. Thus,
+     * the metadata has to be complete when starting. For instance, when reading a file entry by entry, the metadata
+     * stored at the end of the file has to be read beforehand.
+     *
+     * @param bibDatabaseContext the database the entries belong to. The entries do not need to be part of the
+     *                           database.
+     */
+    public StreamingExporter.EntryWriter startSave(BibDatabaseContext bibDatabaseContext) throws IOException {
+        return new StreamingEntryWriter(bibDatabaseContext);
+    }
+
     protected void writeProlog(BibDatabaseContext bibDatabaseContext, Charset encoding) throws IOException {
         // We write the encoding if
         //   - it is provided (!= null)
@@ -260,9 +308,62 @@ public class BibDatabaseWriter {
         bibWriter.writeLine(SaveConfiguration.ENCODING_PREFIX + encoding);
     }
 
+    /**
+     * Writes the given entries in the given order. Large numbers of entries are serialized in parallel, chunk by chunk,
+     * and then written one after another. The output is the same as writing each entry with
+     * {@link #writeEntry(BibEntry, BibDatabaseMode)}.
+     */
+    protected void writeEntries(List<BibEntry> entries, BibDatabaseMode mode) throws IOException {
+        if (entries.size() < PARALLEL_SERIALIZATION_THRESHOLD) {
+            for (BibEntry entry : entries) {
+                writeEntry(entry, mode);
+            }
+            return;
+        }
+
+        for (int start = 0; start < entries.size(); start += SERIALIZATION_CHUNK_SIZE) {
+            List<BibEntry> chunk = entries.subList(start, Math.min(start + SERIALIZATION_CHUNK_SIZE, entries.size()));
+            List<String> serializations;
+            try {
+                serializations = chunk.parallelStream()
+                                      .map(entry -> {
+                                          try {
+                                              return serializeEntry(entry, mode);
+                                          } catch (IOException e) {
+                                              throw new UncheckedIOException(e);
+                                          }
+                                      })
+                                      .toList();
+            } catch (UncheckedIOException e) {
+                throw e.getCause();
+            }
+            for (String serialization : serializations) {
+                bibWriter.writeSerializedBlock(serialization);
+            }
+        }
+    }
+
+    /**
+     * Serializes the entry as {@link #writeEntry(BibEntry, BibDatabaseMode)} would write it. Safe to be called in parallel.
+     */
+    private String serializeEntry(BibEntry entry, BibDatabaseMode mode) throws IOException {
+        // BibEntryWriter keeps state, thus each serialization needs its own
+        BibEntryWriter bibtexEntryWriter = new BibEntryWriter(new FieldWriter(fieldPreferences), entryTypesManager);
+        if (entrySerializationCache != null) {
+            return entrySerializationCache.getSerialization(entry, bibtexEntryWriter, mode, saveConfiguration.shouldReformatFile(), bibWriter.getNewLineSeparator());
+        }
+        StringWriter serialization = new StringWriter();
+        bibtexEntryWriter.write(entry, new BibWriter(serialization, bibWriter.getNewLineSeparator()), mode, saveConfiguration.shouldReformatFile());
+        return serialization.toString();
+    }
+
     protected void writeEntry(BibEntry entry, BibDatabaseMode mode) throws IOException {
         BibEntryWriter bibtexEntryWriter = new BibEntryWriter(new FieldWriter(fieldPreferences), entryTypesManager);
-        bibtexEntryWriter.write(entry, bibWriter, mode, saveConfiguration.shouldReformatFile());
+        if (entrySerializationCache == null) {
+            bibtexEntryWriter.write(entry, bibWriter, mode, saveConfiguration.shouldReformatFile());
+        } else {
+            entrySerializationCache.write(entry, bibtexEntryWriter, bibWriter, mode, saveConfiguration.shouldReformatFile());
+        }
     }
 
     protected void writeEpilogue(String epilogue) throws IOException {
@@ -319,11 +420,13 @@ public class BibDatabaseWriter {
      * @param database The database whose strings we should write.
      */
     private void writeStrings(BibDatabase database) throws IOException {
-        List<BibtexString> strings = database.getStringKeySet()
-                                             .stream()
-                                             .map(database::getString)
-                                             .sorted(new BibtexStringComparator(true))
-                                             .toList();
+        writeStrings(database.getStringValues());
+    }
+
+    private void writeStrings(Collection<BibtexString> stringsToWrite) throws IOException {
+        List<BibtexString> strings = stringsToWrite.stream()
+                                                   .sorted(new BibtexStringComparator(true))
+                                                   .toList();
         // First, make a Map of all entries:
         Map<String, BibtexString> remaining = new HashMap<>();
         int maxKeyLength = 0;
@@ -417,15 +520,77 @@ public class BibDatabaseWriter {
      * Generate keys for all entries that are lacking keys.
      */
     protected List<FieldChange> generateCitationKeys(BibDatabaseContext databaseContext, List<BibEntry> entries) {
-        List<FieldChange> changes = new ArrayList<>();
         CitationKeyGenerator keyGenerator = new CitationKeyGenerator(databaseContext, keyPatternPreferences);
-        for (BibEntry bes : entries) {
-            Optional<String> oldKey = bes.getCitationKey();
-            if (StringUtil.isBlank(oldKey)) {
-                Optional<FieldChange> change = keyGenerator.generateAndSetKey(bes);
-                change.ifPresent(changes::add);
+        List<BibEntry> entriesWithoutKey = entries.stream()
+                                                  .filter(entry -> StringUtil.isBlank(entry.getCitationKey()))
+                                                  .toList();
+        return keyGenerator.generateAndSetKeys(entriesWithoutKey);
+    }
+
+    private class StreamingEntryWriter implements StreamingExporter.EntryWriter {
+
+        private final BibDatabaseContext bibDatabaseContext;
+        private final Set<String> writtenStrings = new HashSet<>();
+        private final SortedSet<BibEntryType> typesToWrite = new TreeSet<>();
+        private boolean preambleWritten;
+
+        StreamingEntryWriter(BibDatabaseContext bibDatabaseContext) throws IOException {
+            this.bibDatabaseContext = bibDatabaseContext;
+            BibDatabase database = bibDatabaseContext.getDatabase();
+
+            Optional<String> sharedDatabaseIDOptional = database.getSharedDatabaseID();
+            if (sharedDatabaseIDOptional.isPresent()) {
+                writeDatabaseID(sharedDatabaseIDOptional.get());
+            }
+            if (saveConfiguration.getSaveType() == SaveType.WITH_JABREF_META_DATA) {
+                Charset charset = bibDatabaseContext.getMetaData().getEncoding().orElse(StandardCharsets.UTF_8);
+                writeProlog(bibDatabaseContext, charset);
             }
+            bibWriter.finishBlock();
+
+            writeRemainingPreambleAndStrings();
+        }
+
+        private void writeRemainingPreambleAndStrings() throws IOException {
+            BibDatabase database = bibDatabaseContext.getDatabase();
+            Optional<String> preamble = database.getPreamble();
+            if (!preambleWritten && preamble.isPresent()) {
+                writePreamble(preamble.get());
+                preambleWritten = true;
+            }
+
+            List<BibtexString> strings = database.getStringValues().stream()
+                                                 .filter(string -> !writtenStrings.contains(string.getName()))
+                                                 .toList();
+            if (!strings.isEmpty()) {
+                writeStrings(strings);
+                strings.forEach(string -> writtenStrings.add(string.getName()));
+            }
+        }
+
+        @Override
+        public void write(BibEntry entry) throws IOException {
+            if (entry.isEmpty()) {
+                return;
+            }
+            // The field changes are not collected, as they would keep the entries in memory
+            applySaveActions(entry, bibDatabaseContext.getMetaData(), fieldPreferences);
+            if (entryTypesManager.isCustomType(entry.getType(), bibDatabaseContext.getMode())) {
+                entryTypesManager.enrich(entry.getType(), bibDatabaseContext.getMode()).ifPresent(typesToWrite::add);
+            }
+            writeEntry(entry, bibDatabaseContext.getMode());
+        }
+
+        @Override
+        public void close() throws IOException {
+            writeRemainingPreambleAndStrings();
+
+            if (saveConfiguration.getSaveType() == SaveType.WITH_JABREF_META_DATA) {
+                writeMetaData(bibDatabaseContext.getMetaData(), keyPatternPreferences.getKeyPatterns());
+                writeEntryTypeDefinitions(typesToWrite);
+            }
+
+            writeEpilogue(bibDatabaseContext.getDatabase().getEpilog());
         }
-        return changes;
     }
 }
@@ -72,6 +72,22 @@ public class BibWriter {
         this.precedingNewLineRequired = true;
     }
 
+    /**
+     * Writes a block which was written into an empty {@link BibWriter} using the same line separator and finished
+     * there with {@link #finishBlock()}. The output is the same as if the block had been written to this writer.
+     */
+    public void writeSerializedBlock(String block) throws IOException {
+        // An empty write would still cause the pending line break of the previous block to be written
+        if (!block.isEmpty()) {
+            write(block);
+        }
+        finishBlock();
+    }
+
+    public String getNewLineSeparator() {
+        return newLineSeparator;
+    }
+
     public int getCurrentPosition() {
         return currentPosition;
     }
@@ -0,0 +1,35 @@
+package org.jabref.logic.exporter;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.List;
+
+import org.jabref.logic.journals.JournalAbbreviationRepository;
+import org.jabref.model.database.BibDatabaseContext;
+import org.jabref.model.entry.BibEntry;
+
+/**
+ * An exporter which is able to write the entries one after another, while they are read, instead of getting all
+ * entries at once. Thus, the entries do not have to be kept in memory during the export.
+ * <p>
+ * In contrast to {@link Exporter#export(BibDatabaseContext, Path, List)}, the entries are written in the order they
+ * are passed, not sorted.
+ */
+public interface StreamingExporter {
+
+    /**
+     * Starts the export to the given file. The file is complete when the returned writer is closed.
+     *
+     * @param databaseContext the database the entries belong to. Only its strings, its metadata, and its location are
+     *                        used; the entries do not need to be part of the database.
+     */
+    EntryWriter startExport(BibDatabaseContext databaseContext,
+                            Path file,
+                            List<Path> fileDirForDatabase,
+                            JournalAbbreviationRepository abbreviationRepository) throws IOException;
+
+    interface EntryWriter extends Closeable {
+        void write(BibEntry entry) throws IOException;
+    }
+}
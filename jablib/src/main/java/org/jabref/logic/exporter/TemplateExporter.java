@@ -36,7 +36,7 @@ import org.slf4j.LoggerFactory;
 /**
  * Base class for export formats based on templates.
  */
-public class TemplateExporter extends Exporter {
+public class TemplateExporter extends Exporter implements StreamingExporter {
 
     private static final String BLANK_LINE_PATTERN = "\\r\\n|\\n";
     private static final String LAYOUT_PREFIX = "/resource/layout/";
@@ -204,20 +204,63 @@ public class TemplateExporter extends Exporter {
         Objects.requireNonNull(databaseContext);
         Objects.requireNonNull(entries);
 
-        Charset encodingToUse = StandardCharsets.UTF_8;
-
         if (entries.isEmpty()) { // Do not export if no entries to export -- avoids exports with only template text
             return;
         }
 
-        try (AtomicFileWriter ps = new AtomicFileWriter(file, encodingToUse)) {
-            Layout beginLayout = null;
+        try (EntryWriter entryWriter = startExport(databaseContext, file, fileDirForDatabase, abbreviationRepository)) {
+            /*
+             * Write database entries; entries will be sorted as they appear on the
+             * screen, or sorted by author, depending on Preferences.
+             */
+            for (BibEntry entry : BibDatabaseWriter.getSortedEntries(entries, saveOrder)) {
+                entryWriter.write(entry);
+            }
+        }
+    }
+
+    /**
+     * Writes the header when started, the layout of each entry when it is passed, and the footer when closed
+     */
+    @Override
+    public EntryWriter startExport(BibDatabaseContext databaseContext,
+                                   Path file,
+                                   List<Path> fileDirForDatabase,
+                                   JournalAbbreviationRepository abbreviationRepository) throws IOException {
+        Objects.requireNonNull(databaseContext);
+        return new TemplateEntryWriter(databaseContext, file, fileDirForDatabase, abbreviationRepository);
+    }
+
+    private class TemplateEntryWriter implements EntryWriter {
+
+        private final Charset encodingToUse = StandardCharsets.UTF_8;
+        private final BibDatabaseContext databaseContext;
+        private final List<Path> fileDirForDatabase;
+        private final JournalAbbreviationRepository abbreviationRepository;
+        private final AtomicFileWriter ps;
+        private final List<String> missingFormatters = new ArrayList<>(1);
+        private final Map<EntryType, Layout> layouts = new HashMap<>();
+        private final Layout defLayout;
+
+        TemplateEntryWriter(BibDatabaseContext databaseContext,
+                            Path file,
+                            List<Path> fileDirForDatabase,
+                            JournalAbbreviationRepository abbreviationRepository) throws IOException {
+            this.databaseContext = databaseContext;
+            this.fileDirForDatabase = fileDirForDatabase;
+            this.abbreviationRepository = abbreviationRepository;
 
             // Check if this export filter has bundled name formatters:
             // Add these to the preferences, so all layouts have access to the custom name formatters:
             readFormatterFile();
 
-            List<String> missingFormatters = new ArrayList<>(1);
+            // Load default layout
+            try (Reader reader = getReader(lfFileName + LAYOUT_EXTENSION)) {
+                LayoutHelper layoutHelper = new LayoutHelper(reader, fileDirForDatabase, layoutPreferences, abbreviationRepository);
+                defLayout = layoutHelper.getLayoutFromText();
+            }
+
+            Layout beginLayout = null;
 
             // Print header
             try (Reader reader = getReader(lfFileName + BEGIN_INFIX + LAYOUT_EXTENSION)) {
@@ -227,93 +270,92 @@ public class TemplateExporter extends Exporter {
                 // If an exception was cast, export filter doesn't have a begin
                 // file.
             }
+            ps = new AtomicFileWriter(file, encodingToUse);
             // Write the header
             if (beginLayout != null) {
-                ps.write(beginLayout.doLayout(databaseContext, encodingToUse));
+                try {
+                    ps.write(beginLayout.doLayout(databaseContext, encodingToUse));
+                } catch (IOException e) {
+                    ps.close();
+                    throw e;
+                }
                 missingFormatters.addAll(beginLayout.getMissingFormatters());
             }
 
-            /*
-             * Write database entries; entries will be sorted as they appear on the
-             * screen, or sorted by author, depending on Preferences.
-             */
-            List<BibEntry> sorted = BibDatabaseWriter.getSortedEntries(entries, saveOrder);
-
-            // Load default layout
-            Layout defLayout;
-            LayoutHelper layoutHelper;
-            try (Reader reader = getReader(lfFileName + LAYOUT_EXTENSION)) {
-                layoutHelper = new LayoutHelper(reader, fileDirForDatabase, layoutPreferences, abbreviationRepository);
-                defLayout = layoutHelper.getLayoutFromText();
-            }
             if (defLayout != null) {
                 missingFormatters.addAll(defLayout.getMissingFormatters());
                 if (!missingFormatters.isEmpty()) {
                     LOGGER.warn("Missing formatters found: {}", missingFormatters);
                 }
             }
-            Map<EntryType, Layout> layouts = new HashMap<>();
-            Layout layout;
 
             Number.serialExportNumber = 0;
-            for (BibEntry entry : sorted) {
-                Number.serialExportNumber++; // Increment entry counter.
-                // Get the layout
-                EntryType type = entry.getType();
-                if (layouts.containsKey(type)) {
-                    layout = layouts.get(type);
-                } else {
-                    try (Reader reader = getReader(lfFileName + '.' + type.getName() + LAYOUT_EXTENSION)) {
-                        // We try to get a type-specific layout for this entry.
-                        layoutHelper = new LayoutHelper(reader, fileDirForDatabase, layoutPreferences, abbreviationRepository);
-                        layout = layoutHelper.getLayoutFromText();
-                        layouts.put(type, layout);
-                        if (layout != null) {
-                            missingFormatters.addAll(layout.getMissingFormatters());
-                        }
-                    } catch (IOException ex) {
-                        // The exception indicates that no type-specific layout
-                        // exists, so we
-                        // go with the default one.
-                        layout = defLayout;
+        }
+
+        @Override
+        public void write(BibEntry entry) throws IOException {
+            Number.serialExportNumber++; // Increment entry counter.
+            // Get the layout
+            EntryType type = entry.getType();
+            Layout layout;
+            if (layouts.containsKey(type)) {
+                layout = layouts.get(type);
+            } else {
+                try (Reader reader = getReader(lfFileName + '.' + type.getName() + LAYOUT_EXTENSION)) {
+                    // We try to get a type-specific layout for this entry.
+                    LayoutHelper layoutHelper = new LayoutHelper(reader, fileDirForDatabase, layoutPreferences, abbreviationRepository);
+                    layout = layoutHelper.getLayoutFromText();
+                    layouts.put(type, layout);
+                    if (layout != null) {
+                        missingFormatters.addAll(layout.getMissingFormatters());
                     }
+                } catch (IOException ex) {
+                    // The exception indicates that no type-specific layout
+                    // exists, so we
+                    // go with the default one.
+                    layout = defLayout;
                 }
+            }
 
-                // Write the entry
-                if (layout != null) {
-                    if (blankLineBehaviour == BlankLineBehaviour.DELETE_BLANKS) {
-                        String[] lines = layout.doLayout(entry, databaseContext.getDatabase()).split(BLANK_LINE_PATTERN);
-                        for (String line : lines) {
-                            if (!line.isBlank() && !line.isEmpty()) {
-                                ps.write(line + OS.NEWLINE);
-                            }
+            // Write the entry
+            if (layout != null) {
+                if (blankLineBehaviour == BlankLineBehaviour.DELETE_BLANKS) {
+                    String[] lines = layout.doLayout(entry, databaseContext.getDatabase()).split(BLANK_LINE_PATTERN);
+                    for (String line : lines) {
+                        if (!line.isBlank() && !line.isEmpty()) {
+                            ps.write(line + OS.NEWLINE);
                         }
-                    } else {
-                        ps.write(layout.doLayout(entry, databaseContext.getDatabase()));
                     }
+                } else {
+                    ps.write(layout.doLayout(entry, databaseContext.getDatabase()));
                 }
             }
+        }
 
-            // Print footer
-            Layout endLayout = null;
-            try (Reader reader = getReader(lfFileName + END_INFIX + LAYOUT_EXTENSION)) {
-                layoutHelper = new LayoutHelper(reader, fileDirForDatabase, layoutPreferences, abbreviationRepository);
-                endLayout = layoutHelper.getLayoutFromText();
-            } catch (IOException ex) {
-                // If an exception was thrown, export filter doesn't have an end
-                // file.
-            }
+        @Override
+        public void close() throws IOException {
+            try (ps) {
+                // Print footer
+                Layout endLayout = null;
+                try (Reader reader = getReader(lfFileName + END_INFIX + LAYOUT_EXTENSION)) {
+                    LayoutHelper layoutHelper = new LayoutHelper(reader, fileDirForDatabase, layoutPreferences, abbreviationRepository);
+                    endLayout = layoutHelper.getLayoutFromText();
+                } catch (IOException ex) {
+                    // If an exception was thrown, export filter doesn't have an end
+                    // file.
+                }
 
-            // Write footer
-            if (endLayout != null) {
-                ps.write(endLayout.doLayout(databaseContext, encodingToUse));
-                missingFormatters.addAll(endLayout.getMissingFormatters());
-            }
+                // Write footer
+                if (endLayout != null) {
+                    ps.write(endLayout.doLayout(databaseContext, encodingToUse));
+                    missingFormatters.addAll(endLayout.getMissingFormatters());
+                }
 
-            layoutPreferences.clearCustomExportNameFormatters();
+                layoutPreferences.clearCustomExportNameFormatters();
 
-            if (!missingFormatters.isEmpty() && LOGGER.isWarnEnabled()) {
-                LOGGER.warn("Formatters {} not found", String.join(", ", missingFormatters));
+                if (!missingFormatters.isEmpty() && LOGGER.isWarnEnabled()) {
+                    LOGGER.warn("Formatters {} not found", String.join(", ", missingFormatters));
+                }
             }
         }
     }
@@ -9,6 +9,7 @@ import java.util.Optional;
 import java.util.stream.Stream;
 
 import org.jabref.logic.FilePreferences;
+import org.jabref.logic.citationkeypattern.CompiledBracketedPattern;
 import org.jabref.logic.util.io.FileUtil;
 import org.jabref.model.database.BibDatabaseContext;
 import org.jabref.model.entry.BibEntry;
@@ -64,7 +65,7 @@ public class LinkedFileHandler {
             targetDirectoryName = FileUtil.createDirNameFromPattern(
                     databaseContext.getDatabase(),
                     entry,
-                    filePreferences.getFileDirectoryPattern());
+                    CompiledBracketedPattern.of(filePreferences.getFileDirectoryPattern()));
         }
 
         Path targetDirectory = databaseFileDirectory.resolve(targetDirectoryName);
@@ -210,7 +211,7 @@ public class LinkedFileHandler {
      * @return A filename based on the pattern specified in the preferences and valid for the file system.
      */
     public String getSuggestedFileName(String extension) {
-        String targetFileName = FileUtil.createFileNameFromPattern(databaseContext.getDatabase(), entry, filePreferences.getFileNamePattern()).trim();
+        String targetFileName = FileUtil.createFileNameFromPattern(databaseContext.getDatabase(), entry, CompiledBracketedPattern.of(filePreferences.getFileNamePattern())).trim();
         if ((targetFileName.isEmpty() || "-".equals(targetFileName)) && linkedFile.isOnlineLink()) {
             String oldFileName = linkedFile.getLink();
             int lastSlashIndex = oldFileName.lastIndexOf('/');
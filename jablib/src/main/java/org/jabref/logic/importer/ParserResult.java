@@ -9,6 +9,7 @@ import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
 
+import org.jabref.logic.importer.fileformat.SourceLocations;
 import org.jabref.model.database.BibDatabase;
 import org.jabref.model.database.BibDatabaseContext;
 import org.jabref.model.database.BibDatabases;
@@ -24,6 +25,7 @@ public class ParserResult {
     private Path file;
     private boolean invalid;
     private boolean changedOnMigration = false;
+    private SourceLocations sourceLocations;
 
     public ParserResult() {
         this(List.of());
@@ -74,6 +76,18 @@ public class ParserResult {
         this.metaData = md;
     }
 
+    /**
+     * Returns the locations of the entries in the parsed text. Only available if requested from the parser, see
+     * {@link org.jabref.logic.importer.fileformat.BibtexParser#BibtexParser(ImportFormatPreferences, org.jabref.model.util.FileUpdateMonitor, boolean)}.
+     */
+    public Optional<SourceLocations> getSourceLocations() {
+        return Optional.ofNullable(sourceLocations);
+    }
+
+    public void setSourceLocations(SourceLocations sourceLocations) {
+        this.sourceLocations = sourceLocations;
+    }
+
     public Set<BibEntryType> getEntryTypes() {
         return entryTypes;
     }
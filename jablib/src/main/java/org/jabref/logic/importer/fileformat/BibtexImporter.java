@@ -12,6 +12,8 @@ import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.BiConsumer;
 
 import org.jabref.logic.exporter.SaveConfiguration;
 import org.jabref.logic.importer.ImportFormatPreferences;
@@ -19,9 +21,14 @@ import org.jabref.logic.importer.Importer;
 import org.jabref.logic.importer.ParserResult;
 import org.jabref.logic.l10n.Localization;
 import org.jabref.logic.util.StandardFileType;
+import org.jabref.model.database.BibDatabase;
+import org.jabref.model.database.BibDatabaseMode;
 import org.jabref.model.database.BibDatabaseModeDetection;
+import org.jabref.model.entry.BibEntry;
+import org.jabref.model.entry.types.EntryTypeFactory;
 import org.jabref.model.util.FileUpdateMonitor;
 
+import org.jspecify.annotations.Nullable;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -61,7 +68,25 @@ public class BibtexImporter extends Importer {
         return parserResult;
     }
 
+    /**
+     * Imports the file entry by entry, handing each entry to the given consumer instead of adding it to the database of
+     * the result. See {@link BibtexParser#parse(java.io.Reader, BiConsumer)}.
+     * <p>
+     * If the file does not state the database mode, the mode of the result is inferred from the entries handed to the
+     * consumer. Thus, it is known only after all entries were read.
+     */
+    public ParserResult importDatabase(Path filePath, BiConsumer<BibEntry, BibDatabase> entryConsumer) throws IOException {
+        EncodingResult encodingResult = getEncodingResult(filePath);
+        ParserResult parserResult = importDatabase(Files.newInputStream(filePath), encodingResult, Objects.requireNonNull(entryConsumer));
+        parserResult.setPath(filePath);
+        return parserResult;
+    }
+
     public ParserResult importDatabase(InputStream filePath, EncodingResult result) throws IOException {
+        return importDatabase(filePath, result, null);
+    }
+
+    private ParserResult importDatabase(InputStream filePath, EncodingResult result, @Nullable BiConsumer<BibEntry, BibDatabase> entryConsumer) throws IOException {
         // We replace unreadable characters
         // Unfortunately, no warning will be issued to the user
         // As this is a very seldom case, we accept that
@@ -70,12 +95,27 @@ public class BibtexImporter extends Importer {
 
         try (InputStreamReader inputStreamReader = new InputStreamReader(filePath, decoder);
              BufferedReader reader = new BufferedReader(inputStreamReader)) {
-            ParserResult parserResult = this.importDatabase(reader);
+            ParserResult parserResult;
+            BibDatabaseMode inferredMode;
+            if (entryConsumer == null) {
+                parserResult = this.importDatabase(reader);
+                inferredMode = BibDatabaseModeDetection.inferMode(parserResult.getDatabase());
+            } else {
+                // The entries are not added to the database, thus the mode is inferred from the entries handed to the consumer
+                AtomicBoolean biblatexEntryRead = new AtomicBoolean();
+                parserResult = new BibtexParser(importFormatPreferences, fileMonitor).parse(reader, (entry, database) -> {
+                    if (EntryTypeFactory.isExclusiveBiblatex(entry.getType())) {
+                        biblatexEntryRead.set(true);
+                    }
+                    entryConsumer.accept(entry, database);
+                });
+                inferredMode = biblatexEntryRead.get() ? BibDatabaseMode.BIBLATEX : BibDatabaseMode.BIBTEX;
+            }
             parserResult.getMetaData().setEncoding(result.encoding());
             parserResult.getMetaData().setEncodingExplicitlySupplied(result.encodingExplicitlySupplied());
 
             if (parserResult.getMetaData().getMode().isEmpty()) {
-                parserResult.getMetaData().setMode(BibDatabaseModeDetection.inferMode(parserResult.getDatabase()));
+                parserResult.getMetaData().setMode(inferredMode);
             }
             return parserResult;
         }
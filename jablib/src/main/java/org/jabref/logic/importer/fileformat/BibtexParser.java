@@ -9,9 +9,11 @@ import java.io.StringWriter;
 import java.nio.file.Path;
 import java.util.Base64;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.Deque;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Locale;
@@ -19,6 +21,7 @@ import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
+import java.util.function.BiConsumer;
 import java.util.function.Predicate;
 import java.util.regex.Pattern;
 
@@ -59,6 +62,7 @@ import com.dd.plist.BinaryPropertyListParser;
 import com.dd.plist.NSArray;
 import com.dd.plist.NSDictionary;
 import com.dd.plist.NSString;
+import org.jspecify.annotations.Nullable;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.w3c.dom.Document;
@@ -98,9 +102,19 @@ public class BibtexParser implements Parser {
     private final ImportFormatPreferences importFormatPreferences;
     private PushbackReader pushbackReader;
     private BibDatabase database;
+    private @Nullable BiConsumer<BibEntry, BibDatabase> entryConsumer;
     private Set<BibEntryType> entryTypes;
     private boolean eof;
     private int line = 1;
+    private final boolean recordSourceLocations;
+    // Number of chars read so far, used for the source locations
+    private int offset;
+    private int itemStart;
+    private SourceLocations sourceLocations;
+    private SourceLocations.Span citationKeySpan;
+    private Map<Field, SourceLocations.Span> fieldSpans;
+    private int entryEnd;
+    private int fieldContentEnd;
     private ParserResult parserResult;
     private final MetaDataParser metaDataParser;
     private final Map<String, String> parsedBibdeskGroups;
@@ -108,9 +122,18 @@ public class BibtexParser implements Parser {
     private GroupTreeNode bibDeskGroupTreeNode;
 
     public BibtexParser(ImportFormatPreferences importFormatPreferences, FileUpdateMonitor fileMonitor) {
+        this(importFormatPreferences, fileMonitor, false);
+    }
+
+    /**
+     * @param recordSourceLocations whether the locations of the entries and fields in the text should be recorded. They
+     *                              are then available at {@link ParserResult#getSourceLocations()}.
+     */
+    public BibtexParser(ImportFormatPreferences importFormatPreferences, FileUpdateMonitor fileMonitor, boolean recordSourceLocations) {
         this.importFormatPreferences = Objects.requireNonNull(importFormatPreferences);
         this.metaDataParser = new MetaDataParser(fileMonitor);
         this.parsedBibdeskGroups = new HashMap<>();
+        this.recordSourceLocations = recordSourceLocations;
     }
 
     public BibtexParser(ImportFormatPreferences importFormatPreferences) {
@@ -161,8 +184,26 @@ public class BibtexParser implements Parser {
      * Handling of encoding is done at {@link BibtexImporter}
      */
     public ParserResult parse(Reader in) throws IOException {
+        return parse(in, null);
+    }
+
+    /**
+     * Parses BibTeX data found when reading from reader, handing each entry to the given consumer as soon as it is
+     * parsed.
+     * <p>
+     * In contrast to {@link #parse(Reader)}, the entries are not added to the database of the result. Thus, the parser
+     * does not keep the entries in memory, and arbitrarily large inputs can be processed (for instance, filtered and
+     * written) entry by entry. The strings, the preamble, and the metadata are collected in the result as usual.
+     * Since the entries are not in the database, cross-references and BibDesk groups are not resolved.
+     *
+     * @param entryConsumer receives each entry together with the database of the result. The database contains the
+     *                      strings read so far, for resolving string references of the entry.
+     */
+    public ParserResult parse(Reader in, @Nullable BiConsumer<BibEntry, BibDatabase> entryConsumer) throws IOException {
         Objects.requireNonNull(in);
+        this.entryConsumer = entryConsumer;
         pushbackReader = new PushbackReader(in, BibtexParser.LOOKAHEAD);
+        offset = 0;
 
         String newLineSeparator = determineNewLineSeparator();
 
@@ -203,6 +244,10 @@ public class BibtexParser implements Parser {
         database.setNewLineSeparator(newLineSeparator);
         entryTypes = new HashSet<>(); // To store custom entry types parsed.
         parserResult = new ParserResult(database, new MetaData(), entryTypes);
+        if (recordSourceLocations) {
+            sourceLocations = new SourceLocations();
+            parserResult.setSourceLocations(sourceLocations);
+        }
     }
 
     private void parseDatabaseID() throws IOException {
@@ -233,6 +278,7 @@ public class BibtexParser implements Parser {
             if (!found) {
                 break;
             }
+            itemStart = offset - 1;
 
             skipWhitespace();
 
@@ -322,7 +368,11 @@ public class BibtexParser implements Parser {
                 commentsAndEntryTypeDefinition = commentsAndEntryTypeDefinition.substring(1);
             }
 
+            fieldSpans = recordSourceLocations ? new LinkedHashMap<>() : null;
             BibEntry entry = parseEntry(type);
+            if (sourceLocations != null) {
+                sourceLocations.add(new SourceLocations.EntryLocation(entry, new SourceLocations.Span(itemStart, entryEnd), citationKeySpan, Collections.unmodifiableMap(fieldSpans)));
+            }
             // store comments collected without type definition
             entry.setCommentsBeforeEntry(
                     commentsAndEntryTypeDefinition.substring(0, commentsAndEntryTypeDefinition.lastIndexOf('@')));
@@ -332,7 +382,11 @@ public class BibtexParser implements Parser {
             String parsedSerialization = commentsAndEntryTypeDefinition + dumpTextReadSoFarToString();
             entry.setParsedSerialization(parsedSerialization);
 
-            database.insertEntry(entry);
+            if (entryConsumer == null) {
+                database.insertEntry(entry);
+            } else {
+                entryConsumer.accept(entry, database);
+            }
         } catch (IOException ex) {
             // This makes the parser more robust:
             // If an exception is thrown when parsing an entry, drop the entry and try to resume parsing.
@@ -631,6 +685,7 @@ public class BibtexParser implements Parser {
 
         if (!isEOFCharacter(character)) {
             pureTextFromFile.offerLast((char) character);
+            offset++;
         }
         if (character == '\n') {
             line++;
@@ -643,6 +698,9 @@ public class BibtexParser implements Parser {
             line--;
         }
         pushbackReader.unread(character);
+        if (!isEOFCharacter(character)) {
+            offset--;
+        }
         if (pureTextFromFile.getLast() == character) {
             pureTextFromFile.pollLast();
         }
@@ -685,8 +743,10 @@ public class BibtexParser implements Parser {
         if ((character != '\n') && (character != '\r')) {
             skipWhitespace();
         }
+        int keyStart = offset;
         String key = parseKey();
         result.setCitationKey(key);
+        citationKeySpan = new SourceLocations.Span(keyStart, keyStart + key.length());
         skipWhitespace();
 
         while (true) {
@@ -709,6 +769,7 @@ public class BibtexParser implements Parser {
         }
 
         consume('}', ')');
+        entryEnd = offset;
 
         // Consume new line which signals end of entry
         skipOneNewline();
@@ -717,6 +778,7 @@ public class BibtexParser implements Parser {
     }
 
     private void parseField(BibEntry entry) throws IOException {
+        int fieldStart = offset;
         Field field = FieldFactory.parseField(parseTextToken().toLowerCase(Locale.ROOT));
 
         skipWhitespace();
@@ -770,10 +832,16 @@ public class BibtexParser implements Parser {
                 }
             }
         }
+        if ((fieldSpans != null) && entry.hasField(field)) {
+            // repeated fields (e.g., multiple author lines) are merged, thus their span is merged, too
+            fieldSpans.merge(field, new SourceLocations.Span(fieldStart, fieldContentEnd),
+                    (first, second) -> new SourceLocations.Span(first.start(), second.end()));
+        }
     }
 
     private String parseFieldContent(Field field) throws IOException {
         skipWhitespace();
+        fieldContentEnd = offset;
         StringBuilder value = new StringBuilder();
         int character;
 
@@ -806,6 +874,7 @@ public class BibtexParser implements Parser {
                 }
                 value.append(FieldWriter.BIBTEX_STRING_START_END_SYMBOL).append(textToken).append(FieldWriter.BIBTEX_STRING_START_END_SYMBOL);
             }
+            fieldContentEnd = offset;
             skipWhitespace();
         }
         return value.toString();
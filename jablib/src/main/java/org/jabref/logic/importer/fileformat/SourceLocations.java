@@ -0,0 +1,71 @@
+package org.jabref.logic.importer.fileformat;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import org.jabref.model.entry.BibEntry;
+import org.jabref.model.entry.field.Field;
+
+/// The locations of the entries and their fields in a parsed text, recorded by [BibtexParser] on request.
+///
+/// Offsets count the chars (UTF-16 code units) read by the parser, starting at 0. An end offset is exclusive.
+public class SourceLocations {
+
+    /// A range of the parsed text
+    public record Span(int start, int end) {
+        public boolean contains(int offset) {
+            return (start <= offset) && (offset < end);
+        }
+    }
+
+    /// The location of a parsed entry
+    ///
+    /// @param span        from the `@` to the closing brace of the entry
+    /// @param citationKey the citation key; an empty span at the key position if the entry has no key
+    /// @param fields      the fields of the entry from the start of the field name to the end of the value, in order of appearance
+    public record EntryLocation(BibEntry entry, Span span, Span citationKey, Map<Field, Span> fields) {
+        public Optional<Span> getField(Field field) {
+            return Optional.ofNullable(fields.get(field));
+        }
+    }
+
+    private final List<EntryLocation> entryLocations = new ArrayList<>();
+    private final Map<BibEntry, EntryLocation> entryLocationsByEntry = new IdentityHashMap<>();
+
+    void add(EntryLocation entryLocation) {
+        entryLocations.add(entryLocation);
+        entryLocationsByEntry.put(entryLocation.entry(), entryLocation);
+    }
+
+    /// Returns the locations of all entries, ordered by their position in the text
+    public List<EntryLocation> getEntryLocations() {
+        return Collections.unmodifiableList(entryLocations);
+    }
+
+    /// Returns the location of the given entry. Entries are compared by identity.
+    public Optional<EntryLocation> getEntryLocation(BibEntry entry) {
+        return Optional.ofNullable(entryLocationsByEntry.get(entry));
+    }
+
+    /// Returns the location of the entry containing the given offset. Takes logarithmic time.
+    public Optional<EntryLocation> getEntryLocationAt(int offset) {
+        int low = 0;
+        int high = entryLocations.size() - 1;
+        while (low <= high) {
+            int middle = (low + high) >>> 1;
+            Span span = entryLocations.get(middle).span();
+            if (offset < span.start()) {
+                high = middle - 1;
+            } else if (offset >= span.end()) {
+                low = middle + 1;
+            } else {
+                return Optional.of(entryLocations.get(middle));
+            }
+        }
+        return Optional.empty();
+    }
+}
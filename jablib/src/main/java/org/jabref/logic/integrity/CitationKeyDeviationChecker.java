@@ -3,6 +3,7 @@ package org.jabref.logic.integrity;
 import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.function.ToLongFunction;
 
 import org.jabref.logic.citationkeypattern.CitationKeyGenerator;
 import org.jabref.logic.citationkeypattern.CitationKeyPatternPreferences;
@@ -13,12 +14,25 @@ import org.jabref.model.entry.field.InternalField;
 
 public class CitationKeyDeviationChecker implements EntryChecker {
 
-    private final BibDatabaseContext bibDatabaseContext;
-    private final CitationKeyPatternPreferences citationKeyPatternPreferences;
+    private final CitationKeyGenerator keyGenerator;
 
     public CitationKeyDeviationChecker(BibDatabaseContext bibDatabaseContext, CitationKeyPatternPreferences citationKeyPatternPreferences) {
-        this.bibDatabaseContext = Objects.requireNonNull(bibDatabaseContext);
-        this.citationKeyPatternPreferences = Objects.requireNonNull(citationKeyPatternPreferences);
+        this(new CitationKeyGenerator(bibDatabaseContext, citationKeyPatternPreferences));
+    }
+
+    /**
+     * @param citationKeyOccurrences returns the number of entries using the given citation key
+     */
+    CitationKeyDeviationChecker(BibDatabaseContext bibDatabaseContext, CitationKeyPatternPreferences citationKeyPatternPreferences, ToLongFunction<String> citationKeyOccurrences) {
+        this(new CitationKeyGenerator(bibDatabaseContext, citationKeyPatternPreferences, citationKeyOccurrences));
+    }
+
+    /**
+     * @param keyGenerator generates the keys of all checked entries. It is kept, thus the key pattern of each entry
+     *                     type is compiled once, and not for each checked entry.
+     */
+    CitationKeyDeviationChecker(CitationKeyGenerator keyGenerator) {
+        this.keyGenerator = Objects.requireNonNull(keyGenerator);
     }
 
     @Override
@@ -31,7 +45,7 @@ public class CitationKeyDeviationChecker implements EntryChecker {
         String key = valuekey.get();
 
         // generate new key
-        String generatedKey = new CitationKeyGenerator(bibDatabaseContext, citationKeyPatternPreferences).generateKey(entry);
+        String generatedKey = keyGenerator.generateKey(entry);
 
         if (!Objects.equals(key, generatedKey)) {
             return List.of(new IntegrityMessage(
@@ -3,6 +3,7 @@ package org.jabref.logic.integrity;
 import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.function.ToLongFunction;
 
 import org.jabref.logic.l10n.Localization;
 import org.jabref.model.database.BibDatabase;
@@ -11,10 +12,21 @@ import org.jabref.model.entry.field.StandardField;
 
 public class CitationKeyDuplicationChecker implements EntryChecker {
 
-    private final BibDatabase database;
+    private final ToLongFunction<String> citationKeyOccurrences;
 
     public CitationKeyDuplicationChecker(BibDatabase database) {
-        this.database = Objects.requireNonNull(database);
+        this(database::getNumberOfCitationKeyOccurrences);
+    }
+
+    private CitationKeyDuplicationChecker(ToLongFunction<String> citationKeyOccurrences) {
+        this.citationKeyOccurrences = Objects.requireNonNull(citationKeyOccurrences);
+    }
+
+    /**
+     * @param citationKeyOccurrences returns the number of entries using the given citation key
+     */
+    static CitationKeyDuplicationChecker withCitationKeyOccurrences(ToLongFunction<String> citationKeyOccurrences) {
+        return new CitationKeyDuplicationChecker(citationKeyOccurrences);
     }
 
     @Override
@@ -24,7 +36,7 @@ public class CitationKeyDuplicationChecker implements EntryChecker {
             return List.of();
         }
 
-        boolean isDuplicate = database.isDuplicateCitationKeyExisting(citeKey.get());
+        boolean isDuplicate = citationKeyOccurrences.applyAsLong(citeKey.get()) > 1;
         if (isDuplicate) {
             return List.of(
                     new IntegrityMessage(Localization.lang("Duplicate citation key"), entry, StandardField.KEY));
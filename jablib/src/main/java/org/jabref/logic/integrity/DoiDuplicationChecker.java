@@ -30,7 +30,11 @@ public class DoiDuplicationChecker implements DatabaseChecker {
         return duplicateMap.inverse().keySet().stream()
                            .filter(list -> list.size() > 1)
                            .flatMap(Collection::stream)
-                           .map(item -> new IntegrityMessage(Localization.lang("Same DOI used in multiple entries"), item, StandardField.DOI))
+                           .map(DoiDuplicationChecker::createMessage)
                            .collect(Collectors.toList());
     }
+
+    static IntegrityMessage createMessage(BibEntry entry) {
+        return new IntegrityMessage(Localization.lang("Same DOI used in multiple entries"), entry, StandardField.DOI);
+    }
 }
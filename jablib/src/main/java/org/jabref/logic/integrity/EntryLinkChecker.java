@@ -5,19 +5,32 @@ import java.util.List;
 import java.util.Map.Entry;
 import java.util.Objects;
 import java.util.Set;
+import java.util.function.ToLongFunction;
 
 import org.jabref.logic.l10n.Localization;
 import org.jabref.model.database.BibDatabase;
 import org.jabref.model.entry.BibEntry;
+import org.jabref.model.entry.EntryLinkList;
 import org.jabref.model.entry.field.Field;
 import org.jabref.model.entry.field.FieldProperty;
 
 public class EntryLinkChecker implements EntryChecker {
 
-    private final BibDatabase database;
+    private final ToLongFunction<String> citationKeyOccurrences;
 
     public EntryLinkChecker(BibDatabase database) {
-        this.database = Objects.requireNonNull(database);
+        this(database::getNumberOfCitationKeyOccurrences);
+    }
+
+    private EntryLinkChecker(ToLongFunction<String> citationKeyOccurrences) {
+        this.citationKeyOccurrences = Objects.requireNonNull(citationKeyOccurrences);
+    }
+
+    /**
+     * @param citationKeyOccurrences returns the number of entries using the given citation key
+     */
+    static EntryLinkChecker withCitationKeyOccurrences(ToLongFunction<String> citationKeyOccurrences) {
+        return new EntryLinkChecker(citationKeyOccurrences);
     }
 
     @Override
@@ -26,11 +39,14 @@ public class EntryLinkChecker implements EntryChecker {
         for (Entry<Field, String> field : entry.getFieldMap().entrySet()) {
             Set<FieldProperty> properties = field.getKey().getProperties();
             if (properties.contains(FieldProperty.MULTIPLE_ENTRY_LINK) || properties.contains(FieldProperty.SINGLE_ENTRY_LINK)) {
-                entry.getEntryLinkList(field.getKey(), database).stream()
-                     .filter(parsedEntryLink -> parsedEntryLink.getLinkedEntry().isEmpty())
-                     .forEach(parsedEntryLink -> result.add(new IntegrityMessage(
-                             Localization.lang("Referenced citation key '%0' does not exist", parsedEntryLink.getKey()),
-                             entry, field.getKey())));
+                // Same splitting as EntryLinkList.parse, but without resolving the linked entries
+                for (String key : field.getValue().split(EntryLinkList.SEPARATOR)) {
+                    if (citationKeyOccurrences.applyAsLong(key) == 0) {
+                        result.add(new IntegrityMessage(
+                                Localization.lang("Referenced citation key '%0' does not exist", key),
+                                entry, field.getKey()));
+                    }
+                }
             }
         }
         return result;
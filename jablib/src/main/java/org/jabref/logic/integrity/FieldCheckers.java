@@ -21,10 +21,15 @@ public class FieldCheckers {
 
     public FieldCheckers(BibDatabaseContext databaseContext, FilePreferences filePreferences,
                          JournalAbbreviationRepository abbreviationRepository, boolean allowIntegerEdition) {
-        fieldChecker = getAllMap(databaseContext, filePreferences, abbreviationRepository, allowIntegerEdition);
+        this(databaseContext, new FileChecker(databaseContext, filePreferences), abbreviationRepository, allowIntegerEdition);
     }
 
-    private static Multimap<Field, ValueChecker> getAllMap(BibDatabaseContext databaseContext, FilePreferences filePreferences, JournalAbbreviationRepository abbreviationRepository, boolean allowIntegerEdition) {
+    FieldCheckers(BibDatabaseContext databaseContext, FileChecker fileChecker,
+                  JournalAbbreviationRepository abbreviationRepository, boolean allowIntegerEdition) {
+        fieldChecker = getAllMap(databaseContext, fileChecker, abbreviationRepository, allowIntegerEdition);
+    }
+
+    private static Multimap<Field, ValueChecker> getAllMap(BibDatabaseContext databaseContext, FileChecker fileChecker, JournalAbbreviationRepository abbreviationRepository, boolean allowIntegerEdition) {
         ArrayListMultimap<Field, ValueChecker> fieldCheckers = ArrayListMultimap.create(50, 10);
 
         for (Field field : FieldFactory.getPersonNameFields()) {
@@ -35,7 +40,7 @@ public class FieldCheckers {
         fieldCheckers.put(StandardField.TITLE, new TitleChecker(databaseContext));
         fieldCheckers.put(StandardField.DOI, new DoiValidityChecker());
         fieldCheckers.put(StandardField.EDITION, new EditionChecker(databaseContext, allowIntegerEdition));
-        fieldCheckers.put(StandardField.FILE, new FileChecker(databaseContext, filePreferences));
+        fieldCheckers.put(StandardField.FILE, fileChecker);
         fieldCheckers.put(StandardField.HOWPUBLISHED, new HowPublishedChecker(databaseContext));
         fieldCheckers.put(StandardField.ISBN, new ISBNChecker());
         fieldCheckers.put(StandardField.ISSN, new ISSNChecker());
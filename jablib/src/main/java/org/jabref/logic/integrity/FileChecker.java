@@ -4,6 +4,7 @@ import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.List;
 import java.util.Optional;
+import java.util.function.Supplier;
 
 import org.jabref.logic.FilePreferences;
 import org.jabref.logic.importer.util.FileFieldParser;
@@ -14,12 +15,17 @@ import org.jabref.model.strings.StringUtil;
 
 public class FileChecker implements ValueChecker {
 
-    private final BibDatabaseContext context;
-    private final FilePreferences filePreferences;
+    private final Supplier<List<Path>> fileDirectories;
 
     public FileChecker(BibDatabaseContext context, FilePreferences filePreferences) {
-        this.context = context;
-        this.filePreferences = filePreferences;
+        this.fileDirectories = () -> context.getFileDirectories(filePreferences);
+    }
+
+    /**
+     * @param fileDirectories supplies the file directories of the library, e.g., determined once for checking many entries
+     */
+    FileChecker(Supplier<List<Path>> fileDirectories) {
+        this.fileDirectories = fileDirectories;
     }
 
     @Override
@@ -33,8 +39,13 @@ public class FileChecker implements ValueChecker {
                 .filter(file -> !file.isOnlineLink())
                 .toList();
 
+        if (linkedFiles.isEmpty()) {
+            return Optional.empty();
+        }
+
+        List<Path> directories = fileDirectories.get();
         for (LinkedFile file : linkedFiles) {
-            Optional<Path> linkedFile = file.findIn(context, filePreferences);
+            Optional<Path> linkedFile = file.findIn(directories);
             if ((linkedFile.isEmpty()) || !Files.exists(linkedFile.get())) {
                 return Optional.of(Localization.lang("link should refer to a correct file path"));
             }
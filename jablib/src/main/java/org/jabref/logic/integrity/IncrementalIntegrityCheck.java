@@ -0,0 +1,336 @@
+package org.jabref.logic.integrity;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.Iterator;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Optional;
+import java.util.Queue;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.function.BooleanSupplier;
+import java.util.function.Function;
+
+import org.jabref.model.database.BibDatabaseContext;
+import org.jabref.model.database.BibDatabaseMode;
+import org.jabref.model.database.event.EntriesAddedEvent;
+import org.jabref.model.database.event.EntriesChangedBatchEvent;
+import org.jabref.model.database.event.EntriesRemovedEvent;
+import org.jabref.model.entry.BibEntry;
+import org.jabref.model.entry.EntryLinkList;
+import org.jabref.model.entry.event.FieldChangedEvent;
+import org.jabref.model.entry.field.Field;
+import org.jabref.model.entry.field.FieldProperty;
+import org.jabref.model.entry.identifier.DOI;
+import org.jabref.model.metadata.MetaData;
+import org.jabref.model.metadata.event.MetaDataChangedEvent;
+
+import com.google.common.eventbus.Subscribe;
+
+/**
+ * Keeps the integrity messages of all entries of a library up to date while the library is modified.
+ * <p>
+ * The messages are kept per entry. The changes of the library are tracked using its {@link FieldChangedEvent}s,
+ * {@link EntriesChangedBatchEvent}s, {@link EntriesAddedEvent}s and {@link EntriesRemovedEvent}s. Only the changed
+ * entries are checked again, together with the entries whose messages depend on them:
+ * <ul>
+ *     <li>the entries having the same citation key, or a citation key starting with it (keys generated for
+ *     duplicates get a letter appended),</li>
+ *     <li>the entries linking to the citation key (e.g., using crossref),</li>
+ *     <li>the entries having the same DOI.</li>
+ * </ul>
+ * The events are only recorded when they are posted. The checks run at the next call of {@link #getMessages()}, thus
+ * modifying the library is never blocked by a running check. The first call checks all entries in parallel, as does a
+ * call after the metadata of the library (e.g., its mode or citation key patterns) or the settings of the integrity
+ * check (see {@link IntegrityCheck#getSettings()}) changed. The linked files are checked at each call, as they can be
+ * moved or deleted without the library being modified.
+ * <p>
+ * The instance has to be {@link #close() closed} to stop listening to the library.
+ */
+public class IncrementalIntegrityCheck implements AutoCloseable {
+
+    private final BibDatabaseContext databaseContext;
+    private final Function<BibDatabaseContext, IntegrityCheck> integrityCheckFactory;
+    private final Queue<Change> changes = new ConcurrentLinkedQueue<>();
+
+    private final Map<BibEntry, IndexedState> indexedStates = new IdentityHashMap<>();
+    private final Map<BibEntry, List<IntegrityMessage>> messages = new IdentityHashMap<>();
+    private final Set<BibEntry> outdatedEntries = Collections.newSetFromMap(new IdentityHashMap<>());
+    private final NavigableMap<String, Set<BibEntry>> entriesByCitationKey = new TreeMap<>();
+    private final Map<String, Set<BibEntry>> entriesByLinkedKey = new HashMap<>();
+    private final Map<DOI, Set<BibEntry>> entriesByDoi = new HashMap<>();
+
+    private IntegrityCheck integrityCheck;
+    private MetaData metaData;
+    private BibDatabaseMode mode;
+    private volatile boolean metaDataChanged;
+
+    /**
+     * @param integrityCheckFactory creates the integrity check used for the library. It is called at each call of
+     *                              {@link #getMessages()} to read the current preferences.
+     */
+    public IncrementalIntegrityCheck(BibDatabaseContext databaseContext, Function<BibDatabaseContext, IntegrityCheck> integrityCheckFactory) {
+        this.databaseContext = databaseContext;
+        this.integrityCheckFactory = integrityCheckFactory;
+        databaseContext.getDatabase().registerListener(this);
+    }
+
+    /**
+     * Returns the messages of all entries in the order of the entries in the library
+     */
+    public List<IntegrityMessage> getMessages() {
+        return getMessages(() -> false);
+    }
+
+    /**
+     * Returns the messages of all entries in the order of the entries in the library
+     *
+     * @param isCancelled polled before checking each entry; if it returns true, the remaining entries are checked at
+     *                    the next call and the returned messages are incomplete
+     */
+    public synchronized List<IntegrityMessage> getMessages(BooleanSupplier isCancelled) {
+        if (!update(isCancelled)) {
+            return List.of();
+        }
+        List<BibEntry> entries = List.copyOf(databaseContext.getDatabase().getEntries());
+
+        Function<BibEntry, List<IntegrityMessage>> fileCheck = integrityCheck.createFileCheck();
+        List<List<IntegrityMessage>> fileMessages = entries.parallelStream()
+                                                           .map(entry -> isCancelled.getAsBoolean() ? List.<IntegrityMessage>of() : fileCheck.apply(entry))
+                                                           .toList();
+        List<IntegrityMessage> result = new ArrayList<>();
+        for (int i = 0; i < entries.size(); i++) {
+            result.addAll(messages.getOrDefault(entries.get(i), List.of()));
+            result.addAll(fileMessages.get(i));
+        }
+        return result;
+    }
+
+    public synchronized List<IntegrityMessage> getMessages(BibEntry entry) {
+        if (!update(() -> false)) {
+            return List.of();
+        }
+        List<IntegrityMessage> result = new ArrayList<>(messages.getOrDefault(entry, List.of()));
+        result.addAll(integrityCheck.createFileCheck().apply(entry));
+        return result;
+    }
+
+    @Override
+    public synchronized void close() {
+        databaseContext.getDatabase().unregisterListener(this);
+        if (metaData != null) {
+            metaData.unregisterListener(this);
+        }
+    }
+
+    @Subscribe
+    public void listen(MetaDataChangedEvent event) {
+        metaDataChanged = true;
+    }
+
+    @Subscribe
+    public void listen(EntriesAddedEvent event) {
+        changes.add(new Change(ChangeType.ADDED, event.getBibEntries()));
+    }
+
+    @Subscribe
+    public void listen(EntriesRemovedEvent event) {
+        changes.add(new Change(ChangeType.REMOVED, event.getBibEntries()));
+    }
+
+    @Subscribe
+    public void listen(FieldChangedEvent event) {
+        changes.add(new Change(ChangeType.MODIFIED, List.of(event.getBibEntry())));
+    }
+
+    @Subscribe
+    public void listen(EntriesChangedBatchEvent event) {
+        changes.add(new Change(ChangeType.MODIFIED, event.getBibEntries()));
+    }
+
+    /**
+     * @return false if the check was cancelled before the messages of all entries were determined
+     */
+    private boolean update(BooleanSupplier isCancelled) {
+        IntegrityCheck currentIntegrityCheck = integrityCheckFactory.apply(databaseContext);
+        if (databaseContext.getMetaData() != metaData) {
+            // The metadata of the library was replaced
+            if (metaData != null) {
+                metaData.unregisterListener(this);
+            }
+            metaData = databaseContext.getMetaData();
+            metaData.registerListener(this);
+            integrityCheck = null;
+        }
+        // The mode is compared as well, as the metadata does not post events while event propagation is disabled
+        if ((integrityCheck == null) || metaDataChanged || (databaseContext.getMode() != mode) || !integrityCheck.getSettings().equals(currentIntegrityCheck.getSettings())) {
+            metaDataChanged = false;
+            return checkAll(currentIntegrityCheck, isCancelled);
+        }
+        integrityCheck = currentIntegrityCheck;
+
+        Change change;
+        while ((change = changes.poll()) != null) {
+            for (BibEntry entry : change.entries()) {
+                switch (change.type()) {
+                    case ADDED, MODIFIED -> {
+                        IndexedState oldState = indexedStates.get(entry);
+                        if ((oldState == null) && (change.type() == ChangeType.MODIFIED)) {
+                            // a change of an entry not (or no longer) in the library
+                            continue;
+                        }
+                        IndexedState newState = IndexedState.of(entry);
+                        if (oldState != null) {
+                            outdateDependents(oldState);
+                            unindex(entry, oldState);
+                        }
+                        index(entry, newState);
+                        outdateDependents(newState);
+                        outdatedEntries.add(entry);
+                    }
+                    case REMOVED -> {
+                        IndexedState oldState = indexedStates.get(entry);
+                        if (oldState != null) {
+                            unindex(entry, oldState);
+                            outdateDependents(oldState);
+                            outdatedEntries.remove(entry);
+                            messages.remove(entry);
+                        }
+                    }
+                }
+            }
+        }
+
+        if (!outdatedEntries.isEmpty()) {
+            Function<BibEntry, List<IntegrityMessage>> entryCheck = integrityCheck.createEntryCheckWithoutFiles(this::getCitationKeyOccurrences);
+            Iterator<BibEntry> iterator = outdatedEntries.iterator();
+            while (iterator.hasNext()) {
+                if (isCancelled.getAsBoolean()) {
+                    // The remaining entries stay outdated
+                    return false;
+                }
+                BibEntry entry = iterator.next();
+                messages.put(entry, checkEntry(entry, entryCheck));
+                iterator.remove();
+            }
+        }
+        return true;
+    }
+
+    private boolean checkAll(IntegrityCheck currentIntegrityCheck, BooleanSupplier isCancelled) {
+        changes.clear();
+        indexedStates.clear();
+        messages.clear();
+        outdatedEntries.clear();
+        entriesByCitationKey.clear();
+        entriesByLinkedKey.clear();
+        entriesByDoi.clear();
+
+        mode = databaseContext.getMode();
+        integrityCheck = currentIntegrityCheck;
+        List<BibEntry> entries = List.copyOf(databaseContext.getDatabase().getEntries());
+        for (BibEntry entry : entries) {
+            index(entry, IndexedState.of(entry));
+        }
+
+        // The indexes are only read during the check, thus the entries can be checked in parallel
+        Function<BibEntry, List<IntegrityMessage>> entryCheck = integrityCheck.createEntryCheckWithoutFiles(this::getCitationKeyOccurrences);
+        List<List<IntegrityMessage>> results = entries.parallelStream()
+                                                      .map(entry -> isCancelled.getAsBoolean() ? null : checkEntry(entry, entryCheck))
+                                                      .toList();
+        for (int i = 0; i < entries.size(); i++) {
+            if (results.get(i) == null) {
+                // Cancelled, thus check all entries again at the next call
+                integrityCheck = null;
+                return false;
+            }
+            messages.put(entries.get(i), results.get(i));
+        }
+        return true;
+    }
+
+    private List<IntegrityMessage> checkEntry(BibEntry entry, Function<BibEntry, List<IntegrityMessage>> entryCheck) {
+        List<IntegrityMessage> result = new ArrayList<>(entryCheck.apply(entry));
+        // Same as DoiDuplicationChecker, but using the index
+        Optional<DOI> doi = indexedStates.get(entry).doi();
+        if (doi.isPresent() && (entriesByDoi.get(doi.get()).size() > 1)) {
+            result.add(DoiDuplicationChecker.createMessage(entry));
+        }
+        return result;
+    }
+
+    private long getCitationKeyOccurrences(String citationKey) {
+        return entriesByCitationKey.getOrDefault(citationKey, Set.of()).size();
+    }
+
+    private void outdateDependents(IndexedState state) {
+        state.citationKey().ifPresent(citationKey -> {
+            entriesByCitationKey.subMap(citationKey, true, citationKey + Character.MAX_VALUE, true)
+                                .values()
+                                .forEach(outdatedEntries::addAll);
+            outdatedEntries.addAll(entriesByLinkedKey.getOrDefault(citationKey, Set.of()));
+        });
+        state.doi().ifPresent(doi -> outdatedEntries.addAll(entriesByDoi.getOrDefault(doi, Set.of())));
+    }
+
+    private void index(BibEntry entry, IndexedState state) {
+        indexedStates.put(entry, state);
+        state.citationKey().ifPresent(citationKey -> entriesByCitationKey.computeIfAbsent(citationKey, _ -> newEntrySet()).add(entry));
+        state.linkedKeys().forEach(linkedKey -> entriesByLinkedKey.computeIfAbsent(linkedKey, _ -> newEntrySet()).add(entry));
+        state.doi().ifPresent(doi -> entriesByDoi.computeIfAbsent(doi, _ -> newEntrySet()).add(entry));
+    }
+
+    private void unindex(BibEntry entry, IndexedState state) {
+        indexedStates.remove(entry);
+        state.citationKey().ifPresent(citationKey -> removeFromIndex(entriesByCitationKey, citationKey, entry));
+        state.linkedKeys().forEach(linkedKey -> removeFromIndex(entriesByLinkedKey, linkedKey, entry));
+        state.doi().ifPresent(doi -> removeFromIndex(entriesByDoi, doi, entry));
+    }
+
+    private static <K> void removeFromIndex(Map<K, Set<BibEntry>> index, K key, BibEntry entry) {
+        Set<BibEntry> entries = index.get(key);
+        if (entries != null) {
+            entries.remove(entry);
+            if (entries.isEmpty()) {
+                index.remove(key);
+            }
+        }
+    }
+
+    private static Set<BibEntry> newEntrySet() {
+        return Collections.newSetFromMap(new IdentityHashMap<>());
+    }
+
+    private enum ChangeType {
+        ADDED,
+        MODIFIED,
+        REMOVED
+    }
+
+    private record Change(ChangeType type, List<BibEntry> entries) {
+    }
+
+    /**
+     * The properties of an entry the messages of other entries depend on
+     */
+    private record IndexedState(Optional<String> citationKey, Optional<DOI> doi, Set<String> linkedKeys) {
+
+        static IndexedState of(BibEntry entry) {
+            Set<String> linkedKeys = new LinkedHashSet<>();
+            for (Map.Entry<Field, String> field : entry.getFieldMap().entrySet()) {
+                Set<FieldProperty> properties = field.getKey().getProperties();
+                if (properties.contains(FieldProperty.MULTIPLE_ENTRY_LINK) || properties.contains(FieldProperty.SINGLE_ENTRY_LINK)) {
+                    // Same splitting as EntryLinkChecker
+                    linkedKeys.addAll(List.of(field.getValue().split(EntryLinkList.SEPARATOR)));
+                }
+            }
+            return new IndexedState(entry.getCitationKey(), entry.getDOI(), linkedKeys);
+        }
+    }
+}
@@ -3,19 +3,32 @@ package org.jabref.logic.integrity;
 import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
+import java.util.function.BooleanSupplier;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.ToLongFunction;
+import java.util.stream.Collectors;
 
 import org.jabref.logic.FilePreferences;
 import org.jabref.logic.citationkeypattern.CitationKeyPatternPreferences;
+import org.jabref.logic.citationkeypattern.GlobalCitationKeyPatterns;
 import org.jabref.logic.journals.JournalAbbreviationRepository;
 import org.jabref.model.database.BibDatabase;
 import org.jabref.model.database.BibDatabaseContext;
 import org.jabref.model.entry.BibEntry;
 import org.jabref.model.entry.field.StandardField;
 
+import com.google.common.base.Suppliers;
+
 public class IntegrityCheck {
 
     private final BibDatabaseContext bibDatabaseContext;
-    private final FieldCheckers fieldCheckers;
+    private final FilePreferences filePreferences;
+    private final CitationKeyPatternPreferences citationKeyPatternPreferences;
+    private final JournalAbbreviationRepository journalAbbreviationRepository;
+    private final boolean allowIntegerEdition;
+    private final List<FieldChecker> fieldCheckers;
     private final List<EntryChecker> entryCheckers;
 
     public IntegrityCheck(BibDatabaseContext bibDatabaseContext,
@@ -24,56 +37,154 @@ public class IntegrityCheck {
                           JournalAbbreviationRepository journalAbbreviationRepository,
                           boolean allowIntegerEdition) {
         this.bibDatabaseContext = bibDatabaseContext;
+        this.filePreferences = filePreferences;
+        this.citationKeyPatternPreferences = citationKeyPatternPreferences;
+        this.journalAbbreviationRepository = journalAbbreviationRepository;
+        this.allowIntegerEdition = allowIntegerEdition;
 
         fieldCheckers = new FieldCheckers(bibDatabaseContext,
                 filePreferences,
                 journalAbbreviationRepository,
-                allowIntegerEdition);
+                allowIntegerEdition).getAll();
+        entryCheckers = createEntryCheckers(bibDatabaseContext.getDatabase()::getNumberOfCitationKeyOccurrences);
+    }
 
-        entryCheckers = new ArrayList<>(List.of(
+    /**
+     * @param citationKeyOccurrences returns the number of entries of the library using the given citation key
+     */
+    private List<EntryChecker> createEntryCheckers(ToLongFunction<String> citationKeyOccurrences) {
+        List<EntryChecker> checkers = new ArrayList<>(List.of(
                 new CitationKeyChecker(),
                 new TypeChecker(),
                 new BibStringChecker(),
                 new HTMLCharacterChecker(),
-                new EntryLinkChecker(bibDatabaseContext.getDatabase()),
-                new CitationKeyDeviationChecker(bibDatabaseContext, citationKeyPatternPreferences),
-                new CitationKeyDuplicationChecker(bibDatabaseContext.getDatabase()),
+                EntryLinkChecker.withCitationKeyOccurrences(citationKeyOccurrences),
+                new CitationKeyDeviationChecker(bibDatabaseContext, citationKeyPatternPreferences, citationKeyOccurrences),
+                CitationKeyDuplicationChecker.withCitationKeyOccurrences(citationKeyOccurrences),
                 new AmpersandChecker(),
                 new LatexIntegrityChecker(),
                 new JournalInAbbreviationListChecker(StandardField.JOURNAL, journalAbbreviationRepository)));
 
         if (bibDatabaseContext.isBiblatexMode()) {
-            entryCheckers.add(new UTF8Checker(bibDatabaseContext.getMetaData().getEncoding().orElse(StandardCharsets.UTF_8)));
+            checkers.add(new UTF8Checker(bibDatabaseContext.getMetaData().getEncoding().orElse(StandardCharsets.UTF_8)));
         } else {
-            entryCheckers.addAll(List.of(
+            checkers.addAll(List.of(
                     new ASCIICharacterChecker(),
                     new NoBibtexFieldChecker(),
                     new UnicodeNormalFormCanonicalCompositionCheck(),
                     new BibTeXEntryTypeChecker())
             );
         }
+        return checkers;
     }
 
-    List<IntegrityMessage> check() {
+    /**
+     * Checks all entries of the library and the library as a whole.
+     *
+     * @see #check(Consumer, BooleanSupplier)
+     */
+    public List<IntegrityMessage> check() {
         List<IntegrityMessage> result = new ArrayList<>();
+        check(result::add, () -> false);
+        return result;
+    }
 
+    /**
+     * Checks all entries of the library and the library as a whole.
+     * <p>
+     * The entries are checked in parallel on the common fork-join pool. Lookups over the whole library needed for each
+     * entry (the number of entries per citation key, the file directories) are computed once before. The library must
+     * not be modified during the check.
+     * <p>
+     * The messages are passed in a deterministic order: the messages of the entries in the order of the entries in the
+     * library, followed by the messages of the checks of the whole library. The consumer is called by one thread at a
+     * time, which is not necessarily the calling thread.
+     *
+     * @param isCancelled polled before checking each entry; if it returns true, the remaining entries are skipped
+     */
+    public void check(Consumer<IntegrityMessage> messageConsumer, BooleanSupplier isCancelled) {
         BibDatabase database = bibDatabaseContext.getDatabase();
+        List<BibEntry> entries = List.copyOf(database.getEntries());
+
+        Map<String, Long> citationKeyOccurrences = entries.stream()
+                                                          .flatMap(entry -> entry.getCitationKey().stream())
+                                                          .collect(Collectors.groupingBy(Function.identity(), Collectors.counting()));
+        Function<BibEntry, List<IntegrityMessage>> entryCheck = createEntryCheck(key -> citationKeyOccurrences.getOrDefault(key, 0L));
+
+        entries.parallelStream()
+               .map(entry -> isCancelled.getAsBoolean() ? List.<IntegrityMessage>of() : entryCheck.apply(entry))
+               .forEachOrdered(messages -> messages.forEach(messageConsumer));
 
-        for (BibEntry entry : database.getEntries()) {
-            result.addAll(checkEntry(entry));
+        if (!isCancelled.getAsBoolean()) {
+            checkDatabase(database).forEach(messageConsumer);
         }
-        result.addAll(checkDatabase(database));
+    }
 
-        return result;
+    /**
+     * Returns a check of single entries for checking many entries, possibly in parallel. Instead of looking up the
+     * citation keys in the library for each entry, the given function is used. The file directories are determined
+     * once.
+     *
+     * @param citationKeyOccurrences returns the number of entries of the library using the given citation key
+     */
+    Function<BibEntry, List<IntegrityMessage>> createEntryCheck(ToLongFunction<String> citationKeyOccurrences) {
+        List<EntryChecker> sharedEntryCheckers = createEntryCheckers(citationKeyOccurrences);
+        List<FieldChecker> sharedFieldCheckers = new FieldCheckers(bibDatabaseContext,
+                new FileChecker(Suppliers.memoize(() -> bibDatabaseContext.getFileDirectories(filePreferences))),
+                journalAbbreviationRepository,
+                allowIntegerEdition).getAll();
+        return entry -> checkEntry(entry, sharedFieldCheckers, sharedEntryCheckers);
+    }
+
+    /**
+     * Returns a check of single entries like {@link #createEntryCheck(ToLongFunction)}, but without checking the linked
+     * files. Whether a linked file exists can change without the library being modified, thus the linked files are
+     * checked separately using {@link #createFileCheck()}.
+     */
+    Function<BibEntry, List<IntegrityMessage>> createEntryCheckWithoutFiles(ToLongFunction<String> citationKeyOccurrences) {
+        List<EntryChecker> sharedEntryCheckers = createEntryCheckers(citationKeyOccurrences);
+        List<FieldChecker> sharedFieldCheckers = fieldCheckers.stream()
+                                                              .filter(fieldChecker -> fieldChecker.field != StandardField.FILE)
+                                                              .toList();
+        return entry -> checkEntry(entry, sharedFieldCheckers, sharedEntryCheckers);
+    }
+
+    /**
+     * Returns a check of the linked files of single entries. The file directories are determined once.
+     */
+    Function<BibEntry, List<IntegrityMessage>> createFileCheck() {
+        FieldChecker fileChecker = new FieldChecker(StandardField.FILE,
+                new FileChecker(Suppliers.memoize(() -> bibDatabaseContext.getFileDirectories(filePreferences))));
+        return fileChecker::check;
+    }
+
+    /**
+     * Returns the preferences the messages depend on. Checks of the same library with equal settings report the same
+     * messages, apart from the messages on linked files.
+     */
+    Settings getSettings() {
+        return new Settings(
+                allowIntegerEdition,
+                journalAbbreviationRepository,
+                citationKeyPatternPreferences.getKeySuffix(),
+                citationKeyPatternPreferences.getKeyPatternRegex(),
+                citationKeyPatternPreferences.getKeyPatternReplacement(),
+                citationKeyPatternPreferences.getUnwantedCharacters(),
+                citationKeyPatternPreferences.getKeyPatterns(),
+                citationKeyPatternPreferences.getKeywordDelimiter());
     }
 
     public List<IntegrityMessage> checkEntry(BibEntry entry) {
-        List<IntegrityMessage> result = new ArrayList<>();
         if (entry == null) {
-            return result;
+            return new ArrayList<>();
         }
+        return checkEntry(entry, fieldCheckers, entryCheckers);
+    }
+
+    private static List<IntegrityMessage> checkEntry(BibEntry entry, List<FieldChecker> fieldCheckers, List<EntryChecker> entryCheckers) {
+        List<IntegrityMessage> result = new ArrayList<>();
 
-        for (FieldChecker fieldChecker : fieldCheckers.getAll()) {
+        for (FieldChecker fieldChecker : fieldCheckers) {
             result.addAll(fieldChecker.check(entry));
         }
 
@@ -87,4 +198,17 @@ public class IntegrityCheck {
     public List<IntegrityMessage> checkDatabase(BibDatabase database) {
         return new DoiDuplicationChecker().check(database);
     }
+
+    /**
+     * The abbreviation repository is compared by identity, as it is replaced when the journal lists change
+     */
+    record Settings(boolean allowIntegerEdition,
+                    JournalAbbreviationRepository journalAbbreviationRepository,
+                    CitationKeyPatternPreferences.KeySuffix keySuffix,
+                    String keyPatternRegex,
+                    String keyPatternReplacement,
+                    String unwantedCharacters,
+                    GlobalCitationKeyPatterns keyPatterns,
+                    Character keywordDelimiter) {
+    }
 }
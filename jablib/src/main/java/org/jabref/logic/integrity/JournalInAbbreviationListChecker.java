@@ -1,8 +1,10 @@
 package org.jabref.logic.integrity;
 
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
 
 import org.jabref.logic.journals.JournalAbbreviationRepository;
 import org.jabref.logic.l10n.Localization;
@@ -14,6 +16,12 @@ public class JournalInAbbreviationListChecker implements EntryChecker {
     private final Field field;
     private final JournalAbbreviationRepository abbreviationRepository;
 
+    /**
+     * Unknown names are fuzzy matched against all abbreviations, which is expensive. Since many entries share the same
+     * journal, the result is remembered per name.
+     */
+    private final Map<String, Boolean> knownNames = new ConcurrentHashMap<>();
+
     public JournalInAbbreviationListChecker(Field field, JournalAbbreviationRepository abbreviationRepository) {
         this.field = Objects.requireNonNull(field);
         this.abbreviationRepository = Objects.requireNonNull(abbreviationRepository);
@@ -27,7 +35,7 @@ public class JournalInAbbreviationListChecker implements EntryChecker {
         }
 
         final String journal = value.get();
-        if (!abbreviationRepository.isKnownName(journal)) {
+        if (!knownNames.computeIfAbsent(journal, abbreviationRepository::isKnownName)) {
             return List.of(new IntegrityMessage(Localization.lang("journal not found in abbreviation list"), entry, field));
         }
 
@@ -7,7 +7,11 @@ import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.Comparator;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import java.util.concurrent.Callable;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.Future;
@@ -26,8 +30,10 @@ import org.jabref.logic.util.Directories;
 import org.jabref.logic.util.HeadlessExecutorService;
 import org.jabref.logic.util.TaskExecutor;
 import org.jabref.model.database.BibDatabaseContext;
+import org.jabref.model.database.event.EntriesChangedBatchEvent;
 import org.jabref.model.entry.BibEntry;
 import org.jabref.model.entry.event.FieldChangedEvent;
+import org.jabref.model.entry.field.Field;
 import org.jabref.model.entry.field.StandardField;
 import org.jabref.model.search.SearchFlags;
 import org.jabref.model.search.event.IndexAddedOrUpdatedEvent;
@@ -177,6 +183,42 @@ public class IndexManager {
         }
     }
 
+    /**
+     * Updates the index for all changes of a batch edit in one background task instead of one task per changed field.
+     * A field changed more than once is indexed once.
+     */
+    public void updateEntries(EntriesChangedBatchEvent event) {
+        Map<BibEntry, Set<Field>> changedFields = new IdentityHashMap<>();
+        List<FieldChangedEvent> fileChanges = new ArrayList<>();
+        for (FieldChangedEvent fieldChange : event.getFieldChanges()) {
+            changedFields.computeIfAbsent(fieldChange.getBibEntry(), _ -> new LinkedHashSet<>()).add(fieldChange.getField());
+            if (fieldChange.getField().equals(StandardField.FILE)) {
+                fileChanges.add(fieldChange);
+            }
+        }
+
+        new BackgroundTask<>() {
+            @Override
+            public Object call() {
+                changedFields.forEach((entry, fields) -> fields.forEach(field -> bibFieldsIndexer.updateEntry(entry, field)));
+                return null;
+            }
+        }.onFinished(() -> this.databaseContext.getDatabase().postEvent(new IndexAddedOrUpdatedEvent(event.getBibEntries())))
+         .executeWith(taskExecutor);
+
+        if (shouldIndexLinkedFiles.get() && !fileChanges.isEmpty()) {
+            new BackgroundTask<>() {
+                @Override
+                public Object call() {
+                    for (FieldChangedEvent fileChange : fileChanges) {
+                        linkedFilesIndexer.updateEntry(fileChange.getBibEntry(), fileChange.getOldValue(), fileChange.getNewValue(), this);
+                    }
+                    return null;
+                }
+            }.executeWith(taskExecutor);
+        }
+    }
+
     public void rebuildFullTextIndex() {
         if (shouldIndexLinkedFiles.get()) {
             new BackgroundTask<>() {
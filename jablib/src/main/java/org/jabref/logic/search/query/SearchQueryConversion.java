@@ -2,11 +2,14 @@ package org.jabref.logic.search.query;
 
 import java.util.List;
 
+import org.jabref.model.database.BibDatabase;
+import org.jabref.model.search.SearchMatcher;
 import org.jabref.model.search.query.SearchQuery;
 import org.jabref.model.search.query.SearchQueryNode;
 import org.jabref.model.search.query.SqlQueryNode;
 import org.jabref.search.SearchParser;
 
+import org.jspecify.annotations.Nullable;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -18,6 +21,17 @@ public class SearchQueryConversion {
         return new SearchToSqlVisitor(table, searchQuery.getSearchFlags()).visit(searchQuery.getContext());
     }
 
+    /**
+     * Converts to a matcher finding the same entries as the SQL query, but checking the entries one by one, without the
+     * search index. Intended for filtering entries while they are read.
+     *
+     * @param database the database to resolve strings and entry links with. May be null.
+     */
+    public static SearchMatcher searchToMatcher(SearchQuery searchQuery, @Nullable BibDatabase database, Character keywordSeparator) {
+        LOGGER.debug("Converting search expression to matcher: {}", searchQuery.getSearchExpression());
+        return new SearchToMatcherVisitor(searchQuery.getSearchFlags(), database, keywordSeparator).visit(searchQuery.getContext());
+    }
+
     public static String flagsToSearchExpression(SearchQuery searchQuery) {
         LOGGER.debug("Converting search flags to search expression: {}, flags {}", searchQuery.getSearchExpression(), searchQuery.getSearchFlags());
         return new SearchFlagsToExpressionVisitor(searchQuery.getSearchFlags()).visit(searchQuery.getContext());
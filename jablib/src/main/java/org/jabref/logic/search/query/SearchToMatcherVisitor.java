@@ -0,0 +1,276 @@
+package org.jabref.logic.search.query;
+
+import java.util.EnumSet;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Predicate;
+import java.util.regex.Pattern;
+
+import org.jabref.model.database.BibDatabase;
+import org.jabref.model.entry.AuthorList;
+import org.jabref.model.entry.BibEntry;
+import org.jabref.model.entry.KeywordList;
+import org.jabref.model.entry.field.Field;
+import org.jabref.model.entry.field.FieldProperty;
+import org.jabref.model.entry.field.InternalField;
+import org.jabref.model.entry.field.StandardField;
+import org.jabref.model.search.PostgreConstants;
+import org.jabref.model.search.SearchFlags;
+import org.jabref.model.search.SearchMatcher;
+import org.jabref.model.search.matchers.MatcherSet;
+import org.jabref.model.search.matchers.MatcherSets;
+import org.jabref.model.search.matchers.NotMatcher;
+import org.jabref.model.strings.LatexToUnicodeAdapter;
+import org.jabref.search.SearchBaseVisitor;
+import org.jabref.search.SearchParser;
+
+import org.jspecify.annotations.Nullable;
+
+import static org.jabref.model.search.SearchFlags.CASE_INSENSITIVE;
+import static org.jabref.model.search.SearchFlags.CASE_SENSITIVE;
+import static org.jabref.model.search.SearchFlags.EXACT_MATCH;
+import static org.jabref.model.search.SearchFlags.INEXACT_MATCH;
+import static org.jabref.model.search.SearchFlags.NEGATION;
+import static org.jabref.model.search.SearchFlags.REGULAR_EXPRESSION;
+
+/// Converts to a [SearchMatcher] deciding for a single entry whether it matches, without an index.
+///
+/// The matcher finds the same entries as the query created by [SearchToSqlVisitor] finds in the scheme created by
+/// [org.jabref.logic.search.indexing.BibFieldsIndexer]: The values of the entry are derived the same way as the index
+/// derives its values (including the split values of persons, keywords, groups, and entry links). The terms and
+/// regular expressions are prepared once, when visiting the query.
+
+/// Tests are located in `org.jabref.logic.search.query.SearchQueryMatcherConversionTest`
+public class SearchToMatcherVisitor extends SearchBaseVisitor<SearchMatcher> {
+
+    private static final Pattern GROUPS_SEPARATOR_REGEX = Pattern.compile("\s*,\s*");
+    private static final Set<Field> DATE_FIELDS = Set.of(StandardField.DATE, StandardField.YEAR, StandardField.MONTH, StandardField.DAY);
+
+    private final EnumSet<SearchFlags> searchBarFlags;
+    private final @Nullable BibDatabase database;
+    private final Character keywordSeparator;
+
+    /**
+     * @param database         the database to resolve strings and entry links with. May be null.
+     * @param keywordSeparator the separator of the keywords, as used for indexing
+     */
+    public SearchToMatcherVisitor(EnumSet<SearchFlags> searchBarFlags, @Nullable BibDatabase database, Character keywordSeparator) {
+        this.searchBarFlags = searchBarFlags;
+        this.database = database;
+        this.keywordSeparator = keywordSeparator;
+    }
+
+    @Override
+    public SearchMatcher visitStart(SearchParser.StartContext ctx) {
+        return visit(ctx.andExpression());
+    }
+
+    @Override
+    public SearchMatcher visitImplicitAndExpression(SearchParser.ImplicitAndExpressionContext ctx) {
+        if (ctx.expression().size() == 1) {
+            return visit(ctx.expression().getFirst());
+        }
+        MatcherSet matcher = MatcherSets.build(MatcherSets.MatcherType.AND);
+        ctx.expression().forEach(expression -> matcher.addRule(visit(expression)));
+        return matcher;
+    }
+
+    @Override
+    public SearchMatcher visitParenExpression(SearchParser.ParenExpressionContext ctx) {
+        return visit(ctx.andExpression());
+    }
+
+    @Override
+    public SearchMatcher visitNegatedExpression(SearchParser.NegatedExpressionContext ctx) {
+        return new NotMatcher(visit(ctx.expression()));
+    }
+
+    @Override
+    public SearchMatcher visitBinaryExpression(SearchParser.BinaryExpressionContext ctx) {
+        MatcherSet matcher = MatcherSets.build(ctx.bin_op.getType() == SearchParser.AND ? MatcherSets.MatcherType.AND : MatcherSets.MatcherType.OR);
+        matcher.addRule(visit(ctx.left));
+        matcher.addRule(visit(ctx.right));
+        return matcher;
+    }
+
+    @Override
+    public SearchMatcher visitComparisonExpression(SearchParser.ComparisonExpressionContext ctx) {
+        return visit(ctx.comparison());
+    }
+
+    @Override
+    public SearchMatcher visitComparison(SearchParser.ComparisonContext ctx) {
+        EnumSet<SearchFlags> searchFlags = EnumSet.noneOf(SearchFlags.class);
+        String term = SearchQueryConversion.unescapeSearchValue(ctx.searchValue());
+
+        // unfielded expression
+        if (ctx.FIELD() == null) {
+            // apply search bar flags to unfielded expressions
+            boolean isCaseSensitive = searchBarFlags.contains(CASE_SENSITIVE);
+            if (searchBarFlags.contains(REGULAR_EXPRESSION)) {
+                setFlags(searchFlags, REGULAR_EXPRESSION, isCaseSensitive, false);
+            } else {
+                setFlags(searchFlags, INEXACT_MATCH, isCaseSensitive, false);
+            }
+            return getFieldMatcher("any", term, searchFlags);
+        }
+
+        // fielded expression
+        String field = ctx.FIELD().getText();
+        int operator = ctx.operator().getStart().getType();
+
+        if (operator == SearchParser.EQUAL || operator == SearchParser.CONTAINS) {
+            setFlags(searchFlags, INEXACT_MATCH, false, false);
+        } else if (operator == SearchParser.CEQUAL) {
+            setFlags(searchFlags, INEXACT_MATCH, true, false);
+        } else if (operator == SearchParser.EEQUAL || operator == SearchParser.MATCHES) {
+            setFlags(searchFlags, EXACT_MATCH, false, false);
+        } else if (operator == SearchParser.CEEQUAL) {
+            setFlags(searchFlags, EXACT_MATCH, true, false);
+        } else if (operator == SearchParser.REQUAL) {
+            setFlags(searchFlags, REGULAR_EXPRESSION, false, false);
+        } else if (operator == SearchParser.CREEQUAL) {
+            setFlags(searchFlags, REGULAR_EXPRESSION, true, false);
+        } else if (operator == SearchParser.NEQUAL) {
+            setFlags(searchFlags, INEXACT_MATCH, false, true);
+        } else if (operator == SearchParser.NCEQUAL) {
+            setFlags(searchFlags, INEXACT_MATCH, true, true);
+        } else if (operator == SearchParser.NEEQUAL) {
+            setFlags(searchFlags, EXACT_MATCH, false, true);
+        } else if (operator == SearchParser.NCEEQUAL) {
+            setFlags(searchFlags, EXACT_MATCH, true, true);
+        } else if (operator == SearchParser.NREQUAL) {
+            setFlags(searchFlags, REGULAR_EXPRESSION, false, true);
+        } else if (operator == SearchParser.NCREEQUAL) {
+            setFlags(searchFlags, REGULAR_EXPRESSION, true, true);
+        }
+
+        // field = "" -> should find entries where the field is empty
+        // field != "" -> should find entries where the field is not empty
+        if (term.isEmpty()) {
+            if (searchFlags.contains(NEGATION)) {
+                searchFlags.remove(NEGATION);
+            } else {
+                searchFlags.add(NEGATION);
+            }
+        }
+
+        return getFieldMatcher(field.toLowerCase(Locale.ROOT), term, searchFlags);
+    }
+
+    private SearchMatcher getFieldMatcher(String field, String term, EnumSet<SearchFlags> searchFlags) {
+        // Pseudo-fields
+        field = switch (field) {
+            case "key" -> InternalField.KEY_FIELD.getName();
+            case "anykeyword" -> StandardField.KEYWORDS.getName();
+            case "anyfield" -> "any";
+            default -> field;
+        };
+
+        SearchMatcher matcher;
+        if (PostgreConstants.ENTRY_ID.toString().equals(field)) {
+            // The SQL query compares the entry id for equality, regardless of the match type
+            matcher = entry -> entry.getId().equals(term);
+        } else {
+            Predicate<String> valueMatcher = getValueMatcher(term, searchFlags);
+            // https://github.com/JabRef/jabref/issues/7996: "any" does not include the groups
+            String fieldName = field;
+            Predicate<Field> fieldFilter = "any".equals(fieldName)
+                    ? indexedField -> indexedField != StandardField.GROUPS
+                    : indexedField -> indexedField.getName().equals(fieldName);
+            // Only exact matches look at the single values of multi-value fields
+            boolean includeSplitValues = searchFlags.contains(EXACT_MATCH);
+            matcher = entry -> isMatch(entry, fieldFilter, valueMatcher, includeSplitValues);
+        }
+
+        return searchFlags.contains(NEGATION) ? new NotMatcher(matcher) : matcher;
+    }
+
+    /**
+     * Same semantics as the SQL operators (<code>LIKE</code>, <code>ILIKE</code>, <code>~</code>, <code>~*</code>)
+     * used by {@link SearchToSqlVisitor}
+     */
+    private static Predicate<String> getValueMatcher(String term, EnumSet<SearchFlags> searchFlags) {
+        boolean isCaseSensitive = searchFlags.contains(CASE_SENSITIVE);
+        if (searchFlags.contains(REGULAR_EXPRESSION)) {
+            Pattern pattern = isCaseSensitive
+                    ? Pattern.compile(term)
+                    : Pattern.compile(term, Pattern.CASE_INSENSITIVE | Pattern.UNICODE_CASE);
+            return value -> pattern.matcher(value).find();
+        }
+        if (searchFlags.contains(EXACT_MATCH)) {
+            return isCaseSensitive ? term::equals : term::equalsIgnoreCase;
+        }
+        if (isCaseSensitive) {
+            return value -> value.contains(term);
+        }
+        String lowerCaseTerm = term.toLowerCase(Locale.ROOT);
+        return value -> value.toLowerCase(Locale.ROOT).contains(lowerCaseTerm);
+    }
+
+    /**
+     * Checks the values {@link org.jabref.logic.search.indexing.BibFieldsIndexer} would index for the given entry
+     */
+    private boolean isMatch(BibEntry entry, Predicate<Field> fieldFilter, Predicate<String> valueMatcher, boolean includeSplitValues) {
+        for (Map.Entry<Field, String> fieldPair : entry.getFieldMap().entrySet()) {
+            Field field = fieldPair.getKey();
+            if (!fieldFilter.test(field)) {
+                continue;
+            }
+            String value = fieldPair.getValue();
+
+            if (!DATE_FIELDS.contains(field)) {
+                if (valueMatcher.test(value)
+                        || valueMatcher.test(entry.getResolvedFieldOrAliasLatexFree(field, database).orElse(""))) {
+                    return true;
+                }
+            }
+            if (includeSplitValues && isSplitValueMatch(entry, field, value, valueMatcher)) {
+                return true;
+            }
+        }
+
+        for (Field dateField : DATE_FIELDS) {
+            if (fieldFilter.test(dateField)) {
+                Optional<String> dateValue = entry.getResolvedFieldOrAlias(dateField, database);
+                if (dateValue.isPresent() && isMatch(dateValue.get(), valueMatcher)) {
+                    return true;
+                }
+            }
+        }
+
+        return fieldFilter.test(InternalField.TYPE_HEADER) && isMatch(entry.getType().getName(), valueMatcher);
+    }
+
+    private boolean isSplitValueMatch(BibEntry entry, Field field, String value, Predicate<String> valueMatcher) {
+        if (field.getProperties().contains(FieldProperty.PERSON_NAMES)) {
+            // Author object does not support literal values, thus the most complete information is used
+            return AuthorList.parse(value).getAuthors().stream().anyMatch(author ->
+                    valueMatcher.test(author.getGivenFamily(false)) || valueMatcher.test(author.latexFree().getGivenFamily(false)));
+        } else if (field == StandardField.KEYWORDS) {
+            return KeywordList.parse(value, keywordSeparator).stream()
+                              .flatMap(keyword -> keyword.flatten().stream())
+                              .anyMatch(keyword -> isMatch(keyword.toString(), valueMatcher));
+        } else if (field == StandardField.GROUPS) {
+            return GROUPS_SEPARATOR_REGEX.splitAsStream(value).anyMatch(group -> isMatch(group, valueMatcher));
+        } else if (field.getProperties().contains(FieldProperty.MULTIPLE_ENTRY_LINK)) {
+            return entry.getEntryLinkList(field, database).stream().anyMatch(link -> isMatch(link.getKey(), valueMatcher));
+        }
+        return false;
+    }
+
+    private static boolean isMatch(String value, Predicate<String> valueMatcher) {
+        return valueMatcher.test(value) || valueMatcher.test(LatexToUnicodeAdapter.format(value));
+    }
+
+    private static void setFlags(EnumSet<SearchFlags> flags, SearchFlags matchType, boolean caseSensitive, boolean negation) {
+        flags.add(matchType);
+
+        flags.add(caseSensitive ? CASE_SENSITIVE : CASE_INSENSITIVE);
+        if (negation) {
+            flags.add(NEGATION);
+        }
+    }
+}
@@ -163,8 +163,71 @@ public abstract class DBMSProcessor {
         if (notYetExistingEntries.isEmpty()) {
             return;
         }
-        insertIntoEntryTable(notYetExistingEntries);
-        insertIntoFieldTable(notYetExistingEntries);
+        try {
+            connection.setAutoCommit(false); // disable auto commit due to transaction
+            try {
+                insertIntoEntryTable(notYetExistingEntries);
+                insertIntoFieldTable(notYetExistingEntries);
+                insertIntoChangeTable(getSharedIDs(notYetExistingEntries), false);
+                connection.commit();
+            } catch (SQLException e) {
+                LOGGER.error("SQL Error: ", e);
+                connection.rollback(); // undo changes made in current transaction
+            } finally {
+                connection.setAutoCommit(true); // enable auto commit mode again
+            }
+        } catch (SQLException e) {
+            LOGGER.error("SQL Error: ", e);
+        }
+    }
+
+    private static List<Integer> getSharedIDs(List<BibEntry> bibEntries) {
+        return bibEntries.stream()
+                         .map(BibEntry::getSharedBibEntryData)
+                         .map(SharedBibEntryData::getSharedID)
+                         .filter(id -> id != -1)
+                         .toList();
+    }
+
+    /**
+     * Appends the current versions of the given shared entries to the ENTRY_CHANGE table. Has to be called in the
+     * transaction modifying the entries, before removed entries are deleted.
+     *
+     * @param sharedIDs shared IDs of the changed entries
+     * @param removed   <code>true</code> if the entries are going to be removed
+     */
+    protected void insertIntoChangeTable(List<Integer> sharedIDs, boolean removed) throws SQLException {
+        if (sharedIDs.isEmpty()) {
+            return;
+        }
+        String insertChangeQuery = "INSERT INTO " +
+                escape_Table("ENTRY_CHANGE") +
+                "(" +
+                escape("ENTRY_SHARED_ID") +
+                ", " +
+                escape("VERSION") +
+                ", " +
+                escape("REMOVED") +
+                ") SELECT " +
+                escape("SHARED_ID") +
+                ", " +
+                escape("VERSION") +
+                ", ? FROM " +
+                escape_Table("ENTRY") +
+                " WHERE " +
+                escape("SHARED_ID") +
+                " IN (" +
+                "?, ".repeat(sharedIDs.size() - 1) +
+                "?) ORDER BY " +
+                escape("SHARED_ID");
+
+        try (PreparedStatement preparedChangeStatement = connection.prepareStatement(insertChangeQuery)) {
+            preparedChangeStatement.setBoolean(1, removed);
+            for (int i = 0; i < sharedIDs.size(); i++) {
+                preparedChangeStatement.setInt(i + 2, sharedIDs.get(i));
+            }
+            preparedChangeStatement.executeUpdate();
+        }
     }
 
     /**
@@ -335,6 +398,8 @@ public abstract class DBMSProcessor {
                     preparedUpdateEntryTypeStatement.executeUpdate();
                 }
 
+                insertIntoChangeTable(List.of(localBibEntry.getSharedBibEntryData().getSharedID()), false);
+
                 connection.commit(); // apply all changes in current transaction
             } else {
                 throw new OfflineLockException(localBibEntry, sharedBibEntry);
@@ -459,11 +524,21 @@ public abstract class DBMSProcessor {
         query.append("?, ".repeat(bibEntries.size() - 1));
         query.append("?)");
 
-        try (PreparedStatement preparedStatement = connection.prepareStatement(query.toString())) {
-            for (int j = 0; j < bibEntries.size(); j++) {
-                preparedStatement.setInt(j + 1, bibEntries.get(j).getSharedBibEntryData().getSharedID());
+        try {
+            connection.setAutoCommit(false); // disable auto commit due to transaction
+            try (PreparedStatement preparedStatement = connection.prepareStatement(query.toString())) {
+                insertIntoChangeTable(getSharedIDs(bibEntries), true);
+                for (int j = 0; j < bibEntries.size(); j++) {
+                    preparedStatement.setInt(j + 1, bibEntries.get(j).getSharedBibEntryData().getSharedID());
+                }
+                preparedStatement.executeUpdate();
+                connection.commit();
+            } catch (SQLException e) {
+                LOGGER.error("SQL Error: ", e);
+                connection.rollback(); // undo changes made in current transaction
+            } finally {
+                connection.setAutoCommit(true); // enable auto commit mode again
             }
-            preparedStatement.executeUpdate();
         } catch (SQLException e) {
             LOGGER.error("SQL Error: ", e);
         }
@@ -595,6 +670,59 @@ public abstract class DBMSProcessor {
         return sharedIDVersionMapping;
     }
 
+    /**
+     * Retrieves the entries of the change log written by the transactions with an ID in the given range, ordered by
+     * transaction and sequence number.
+     * <p>
+     * The sequence number is assigned when a change is written, not when it is committed. Thus, a change with a lower
+     * sequence number may become visible after changes with higher ones. The transaction IDs of all changes becoming
+     * visible later are at least {@link #getCompletedTransactionsBound()}, so that reading the changes between two
+     * bounds does not miss any change.
+     *
+     * @param fromTransactionID the lowest transaction ID to include
+     * @param toTransactionID   the transaction ID to stop at (exclusive)
+     */
+    public List<SharedEntryChange> getChangesBetween(long fromTransactionID, long toTransactionID) {
+        List<SharedEntryChange> changes = new ArrayList<>();
+        String selectChangeQuery = "SELECT * FROM " +
+                escape_Table("ENTRY_CHANGE") +
+                " WHERE " +
+                escape("TRANSACTION_ID") +
+                " >= ? AND " +
+                escape("TRANSACTION_ID") +
+                " < ? ORDER BY " +
+                escape("TRANSACTION_ID") +
+                ", " +
+                escape("SEQUENCE_NUMBER");
+
+        try (PreparedStatement preparedStatement = connection.prepareStatement(selectChangeQuery)) {
+            preparedStatement.setLong(1, fromTransactionID);
+            preparedStatement.setLong(2, toTransactionID);
+            try (ResultSet selectChangeResultSet = preparedStatement.executeQuery()) {
+                while (selectChangeResultSet.next()) {
+                    changes.add(new SharedEntryChange(
+                            selectChangeResultSet.getLong("SEQUENCE_NUMBER"),
+                            selectChangeResultSet.getInt("ENTRY_SHARED_ID"),
+                            selectChangeResultSet.getInt("VERSION"),
+                            selectChangeResultSet.getBoolean("REMOVED")));
+                }
+            }
+        } catch (SQLException e) {
+            LOGGER.error("SQL Error", e);
+        }
+
+        return changes;
+    }
+
+    /**
+     * Retrieves the lowest ID of the transactions which are still running. All transactions with a lower ID have been
+     * committed or rolled back, thus their changes are visible in the change log and no further change with a lower
+     * transaction ID will appear.
+     *
+     * @return the bound, or <code>-1</code> if it could not be determined
+     */
+    public abstract long getCompletedTransactionsBound();
+
     /**
      * Fetches and returns all shared meta data.
      */
@@ -689,6 +817,16 @@ public abstract class DBMSProcessor {
      * LiveUpdate is supported by the DBMS
      */
     public void notifyClients() {
+        notifyClients(LiveUpdateNotification.fullSync(PROCESSOR_ID));
+    }
+
+    /**
+     * Notifies all clients ({@link DBMSSynchronizer}) which are connected to the same DBMS about the given changes.
+     * Needs to be implemented if LiveUpdate is supported by the DBMS
+     *
+     * @param notification the changed and removed shared entries
+     */
+    public void notifyClients(@SuppressWarnings("unused") LiveUpdateNotification notification) {
         // nothing to do
     }
 }
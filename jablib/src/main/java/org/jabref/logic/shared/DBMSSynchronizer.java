@@ -2,7 +2,12 @@ package org.jabref.logic.shared;
 
 import java.sql.Connection;
 import java.sql.SQLException;
+import java.time.Duration;
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
@@ -23,8 +28,10 @@ import org.jabref.logic.shared.exception.OfflineLockException;
 import org.jabref.model.database.BibDatabase;
 import org.jabref.model.database.BibDatabaseContext;
 import org.jabref.model.database.event.EntriesAddedEvent;
+import org.jabref.model.database.event.EntriesChangedBatchEvent;
 import org.jabref.model.database.event.EntriesRemovedEvent;
 import org.jabref.model.entry.BibEntry;
+import org.jabref.model.entry.SharedBibEntryData;
 import org.jabref.model.entry.event.EntriesEvent;
 import org.jabref.model.entry.event.EntriesEventSource;
 import org.jabref.model.entry.event.FieldChangedEvent;
@@ -45,6 +52,8 @@ public class DBMSSynchronizer implements DatabaseSynchronizer {
 
     private static final Logger LOGGER = LoggerFactory.getLogger(DBMSSynchronizer.class);
 
+    private static final long FULL_SYNCHRONIZATION_INTERVAL_MILLIS = Duration.ofMinutes(5).toMillis();
+
     private DBMSProcessor dbmsProcessor;
     private String dbName;
     private final BibDatabaseContext bibDatabaseContext;
@@ -57,6 +66,9 @@ public class DBMSSynchronizer implements DatabaseSynchronizer {
     private final FieldPreferences fieldPreferences;
     private final FileUpdateMonitor fileMonitor;
     private Optional<BibEntry> lastEntryChanged;
+    // All shared changes of transactions with a lower ID have been applied locally, -1 if unknown
+    private long appliedTransactionsBound = -1;
+    private long lastFullSynchronizationTime;
 
     public DBMSSynchronizer(BibDatabaseContext bibDatabaseContext, Character keywordSeparator,
                             FieldPreferences fieldPreferences,
@@ -82,8 +94,9 @@ public class DBMSSynchronizer implements DatabaseSynchronizer {
         if (isEventSourceAccepted(event) && checkCurrentConnection()) {
             synchronizeLocalMetaData();
             pullWithLastEntry();
-            synchronizeLocalDatabase();
+            synchronizeLocalDatabaseFromChangeLog();
             dbmsProcessor.insertEntries(event.getBibEntries());
+            notifyClientsAboutChanges(event.getBibEntries(), List.of());
             // Reset last changed entry because it just has already been synchronized -> Why necessary?
             lastEntryChanged = Optional.empty();
         }
@@ -101,13 +114,38 @@ public class DBMSSynchronizer implements DatabaseSynchronizer {
             synchronizeLocalMetaData();
             pullWithLastEntry();
             synchronizeSharedEntry(bibEntry);
-            synchronizeLocalDatabase(); // Pull changes for the case that there were some
+            synchronizeLocalDatabaseFromChangeLog(); // Pull changes for the case that there were some
+            // The local version has been raised to the shared one by the pull above
+            notifyClientsAboutChanges(List.of(bibEntry), List.of());
         } else {
             // Set new BibEntry that has been changed last
             lastEntryChanged = Optional.of(bibEntry);
         }
     }
 
+    /**
+     * Listening method. Updates all shared {@link BibEntry}s changed in a batch edit, pulling the shared changes once.
+     */
+    @Subscribe
+    public void listen(EntriesChangedBatchEvent event) {
+        Set<BibEntry> localEntries = Collections.newSetFromMap(new IdentityHashMap<>());
+        localEntries.addAll(bibDatabase.getEntries());
+        Set<BibEntry> changedEntries = Collections.newSetFromMap(new IdentityHashMap<>());
+        for (FieldChangedEvent fieldChange : event.getFieldChanges()) {
+            if (isEventSourceAccepted(fieldChange) && localEntries.contains(fieldChange.getBibEntry())) {
+                changedEntries.add(fieldChange.getBibEntry());
+            }
+        }
+
+        if (!changedEntries.isEmpty() && checkCurrentConnection()) {
+            synchronizeLocalMetaData();
+            pullWithLastEntry();
+            changedEntries.forEach(this::synchronizeSharedEntry);
+            synchronizeLocalDatabaseFromChangeLog();
+            notifyClientsAboutChanges(List.copyOf(changedEntries), List.of());
+        }
+    }
+
     /**
      * Listening method. Deletes the given list of {@link BibEntry} from shared database.
      */
@@ -119,7 +157,8 @@ public class DBMSSynchronizer implements DatabaseSynchronizer {
             synchronizeLocalMetaData();
             pullWithLastEntry();
             dbmsProcessor.removeEntries(event.getBibEntries());
-            synchronizeLocalDatabase();
+            notifyClientsAboutChanges(List.of(), event.getBibEntries());
+            synchronizeLocalDatabaseFromChangeLog();
         }
     }
 
@@ -130,7 +169,7 @@ public class DBMSSynchronizer implements DatabaseSynchronizer {
     public void listen(MetaDataChangedEvent event) {
         if (checkCurrentConnection()) {
             synchronizeSharedMetaData(event.getMetaData(), globalCiteKeyPattern);
-            synchronizeLocalDatabase();
+            synchronizeLocalDatabaseFromChangeLog();
             applyMetaData();
             dbmsProcessor.notifyClients();
         }
@@ -162,12 +201,15 @@ public class DBMSSynchronizer implements DatabaseSynchronizer {
 
         dbmsProcessor.startNotificationListener(this);
         synchronizeLocalMetaData();
-        synchronizeLocalDatabase();
+        synchronizeLocalDatabaseFromChangeLog();
     }
 
     /**
      * Synchronizes the local database with shared one. Possible update types are: removal, update, or insert of a
      * {@link BibEntry}.
+     * <p>
+     * Local entries are indexed by their shared ID once, so that the comparison with the remote ID/version mapping is
+     * linear. All outdated and missing entries are fetched from the shared database in one batched query.
      */
     @Override
     public void synchronizeLocalDatabase() {
@@ -175,51 +217,185 @@ public class DBMSSynchronizer implements DatabaseSynchronizer {
             return;
         }
 
-        List<BibEntry> localEntries = bibDatabase.getEntries();
+        long startTime = System.currentTimeMillis();
+        // Read before the mapping: changes logged in between are applied twice at most, which is harmless
+        long completedTransactionsBound = dbmsProcessor.getCompletedTransactionsBound();
         Map<Integer, Integer> idVersionMap = dbmsProcessor.getSharedIDVersionMapping();
+        long mappingFetchedTime = System.currentTimeMillis();
 
+        List<BibEntry> localEntries = bibDatabase.getEntries();
         // remove old entries locally
         removeNotSharedEntries(localEntries, idVersionMap.keySet());
+
+        Map<Integer, BibEntry> localEntriesBySharedID = indexLocalEntriesBySharedID();
+
+        List<Integer> entriesToUpdateInLocalDatabase = new ArrayList<>();
         List<Integer> entriesToInsertIntoLocalDatabase = new ArrayList<>();
-        // compare versions and update local entry if needed
+        // compare versions and remember the entries which need to be fetched
         for (Map.Entry<Integer, Integer> idVersionEntry : idVersionMap.entrySet()) {
-            boolean remoteEntryMatchingOneLocalEntryFound = false;
-            for (BibEntry localEntry : localEntries) {
-                if (idVersionEntry.getKey().equals(localEntry.getSharedBibEntryData().getSharedID())) {
-                    remoteEntryMatchingOneLocalEntryFound = true;
-                    if (idVersionEntry.getValue() > localEntry.getSharedBibEntryData().getVersion()) {
-                        Optional<BibEntry> sharedEntry = dbmsProcessor.getSharedEntry(idVersionEntry.getKey());
-                        if (sharedEntry.isPresent()) {
-                            // update fields
-                            localEntry.setType(sharedEntry.get().getType(), EntriesEventSource.SHARED);
-                            localEntry.getSharedBibEntryData()
-                                      .setVersion(sharedEntry.get().getSharedBibEntryData().getVersion());
-                            sharedEntry.get().getFieldMap().forEach(
-                                    // copy remote values to local entry
-                                    (field, value) -> localEntry.setField(field, value, EntriesEventSource.SHARED)
-                            );
-
-                            // locally remove not existing fields
-                            localEntry.getFields().stream()
-                                      .filter(field -> !sharedEntry.get().hasField(field))
-                                      .forEach(
-                                              field -> localEntry.clearField(field, EntriesEventSource.SHARED)
-                                      );
-                        }
-                    }
-                }
-            }
-            if (!remoteEntryMatchingOneLocalEntryFound) {
+            BibEntry localEntry = localEntriesBySharedID.get(idVersionEntry.getKey());
+            if (localEntry == null) {
                 entriesToInsertIntoLocalDatabase.add(idVersionEntry.getKey());
+            } else if (idVersionEntry.getValue() > localEntry.getSharedBibEntryData().getVersion()) {
+                entriesToUpdateInLocalDatabase.add(idVersionEntry.getKey());
+            }
+        }
+        long diffComputedTime = System.currentTimeMillis();
+
+        if (entriesToUpdateInLocalDatabase.isEmpty() && entriesToInsertIntoLocalDatabase.isEmpty()) {
+            LOGGER.debug("Shared database is in sync ({} entries): fetching versions took {} ms, comparing took {} ms",
+                    idVersionMap.size(), mappingFetchedTime - startTime, diffComputedTime - mappingFetchedTime);
+            appliedTransactionsBound = completedTransactionsBound;
+            lastFullSynchronizationTime = startTime;
+            return;
+        }
+
+        // fetch all outdated and all new entries at once
+        List<Integer> entriesToFetch = new ArrayList<>(entriesToUpdateInLocalDatabase.size() + entriesToInsertIntoLocalDatabase.size());
+        entriesToFetch.addAll(entriesToUpdateInLocalDatabase);
+        entriesToFetch.addAll(entriesToInsertIntoLocalDatabase);
+        List<BibEntry> sharedEntries = dbmsProcessor.partitionAndGetSharedEntries(entriesToFetch);
+        long entriesFetchedTime = System.currentTimeMillis();
+
+        applySharedEntries(sharedEntries, localEntriesBySharedID);
+        appliedTransactionsBound = completedTransactionsBound;
+        lastFullSynchronizationTime = startTime;
+        long changesAppliedTime = System.currentTimeMillis();
+
+        LOGGER.debug("Synchronized {} updated and {} new shared entries (out of {}): fetching versions took {} ms, comparing took {} ms, fetching entries took {} ms, applying changes took {} ms",
+                entriesToUpdateInLocalDatabase.size(),
+                entriesToInsertIntoLocalDatabase.size(),
+                idVersionMap.size(),
+                mappingFetchedTime - startTime,
+                diffComputedTime - mappingFetchedTime,
+                entriesFetchedTime - diffComputedTime,
+                changesAppliedTime - entriesFetchedTime);
+    }
+
+    /**
+     * Synchronizes the local database with the shared one by applying the shared change log entries of the transactions
+     * completed since the last synchronization. This costs O(changes) instead of O(library).
+     * <p>
+     * The complete library is compared using {@link #synchronizeLocalDatabase()} in case nothing has been synchronized
+     * yet, and periodically as a safety net, because clients of JabRef versions without change log modify the shared
+     * database without logging.
+     */
+    public void synchronizeLocalDatabaseFromChangeLog() {
+        if (!checkCurrentConnection()) {
+            return;
+        }
+        if ((appliedTransactionsBound < 0) || (System.currentTimeMillis() - lastFullSynchronizationTime > FULL_SYNCHRONIZATION_INTERVAL_MILLIS)) {
+            synchronizeLocalDatabase();
+            return;
+        }
+
+        long completedTransactionsBound = dbmsProcessor.getCompletedTransactionsBound();
+        if (completedTransactionsBound < 0) {
+            synchronizeLocalDatabase();
+            return;
+        }
+        // Changes of transactions still running when the previous bound was read have an ID above that bound
+        List<SharedEntryChange> changes = dbmsProcessor.getChangesBetween(appliedTransactionsBound, completedTransactionsBound);
+
+        Map<Integer, Integer> changedEntries = new HashMap<>();
+        Set<Integer> removedEntries = new HashSet<>();
+        for (SharedEntryChange change : changes) {
+            // Shared IDs are not reused, thus a removal is final regardless of the order the transactions committed
+            if (change.removed()) {
+                changedEntries.remove(change.sharedID());
+                removedEntries.add(change.sharedID());
+            } else if (!removedEntries.contains(change.sharedID())) {
+                changedEntries.merge(change.sharedID(), change.version(), Math::max);
             }
         }
+        if (!changes.isEmpty()) {
+            synchronizeLocalEntries(changedEntries, removedEntries);
+        }
+        appliedTransactionsBound = completedTransactionsBound;
+    }
 
-        if (!entriesToInsertIntoLocalDatabase.isEmpty()) {
+    /**
+     * Synchronizes only the given shared entries with the local database. Entries whose local version is already up to
+     * date are not fetched.
+     *
+     * @param changedEntries Mapping of shared IDs to versions of changed or inserted shared entries
+     * @param removedEntries Shared IDs of removed shared entries
+     */
+    public void synchronizeLocalEntries(Map<Integer, Integer> changedEntries, Set<Integer> removedEntries) {
+        if (!checkCurrentConnection()) {
+            return;
+        }
+
+        long startTime = System.currentTimeMillis();
+        List<BibEntry> entriesToRemove = bibDatabase.getEntries().stream()
+                                                    .filter(localEntry -> removedEntries.contains(localEntry.getSharedBibEntryData().getSharedID()))
+                                                    .toList();
+        if (!entriesToRemove.isEmpty()) {
+            eventBus.post(new SharedEntriesNotPresentEvent(entriesToRemove));
+            bibDatabase.removeEntries(entriesToRemove, EntriesEventSource.SHARED);
+        }
+
+        Map<Integer, BibEntry> localEntriesBySharedID = indexLocalEntriesBySharedID();
+        List<Integer> entriesToFetch = changedEntries.entrySet().stream()
+                                                     .filter(idVersionEntry -> {
+                                                         BibEntry localEntry = localEntriesBySharedID.get(idVersionEntry.getKey());
+                                                         return (localEntry == null) || (idVersionEntry.getValue() > localEntry.getSharedBibEntryData().getVersion());
+                                                     })
+                                                     .map(Map.Entry::getKey)
+                                                     .toList();
+        if (!entriesToFetch.isEmpty()) {
+            applySharedEntries(dbmsProcessor.partitionAndGetSharedEntries(entriesToFetch), localEntriesBySharedID);
+        }
+
+        LOGGER.debug("Synchronized {} changed and {} removed shared entries in {} ms",
+                entriesToFetch.size(), entriesToRemove.size(), System.currentTimeMillis() - startTime);
+    }
+
+    private Map<Integer, BibEntry> indexLocalEntriesBySharedID() {
+        List<BibEntry> localEntries = bibDatabase.getEntries();
+        Map<Integer, BibEntry> localEntriesBySharedID = HashMap.newHashMap(localEntries.size());
+        for (BibEntry localEntry : localEntries) {
+            localEntriesBySharedID.put(localEntry.getSharedBibEntryData().getSharedID(), localEntry);
+        }
+        return localEntriesBySharedID;
+    }
+
+    /**
+     * Updates the local entries matching the given shared entries and inserts the remaining shared entries at once.
+     */
+    private void applySharedEntries(List<BibEntry> sharedEntries, Map<Integer, BibEntry> localEntriesBySharedID) {
+        List<BibEntry> entriesToInsert = new ArrayList<>();
+        for (BibEntry sharedEntry : sharedEntries) {
+            BibEntry localEntry = localEntriesBySharedID.get(sharedEntry.getSharedBibEntryData().getSharedID());
+            if (localEntry == null) {
+                entriesToInsert.add(sharedEntry);
+            } else {
+                updateLocalEntry(localEntry, sharedEntry);
+            }
+        }
+
+        if (!entriesToInsert.isEmpty()) {
             // in case entries should be added into the local database, insert them
-            bibDatabase.insertEntries(dbmsProcessor.partitionAndGetSharedEntries(entriesToInsertIntoLocalDatabase), EntriesEventSource.SHARED);
+            bibDatabase.insertEntries(entriesToInsert, EntriesEventSource.SHARED);
         }
     }
 
+    /**
+     * Copies type, version and fields of the shared entry to the local one.
+     */
+    private void updateLocalEntry(BibEntry localEntry, BibEntry sharedEntry) {
+        localEntry.setType(sharedEntry.getType(), EntriesEventSource.SHARED);
+        localEntry.getSharedBibEntryData().setVersion(sharedEntry.getSharedBibEntryData().getVersion());
+
+        // copy remote values to local entry
+        sharedEntry.getFieldMap().forEach((field, value) -> localEntry.setField(field, value, EntriesEventSource.SHARED));
+
+        // locally remove not existing fields
+        localEntry.getFields().stream()
+                  .filter(field -> !sharedEntry.hasField(field))
+                  .forEach(field -> localEntry.clearField(field, EntriesEventSource.SHARED));
+    }
+
     /**
      * Removes all local entries which are not present on shared database.
      *
@@ -319,10 +495,47 @@ public class DBMSSynchronizer implements DatabaseSynchronizer {
         }
         // First synchronize entry, then synchronize database
         pullWithLastEntry();
-        synchronizeLocalDatabase();
+        synchronizeLocalDatabaseFromChangeLog();
         synchronizeLocalMetaData();
     }
 
+    /**
+     * Pulls the changes announced by another client. Only the announced entries are synchronized, unless a full
+     * synchronization is requested.
+     */
+    public void pullChanges(LiveUpdateNotification notification) {
+        if (notification.fullSync()) {
+            pullChanges();
+            return;
+        }
+        if (notification.isEmpty() || !checkCurrentConnection()) {
+            return;
+        }
+        pullWithLastEntry();
+        synchronizeLocalEntries(notification.changedEntries(), notification.removedEntries());
+    }
+
+    /**
+     * Announces the given shared changes to all other connected clients.
+     */
+    private void notifyClientsAboutChanges(List<BibEntry> changedEntries, List<BibEntry> removedEntries) {
+        Map<Integer, Integer> changedIDVersions = HashMap.newHashMap(changedEntries.size());
+        for (BibEntry changedEntry : changedEntries) {
+            SharedBibEntryData sharedData = changedEntry.getSharedBibEntryData();
+            if (sharedData.getSharedID() != -1) {
+                changedIDVersions.put(sharedData.getSharedID(), sharedData.getVersion());
+            }
+        }
+        Set<Integer> removedIDs = removedEntries.stream()
+                                                .map(entry -> entry.getSharedBibEntryData().getSharedID())
+                                                .filter(id -> id != -1)
+                                                .collect(Collectors.toSet());
+        LiveUpdateNotification notification = LiveUpdateNotification.ofChanges(DBMSProcessor.PROCESSOR_ID, changedIDVersions, removedIDs);
+        if (!notification.isEmpty()) {
+            dbmsProcessor.notifyClients(notification);
+        }
+    }
+
     /**
      * Synchronizes local BibEntries only if last entry changes still remain
      */
@@ -334,7 +547,7 @@ public class DBMSSynchronizer implements DatabaseSynchronizer {
             synchronizeLocalMetaData();
             pullWithLastEntry();
             // Pull changes for the case that there were some
-            synchronizeLocalDatabase();
+            synchronizeLocalDatabaseFromChangeLog();
         }
     }
 
@@ -0,0 +1,129 @@
+package org.jabref.logic.shared;
+
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import org.jspecify.annotations.NonNull;
+
+/**
+ * Payload of a live update notification sent between clients connected to the same shared database.
+ * <p>
+ * The payload carries the shared IDs and versions of changed entries and the shared IDs of removed entries, so that
+ * receiving clients only need to fetch these entries. If the changes are unknown or do not fit into a notification, a
+ * full synchronization is requested instead.
+ * <p>
+ * Format: <code>processorId</code> (full synchronization) or <code>processorId;id:version,id:version;id,id</code>.
+ * The full synchronization format is the one used by older JabRef versions.
+ *
+ * @param processorId    The {@link DBMSProcessor#PROCESSOR_ID} of the sender
+ * @param changedEntries Mapping of shared IDs to versions of changed or inserted entries
+ * @param removedEntries Shared IDs of removed entries
+ * @param fullSync       <code>true</code> if the receiver has to compare the complete library
+ */
+public record LiveUpdateNotification(
+        @NonNull String processorId,
+        @NonNull Map<Integer, Integer> changedEntries,
+        @NonNull Set<Integer> removedEntries,
+        boolean fullSync) {
+
+    /**
+     * PostgreSQL limits the payload of <code>NOTIFY</code> to less than 8000 bytes.
+     */
+    public static final int MAXIMUM_PAYLOAD_LENGTH = 7999;
+
+    private static final String SECTION_SEPARATOR = ";";
+    private static final String ITEM_SEPARATOR = ",";
+    private static final String VERSION_SEPARATOR = ":";
+
+    public LiveUpdateNotification {
+        changedEntries = Map.copyOf(changedEntries);
+        removedEntries = Set.copyOf(removedEntries);
+    }
+
+    public static LiveUpdateNotification fullSync(String processorId) {
+        return new LiveUpdateNotification(processorId, Map.of(), Set.of(), true);
+    }
+
+    public static LiveUpdateNotification ofChanges(String processorId, Map<Integer, Integer> changedEntries, Set<Integer> removedEntries) {
+        return new LiveUpdateNotification(processorId, changedEntries, removedEntries, false);
+    }
+
+    public boolean isEmpty() {
+        return !fullSync && changedEntries.isEmpty() && removedEntries.isEmpty();
+    }
+
+    /**
+     * Combines this notification with a later one. Removals win over earlier changes, and a full synchronization
+     * subsumes all deltas.
+     */
+    public LiveUpdateNotification merge(LiveUpdateNotification later) {
+        if (fullSync || later.fullSync) {
+            return fullSync(later.processorId);
+        }
+
+        Map<Integer, Integer> mergedChanges = new HashMap<>(changedEntries);
+        later.changedEntries.forEach((id, version) -> mergedChanges.merge(id, version, Math::max));
+        Set<Integer> mergedRemovals = new HashSet<>(removedEntries);
+        mergedRemovals.addAll(later.removedEntries);
+        // an entry removed later must not be fetched because of an earlier change
+        later.removedEntries.forEach(mergedChanges::remove);
+        return ofChanges(later.processorId, mergedChanges, mergedRemovals);
+    }
+
+    /**
+     * Serializes this notification. If the delta does not fit into {@link #MAXIMUM_PAYLOAD_LENGTH} bytes, a full
+     * synchronization payload is returned.
+     */
+    public String toPayload() {
+        if (fullSync) {
+            return processorId;
+        }
+
+        String changes = changedEntries.entrySet().stream()
+                                       .map(entry -> entry.getKey() + VERSION_SEPARATOR + entry.getValue())
+                                       .collect(Collectors.joining(ITEM_SEPARATOR));
+        String removals = removedEntries.stream()
+                                        .map(String::valueOf)
+                                        .collect(Collectors.joining(ITEM_SEPARATOR));
+        String payload = processorId + SECTION_SEPARATOR + changes + SECTION_SEPARATOR + removals;
+        if (payload.getBytes(StandardCharsets.UTF_8).length > MAXIMUM_PAYLOAD_LENGTH) {
+            return processorId;
+        }
+        return payload;
+    }
+
+    /**
+     * Parses a payload created by {@link #toPayload()}. Payloads which cannot be parsed result in a full
+     * synchronization.
+     */
+    public static LiveUpdateNotification fromPayload(@NonNull String payload) {
+        String[] sections = payload.split(SECTION_SEPARATOR, -1);
+        if (sections.length != 3) {
+            return fullSync(sections[0]);
+        }
+
+        try {
+            Map<Integer, Integer> changedEntries = new HashMap<>();
+            for (String item : sections[1].split(ITEM_SEPARATOR)) {
+                if (item.isEmpty()) {
+                    continue;
+                }
+                String[] idAndVersion = item.split(VERSION_SEPARATOR);
+                changedEntries.put(Integer.parseInt(idAndVersion[0]), Integer.parseInt(idAndVersion[1]));
+            }
+            Set<Integer> removedEntries = new HashSet<>();
+            for (String item : sections[2].split(ITEM_SEPARATOR)) {
+                if (!item.isEmpty()) {
+                    removedEntries.add(Integer.parseInt(item));
+                }
+            }
+            return ofChanges(sections[0], changedEntries, removedEntries);
+        } catch (NumberFormatException | ArrayIndexOutOfBoundsException e) {
+            return fullSync(sections[0]);
+        }
+    }
+}
@@ -22,7 +22,7 @@ public class PostgreSQLProcessor extends DBMSProcessor {
     private PostgresSQLNotificationListener listener;
 
     private int VERSION_DB_STRUCT_DEFAULT = -1;
-    private final int CURRENT_VERSION_DB_STRUCT = 1;
+    private final int CURRENT_VERSION_DB_STRUCT = 2;
 
     public PostgreSQLProcessor(DatabaseConnection connection) {
         super(connection);
@@ -36,7 +36,7 @@ public class PostgreSQLProcessor extends DBMSProcessor {
     @Override
     public void setUp() throws SQLException {
 
-        if (CURRENT_VERSION_DB_STRUCT == 1 && checkTableAvailability("ENTRY", "FIELD", "METADATA")) {
+        if (checkTableAvailability("ENTRY", "FIELD", "METADATA")) {
             // checkTableAvailability does not distinguish if same table name exists in different schemas
             // VERSION_DB_STRUCT_DEFAULT must be forced
             VERSION_DB_STRUCT_DEFAULT = 0;
@@ -61,6 +61,19 @@ public class PostgreSQLProcessor extends DBMSProcessor {
                         + "\"KEY\" VARCHAR,"
                         + "\"VALUE\" TEXT)");
 
+        // Append-only log of entry changes, introduced with VERSION_DB_STRUCT 2
+        // No foreign key to ENTRY, because removals are logged as well
+        // The sequence number is not commit-ordered, thus the changes are read by the ID of the writing transaction
+        connection.createStatement().executeUpdate(
+                "CREATE TABLE IF NOT EXISTS " + escape_Table("ENTRY_CHANGE") + " (" +
+                        "\"SEQUENCE_NUMBER\" BIGSERIAL PRIMARY KEY, " +
+                        "\"TRANSACTION_ID\" BIGINT NOT NULL DEFAULT txid_current(), " +
+                        "\"ENTRY_SHARED_ID\" INTEGER, " +
+                        "\"VERSION\" INTEGER, " +
+                        "\"REMOVED\" BOOLEAN DEFAULT FALSE)");
+        connection.createStatement().executeUpdate(
+                "CREATE INDEX IF NOT EXISTS \"ENTRY_CHANGE_TRANSACTION_ID\" ON " + escape_Table("ENTRY_CHANGE") + " (\"TRANSACTION_ID\")");
+
         Map<String, String> metadata = getSharedMetaData();
 
         if (metadata.get(MetaData.VERSION_DB_STRUCT) != null) {
@@ -76,7 +89,7 @@ public class PostgreSQLProcessor extends DBMSProcessor {
 
         if (VERSION_DB_STRUCT_DEFAULT < CURRENT_VERSION_DB_STRUCT) {
             // We can to migrate from old table in new table
-            if (VERSION_DB_STRUCT_DEFAULT == 0 && CURRENT_VERSION_DB_STRUCT == 1) {
+            if (VERSION_DB_STRUCT_DEFAULT == 0) {
                 LOGGER.info("Migrating from VersionDBStructure == 0");
                 connection.createStatement().executeUpdate("INSERT INTO " + escape_Table("ENTRY") + " SELECT * FROM \"ENTRY\"");
                 connection.createStatement().executeUpdate("INSERT INTO " + escape_Table("FIELD") + " SELECT * FROM \"FIELD\"");
@@ -84,6 +97,7 @@ public class PostgreSQLProcessor extends DBMSProcessor {
                 connection.createStatement().execute("SELECT setval(\'jabref.\"ENTRY_SHARED_ID_seq\"\', (select max(\"SHARED_ID\") from jabref.\"ENTRY\"))");
                 metadata = getSharedMetaData();
             }
+            // Migrating from VersionDBStructure == 1 only requires the ENTRY_CHANGE table, which has been created above
 
             metadata.put(MetaData.VERSION_DB_STRUCT, String.valueOf(CURRENT_VERSION_DB_STRUCT));
             setSharedMetaData(metadata);
@@ -123,6 +137,19 @@ public class PostgreSQLProcessor extends DBMSProcessor {
         }
     }
 
+    @Override
+    public long getCompletedTransactionsBound() {
+        // txid_current() and the snapshot functions use the same epoch-extended transaction IDs, which do not wrap around
+        try (ResultSet resultSet = connection.createStatement().executeQuery("SELECT txid_snapshot_xmin(txid_current_snapshot())")) {
+            if (resultSet.next()) {
+                return resultSet.getLong(1);
+            }
+        } catch (SQLException e) {
+            LOGGER.error("SQL Error", e);
+        }
+        return -1;
+    }
+
     @Override
     String escape(String expression) {
         return "\"" + expression + "\"";
@@ -165,9 +192,11 @@ public class PostgreSQLProcessor extends DBMSProcessor {
     }
 
     @Override
-    public void notifyClients() {
-        try {
-            connection.createStatement().execute("NOTIFY jabrefLiveUpdate, '" + PROCESSOR_ID + "';");
+    public void notifyClients(LiveUpdateNotification notification) {
+        // pg_notify allows passing the payload as parameter, NOTIFY does not
+        try (PreparedStatement statement = connection.prepareStatement("SELECT pg_notify('jabrefLiveUpdate', ?)")) {
+            statement.setString(1, notification.toPayload());
+            statement.execute();
         } catch (SQLException e) {
             LOGGER.error("SQL Error during client notification", e);
         }
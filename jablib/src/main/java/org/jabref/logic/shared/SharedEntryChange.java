@@ -0,0 +1,16 @@
+package org.jabref.logic.shared;
+
+/**
+ * A row of the append-only change log of a shared database.
+ *
+ * @param sequenceNumber Number of the change, increasing in the order the changes were written (not committed)
+ * @param sharedID       Shared ID of the changed entry
+ * @param version        Version of the entry after the change
+ * @param removed        <code>true</code> if the entry has been removed
+ */
+public record SharedEntryChange(
+        long sequenceNumber,
+        int sharedID,
+        int version,
+        boolean removed) {
+}
@@ -1,9 +1,11 @@
 package org.jabref.logic.shared.listener;
 
 import java.sql.SQLException;
+import java.util.Optional;
 
 import org.jabref.logic.shared.DBMSProcessor;
 import org.jabref.logic.shared.DBMSSynchronizer;
+import org.jabref.logic.shared.LiveUpdateNotification;
 
 import org.postgresql.PGConnection;
 import org.postgresql.PGNotification;
@@ -35,11 +37,15 @@ public class PostgresSQLNotificationListener implements Runnable {
                 PGNotification[] notifications = pgConnection.getNotifications();
 
                 if (notifications != null) {
+                    // Coalesce all notifications received since the last check into a single pull
+                    Optional<LiveUpdateNotification> pendingChanges = Optional.empty();
                     for (PGNotification notification : notifications) {
-                        if (!DBMSProcessor.PROCESSOR_ID.equals(notification.getName())) {
-                            dbmsSynchronizer.pullChanges();
+                        LiveUpdateNotification liveUpdate = LiveUpdateNotification.fromPayload(notification.getParameter());
+                        if (!DBMSProcessor.PROCESSOR_ID.equals(liveUpdate.processorId())) {
+                            pendingChanges = Optional.of(pendingChanges.map(pending -> pending.merge(liveUpdate)).orElse(liveUpdate));
                         }
                     }
+                    pendingChanges.ifPresent(dbmsSynchronizer::pullChanges);
                 }
 
                 // Wait a while before checking again for new notifications
@@ -4,6 +4,7 @@ import java.util.Optional;
 
 import org.jabref.model.database.BibDatabaseContext;
 import org.jabref.model.database.event.BibDatabaseContextChangedEvent;
+import org.jabref.model.database.event.EntriesChangedBatchEvent;
 import org.jabref.model.entry.BibEntry;
 import org.jabref.model.entry.event.FieldChangedEvent;
 import org.jabref.model.entry.field.Field;
@@ -52,6 +53,11 @@ public class CoarseChangeFilter {
             lastFieldChanged = Optional.of(fieldChange.getField());
             lastEntryChanged = Optional.of(fieldChange.getBibEntry());
         } else {
+            if (event instanceof EntriesChangedBatchEvent) {
+                // A batch edit is a major change on its own; typing afterwards starts a new edit
+                lastFieldChanged = Optional.empty();
+                lastEntryChanged = Optional.empty();
+            }
             eventBus.post(event);
         }
     }
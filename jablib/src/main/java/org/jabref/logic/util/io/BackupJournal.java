@@ -0,0 +1,289 @@
+package org.jabref.logic.util.io;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.zip.CRC32;
+
+import org.jabref.logic.importer.ImportFormatPreferences;
+import org.jabref.logic.importer.ParseException;
+import org.jabref.logic.importer.fileformat.BibtexParser;
+import org.jabref.model.database.BibDatabase;
+import org.jabref.model.entry.BibEntry;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Append-only journal of the entry changes made after a full backup (the "base snapshot") was written.
+ * <p>
+ * Each entry is identified by an ID assigned once and kept as long as the journal exists. The entries of the base
+ * snapshot get the IDs <code>0</code> to <code>n - 1</code> in the order they were written to the base snapshot,
+ * entries added later get the following IDs. The journal consists of batches. Each batch is written with a single
+ * append and forced to disk afterwards. Each batch carries its length and checksum, so that a batch which was not
+ * written completely (e.g., because JabRef was killed while writing) is skipped when reading, and the batches after it
+ * are still read.
+ * <p>
+ * Format:
+ * <pre>
+ * &#64;base &lt;number of entries in the base snapshot&gt;
+ * &#64;batch &lt;epoch milliseconds&gt; &lt;length of the records&gt; &lt;CRC32 of the records&gt;
+ * W &lt;entry ID&gt; &lt;length&gt;
+ * &lt;BibTeX serialization of the entry&gt;
+ * R &lt;entry ID&gt;
+ * &#64;end
+ * </pre>
+ */
+public class BackupJournal {
+
+    public static final String JOURNAL_EXTENSION = ".journal";
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(BackupJournal.class);
+
+    private static final String BASE_PREFIX = "@base ";
+    private static final String BATCH_PREFIX = "@batch ";
+    private static final String BATCH_END = "@end";
+    private static final String WRITTEN_PREFIX = "W ";
+    private static final String REMOVED_PREFIX = "R ";
+    private static final char NEWLINE = '\n';
+
+    private final Path path;
+
+    public BackupJournal(Path path) {
+        this.path = path;
+    }
+
+    /**
+     * Returns the journal belonging to the given base snapshot
+     */
+    public static BackupJournal forBackup(Path backupPath) {
+        return new BackupJournal(backupPath.resolveSibling(backupPath.getFileName() + JOURNAL_EXTENSION));
+    }
+
+    public Path getPath() {
+        return path;
+    }
+
+    /**
+     * Returns the size of the journal in bytes, <code>0</code> if it does not exist
+     */
+    public long getSize() {
+        try {
+            return Files.exists(path) ? Files.size(path) : 0;
+        } catch (IOException e) {
+            LOGGER.debug("Could not determine size of {}", path, e);
+            return 0;
+        }
+    }
+
+    /**
+     * Appends the given records as one batch and forces them to disk.
+     *
+     * @param baseEntryCount the number of entries in the base snapshot, written if the journal is created
+     */
+    public void append(int baseEntryCount, Batch batch) throws IOException {
+        StringBuilder records = new StringBuilder();
+        for (JournalRecord journalRecord : batch.records()) {
+            switch (journalRecord) {
+                case EntryWritten(int entryId, String serialization) ->
+                        records.append(WRITTEN_PREFIX).append(entryId).append(' ').append(serialization.length()).append(NEWLINE)
+                               .append(serialization).append(NEWLINE);
+                case EntryRemoved(int entryId) ->
+                        records.append(REMOVED_PREFIX).append(entryId).append(NEWLINE);
+            }
+        }
+        records.append(BATCH_END).append(NEWLINE);
+
+        StringBuilder builder = new StringBuilder();
+        if (Files.notExists(path)) {
+            builder.append(BASE_PREFIX).append(baseEntryCount).append(NEWLINE);
+        }
+        builder.append(BATCH_PREFIX).append(batch.timestamp().toEpochMilli())
+               .append(' ').append(records.length())
+               .append(' ').append(checksum(records)).append(NEWLINE)
+               .append(records);
+
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.APPEND)) {
+            ByteBuffer buffer = StandardCharsets.UTF_8.encode(builder.toString());
+            while (buffer.hasRemaining()) {
+                channel.write(buffer);
+            }
+            channel.force(false);
+        }
+    }
+
+    /**
+     * Reads all completely written batches. Batches which were not written completely are skipped. A journal which
+     * does not exist or cannot be read contains no batches.
+     */
+    public Journal read() {
+        if (Files.notExists(path)) {
+            return new Journal(0, List.of());
+        }
+
+        String content;
+        try {
+            content = Files.readString(path, StandardCharsets.UTF_8);
+        } catch (IOException e) {
+            LOGGER.warn("Could not read backup journal {}", path, e);
+            return new Journal(0, List.of());
+        }
+
+        int baseEntryCount;
+        int position;
+        try {
+            int lineEnd = content.indexOf(NEWLINE);
+            baseEntryCount = Integer.parseInt(content.substring(BASE_PREFIX.length(), lineEnd));
+            position = lineEnd + 1;
+        } catch (RuntimeException e) {
+            LOGGER.warn("Backup journal {} has no valid header", path, e);
+            return new Journal(0, List.of());
+        }
+
+        List<Batch> batches = new ArrayList<>();
+        while (position < content.length()) {
+            try {
+                position = readBatch(content, position, batches);
+            } catch (RuntimeException e) {
+                // Expected if a batch was not written completely. Continue with the next batch written afterwards.
+                // A batch may follow a torn one without a line break in between, thus the header is searched anywhere.
+                int nextBatch = content.indexOf(BATCH_PREFIX, position + 1);
+                LOGGER.debug("Skipping incomplete batch of backup journal {} at position {}", path, position, e);
+                if (nextBatch < 0) {
+                    break;
+                }
+                position = nextBatch;
+            }
+        }
+        return new Journal(baseEntryCount, batches);
+    }
+
+    /**
+     * Reads the batch starting at the given position and adds it to the given list
+     *
+     * @return the position after the batch
+     * @throws RuntimeException if the batch is not complete
+     */
+    private static int readBatch(String content, int position, List<Batch> batches) {
+        int lineEnd = content.indexOf(NEWLINE, position);
+        if (!content.startsWith(BATCH_PREFIX, position) || (lineEnd < 0)) {
+            throw new IllegalStateException("No batch header at position " + position);
+        }
+        String[] header = content.substring(position + BATCH_PREFIX.length(), lineEnd).split(" ");
+        Instant timestamp = Instant.ofEpochMilli(Long.parseLong(header[0]));
+        int recordsStart = lineEnd + 1;
+        int recordsEnd = recordsStart + Integer.parseInt(header[1]);
+        String recordsContent = content.substring(recordsStart, recordsEnd);
+        if (checksum(recordsContent) != Long.parseLong(header[2])) {
+            throw new IllegalStateException("Checksum mismatch of batch at position " + position);
+        }
+
+        List<JournalRecord> records = new ArrayList<>();
+        int recordPosition = 0;
+        while (true) {
+            lineEnd = recordsContent.indexOf(NEWLINE, recordPosition);
+            String line = recordsContent.substring(recordPosition, lineEnd);
+            recordPosition = lineEnd + 1;
+            if (BATCH_END.equals(line)) {
+                break;
+            } else if (line.startsWith(WRITTEN_PREFIX)) {
+                String[] entryIdAndLength = line.substring(WRITTEN_PREFIX.length()).split(" ");
+                int length = Integer.parseInt(entryIdAndLength[1]);
+                records.add(new EntryWritten(Integer.parseInt(entryIdAndLength[0]), recordsContent.substring(recordPosition, recordPosition + length)));
+                recordPosition += length + 1;
+            } else if (line.startsWith(REMOVED_PREFIX)) {
+                records.add(new EntryRemoved(Integer.parseInt(line.substring(REMOVED_PREFIX.length()))));
+            } else {
+                throw new IllegalStateException("Unknown journal record " + line);
+            }
+        }
+        batches.add(new Batch(timestamp, records));
+        return recordsEnd;
+    }
+
+    private static long checksum(CharSequence records) {
+        CRC32 crc = new CRC32();
+        crc.update(StandardCharsets.UTF_8.encode(CharBuffer.wrap(records)));
+        return crc.getValue();
+    }
+
+    /**
+     * Applies all batches written until the given point in time to the given database, which has to contain the
+     * entries of the base snapshot in file order. If the number of entries does not match the base snapshot, the
+     * journal is not applied.
+     *
+     * @return <code>true</code> if the journal was applied
+     */
+    public static boolean replay(BibDatabase database, Journal journal, Instant pointInTime, ImportFormatPreferences importFormatPreferences) {
+        List<BibEntry> baseEntries = List.copyOf(database.getEntries());
+        if (baseEntries.size() != journal.baseEntryCount()) {
+            LOGGER.warn("Backup contains {} entries, but the journal expects {}. Ignoring the journal.", baseEntries.size(), journal.baseEntryCount());
+            return false;
+        }
+
+        // The entries of the base snapshot are read in the order they were written, thus their IDs are their positions
+        Map<Integer, BibEntry> entries = new LinkedHashMap<>();
+        for (int i = 0; i < baseEntries.size(); i++) {
+            entries.put(i, baseEntries.get(i));
+        }
+
+        for (Batch batch : journal.batches()) {
+            if (batch.timestamp().isAfter(pointInTime)) {
+                break;
+            }
+            for (JournalRecord journalRecord : batch.records()) {
+                switch (journalRecord) {
+                    case EntryWritten(int entryId, String serialization) ->
+                            parseEntry(serialization, importFormatPreferences).ifPresent(entry -> entries.put(entryId, entry));
+                    case EntryRemoved(int entryId) ->
+                            entries.remove(entryId);
+                }
+            }
+        }
+
+        database.removeEntries(baseEntries);
+        database.insertEntries(new ArrayList<>(entries.values()));
+        return true;
+    }
+
+    private static Optional<BibEntry> parseEntry(String serialization, ImportFormatPreferences importFormatPreferences) {
+        try {
+            return BibtexParser.singleFromString(serialization, importFormatPreferences);
+        } catch (ParseException e) {
+            LOGGER.warn("Could not parse entry of backup journal", e);
+            return Optional.empty();
+        }
+    }
+
+    public sealed interface JournalRecord permits EntryWritten, EntryRemoved {
+    }
+
+    /**
+     * The entry with the given ID was added or modified
+     */
+    public record EntryWritten(int entryId, String serialization) implements JournalRecord {
+    }
+
+    public record EntryRemoved(int entryId) implements JournalRecord {
+    }
+
+    public record Batch(Instant timestamp, List<JournalRecord> records) {
+    }
+
+    public record Journal(int baseEntryCount, List<Batch> batches) {
+        public List<Instant> getPointsInTime() {
+            return batches.stream().map(Batch::timestamp).toList();
+        }
+    }
+}
@@ -22,7 +22,7 @@ import java.util.regex.Pattern;
 import java.util.stream.Stream;
 
 import org.jabref.logic.FilePreferences;
-import org.jabref.logic.citationkeypattern.BracketedPattern;
+import org.jabref.logic.citationkeypattern.CompiledBracketedPattern;
 import org.jabref.logic.layout.format.RemoveLatexCommandsFormatter;
 import org.jabref.logic.util.StandardFileType;
 import org.jabref.model.database.BibDatabase;
@@ -324,7 +324,19 @@ public class FileUtil {
      * @return a suggested fileName
      */
     public static String createFileNameFromPattern(BibDatabase database, BibEntry entry, String fileNamePattern) {
-        String targetName = BracketedPattern.expandBrackets(fileNamePattern, ';', entry, database);
+        return createFileNameFromPattern(database, entry, CompiledBracketedPattern.of(fileNamePattern));
+    }
+
+    /**
+     * Determines filename provided by an entry in a database
+     *
+     * @param database        the database, where the entry is located
+     * @param entry           the entry to which the file should be linked to
+     * @param fileNamePattern the compiled filename pattern
+     * @return a suggested fileName
+     */
+    public static String createFileNameFromPattern(BibDatabase database, BibEntry entry, CompiledBracketedPattern fileNamePattern) {
+        String targetName = fileNamePattern.expand(entry, ';', database);
 
         if (targetName.isEmpty()) {
             targetName = entry.getCitationKey().orElse("default");
@@ -348,7 +360,19 @@ public class FileUtil {
      * @return a suggested dirName
      */
     public static String createDirNameFromPattern(BibDatabase database, BibEntry entry, String directoryNamePattern) {
-        String targetName = BracketedPattern.expandBrackets(directoryNamePattern, ';', entry, database);
+        return createDirNameFromPattern(database, entry, CompiledBracketedPattern.of(directoryNamePattern));
+    }
+
+    /**
+     * Determines directory name provided by an entry in a database
+     *
+     * @param database             the database, where the entry is located
+     * @param entry                the entry to which the directory should be linked to
+     * @param directoryNamePattern the compiled dirname pattern
+     * @return a suggested dirName
+     */
+    public static String createDirNameFromPattern(BibDatabase database, BibEntry entry, CompiledBracketedPattern directoryNamePattern) {
+        String targetName = directoryNamePattern.expand(entry, ';', database);
 
         if (targetName.isEmpty()) {
             return targetName;
@@ -0,0 +1,11 @@
+package org.jabref.model.database;
+
+/**
+ * A running batch edit of a library, see {@link BibDatabase#beginBatchEdit()}. Closing it ends the batch edit.
+ */
+@FunctionalInterface
+public interface BatchEdit extends AutoCloseable {
+
+    @Override
+    void close();
+}
@@ -16,6 +16,7 @@ import java.util.Optional;
 import java.util.Set;
 import java.util.TreeSet;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.function.Consumer;
 import java.util.regex.Pattern;
 import java.util.stream.Collectors;
@@ -25,6 +26,7 @@ import javafx.collections.ObservableList;
 
 import org.jabref.logic.bibtex.FieldWriter;
 import org.jabref.model.database.event.EntriesAddedEvent;
+import org.jabref.model.database.event.EntriesChangedBatchEvent;
 import org.jabref.model.database.event.EntriesRemovedEvent;
 import org.jabref.model.entry.BibEntry;
 import org.jabref.model.entry.BibtexString;
@@ -59,6 +61,11 @@ public class BibDatabase {
      */
     private final ObservableList<BibEntry> entries = FXCollections.synchronizedObservableList(FXCollections.observableArrayList(BibEntry::getObservables));
 
+    // Raised whenever entries are inserted or removed, so that outdated snapshots are detected
+    private volatile long entriesModificationCount;
+    // Immutable copy of entries, recreated lazily after the list of entries changed
+    private volatile EntriesSnapshot entriesSnapshot;
+
     // BibEntryId to BibEntry
     private final Map<String, BibEntry> entriesId = new HashMap<>();
     private Map<String, BibtexString> bibtexStrings = new ConcurrentHashMap<>();
@@ -66,6 +73,12 @@ public class BibDatabase {
     // Not included in equals, because it is not relevant for the content of the database
     private final EventBus eventBus = new EventBus();
 
+    // The field changes collected by the batch edit running on the current thread, see beginBatchEdit()
+    private final ThreadLocal<BatchEditState> batchEditStates = new ThreadLocal<>();
+    private final List<Consumer<List<FieldChangedEvent>>> batchEditCompletions = new CopyOnWriteArrayList<>();
+
+    private final KeyChangeListener keyChangeListener;
+
     // Reverse index for citation links
     private final Map<String, Set<BibEntry>> citationIndex = new ConcurrentHashMap<>();
 
@@ -89,7 +102,8 @@ public class BibDatabase {
     }
 
     public BibDatabase() {
-        this.registerListener(new KeyChangeListener(this));
+        this.keyChangeListener = new KeyChangeListener(this);
+        this.registerListener(keyChangeListener);
     }
 
     /**
@@ -126,6 +140,28 @@ public class BibDatabase {
         return FXCollections.unmodifiableObservableList(entries);
     }
 
+    /**
+     * Returns an immutable snapshot of the current list of entries. The snapshot is not affected by later insertions
+     * or removals. As long as no entry is inserted or removed, the same snapshot is returned without copying.
+     * <p>
+     * Modifications of the entries themselves are visible in the snapshot. Use {@link BibEntry#getModificationCount()}
+     * to detect them.
+     */
+    public List<BibEntry> getEntriesSnapshot() {
+        EntriesSnapshot snapshot = entriesSnapshot;
+        if ((snapshot == null) || (snapshot.modificationCount() != entriesModificationCount)) {
+            synchronized (this) {
+                snapshot = entriesSnapshot;
+                if ((snapshot == null) || (snapshot.modificationCount() != entriesModificationCount)) {
+                    // Stamped with the count of the copied list: a snapshot published late is still detected as outdated
+                    snapshot = new EntriesSnapshot(entriesModificationCount, List.copyOf(entries));
+                    entriesSnapshot = snapshot;
+                }
+            }
+        }
+        return snapshot.entries();
+    }
+
     /**
      * Returns a set of Strings, that contains all field names that are visible. This means that the fields
      * are not internal fields. Internal fields are fields, that are starting with "_".
@@ -199,6 +235,7 @@ public class BibDatabase {
         }
         eventBus.post(new EntriesAddedEvent(newEntries, eventSource));
         entries.addAll(newEntries);
+        entriesModificationCount++;
         newEntries.forEach(entry -> {
                     entriesId.put(entry.getId(), entry);
                     indexEntry(entry);
@@ -254,6 +291,7 @@ public class BibDatabase {
         });
 
         entries.setAll(newEntries);
+        entriesModificationCount++;
         eventBus.post(new EntriesRemovedEvent(toBeDeleted, eventSource));
     }
 
@@ -597,6 +635,7 @@ public class BibDatabase {
      * - {@link EntriesAddedEvent}
      * - {@link EntryChangedEvent}
      * - {@link EntriesRemovedEvent}
+     * - {@link EntriesChangedBatchEvent}
      *
      * @param listener listener (subscriber) to add
      */
@@ -622,9 +661,81 @@ public class BibDatabase {
         }
     }
 
+    /**
+     * Begins a batch edit on the current thread, which ends when the returned {@link BatchEdit} is closed:
+     * <pre>{@code
+     * try (BatchEdit _ = database.beginBatchEdit()) {
+     *     ...
+     * }
+     * }</pre>
+     * During a batch edit, the {@link FieldChangedEvent}s of the entries caused by the current thread are not posted
+     * to the listeners of the database. Instead, one {@link EntriesChangedBatchEvent} containing all of them is posted
+     * when the batch edit ends. Changes made by other threads are posted as usual. The listeners of the entries
+     * themselves are still notified about each change. The links to changed citation keys (e.g., crossref) are updated
+     * immediately, so that later changes of the batch edit find the linked entries.
+     * <p>
+     * Batch edits may be nested; the event is posted when the outermost batch edit ends. If no field was changed, no
+     * event is posted.
+     */
+    public BatchEdit beginBatchEdit() {
+        BatchEditState state = batchEditStates.get();
+        if (state == null) {
+            state = new BatchEditState();
+            batchEditStates.set(state);
+        }
+        state.depth++;
+        return this::endBatchEdit;
+    }
+
+    private void endBatchEdit() {
+        BatchEditState state = batchEditStates.get();
+        if (state == null) {
+            return;
+        }
+        if (state.depth > 1) {
+            state.depth--;
+            return;
+        }
+        // The batch edit is kept open while the completions run, thus their changes are part of the event
+        List<FieldChangedEvent> fieldChanges = List.copyOf(state.fieldChanges);
+        try {
+            if (!fieldChanges.isEmpty()) {
+                batchEditCompletions.forEach(completion -> completion.accept(fieldChanges));
+            }
+        } finally {
+            batchEditStates.remove();
+        }
+        if (!state.fieldChanges.isEmpty()) {
+            eventBus.post(new EntriesChangedBatchEvent(state.fieldChanges));
+        }
+    }
+
+    /**
+     * Adds an action run at the end of each outermost batch edit with the field changes of the batch edit, before the
+     * {@link EntriesChangedBatchEvent} is posted. The fields changed by the action are part of that event. Used for
+     * changes following from the changes of the batch edit, e.g., updating the modification dates.
+     */
+    public void addBatchEditCompletion(Consumer<List<FieldChangedEvent>> completion) {
+        batchEditCompletions.add(completion);
+    }
+
     @Subscribe
     private void relayEntryChangeEvent(FieldChangedEvent event) {
-        eventBus.post(event);
+        BatchEditState state = batchEditStates.get();
+        if (state != null) {
+            keyChangeListener.listen(event);
+            state.fieldChanges.add(event);
+        } else {
+            eventBus.post(event);
+        }
+    }
+
+    private static class BatchEditState {
+        private final List<FieldChangedEvent> fieldChanges = new ArrayList<>();
+        private int depth;
+    }
+
+    private record EntriesSnapshot(long modificationCount, List<BibEntry> entries) {
     }
 
     public Optional<BibEntry> getReferencedEntry(BibEntry entry) {
@@ -125,6 +125,17 @@ public class BibDatabaseContext {
         return database;
     }
 
+    /**
+     * Begins a batch edit of the entries of this library on the current thread. The changes of the fields are posted
+     * as one {@link org.jabref.model.database.event.EntriesChangedBatchEvent} when the returned {@link BatchEdit} is
+     * closed.
+     *
+     * @see BibDatabase#beginBatchEdit()
+     */
+    public BatchEdit beginBatchEdit() {
+        return database.beginBatchEdit();
+    }
+
     public MetaData getMetaData() {
         return metaData;
     }
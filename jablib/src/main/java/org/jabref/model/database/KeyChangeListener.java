@@ -24,6 +24,9 @@ public class KeyChangeListener {
         this.database = database;
     }
 
+    /**
+     * Also called by the database during batch edits, which do not post the single field changes
+     */
     @Subscribe
     public void listen(FieldChangedEvent event) {
         if (event.getField().equals(InternalField.KEY_FIELD)) {
@@ -0,0 +1,48 @@
+package org.jabref.model.database.event;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Set;
+
+import org.jabref.model.database.BibDatabase;
+import org.jabref.model.entry.BibEntry;
+import org.jabref.model.entry.event.EntriesEvent;
+import org.jabref.model.entry.event.FieldChangedEvent;
+
+/**
+ * {@link EntriesChangedBatchEvent} is fired once at the end of a batch edit of the {@link BibDatabase} (see
+ * {@link BibDatabase#beginBatchEdit()}). It replaces the {@link FieldChangedEvent}s of all fields changed during the
+ * batch edit, which are not posted by the database.
+ */
+public class EntriesChangedBatchEvent extends EntriesEvent {
+
+    private final List<FieldChangedEvent> fieldChanges;
+
+    /**
+     * @param fieldChanges the field changes in the order they happened
+     */
+    public EntriesChangedBatchEvent(List<FieldChangedEvent> fieldChanges) {
+        super(distinctEntries(fieldChanges));
+        this.fieldChanges = List.copyOf(fieldChanges);
+    }
+
+    private static List<BibEntry> distinctEntries(List<FieldChangedEvent> fieldChanges) {
+        Set<BibEntry> seen = Collections.newSetFromMap(new IdentityHashMap<>());
+        List<BibEntry> entries = new ArrayList<>();
+        for (FieldChangedEvent fieldChange : fieldChanges) {
+            if (seen.add(fieldChange.getBibEntry())) {
+                entries.add(fieldChange.getBibEntry());
+            }
+        }
+        return List.copyOf(entries);
+    }
+
+    /**
+     * Returns the changes of the fields in the order they happened. A field may be changed more than once.
+     */
+    public List<FieldChangedEvent> getFieldChanges() {
+        return fieldChanges;
+    }
+}
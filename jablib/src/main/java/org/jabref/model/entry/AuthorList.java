@@ -1,18 +1,13 @@
 package org.jabref.model.entry;
 
-import java.util.Collections;
 import java.util.Iterator;
 import java.util.List;
-import java.util.Map;
 import java.util.Objects;
-import java.util.WeakHashMap;
 import java.util.function.Function;
+import java.util.function.Supplier;
 import java.util.stream.Collector;
 import java.util.stream.Collectors;
 
-import org.jabref.architecture.AllowedToUseLogic;
-import org.jabref.logic.importer.AuthorListParser;
-
 import org.jspecify.annotations.NonNull;
 
 /**
@@ -117,13 +112,29 @@ import org.jspecify.annotations.NonNull;
  * K."
  * </ol>
  */
-@AllowedToUseLogic("because it needs access to AuthorList parser")
 public class AuthorList implements Iterable<Author> {
 
-    private static final Map<String, AuthorList> AUTHOR_CACHE = Collections.synchronizedMap(new WeakHashMap<>());
+    // Indexes of the memoized formatted names, see #getFormattedNames
+    private static final int NATBIB = 0;
+    private static final int LAST_NAMES = 1; // + 1 with Oxford comma
+    private static final int LAST_FIRST_NAMES = 3; // + variant(abbreviate, oxfordComma)
+    private static final int LAST_FIRST_NAMES_WITH_AND = 7; // + 1 if abbreviated
+    private static final int LAST_FIRST_FIRST_LAST_NAMES_WITH_AND = 9; // + 1 if abbreviated
+    private static final int FIRST_LAST_NAMES = 11; // + variant(abbreviate, oxfordComma)
+    private static final int FIRST_LAST_NAMES_WITH_AND = 15;
+    private static final int FOR_ALPHABETIZATION = 16;
+    private static final int NUMBER_OF_NAME_FORMATS = 17;
+
     private final List<Author> authors;
     private AuthorList latexFreeAuthors;
 
+    /**
+     * The formatted names, computed on first use. Lists are shared by all users of {@link #parse(String)}, thus the
+     * names are formatted once per unparsed string. As for {@link #latexFreeAuthors}, the memoization is not
+     * synchronized: the names are immutable, and a thread seeing no (or an older) array formats the names again.
+     */
+    private String[] formattedNames;
+
     /**
      * Creates a new list of authors.
      * <p>
@@ -164,19 +175,37 @@ public class AuthorList implements Iterable<Author> {
         };
     }
 
+    private static int variant(boolean abbreviate, boolean oxfordComma) {
+        return (abbreviate ? 2 : 0) + (oxfordComma ? 1 : 0);
+    }
+
+    /**
+     * Returns the memoized formatted names with the given index, formatting them on first use
+     */
+    private String getFormattedNames(int index, Supplier<String> formatter) {
+        String[] names = formattedNames;
+        if (names == null) {
+            names = new String[NUMBER_OF_NAME_FORMATS];
+            formattedNames = names;
+        }
+        String result = names[index];
+        if (result == null) {
+            result = formatter.get();
+            names[index] = result;
+        }
+        return result;
+    }
+
     /**
      * Retrieve an AuthorList for the given string of authors or editors.
      * <p>
-     * This function tries to cache the parsed AuthorLists by the string passed in.
+     * The parsed AuthorLists are cached by the string passed in, see {@link AuthorListCache}.
      *
      * @param authors The string of authors or editors in bibtex format to parse.
      * @return An AuthorList object representing the given authors.
      */
     public static AuthorList parse(@NonNull final String authors) {
-        return AUTHOR_CACHE.computeIfAbsent(authors, string -> {
-            AuthorListParser parser = new AuthorListParser();
-            return parser.parse(string);
-        });
+        return AuthorListCache.getDefault().parse(authors);
     }
 
     /**
@@ -314,13 +343,12 @@ public class AuthorList implements Iterable<Author> {
      * @return formatted list of authors.
      */
     public String getAsNatbib() {
-        List<Author> authors = getAuthors();
-        return switch (authors.size()) {
+        return getFormattedNames(NATBIB, () -> switch (authors.size()) {
             case 0 -> "";
             case 1 -> authors.getFirst().getNamePrefixAndFamilyName();
             case 2 -> authors.getFirst().getNamePrefixAndFamilyName() + " and " + authors.get(1).getNamePrefixAndFamilyName();
             default -> authors.getFirst().getNamePrefixAndFamilyName() + " et al.";
-        };
+        });
     }
 
     /**
@@ -339,7 +367,8 @@ public class AuthorList implements Iterable<Author> {
      * Oxford comma.</a>
      */
     public String getAsLastNames(boolean oxfordComma) {
-        return andCoordinatedConjunction(getAuthors(), Author::getNamePrefixAndFamilyName, oxfordComma);
+        return getFormattedNames(LAST_NAMES + (oxfordComma ? 1 : 0),
+                () -> andCoordinatedConjunction(getAuthors(), Author::getNamePrefixAndFamilyName, oxfordComma));
     }
 
     /**
@@ -361,7 +390,8 @@ public class AuthorList implements Iterable<Author> {
      * Oxford comma.</a>
      */
     public String getAsLastFirstNames(boolean abbreviate, boolean oxfordComma) {
-        return andCoordinatedConjunction(getAuthors(), auth -> auth.getFamilyGiven(abbreviate), oxfordComma);
+        return getFormattedNames(LAST_FIRST_NAMES + variant(abbreviate, oxfordComma),
+                () -> andCoordinatedConjunction(getAuthors(), auth -> auth.getFamilyGiven(abbreviate), oxfordComma));
     }
 
     @Override
@@ -383,9 +413,10 @@ public class AuthorList implements Iterable<Author> {
      * @return formatted list of authors.
      */
     public String getAsLastFirstNamesWithAnd(boolean abbreviate) {
-        return getAuthors().stream()
-                           .map(author -> author.getFamilyGiven(abbreviate))
-                           .collect(Collectors.joining(" and "));
+        return getFormattedNames(LAST_FIRST_NAMES_WITH_AND + (abbreviate ? 1 : 0),
+                () -> getAuthors().stream()
+                                  .map(author -> author.getFamilyGiven(abbreviate))
+                                  .collect(Collectors.joining(" and ")));
     }
 
     /**
@@ -394,7 +425,7 @@ public class AuthorList implements Iterable<Author> {
      * @param abbreviate first names.
      */
     public String getAsLastFirstFirstLastNamesWithAnd(boolean abbreviate) {
-        return switch (authors.size()) {
+        return getFormattedNames(LAST_FIRST_FIRST_LAST_NAMES_WITH_AND + (abbreviate ? 1 : 0), () -> switch (authors.size()) {
             case 0 -> "";
             case 1 -> authors.getFirst().getFamilyGiven(abbreviate);
             default -> authors.stream()
@@ -404,7 +435,7 @@ public class AuthorList implements Iterable<Author> {
                                       " and ",
                                       authors.getFirst().getFamilyGiven(abbreviate) + " and ",
                                       ""));
-        };
+        });
     }
 
     /**
@@ -426,7 +457,8 @@ public class AuthorList implements Iterable<Author> {
      * Oxford comma.</a>
      */
     public String getAsFirstLastNames(boolean abbreviate, boolean oxfordComma) {
-        return andCoordinatedConjunction(getAuthors(), author -> author.getGivenFamily(abbreviate), oxfordComma);
+        return getFormattedNames(FIRST_LAST_NAMES + variant(abbreviate, oxfordComma),
+                () -> andCoordinatedConjunction(getAuthors(), author -> author.getGivenFamily(abbreviate), oxfordComma));
     }
 
     /**
@@ -465,9 +497,10 @@ public class AuthorList implements Iterable<Author> {
      * @return formatted list of authors.
      */
     public String getAsFirstLastNamesWithAnd() {
-        return getAuthors().stream()
-                           .map(author -> author.getGivenFamily(false))
-                           .collect(Collectors.joining(" and "));
+        return getFormattedNames(FIRST_LAST_NAMES_WITH_AND,
+                () -> getAuthors().stream()
+                                  .map(author -> author.getGivenFamily(false))
+                                  .collect(Collectors.joining(" and ")));
     }
 
     /**
@@ -480,9 +513,10 @@ public class AuthorList implements Iterable<Author> {
      * @return formatted list of authors
      */
     public String getForAlphabetization() {
-        return getAuthors().stream()
-                           .map(Author::getNameForAlphabetization)
-                           .collect(Collectors.joining(" and "));
+        return getFormattedNames(FOR_ALPHABETIZATION,
+                () -> getAuthors().stream()
+                                  .map(Author::getNameForAlphabetization)
+                                  .collect(Collectors.joining(" and ")));
     }
 
     @Override
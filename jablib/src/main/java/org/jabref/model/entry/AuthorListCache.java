@@ -0,0 +1,65 @@
+package org.jabref.model.entry;
+
+import org.jabref.architecture.AllowedToUseLogic;
+import org.jabref.logic.importer.AuthorListParser;
+
+import com.google.common.cache.CacheBuilder;
+import com.google.common.cache.CacheLoader;
+import com.google.common.cache.CacheStats;
+import com.google.common.cache.LoadingCache;
+import org.jspecify.annotations.NonNull;
+
+/**
+ * Caches parsed {@link AuthorList}s, keyed by the unparsed string of authors or editors.
+ * <p>
+ * Parsed lists are immutable and memoize their formatted names, thus each string is parsed once and its list is shared
+ * by all threads (see {@link #getDefault()}). Threads sorting, indexing, or generating keys in parallel parse the same
+ * strings at the same time: the cache is split into segments locked independently, and a thread asking for a string
+ * being parsed by another thread waits for that list instead of parsing the string again.
+ */
+@AllowedToUseLogic("because it needs access to AuthorList parser")
+public class AuthorListCache {
+
+    public static final int DEFAULT_MAXIMUM_SIZE = 50_000;
+
+    private static final AuthorListCache DEFAULT = new AuthorListCache(DEFAULT_MAXIMUM_SIZE);
+
+    private final LoadingCache<String, AuthorList> cache;
+
+    /**
+     * @param maximumSize the maximum number of lists kept. The least recently used lists are dropped first.
+     */
+    public AuthorListCache(int maximumSize) {
+        this.cache = CacheBuilder.newBuilder()
+                                 .maximumSize(maximumSize)
+                                 .concurrencyLevel(Math.max(4, Runtime.getRuntime().availableProcessors()))
+                                 .recordStats()
+                                 .build(CacheLoader.from(authors -> new AuthorListParser().parse(authors)));
+    }
+
+    /**
+     * Returns the cache used by {@link AuthorList#parse(String)}
+     */
+    public static AuthorListCache getDefault() {
+        return DEFAULT;
+    }
+
+    /**
+     * Returns the parsed list of the given authors or editors in BibTeX format
+     */
+    public AuthorList parse(@NonNull String authors) {
+        return cache.getUnchecked(authors);
+    }
+
+    /**
+     * Returns the hit and miss counts since the creation of the cache. Printed by the benchmarks of the author list
+     * parsing to judge the maximum size.
+     */
+    public CacheStats getStatistics() {
+        return cache.stats();
+    }
+
+    public void invalidateAll() {
+        cache.invalidateAll();
+    }
+}
@@ -15,6 +15,7 @@ import java.util.SequencedSet;
 import java.util.Set;
 import java.util.TreeSet;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.function.BiFunction;
 import java.util.function.Predicate;
 import java.util.stream.Collectors;
@@ -42,11 +43,13 @@ import org.jabref.model.entry.identifier.ISBN;
 import org.jabref.model.entry.types.EntryType;
 import org.jabref.model.entry.types.IEEETranEntryType;
 import org.jabref.model.entry.types.StandardEntryType;
-import org.jabref.model.strings.LatexToUnicodeAdapter;
+import org.jabref.model.strings.LatexFreeValueCache;
 import org.jabref.model.strings.StringUtil;
 import org.jabref.model.util.MultiKeyMap;
 
 import com.google.common.annotations.VisibleForTesting;
+import com.google.common.collect.Interner;
+import com.google.common.collect.Interners;
 import com.google.common.eventbus.EventBus;
 import com.tobiasdiez.easybind.EasyBind;
 import com.tobiasdiez.easybind.optional.OptionalBinding;
@@ -88,17 +91,19 @@ public class BibEntry {
 
     public static final EntryType DEFAULT_TYPE = StandardEntryType.Misc;
     private static final Logger LOGGER = LoggerFactory.getLogger(BibEntry.class);
-    private final SharedBibEntryData sharedBibEntryData;
 
     /**
-     * Map to store the words in every field
+     * Deduplicates field values shared by many entries. In contrast to {@link String#intern()}, values no longer used
+     * by any entry are garbage collected.
      */
-    private final Map<Field, Set<String>> fieldsAsWords = new HashMap<>();
+    private static final Interner<String> FIELD_VALUES = Interners.newWeakInterner();
+
+    private final SharedBibEntryData sharedBibEntryData;
 
     /**
-     * Cache that stores latex free versions of fields.
+     * Map to store the words in every field
      */
-    private final Map<Field, String> latexFreeFields = new ConcurrentHashMap<>();
+    private final Map<Field, Set<String>> fieldsAsWords = new HashMap<>();
 
     /**
      * Cache that stores the field as keyword lists (format &lt;Field, Separator, Keyword list>)
@@ -130,6 +135,12 @@ public class BibEntry {
      */
     private boolean changed;
 
+    /**
+     * Incremented on every modification of the serialized state of this entry (type, fields, comments, serialization).
+     * Allows to detect whether a previously taken copy or serialization of this entry is still up-to-date.
+     */
+    private final AtomicLong modificationCount = new AtomicLong();
+
     /**
      * Constructs a new BibEntry. The internal ID is set to IdGenerator.next()
      */
@@ -387,6 +398,7 @@ public class BibEntry {
         eventBus.post(new FieldChangedEvent(this, InternalField.INTERNAL_ID_FIELD, id, oldId));
         this.id = id;
         changed = true;
+        modificationCount.incrementAndGet();
     }
 
     /**
@@ -453,6 +465,7 @@ public class BibEntry {
 
         changed = true;
         this.type.setValue(newType);
+        modificationCount.incrementAndGet();
 
         FieldChange change = new FieldChange(this, InternalField.TYPE_HEADER, oldType.getName(), newType.getName());
         eventBus.post(new FieldChangedEvent(change, eventSource));
@@ -486,18 +499,10 @@ public class BibEntry {
             return getCitationKey();
         } else if (InternalField.TYPE_HEADER == field) {
             return Optional.of(type.get().getDisplayName());
-        } else if (latexFreeFields.containsKey(field)) {
-            return Optional.ofNullable(latexFreeFields.get(field));
         } else {
-            Optional<String> fieldValue = getField(field);
-            if (fieldValue.isPresent()) {
-                // TODO: Do we need FieldFactory.isLaTeXField(field) here to filter?
-                String latexFreeValue = LatexToUnicodeAdapter.format(fieldValue.get()).intern();
-                latexFreeFields.put(field, latexFreeValue);
-                return Optional.of(latexFreeValue);
-            } else {
-                return Optional.empty();
-            }
+            // TODO: Do we need FieldFactory.isLaTeXField(field) here to filter?
+            // The conversion is cached by value for all entries, because many entries share values (journals, authors, ...)
+            return getField(field).map(LatexFreeValueCache.getDefault()::format);
         }
     }
 
@@ -637,7 +642,8 @@ public class BibEntry {
         changed = true;
 
         invalidateFieldCache(field);
-        fields.put(field, value.intern());
+        fields.put(field, FIELD_VALUES.intern(value));
+        modificationCount.incrementAndGet();
 
         FieldChange change = new FieldChange(this, field, oldValue, value);
         if (isNewField) {
@@ -684,6 +690,7 @@ public class BibEntry {
 
         invalidateFieldCache(field);
         fields.remove(field);
+        modificationCount.incrementAndGet();
 
         FieldChange change = new FieldChange(this, field, oldValue.get(), null);
         eventBus.post(new FieldAddedOrRemovedEvent(change, eventSource));
@@ -747,7 +754,7 @@ public class BibEntry {
         String yearField = getField(StandardField.YEAR).orElse("N/A");
 
         String formattedAuthors = AuthorList.fixAuthorLastNameOnlyCommas(authorField, false);
-        String formattedTitle = LatexToUnicodeAdapter.format(titleField);
+        String formattedTitle = LatexFreeValueCache.getDefault().format(titleField);
 
         StringBuilder textBuilder = new StringBuilder();
         textBuilder.append(formattedAuthors)
@@ -799,10 +806,12 @@ public class BibEntry {
     public void setParsedSerialization(String parsedSerialization) {
         changed = false;
         this.parsedSerialization = parsedSerialization;
+        modificationCount.incrementAndGet();
     }
 
     public void setCommentsBeforeEntry(String parsedComments) {
         this.commentsBeforeEntry = parsedComments;
+        modificationCount.incrementAndGet();
     }
 
     public boolean hasChanged() {
@@ -811,6 +820,16 @@ public class BibEntry {
 
     public void setChanged(boolean changed) {
         this.changed = changed;
+        modificationCount.incrementAndGet();
+    }
+
+    /**
+     * Returns a counter which is incremented on each modification of this entry affecting its serialization.
+     * Two equal values guarantee that the entry was not modified in between. The value is not copied to copies
+     * of this entry.
+     */
+    public long getModificationCount() {
+        return modificationCount.get();
     }
 
     /**
@@ -819,7 +838,7 @@ public class BibEntry {
      * we need to construct a BibEntry with <code>changed=false</code> (which is the default) and thus we need a workaround.
      */
     public BibEntry withChanged(boolean changed) {
-        this.changed = changed;
+        setChanged(changed);
         return this;
     }
 
@@ -1067,7 +1086,6 @@ public class BibEntry {
     }
 
     private void invalidateFieldCache(Field field) {
-        latexFreeFields.remove(field);
         fieldsAsWords.remove(field);
 
         if (field instanceof StandardField standardField) {
@@ -0,0 +1,55 @@
+package org.jabref.model.strings;
+
+import com.google.common.cache.CacheBuilder;
+import com.google.common.cache.CacheLoader;
+import com.google.common.cache.LoadingCache;
+import org.jspecify.annotations.NonNull;
+
+/**
+ * Caches the LaTeX-free versions of field values, keyed by the raw value.
+ * <p>
+ * The cache is shared by all entries (see {@link #getDefault()}), so that values occurring in many entries (e.g., the
+ * same journal or author) are converted only once. Since the conversion only depends on the raw value, the cache never
+ * has to be invalidated. The cache outlives the libraries the values stem from, thus it is bounded by the number of
+ * characters held (raw and converted value), not by the number of values: a few long values, such as abstracts, take
+ * as much room as many short ones. The least recently used values are dropped first.
+ */
+public class LatexFreeValueCache {
+
+    /**
+     * About 8 MB of characters
+     */
+    public static final long DEFAULT_MAXIMUM_CHARACTERS = 4_000_000;
+
+    private static final LatexFreeValueCache DEFAULT = new LatexFreeValueCache(DEFAULT_MAXIMUM_CHARACTERS);
+
+    private final LoadingCache<String, String> cache;
+
+    /**
+     * @param maximumCharacters the maximum total length of the cached raw and converted values
+     */
+    public LatexFreeValueCache(long maximumCharacters) {
+        this.cache = CacheBuilder.newBuilder()
+                                 .maximumWeight(maximumCharacters)
+                                 .<String, String>weigher((value, latexFreeValue) -> value.length() + latexFreeValue.length())
+                                 .build(CacheLoader.from(LatexToUnicodeAdapter::format));
+    }
+
+    /**
+     * Returns the cache used by {@link org.jabref.model.entry.BibEntry#getFieldLatexFree(org.jabref.model.entry.field.Field)}
+     */
+    public static LatexFreeValueCache getDefault() {
+        return DEFAULT;
+    }
+
+    /**
+     * Returns the value with LaTeX resolved into Unicode as done by {@link LatexToUnicodeAdapter#format(String)}
+     */
+    public String format(@NonNull String value) {
+        return cache.getUnchecked(value);
+    }
+
+    long size() {
+        return cache.size();
+    }
+}
@@ -10,6 +10,10 @@ import org.jspecify.annotations.NonNull;
 
 /**
  * Adapter class for the latex2unicode lib. This is an alternative to our LatexToUnicode class
+ * <p>
+ * Most field values contain no or only simple LaTeX (accents, special letters). These are converted by
+ * {@link SimpleLatexToUnicode}, which is much faster than the latex2unicode parser. All other values are converted by
+ * latex2unicode.
  */
 public class LatexToUnicodeAdapter {
 
@@ -36,6 +40,17 @@ public class LatexToUnicodeAdapter {
      * @return an {@code Optional<String>} with LaTeX resolved into Unicode or {@code empty} on failure.
      */
     public static Optional<String> parse(@NonNull String inField) {
+        Optional<String> simpleConversion = SimpleLatexToUnicode.convert(inField);
+        if (simpleConversion.isPresent()) {
+            return simpleConversion;
+        }
+        return parseWithLatex2Unicode(inField);
+    }
+
+    /**
+     * Converts using latex2unicode only. Visible for the tests comparing the results with {@link SimpleLatexToUnicode}.
+     */
+    static Optional<String> parseWithLatex2Unicode(@NonNull String inField) {
         String toFormat = UNDERSCORE_MATCHER.matcher(inField).replaceAll(REPLACEMENT_CHAR);
         Parsed<String> parsingResult = LaTeX2Unicode.parse(toFormat);
         if (parsingResult instanceof Parsed.Success) {
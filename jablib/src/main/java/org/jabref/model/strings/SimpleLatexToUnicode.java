@@ -0,0 +1,270 @@
+package org.jabref.model.strings;
+
+import java.text.Normalizer;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Converts the LaTeX commonly found in field values (accents on single letters, special letters, escaped symbols, and
+ * braces) to Unicode without the latex2unicode parser.
+ * <p>
+ * Values without any LaTeX are returned as they are, without copying. For all other supported input, the result is the
+ * same as the one of latex2unicode. Input which is not supported (math, unknown commands, dashes, quotes, sub- and
+ * superscripts, unusual whitespace, ...) is rejected, so that the caller can fall back to latex2unicode.
+ */
+class SimpleLatexToUnicode {
+
+    /**
+     * Characters which latex2unicode might treat specially. A value not containing any of them is plain text.
+     */
+    private static final String SPECIAL_CHARACTERS = "\\{}$~^_%&#\"`'-\uFFFD";
+
+    private static final Map<Character, Character> SYMBOL_ACCENTS = Map.of(
+            '"', '\u0308',
+            '\'', '\u0301',
+            '`', '\u0300',
+            '^', '\u0302',
+            '~', '\u0303',
+            '=', '\u0304',
+            '.', '\u0307');
+
+    private static final Map<Character, Character> LETTER_ACCENTS = Map.of(
+            'u', '\u0306',
+            'v', '\u030C',
+            'H', '\u030B',
+            'c', '\u0327',
+            'k', '\u0328',
+            'd', '\u0323',
+            'r', '\u030A',
+            'b', '\u0331');
+
+    private static final Map<String, String> LETTERS = Map.ofEntries(
+            Map.entry("i", "ı"),
+            Map.entry("j", "ȷ"),
+            Map.entry("o", "ø"),
+            Map.entry("O", "Ø"),
+            Map.entry("l", "ł"),
+            Map.entry("L", "Ł"),
+            Map.entry("ss", "ß"),
+            Map.entry("ae", "æ"),
+            Map.entry("AE", "Æ"),
+            Map.entry("oe", "œ"),
+            Map.entry("OE", "Œ"),
+            Map.entry("aa", "å"),
+            Map.entry("AA", "Å"));
+
+    private static final String ESCAPED_SYMBOLS = "$%&";
+
+    private SimpleLatexToUnicode() {
+    }
+
+    /**
+     * @return the converted value, or an empty Optional if the value contains LaTeX not supported by this class
+     */
+    static Optional<String> convert(String value) {
+        if (!hasSimpleWhitespace(value)) {
+            return Optional.empty();
+        }
+        if (isPlainText(value)) {
+            return Optional.of(Normalizer.isNormalized(value, Normalizer.Form.NFC) ? value : Normalizer.normalize(value, Normalizer.Form.NFC));
+        }
+        Converter converter = new Converter(value);
+        if (!converter.convertText(false) || (converter.position != value.length())) {
+            return Optional.empty();
+        }
+        return Optional.of(Normalizer.normalize(converter.result, Normalizer.Form.NFC));
+    }
+
+    private static boolean isPlainText(String value) {
+        for (int i = 0; i < value.length(); i++) {
+            if (SPECIAL_CHARACTERS.indexOf(value.charAt(i)) >= 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Whitespace handling of latex2unicode is not replicated. Thus, only single spaces between words are supported.
+     */
+    private static boolean hasSimpleWhitespace(String value) {
+        for (int i = 0; i < value.length(); i++) {
+            char character = value.charAt(i);
+            if (Character.isWhitespace(character)
+                    && ((character != ' ') || (i == 0) || (i == value.length() - 1) || (value.charAt(i + 1) == ' '))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static class Converter {
+        private final String input;
+        private final StringBuilder result;
+        private int position;
+
+        Converter(String input) {
+            this.input = input;
+            this.result = new StringBuilder(input.length());
+        }
+
+        /**
+         * Converts text until the end of the input or, if inside a group, until the closing brace
+         *
+         * @return false if unsupported input was found
+         */
+        boolean convertText(boolean inGroup) {
+            while (position < input.length()) {
+                char character = input.charAt(position);
+                switch (character) {
+                    case '}' -> {
+                        return inGroup;
+                    }
+                    case '{' -> {
+                        position++;
+                        if (!convertText(true) || (position == input.length())) {
+                            return false;
+                        }
+                        // skip the closing brace
+                        position++;
+                    }
+                    case '\\' -> {
+                        if (!convertCommand()) {
+                            return false;
+                        }
+                    }
+                    case '~' -> {
+                        result.append(' ');
+                        position++;
+                    }
+                    case '-', '\'', '`' -> {
+                        // dashes and quotes consisting of two or more characters are converted by latex2unicode
+                        if ((position + 1 < input.length()) && (input.charAt(position + 1) == character)) {
+                            return false;
+                        }
+                        if (character == '`') {
+                            return false;
+                        }
+                        result.append(character);
+                        position++;
+                    }
+                    case '$', '^', '_', '%', '&', '#', '"', '\uFFFD' -> {
+                        return false;
+                    }
+                    default -> {
+                        result.append(character);
+                        position++;
+                    }
+                }
+            }
+            return !inGroup;
+        }
+
+        /**
+         * Converts the command starting at the current position (a backslash)
+         */
+        private boolean convertCommand() {
+            position++;
+            if (position == input.length()) {
+                return false;
+            }
+            char first = input.charAt(position);
+            if (ESCAPED_SYMBOLS.indexOf(first) >= 0) {
+                result.append(first);
+                position++;
+                return true;
+            }
+            Character symbolAccent = SYMBOL_ACCENTS.get(first);
+            if (symbolAccent != null) {
+                position++;
+                return convertAccentArgument(symbolAccent, true);
+            }
+            if (!isAsciiLetter(first)) {
+                return false;
+            }
+
+            int nameEnd = position;
+            while ((nameEnd < input.length()) && isAsciiLetter(input.charAt(nameEnd))) {
+                nameEnd++;
+            }
+            String name = input.substring(position, nameEnd);
+            position = nameEnd;
+
+            if (name.length() == 1) {
+                Character letterAccent = LETTER_ACCENTS.get(name.charAt(0));
+                if (letterAccent != null) {
+                    return convertAccentArgument(letterAccent, false);
+                }
+            }
+            String letter = LETTERS.get(name);
+            if ((letter == null) || !isLetterCommandEnd()) {
+                return false;
+            }
+            result.append(letter);
+            return true;
+        }
+
+        /**
+         * A letter command must not be followed by a space or an argument, because latex2unicode handles them
+         * differently from TeX
+         */
+        private boolean isLetterCommandEnd() {
+            return (position == input.length()) || (input.charAt(position) == '}') || (input.charAt(position) == '\\');
+        }
+
+        /**
+         * Converts the argument of an accent command: a single letter, a special letter command, or one of them in
+         * braces. The combining accent is appended after the letter and composed by the final normalization.
+         *
+         * @param allowUnbraced whether the argument may follow without braces (only for accents named by a symbol)
+         */
+        private boolean convertAccentArgument(char combiningAccent, boolean allowUnbraced) {
+            if (position == input.length()) {
+                return false;
+            }
+            boolean braced = input.charAt(position) == '{';
+            if (!braced && !allowUnbraced) {
+                return false;
+            }
+            if (braced) {
+                position++;
+            }
+            if (position == input.length()) {
+                return false;
+            }
+
+            char character = input.charAt(position);
+            if (character == '\\') {
+                position++;
+                int nameEnd = position;
+                while ((nameEnd < input.length()) && isAsciiLetter(input.charAt(nameEnd))) {
+                    nameEnd++;
+                }
+                String letter = LETTERS.get(input.substring(position, nameEnd));
+                if (letter == null) {
+                    return false;
+                }
+                position = nameEnd;
+                result.append(letter);
+            } else if (Character.isLetter(character) && !Character.isSurrogate(character)) {
+                result.append(character);
+                position++;
+            } else {
+                return false;
+            }
+            result.append(combiningAccent);
+
+            if (braced) {
+                if ((position == input.length()) || (input.charAt(position) != '}')) {
+                    return false;
+                }
+                position++;
+            }
+            return true;
+        }
+
+        private static boolean isAsciiLetter(char character) {
+            return ((character >= 'a') && (character <= 'z')) || ((character >= 'A') && (character <= 'Z'));
+        }
+    }
+}
@@ -0,0 +1,109 @@
+package org.jabref.logic.bibtex;
+
+import java.io.IOException;
+import java.io.StringWriter;
+import java.util.List;
+
+import org.jabref.logic.exporter.BibWriter;
+import org.jabref.logic.os.OS;
+import org.jabref.model.database.BibDatabaseMode;
+import org.jabref.model.entry.BibEntry;
+import org.jabref.model.entry.BibEntryTypesManager;
+import org.jabref.model.entry.field.StandardField;
+import org.jabref.model.entry.types.StandardEntryType;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+class BibEntrySerializationCacheTest {
+
+    private final BibEntrySerializationCache cache = new BibEntrySerializationCache();
+    private BibEntryWriter bibEntryWriter;
+    private BibEntry entry;
+
+    @BeforeEach
+    void setUp() {
+        FieldPreferences fieldPreferences = new FieldPreferences(true, List.of(StandardField.MONTH), List.of());
+        bibEntryWriter = spy(new BibEntryWriter(new FieldWriter(fieldPreferences), new BibEntryTypesManager()));
+        entry = new BibEntry(StandardEntryType.Article)
+                .withCitationKey("key")
+                .withField(StandardField.AUTHOR, "Foo Bar")
+                .withChanged(true);
+    }
+
+    @Test
+    void unmodifiedEntryIsSerializedOnce() throws IOException {
+        String first = cache.getSerialization(entry, bibEntryWriter, BibDatabaseMode.BIBTEX, false, OS.NEWLINE);
+        String second = cache.getSerialization(entry, bibEntryWriter, BibDatabaseMode.BIBTEX, false, OS.NEWLINE);
+
+        assertSame(first, second);
+        verify(bibEntryWriter, times(1)).write(any(), any(), any(), anyBoolean());
+    }
+
+    @Test
+    void modifiedEntryIsSerializedAgain() throws IOException {
+        cache.getSerialization(entry, bibEntryWriter, BibDatabaseMode.BIBTEX, false, OS.NEWLINE);
+        entry.setField(StandardField.TITLE, "Title");
+
+        String serialization = cache.getSerialization(entry, bibEntryWriter, BibDatabaseMode.BIBTEX, false, OS.NEWLINE);
+
+        String expected = """
+                @Article{key,
+                  author = {Foo Bar},
+                  title  = {Title},
+                }
+                """.replace("\n", OS.NEWLINE);
+        assertEquals(expected, serialization);
+    }
+
+    @Test
+    void changedFieldPreferencesLeadToNewSerialization() throws IOException {
+        FieldPreferences fieldPreferences = new FieldPreferences(false, List.of(), List.of());
+        BibEntryWriter writer = spy(new BibEntryWriter(new FieldWriter(fieldPreferences), new BibEntryTypesManager()));
+        cache.getSerialization(entry, writer, BibDatabaseMode.BIBTEX, false, OS.NEWLINE);
+
+        fieldPreferences.setResolveStrings(true);
+        cache.getSerialization(entry, writer, BibDatabaseMode.BIBTEX, false, OS.NEWLINE);
+
+        verify(writer, times(2)).write(any(), any(), any(), anyBoolean());
+    }
+
+    @Test
+    void cacheIsSharedBetweenWritersWithSameSettings() throws IOException {
+        BibEntryWriter otherWriter = spy(new BibEntryWriter(new FieldWriter(new FieldPreferences(true, List.of(StandardField.MONTH), List.of())), bibEntryWriter.getEntryTypesManager()));
+        cache.getSerialization(entry, bibEntryWriter, BibDatabaseMode.BIBTEX, false, OS.NEWLINE);
+
+        cache.getSerialization(entry, otherWriter, BibDatabaseMode.BIBTEX, false, OS.NEWLINE);
+
+        verify(otherWriter, never()).write(any(), any(), any(), anyBoolean());
+    }
+
+    @Test
+    void cachedWriteIsEqualToDirectWrite() throws IOException {
+        BibEntry other = new BibEntry(StandardEntryType.Book)
+                .withCitationKey("other")
+                .withField(StandardField.TITLE, "Book")
+                .withChanged(true);
+
+        StringWriter expected = new StringWriter();
+        BibWriter expectedWriter = new BibWriter(expected, OS.NEWLINE);
+        bibEntryWriter.write(entry, expectedWriter, BibDatabaseMode.BIBTEX, false);
+        bibEntryWriter.write(other, expectedWriter, BibDatabaseMode.BIBTEX, false);
+
+        StringWriter actual = new StringWriter();
+        BibWriter actualWriter = new BibWriter(actual, OS.NEWLINE);
+        cache.write(entry, bibEntryWriter, actualWriter, BibDatabaseMode.BIBTEX, false);
+        cache.write(other, bibEntryWriter, actualWriter, BibDatabaseMode.BIBTEX, false);
+
+        assertEquals(expected.toString(), actual.toString());
+    }
+}
@@ -0,0 +1,79 @@
+package org.jabref.logic.citationkeypattern;
+
+import java.util.List;
+import java.util.stream.Stream;
+
+import org.jabref.model.database.BibDatabase;
+import org.jabref.model.entry.BibEntry;
+import org.jabref.model.entry.field.StandardField;
+import org.jabref.model.entry.types.StandardEntryType;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.parallel.Execution;
+import org.junit.jupiter.api.parallel.ExecutionMode;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+/**
+ * The expansion of the single markers and modifiers is tested at {@link BracketedPatternTest}
+ */
+@Execution(ExecutionMode.CONCURRENT)
+class CompiledBracketedPatternTest {
+
+    private static final BibEntry PARENT = new BibEntry(StandardEntryType.Book)
+            .withCitationKey("Parent")
+            .withField(StandardField.EDITOR, "Georg von Krogh and {The Attributed Graph Grammar System ({AGG})}")
+            .withField(StandardField.KEYWORDS, "open source; innovation")
+            .withField(StandardField.YEAR, "2003");
+
+    private static final List<BibEntry> ENTRIES = List.of(
+            new BibEntry(StandardEntryType.Article)
+                    .withField(StandardField.AUTHOR, "Eric von Hippel and Georg von Krogh")
+                    .withField(StandardField.TITLE, "Open Source Software and the \"Private-Collective\" Innovation Model")
+                    .withField(StandardField.PAGES, "209--223")
+                    .withField(StandardField.YEAR, "2003"),
+            new BibEntry(StandardEntryType.InBook)
+                    .withField(StandardField.CROSSREF, "Parent")
+                    .withField(StandardField.TITLE, "{Das} M{\\\"{o}}nch Chapter"),
+            new BibEntry());
+
+    /**
+     * The expected keys are given in the order of {@link #ENTRIES}
+     */
+    static Stream<Arguments> expandsPatternForEachEntry() {
+        return Stream.of(
+                Arguments.of("[auth][year]", List.of("Hippel2003", "Krogh2003", "")),
+                Arguments.of("[auth:lower]_[pureauth]_[edtr]", List.of("hippel_Hippel_", "krogh__Krogh", "__")),
+                Arguments.of("[year]\\[x\\]", List.of("2003[x]", "2003[x]", "[x]")),
+                Arguments.of("[year]\"[x]\" \\\"", List.of("2003\"[x]\" \\\"", "2003\"[x]\" \\\"", "\"[x]\" \\\"")),
+                Arguments.of("[journal:(no journal [year])]", List.of("no journal 2003", "no journal 2003", "no journal ")),
+                Arguments.of("[keyword1][keywords][firstpage]-[lastpage]", List.of("209-223", "open sourceopensourceinnovation-", "-")),
+                Arguments.of("[entrytype][shortyear]", List.of("Article03", "InBook03", "Misc")),
+                Arguments.of("[author:unknownmodifier]", List.of("Eric von Hippel and Georg von Krogh", "", "")),
+                Arguments.of("[year", List.of("2003", "2003", ""))
+        );
+    }
+
+    @ParameterizedTest
+    @MethodSource
+    void expandsPatternForEachEntry(String pattern, List<String> expectedKeys) {
+        BibDatabase database = new BibDatabase(List.of(PARENT));
+        CompiledBracketedPattern compiledPattern = CompiledBracketedPattern.compile(pattern);
+
+        assertEquals(expectedKeys, ENTRIES.stream().map(entry -> compiledPattern.expand(entry, ';', database)).toList());
+    }
+
+    @Test
+    void alternateTextIsExpandedForEmptyField() {
+        assertEquals("2003", CompiledBracketedPattern.compile("[journal:([year])]").expand(ENTRIES.getFirst(), ';', null));
+    }
+
+    @Test
+    void compiledPatternIsReused() {
+        assertSame(CompiledBracketedPattern.of("[auth][year]"), CompiledBracketedPattern.of("[auth][year]"));
+    }
+}
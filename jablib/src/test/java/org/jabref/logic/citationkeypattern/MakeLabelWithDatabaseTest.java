@@ -1,5 +1,7 @@
 package org.jabref.logic.citationkeypattern;
 
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Optional;
 
 import org.jabref.model.database.BibDatabase;
@@ -523,4 +525,62 @@ class MakeLabelWithDatabaseTest {
         new CitationKeyGenerator(bibtexKeyPattern, database, preferences).generateAndSetKey(entry);
         assertEquals(Optional.of("Aapoj"), entry.getCitationKey());
     }
+
+    @Test
+    void generateKeysOfManyEntriesEqualsGenerationOneByOne() {
+        BibDatabase sequentialDatabase = new BibDatabase();
+        BibDatabase parallelDatabase = new BibDatabase();
+        for (int i = 0; i < 100; i++) {
+            BibEntry newEntry = new BibEntry()
+                    .withField(StandardField.AUTHOR, "John Doe" + (i % 7))
+                    .withField(StandardField.YEAR, String.valueOf(2000 + (i % 3)));
+            if (i % 10 == 0) {
+                newEntry.setCitationKey("Doe" + (i % 7) + "2001");
+            }
+            sequentialDatabase.insertEntry(newEntry);
+            parallelDatabase.insertEntry(new BibEntry(newEntry));
+        }
+
+        CitationKeyGenerator sequentialGenerator = new CitationKeyGenerator(bibtexKeyPattern, sequentialDatabase, preferences);
+        sequentialDatabase.getEntries().forEach(sequentialGenerator::generateAndSetKey);
+        new CitationKeyGenerator(bibtexKeyPattern, parallelDatabase, preferences).generateAndSetKeys(parallelDatabase.getEntries());
+
+        assertEquals(sequentialDatabase.getEntries().stream().map(BibEntry::getCitationKey).toList(),
+                parallelDatabase.getEntries().stream().map(BibEntry::getCitationKey).toList());
+    }
+
+    @Test
+    void generateKeysInChunksEqualsGenerationOneByOneAndReportsProgress() {
+        BibDatabase sequentialDatabase = new BibDatabase();
+        BibDatabase chunkedDatabase = new BibDatabase();
+        for (int i = 0; i < 2500; i++) {
+            BibEntry newEntry = new BibEntry()
+                    .withField(StandardField.AUTHOR, "John Doe" + (i % 7))
+                    .withField(StandardField.YEAR, String.valueOf(2000 + (i % 3)));
+            sequentialDatabase.insertEntry(newEntry);
+            chunkedDatabase.insertEntry(new BibEntry(newEntry));
+        }
+        List<Integer> progress = new ArrayList<>();
+
+        CitationKeyGenerator sequentialGenerator = new CitationKeyGenerator(bibtexKeyPattern, sequentialDatabase, preferences);
+        sequentialDatabase.getEntries().forEach(sequentialGenerator::generateAndSetKey);
+        new CitationKeyGenerator(bibtexKeyPattern, chunkedDatabase, preferences).generateAndSetKeys(chunkedDatabase.getEntries(), progress::add);
+
+        assertEquals(sequentialDatabase.getEntries().stream().map(BibEntry::getCitationKey).toList(),
+                chunkedDatabase.getEntries().stream().map(BibEntry::getCitationKey).toList());
+        assertEquals(List.of(1000, 2000, 2500), progress);
+    }
+
+    @Test
+    void generateKeysOfEntriesNotInDatabaseDoesNotCountTheirKeys() {
+        new CitationKeyGenerator(bibtexKeyPattern, database, preferences).generateAndSetKey(entry);
+        BibEntry first = new BibEntry()
+                .withField(StandardField.AUTHOR, "John Doe")
+                .withField(StandardField.YEAR, "2016");
+        BibEntry second = new BibEntry(first);
+
+        new CitationKeyGenerator(bibtexKeyPattern, database, preferences).generateAndSetKeys(List.of(first, second));
+
+        assertEquals(List.of(Optional.of("Doe2016a"), Optional.of("Doe2016a")), List.of(first.getCitationKey(), second.getCitationKey()));
+    }
 }
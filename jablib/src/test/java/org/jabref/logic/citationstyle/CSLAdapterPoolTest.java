@@ -0,0 +1,100 @@
+package org.jabref.logic.citationstyle;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.List;
+
+import org.jabref.logic.util.TestEntry;
+import org.jabref.model.database.BibDatabase;
+import org.jabref.model.database.BibDatabaseContext;
+import org.jabref.model.database.BibDatabaseMode;
+import org.jabref.model.entry.BibEntry;
+import org.jabref.model.entry.BibEntryTypesManager;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class CSLAdapterPoolTest {
+
+    private static final String DEFAULT_STYLE = CSLStyleLoader.getDefaultStyle().getSource();
+    private static final BibEntryTypesManager ENTRY_TYPES_MANAGER = new BibEntryTypesManager();
+
+    private final BibEntry testEntry = TestEntry.getTestEntry();
+    private final BibDatabaseContext testEntryContext = new BibDatabaseContext(new BibDatabase(List.of(testEntry)));
+
+    @BeforeEach
+    void setUp() {
+        testEntryContext.setMode(BibDatabaseMode.BIBLATEX);
+    }
+
+    @Test
+    void adapterIsReusedForSameStyleAndFormat() throws IOException {
+        CSLAdapterPool pool = new CSLAdapterPool();
+
+        CSLAdapter first = pool.withAdapter(DEFAULT_STYLE, CitationStyleOutputFormat.HTML, adapter -> adapter);
+        CSLAdapter second = pool.withAdapter(DEFAULT_STYLE, CitationStyleOutputFormat.HTML, adapter -> adapter);
+
+        assertSame(first, second);
+        assertEquals(1, pool.getIdleAdapterCount());
+    }
+
+    @Test
+    void adapterIsNotSharedBetweenFormats() throws IOException {
+        CSLAdapterPool pool = new CSLAdapterPool();
+
+        CSLAdapter html = pool.withAdapter(DEFAULT_STYLE, CitationStyleOutputFormat.HTML, adapter -> adapter);
+        CSLAdapter text = pool.withAdapter(DEFAULT_STYLE, CitationStyleOutputFormat.TEXT, adapter -> adapter);
+
+        assertNotSame(html, text);
+        assertEquals(2, pool.getIdleAdapterCount());
+    }
+
+    @Test
+    void nestedCallsGetDifferentAdapters() throws IOException {
+        CSLAdapterPool pool = new CSLAdapterPool();
+
+        CSLAdapter outer = pool.withAdapter(DEFAULT_STYLE, CitationStyleOutputFormat.HTML, adapter -> {
+            CSLAdapter inner = pool.withAdapter(DEFAULT_STYLE, CitationStyleOutputFormat.HTML, innerAdapter -> innerAdapter);
+            assertNotSame(adapter, inner);
+            return adapter;
+        });
+
+        assertEquals(2, pool.getIdleAdapterCount());
+        assertSame(outer, pool.withAdapter(DEFAULT_STYLE, CitationStyleOutputFormat.HTML, adapter -> adapter));
+    }
+
+    @Test
+    void idleAdaptersAreEvicted() throws IOException {
+        CSLAdapterPool pool = new CSLAdapterPool(Duration.ZERO);
+
+        pool.withAdapter(DEFAULT_STYLE, CitationStyleOutputFormat.HTML, adapter -> adapter);
+        pool.withAdapter(DEFAULT_STYLE, CitationStyleOutputFormat.TEXT, adapter -> adapter);
+
+        assertEquals(0, pool.getIdleAdapterCount());
+    }
+
+    @Test
+    void failingAdapterIsDropped() {
+        CSLAdapterPool pool = new CSLAdapterPool();
+
+        assertThrows(IllegalStateException.class, () -> pool.withAdapter(DEFAULT_STYLE, CitationStyleOutputFormat.HTML, _ -> {
+            throw new IllegalStateException();
+        }));
+        assertEquals(0, pool.getIdleAdapterCount());
+    }
+
+    @Test
+    void pooledAdapterRendersCitation() throws IOException {
+        CSLAdapterPool pool = new CSLAdapterPool();
+
+        String citation = pool.withAdapter(DEFAULT_STYLE, CitationStyleOutputFormat.HTML,
+                adapter -> adapter.makeCitation(List.of(testEntry), testEntryContext, ENTRY_TYPES_MANAGER).getText());
+
+        assertEquals("[1]", citation);
+    }
+}
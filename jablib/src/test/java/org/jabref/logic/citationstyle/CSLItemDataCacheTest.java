@@ -0,0 +1,80 @@
+package org.jabref.logic.citationstyle;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import org.jabref.model.database.BibDatabaseMode;
+import org.jabref.model.entry.BibEntry;
+import org.jabref.model.entry.BibEntryTypesManager;
+import org.jabref.model.entry.field.StandardField;
+
+import de.undercouch.citeproc.csl.CSLItemData;
+import de.undercouch.citeproc.csl.CSLItemDataBuilder;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+class CSLItemDataCacheTest {
+
+    private final CSLItemDataCache cache = new CSLItemDataCache();
+    private final BibEntryTypesManager entryTypesManager = new BibEntryTypesManager();
+    private final AtomicInteger conversions = new AtomicInteger();
+    private final Supplier<CSLItemData> converter = () -> {
+        conversions.incrementAndGet();
+        return new CSLItemDataBuilder().id("key").build();
+    };
+
+    @Test
+    void unchangedEntryIsConvertedOnce() {
+        BibEntry entry = new BibEntry().withCitationKey("key").withField(StandardField.TITLE, "Title");
+
+        CSLItemData first = cache.get(entry, BibDatabaseMode.BIBLATEX, entryTypesManager, converter);
+        CSLItemData second = cache.get(entry, BibDatabaseMode.BIBLATEX, entryTypesManager, converter);
+
+        assertSame(first, second);
+        assertEquals(1, conversions.get());
+    }
+
+    @Test
+    void fieldChangeInvalidatesEntry() {
+        BibEntry entry = new BibEntry().withCitationKey("key").withField(StandardField.TITLE, "Title");
+
+        cache.get(entry, BibDatabaseMode.BIBLATEX, entryTypesManager, converter);
+        entry.setField(StandardField.TITLE, "Other title");
+        cache.get(entry, BibDatabaseMode.BIBLATEX, entryTypesManager, converter);
+
+        assertEquals(2, conversions.get());
+    }
+
+    @Test
+    void otherModeIsConvertedAgain() {
+        BibEntry entry = new BibEntry().withCitationKey("key");
+
+        cache.get(entry, BibDatabaseMode.BIBLATEX, entryTypesManager, converter);
+        cache.get(entry, BibDatabaseMode.BIBTEX, entryTypesManager, converter);
+
+        assertEquals(2, conversions.get());
+    }
+
+    @Test
+    void entryWithCrossrefIsNotCached() {
+        BibEntry entry = new BibEntry().withCitationKey("key").withField(StandardField.CROSSREF, "parent");
+
+        cache.get(entry, BibDatabaseMode.BIBLATEX, entryTypesManager, converter);
+        cache.get(entry, BibDatabaseMode.BIBLATEX, entryTypesManager, converter);
+
+        assertEquals(2, conversions.get());
+        assertEquals(0, cache.size());
+    }
+
+    @Test
+    void entryWithStringReferenceIsNotCached() {
+        BibEntry entry = new BibEntry().withCitationKey("key").withField(StandardField.JOURNAL, "#jabref#");
+
+        cache.get(entry, BibDatabaseMode.BIBLATEX, entryTypesManager, converter);
+        cache.get(entry, BibDatabaseMode.BIBLATEX, entryTypesManager, converter);
+
+        assertEquals(2, conversions.get());
+    }
+}
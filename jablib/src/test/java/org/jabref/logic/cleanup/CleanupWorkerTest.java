@@ -343,4 +343,34 @@ class CleanupWorkerTest {
         worker.cleanup(preset, entry);
         assertEquals(Optional.of("01"), entry.getField(StandardField.MONTH));
     }
+
+    @Test
+    void cleanupOfManyEntriesEqualsCleanupOfSingleEntries() {
+        CleanupPreferences preset = new CleanupPreferences(
+                EnumSet.of(CleanupPreferences.CleanupStep.CLEAN_UP_DOI, CleanupPreferences.CleanupStep.CONVERT_TO_BIBLATEX),
+                new FieldFormatterCleanups(true, List.of(
+                        new FieldFormatterCleanup(StandardField.MONTH, new NormalizeMonthFormatter()),
+                        new FieldFormatterCleanup(StandardField.PAGES, new NormalizePagesFormatter()),
+                        new FieldFormatterCleanup(StandardField.TITLE, new HtmlToLatexFormatter()))));
+        List<BibEntry> entries = new ArrayList<>();
+        for (int i = 0; i < 100; i++) {
+            entries.add(new BibEntry()
+                    .withField(StandardField.MONTH, String.valueOf((i % 12) + 1))
+                    .withField(StandardField.PAGES, i + "-" + (i + 10))
+                    .withField(StandardField.TITLE, "&Epsilon; " + i)
+                    .withField(StandardField.JOURNAL, "Journal " + i)
+                    .withField(StandardField.URL, "http://dx.doi.org/10.1000/" + i));
+        }
+        entries.add(new BibEntry().withField(StandardField.TITLE, "nothing to clean up"));
+        List<BibEntry> expected = entries.stream().map(BibEntry::new).toList();
+        expected.forEach(entry -> worker.cleanup(preset, entry));
+
+        List<FieldChange> changes = worker.cleanup(preset, entries);
+
+        for (int i = 0; i < entries.size(); i++) {
+            assertEquals(expected.get(i).getFieldMap(), entries.get(i).getFieldMap());
+        }
+        // all entries but the last one are changed
+        assertEquals(100, changes.stream().map(FieldChange::getEntry).distinct().count());
+    }
 }
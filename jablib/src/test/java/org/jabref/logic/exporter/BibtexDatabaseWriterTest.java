@@ -13,7 +13,9 @@ import java.util.Arrays;
 import java.util.Collection;
 import java.util.List;
 
+import org.jabref.logic.bibtex.BibEntryWriter;
 import org.jabref.logic.bibtex.FieldPreferences;
+import org.jabref.logic.bibtex.FieldWriter;
 import org.jabref.logic.citationkeypattern.AbstractCitationKeyPatterns;
 import org.jabref.logic.citationkeypattern.CitationKeyPatternPreferences;
 import org.jabref.logic.citationkeypattern.DatabaseCitationKeyPatterns;
@@ -333,6 +335,42 @@ class BibDatabaseWriterTest {
         assertEquals(parsedSerialization + OS.NEWLINE, stringWriter.toString());
     }
 
+    @Test
+    void saveEntriesOneByOneEqualsSavingThemAtOnce() throws IOException {
+        database.addString(new BibtexString("name", "content"));
+        database.setPreamble("preamble");
+        metaData.setGroups(GroupTreeNode.fromGroup(new AllEntriesGroup("")));
+        BibEntry first = new BibEntry(StandardEntryType.Article).withCitationKey("first").withField(StandardField.TITLE, "#name#");
+        BibEntry second = new BibEntry(StandardEntryType.Book).withCitationKey("second");
+        database.insertEntries(first, second);
+
+        databaseWriter.savePartOfDatabase(bibtexContext, List.of(first, second));
+        String savedAtOnce = stringWriter.toString();
+
+        stringWriter.getBuffer().setLength(0);
+        try (StreamingExporter.EntryWriter entryWriter = databaseWriter.startSave(bibtexContext)) {
+            entryWriter.write(first);
+            entryWriter.write(second);
+        }
+
+        assertEquals(savedAtOnce, stringWriter.toString());
+    }
+
+    @Test
+    void saveEntriesOneByOneWritesStringsAddedLaterWhenClosed() throws IOException {
+        BibEntry entry = new BibEntry(StandardEntryType.Article).withCitationKey("key");
+
+        try (StreamingExporter.EntryWriter entryWriter = databaseWriter.startSave(bibtexContext)) {
+            entryWriter.write(entry);
+            database.addString(new BibtexString("name", "content"));
+        }
+
+        assertEquals("@Article{key," + OS.NEWLINE + "}" + OS.NEWLINE
+                        + OS.NEWLINE
+                        + "@String{name = {content}}" + OS.NEWLINE,
+                stringWriter.toString());
+    }
+
     @Test
     void writeStringAndEncoding() throws IOException {
         metaData.setEncoding(StandardCharsets.US_ASCII);
@@ -1086,4 +1124,31 @@ class BibDatabaseWriterTest {
         // returns tu original entry, not to the last saved one
         assertEquals(bibtexEntry, stringWriter.toString());
     }
+
+    @Test
+    void largeLibraryIsWrittenAsSequentially() throws IOException {
+        saveConfiguration = new SelfContainedSaveConfiguration(SaveOrder.getDefaultSaveOrder(), false, BibDatabaseWriter.SaveType.PLAIN_BIBTEX, false);
+        initializeDatabaseWriter();
+        for (int i = 0; i < 2000; i++) {
+            BibEntry entry = new BibEntry(StandardEntryType.Article)
+                    .withCitationKey("key" + i)
+                    .withField(StandardField.TITLE, "Title " + i);
+            if (i % 2 == 0) {
+                entry.setParsedSerialization("@Article{key" + i + ", title = {Title " + i + "}}\n");
+            } else {
+                entry.setChanged(true);
+            }
+            database.insertEntry(entry);
+        }
+
+        databaseWriter.savePartOfDatabase(bibtexContext, database.getEntries());
+
+        StringWriter expected = new StringWriter();
+        BibWriter expectedWriter = new BibWriter(expected, OS.NEWLINE);
+        BibEntryWriter entryWriter = new BibEntryWriter(new FieldWriter(fieldPreferences), entryTypesManager);
+        for (BibEntry entry : BibDatabaseWriter.getSortedEntries(database.getEntries(), saveConfiguration.getSelfContainedSaveOrder())) {
+            entryWriter.write(entry, expectedWriter, bibtexContext.getMode(), false);
+        }
+        assertEquals(expected.toString(), stringWriter.toString());
+    }
 }
@@ -58,6 +58,7 @@ import org.jabref.model.groups.RegexKeywordGroup;
 import org.jabref.model.groups.TexGroup;
 import org.jabref.model.groups.WordKeywordGroup;
 import org.jabref.model.metadata.SaveOrder;
+import org.jabref.model.util.DummyFileUpdateMonitor;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Disabled;
@@ -771,6 +772,25 @@ class BibtexParserTest {
         assertEquals("Bourdieu, Pierre", string.getContent());
     }
 
+    @Test
+    void parseWithEntryConsumerHandsOverEntriesInsteadOfAddingThem() throws IOException {
+        List<BibEntry> entries = new ArrayList<>();
+        List<String> resolvedAuthors = new ArrayList<>();
+        ParserResult result = parser
+                .parse(Reader.of("@string{bourdieu = {Bourdieu, Pierre}}"
+                                + "@article{first, author = bourdieu}"
+                                + "@book{second, title = {Title}}"),
+                        (entry, database) -> {
+                            entries.add(entry);
+                            entry.getResolvedFieldOrAlias(StandardField.AUTHOR, database).ifPresent(resolvedAuthors::add);
+                        });
+
+        assertEquals(List.of(Optional.of("first"), Optional.of("second")), entries.stream().map(BibEntry::getCitationKey).toList());
+        assertEquals(List.of("Bourdieu, Pierre"), resolvedAuthors);
+        assertEquals(0, result.getDatabase().getEntryCount());
+        assertEquals(1, result.getDatabase().getStringCount());
+    }
+
     @Test
     void parseRecognizesStringWithQuotes() throws IOException {
         ParserResult result = parser
@@ -2249,4 +2269,39 @@ class BibtexParserTest {
 
         assertEquals(List.of(firstEntry, secondEntry), result.getDatabase().getEntries());
     }
+
+    @Test
+    void sourceLocationsAreRecorded() throws IOException {
+        String content = """
+                % comment
+                @Misc{first,
+                  author = {A} # " and B",
+                  title = {T},
+                }
+
+                @Misc{first, year = 2000}
+                """;
+        ParserResult result = new BibtexParser(importFormatPreferences, new DummyFileUpdateMonitor(), true).parse(Reader.of(content));
+
+        List<SourceLocations.EntryLocation> locations = result.getSourceLocations().orElseThrow().getEntryLocations();
+        assertEquals(2, locations.size());
+
+        SourceLocations.EntryLocation first = locations.getFirst();
+        assertEquals("@Misc{first,\n  author = {A} # \" and B\",\n  title = {T},\n}", content.substring(first.span().start(), first.span().end()));
+        assertEquals("first", content.substring(first.citationKey().start(), first.citationKey().end()));
+        SourceLocations.Span author = first.getField(StandardField.AUTHOR).orElseThrow();
+        assertEquals("author = {A} # \" and B\"", content.substring(author.start(), author.end()));
+        assertEquals(List.of(StandardField.AUTHOR, StandardField.TITLE), List.copyOf(first.fields().keySet()));
+
+        // duplicated entries are located separately
+        SourceLocations.EntryLocation second = locations.get(1);
+        assertEquals("@Misc{first, year = 2000}", content.substring(second.span().start(), second.span().end()));
+        assertEquals(Optional.of(second), result.getSourceLocations().get().getEntryLocationAt(second.span().start() + 3));
+        assertEquals(Optional.empty(), result.getSourceLocations().get().getEntryLocationAt(content.indexOf("% comment")));
+    }
+
+    @Test
+    void sourceLocationsAreNotRecordedByDefault() throws IOException {
+        assertEquals(Optional.empty(), parser.parse(Reader.of("@Misc{a,}")).getSourceLocations());
+    }
 }
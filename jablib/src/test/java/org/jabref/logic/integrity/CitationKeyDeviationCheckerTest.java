@@ -3,6 +3,7 @@ package org.jabref.logic.integrity;
 import java.util.List;
 
 import org.jabref.logic.citationkeypattern.AbstractCitationKeyPatterns;
+import org.jabref.logic.citationkeypattern.CitationKeyGenerator;
 import org.jabref.logic.citationkeypattern.CitationKeyPatternPreferences;
 import org.jabref.logic.citationkeypattern.GlobalCitationKeyPatterns;
 import org.jabref.logic.l10n.Localization;
@@ -11,6 +12,7 @@ import org.jabref.model.database.BibDatabaseContext;
 import org.jabref.model.entry.BibEntry;
 import org.jabref.model.entry.field.InternalField;
 import org.jabref.model.entry.field.StandardField;
+import org.jabref.model.entry.types.StandardEntryType;
 import org.jabref.model.metadata.MetaData;
 
 import org.junit.jupiter.api.BeforeEach;
@@ -28,7 +30,8 @@ class CitationKeyDeviationCheckerTest {
     private final AbstractCitationKeyPatterns abstractCitationKeyPatterns = mock(AbstractCitationKeyPatterns.class);
     private final GlobalCitationKeyPatterns globalCitationKeyPatterns = mock(GlobalCitationKeyPatterns.class);
     private final CitationKeyPatternPreferences citationKeyPatternPreferences = mock(CitationKeyPatternPreferences.class);
-    private final CitationKeyDeviationChecker checker = new CitationKeyDeviationChecker(bibDatabaseContext, citationKeyPatternPreferences);
+
+    private CitationKeyDeviationChecker checker;
 
     @BeforeEach
     void setUp() {
@@ -36,6 +39,7 @@ class CitationKeyDeviationCheckerTest {
         when(citationKeyPatternPreferences.getKeyPatterns()).thenReturn(globalCitationKeyPatterns);
         when(metaData.getCiteKeyPatterns(citationKeyPatternPreferences.getKeyPatterns())).thenReturn(abstractCitationKeyPatterns);
         when(bibDatabaseContext.getDatabase()).thenReturn(bibDatabase);
+        checker = new CitationKeyDeviationChecker(bibDatabaseContext, citationKeyPatternPreferences);
     }
 
     @Test
@@ -47,4 +51,34 @@ class CitationKeyDeviationCheckerTest {
                 Localization.lang("Citation key deviates from generated key"), entry, InternalField.KEY_FIELD));
         assertEquals(expected, checker.check(entry));
     }
+
+    @Test
+    void keyPatternIsCompiledOncePerEntryType() {
+        GlobalCitationKeyPatterns keyPatterns = GlobalCitationKeyPatterns.fromPattern("[auth][year]");
+        keyPatterns.addCitationKeyPattern(StandardEntryType.Book, "[auth]:[year]");
+        CitationKeyPatternPreferences patternPreferences = new CitationKeyPatternPreferences(
+                false,
+                false,
+                false,
+                CitationKeyPatternPreferences.KeySuffix.SECOND_WITH_A,
+                "",
+                "",
+                CitationKeyGenerator.DEFAULT_UNWANTED_CHARACTERS,
+                keyPatterns,
+                "",
+                ',');
+        CitationKeyGenerator keyGenerator = new CitationKeyGenerator(keyPatterns, new BibDatabase(), patternPreferences);
+        CitationKeyDeviationChecker deviationChecker = new CitationKeyDeviationChecker(keyGenerator);
+
+        List<BibEntry> entries = List.of(
+                new BibEntry(StandardEntryType.Article).withCitationKey("Knuth2014").withField(StandardField.AUTHOR, "Knuth").withField(StandardField.YEAR, "2014"),
+                new BibEntry(StandardEntryType.Article).withCitationKey("Other").withField(StandardField.AUTHOR, "Lamport").withField(StandardField.YEAR, "1994"),
+                new BibEntry(StandardEntryType.Book).withCitationKey("Knuth:1997").withField(StandardField.AUTHOR, "Knuth").withField(StandardField.YEAR, "1997"),
+                new BibEntry(StandardEntryType.Book).withCitationKey("Lamport:1986").withField(StandardField.AUTHOR, "Lamport").withField(StandardField.YEAR, "1986"));
+
+        List<IntegrityMessage> messages = entries.stream().flatMap(entry -> deviationChecker.check(entry).stream()).toList();
+
+        assertEquals(List.of(new IntegrityMessage(Localization.lang("Citation key deviates from generated key"), entries.get(1), InternalField.KEY_FIELD)), messages);
+        assertEquals(2, keyGenerator.getNumberOfCompiledPatterns());
+    }
 }
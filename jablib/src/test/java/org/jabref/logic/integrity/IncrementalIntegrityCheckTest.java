@@ -0,0 +1,211 @@
+package org.jabref.logic.integrity;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+
+import org.jabref.logic.FilePreferences;
+import org.jabref.logic.citationkeypattern.CitationKeyGenerator;
+import org.jabref.logic.citationkeypattern.CitationKeyPattern;
+import org.jabref.logic.citationkeypattern.CitationKeyPatternPreferences;
+import org.jabref.logic.citationkeypattern.GlobalCitationKeyPatterns;
+import org.jabref.logic.bibtex.FileFieldWriter;
+import org.jabref.logic.journals.JournalAbbreviationLoader;
+import org.jabref.logic.journals.JournalAbbreviationRepository;
+import org.jabref.model.database.BibDatabase;
+import org.jabref.model.database.BibDatabaseContext;
+import org.jabref.model.database.BibDatabaseMode;
+import org.jabref.model.entry.BibEntry;
+import org.jabref.model.entry.LinkedFile;
+import org.jabref.model.entry.field.Field;
+import org.jabref.model.entry.field.InternalField;
+import org.jabref.model.entry.field.StandardField;
+import org.jabref.model.entry.types.StandardEntryType;
+
+import com.google.common.collect.HashMultiset;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+
+class IncrementalIntegrityCheckTest {
+
+    private static final JournalAbbreviationRepository ABBREVIATION_REPOSITORY = JournalAbbreviationLoader.loadBuiltInRepository();
+
+    private final BibDatabase database = new BibDatabase();
+    private final BibDatabaseContext databaseContext = new BibDatabaseContext(database);
+    private IncrementalIntegrityCheck incrementalCheck;
+    private boolean allowIntegerEdition;
+
+    @BeforeEach
+    void setUp() {
+        databaseContext.setMode(BibDatabaseMode.BIBLATEX);
+        incrementalCheck = new IncrementalIntegrityCheck(databaseContext, this::createIntegrityCheck);
+    }
+
+    @AfterEach
+    void tearDown() {
+        incrementalCheck.close();
+    }
+
+    @Test
+    void resolvingDuplicateKeyRemovesMessageOfOtherEntry() {
+        BibEntry first = createEntry("Key", 1);
+        BibEntry second = createEntry("Key", 2);
+        database.insertEntries(first, second);
+        assertTrue(hasMessageOn(first, StandardField.KEY));
+
+        second.setCitationKey("OtherKey");
+
+        assertEquals(List.of(), messagesOn(first, StandardField.KEY));
+        assertSameAsFullCheck();
+    }
+
+    @Test
+    void addingAndRemovingEntryWithSameDoiUpdatesMessages() {
+        BibEntry first = createEntry("First", 1).withField(StandardField.DOI, "10.1000/1");
+        database.insertEntry(first);
+        assertEquals(List.of(), messagesOn(first, StandardField.DOI));
+
+        BibEntry second = createEntry("Second", 2).withField(StandardField.DOI, "10.1000/1");
+        database.insertEntry(second);
+        assertEquals(List.of(DoiDuplicationChecker.createMessage(first)), messagesOn(first, StandardField.DOI));
+        assertSameAsFullCheck();
+
+        database.removeEntry(second);
+        assertEquals(List.of(), messagesOn(first, StandardField.DOI));
+        assertSameAsFullCheck();
+    }
+
+    @Test
+    void addingCrossrefTargetRemovesMessageOfLinkingEntry() {
+        BibEntry linking = createEntry("Linking", 1).withField(StandardField.CROSSREF, "Target");
+        database.insertEntry(linking);
+        assertTrue(hasMessageOn(linking, StandardField.CROSSREF));
+
+        database.insertEntry(createEntry("Target", 2));
+
+        assertEquals(List.of(), messagesOn(linking, StandardField.CROSSREF));
+        assertSameAsFullCheck();
+    }
+
+    @Test
+    void messagesAfterManyChangesEqualFullCheck() {
+        for (int i = 0; i < 50; i++) {
+            database.insertEntry(createEntry("Key" + (i % 30), i)
+                    .withField(StandardField.CROSSREF, "Key" + (i + 20))
+                    .withField(StandardField.DOI, "10.1000/" + (i % 40)));
+        }
+        incrementalCheck.getMessages();
+
+        List<BibEntry> entries = List.copyOf(database.getEntries());
+        for (int i = 0; i < entries.size(); i += 3) {
+            entries.get(i).setCitationKey("Key" + (i + 35));
+            entries.get(i + 1).setField(StandardField.DOI, "10.1000/" + (i % 7));
+        }
+        database.removeEntry(entries.get(2));
+
+        assertSameAsFullCheck();
+    }
+
+    @Test
+    void changeOfModeChecksAllEntriesAgain() {
+        database.insertEntry(createEntry("Key", 1).withField(StandardField.LOCATION, "Stuttgart"));
+        incrementalCheck.getMessages();
+
+        databaseContext.setMode(BibDatabaseMode.BIBTEX);
+
+        assertSameAsFullCheck();
+    }
+
+    @Test
+    void changeOfSettingsChecksAllEntriesAgain() {
+        databaseContext.setMode(BibDatabaseMode.BIBTEX);
+        BibEntry entry = createEntry("Key", 1).withField(StandardField.EDITION, "2");
+        database.insertEntry(entry);
+        assertTrue(hasMessageOn(entry, StandardField.EDITION));
+
+        allowIntegerEdition = true;
+
+        assertEquals(List.of(), messagesOn(entry, StandardField.EDITION));
+        assertSameAsFullCheck();
+    }
+
+    @Test
+    void changeOfCitationKeyPatternOfLibraryChecksAllEntriesAgain() {
+        BibEntry entry = createEntry("KnuthXyz", 1);
+        database.insertEntry(entry);
+        assertTrue(hasMessageOn(entry, InternalField.KEY_FIELD));
+
+        databaseContext.getMetaData().setCiteKeyPattern(new CitationKeyPattern("[auth]Xyz"), Map.of());
+
+        assertEquals(List.of(), messagesOn(entry, InternalField.KEY_FIELD));
+        assertSameAsFullCheck();
+    }
+
+    @Test
+    void linkedFilesAreCheckedAgainWithoutChangeOfLibrary(@TempDir Path tempDir) throws IOException {
+        Path file = Files.createFile(tempDir.resolve("paper.pdf"));
+        BibEntry entry = createEntry("Key", 1).withField(StandardField.FILE, FileFieldWriter.getStringRepresentation(new LinkedFile("", file, "PDF")));
+        database.insertEntry(entry);
+        assertEquals(List.of(), messagesOn(entry, StandardField.FILE));
+
+        Files.delete(file);
+
+        assertTrue(hasMessageOn(entry, StandardField.FILE));
+    }
+
+    @Test
+    void cancelledCheckIsCompletedAtNextCall() {
+        database.insertEntries(createEntry("Key", 1), createEntry("Key", 2));
+
+        assertEquals(List.of(), incrementalCheck.getMessages(() -> true));
+        assertSameAsFullCheck();
+    }
+
+    private void assertSameAsFullCheck() {
+        // The full check reports the duplicate DOIs after all entries, thus the order is not compared
+        assertEquals(HashMultiset.create(createIntegrityCheck(databaseContext).check()), HashMultiset.create(incrementalCheck.getMessages()));
+    }
+
+    private boolean hasMessageOn(BibEntry entry, Field field) {
+        return !messagesOn(entry, field).isEmpty();
+    }
+
+    private List<IntegrityMessage> messagesOn(BibEntry entry, Field field) {
+        return incrementalCheck.getMessages(entry).stream()
+                               .filter(message -> message.field() == field)
+                               .toList();
+    }
+
+    private static BibEntry createEntry(String citationKey, int number) {
+        return new BibEntry(StandardEntryType.Article)
+                .withCitationKey(citationKey)
+                .withField(StandardField.AUTHOR, "Knuth, Donald E.")
+                .withField(StandardField.TITLE, "Title " + number);
+    }
+
+    private IntegrityCheck createIntegrityCheck(BibDatabaseContext databaseContext) {
+        return new IntegrityCheck(databaseContext,
+                mock(FilePreferences.class),
+                new CitationKeyPatternPreferences(
+                        false,
+                        false,
+                        false,
+                        CitationKeyPatternPreferences.KeySuffix.SECOND_WITH_B,
+                        "",
+                        "",
+                        CitationKeyGenerator.DEFAULT_UNWANTED_CHARACTERS,
+                        GlobalCitationKeyPatterns.fromPattern("[auth][year]"),
+                        "",
+                        ','),
+                ABBREVIATION_REPOSITORY,
+                allowIntegerEdition);
+    }
+}
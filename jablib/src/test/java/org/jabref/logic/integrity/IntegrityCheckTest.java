@@ -3,6 +3,7 @@ package org.jabref.logic.integrity;
 import java.io.IOException;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
@@ -146,6 +147,33 @@ class IntegrityCheckTest {
         assertEquals(clonedEntry, entry);
     }
 
+    @Test
+    void checkOfLibraryEqualsChecksOfSingleEntries() {
+        BibDatabase bibDatabase = new BibDatabase();
+        for (int i = 0; i < 200; i++) {
+            bibDatabase.insertEntry(new BibEntry(StandardEntryType.Article)
+                    .withCitationKey("Key" + (i % 150))
+                    .withField(StandardField.AUTHOR, "Knuth, Donald E. " + i)
+                    .withField(StandardField.TITLE, "title " + i)
+                    .withField(StandardField.CROSSREF, "Key" + (i + 100))
+                    .withField(StandardField.DOI, "10.1000/" + (i % 180)));
+        }
+        BibDatabaseContext context = new BibDatabaseContext(bibDatabase);
+        IntegrityCheck integrityCheck = new IntegrityCheck(context,
+                mock(FilePreferences.class),
+                createCitationKeyPatternPreferences(),
+                JournalAbbreviationLoader.loadBuiltInRepository(),
+                false);
+
+        List<IntegrityMessage> expected = new ArrayList<>();
+        for (BibEntry entry : bibDatabase.getEntries()) {
+            expected.addAll(integrityCheck.checkEntry(entry));
+        }
+        expected.addAll(integrityCheck.checkDatabase(bibDatabase));
+
+        assertEquals(expected, integrityCheck.check());
+    }
+
     private BibDatabaseContext createContext(Field field, String value, EntryType type) {
         BibEntry entry = new BibEntry(type)
                 .withField(field, value);
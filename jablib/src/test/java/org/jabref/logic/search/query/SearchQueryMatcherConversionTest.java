@@ -0,0 +1,94 @@
+package org.jabref.logic.search.query;
+
+import java.util.EnumSet;
+import java.util.stream.Stream;
+
+import org.jabref.model.entry.BibEntry;
+import org.jabref.model.entry.field.StandardField;
+import org.jabref.model.entry.types.StandardEntryType;
+import org.jabref.model.search.SearchFlags;
+import org.jabref.model.search.query.SearchQuery;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class SearchQueryMatcherConversionTest {
+
+    private static final BibEntry ENTRY = new BibEntry(StandardEntryType.Article)
+            .withCitationKey("Smith2021")
+            .withField(StandardField.AUTHOR, "John Smith and Jane M{\\\"{u}}ller")
+            .withField(StandardField.TITLE, "Image Processing with {Deep} Learning")
+            .withField(StandardField.KEYWORDS, "image, neural networks")
+            .withField(StandardField.GROUPS, "Reading list")
+            .withField(StandardField.DATE, "2021-05");
+
+    public static Stream<Arguments> searchConversion() {
+        return Stream.of(
+                Arguments.of(true, "image"),
+                Arguments.of(true, "processing learning"),
+                Arguments.of(false, "processing video"),
+                Arguments.of(true, "title = image"),
+                Arguments.of(false, "title =! image"),
+                Arguments.of(true, "title =! Image"),
+                Arguments.of(false, "title == image"),
+                Arguments.of(true, "title == \"image processing with deep learning\""),
+                Arguments.of(true, "title =~ \"^image.*learning$\""),
+                Arguments.of(false, "title =~! \"^image\""),
+                Arguments.of(true, "title != video"),
+                Arguments.of(false, "title != image"),
+
+                // LaTeX-free values
+                Arguments.of(true, "author = Müller"),
+
+                // split values
+                Arguments.of(true, "author == \"John Smith\""),
+                Arguments.of(false, "author = \"Smith, John\""),
+                Arguments.of(true, "anykeyword == image"),
+                Arguments.of(false, "keywords == neural"),
+                Arguments.of(true, "keywords == \"neural networks\""),
+                Arguments.of(true, "groups == \"Reading list\""),
+
+                // groups are not part of any field
+                Arguments.of(false, "reading"),
+                Arguments.of(true, "groups = reading"),
+
+                // pseudo-fields
+                Arguments.of(true, "key == Smith2021"),
+                Arguments.of(true, "anyfield = smith2021"),
+                Arguments.of(true, "entrytype = article"),
+
+                // date fields are resolved
+                Arguments.of(true, "year == 2021"),
+                Arguments.of(true, "month = may"),
+
+                // empty terms
+                Arguments.of(true, "journal = \"\""),
+                Arguments.of(false, "title = \"\""),
+                Arguments.of(true, "title != \"\""),
+
+                Arguments.of(true, "image AND NOT video"),
+                Arguments.of(false, "NOT image"),
+                Arguments.of(true, "video OR author = smith"),
+                Arguments.of(true, "(video OR image) AND year = 2021")
+        );
+    }
+
+    @ParameterizedTest
+    @MethodSource
+    void searchConversion(boolean expected, String searchExpression) {
+        SearchQuery searchQuery = new SearchQuery(searchExpression);
+        assertEquals(expected, SearchQueryConversion.searchToMatcher(searchQuery, null, ',').isMatch(ENTRY));
+    }
+
+    @Test
+    void searchBarFlagsApplyToUnfieldedTerms() {
+        assertFalse(SearchQueryConversion.searchToMatcher(new SearchQuery("IMAGE", EnumSet.of(SearchFlags.CASE_SENSITIVE)), null, ',').isMatch(ENTRY));
+        assertTrue(SearchQueryConversion.searchToMatcher(new SearchQuery("Im.ge", EnumSet.of(SearchFlags.REGULAR_EXPRESSION)), null, ',').isMatch(ENTRY));
+    }
+}
@@ -1,5 +1,6 @@
 package org.jabref.logic.shared;
 
+import java.sql.Connection;
 import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.util.ArrayList;
@@ -303,6 +304,51 @@ class DBMSProcessorTest {
         assertEquals(expectedIDVersionMap, actualIDVersionMap);
     }
 
+    @Test
+    void getChangesBetween() throws OfflineLockException, SQLException {
+        BibEntry firstEntry = getBibEntryExample();
+        BibEntry secondEntry = getBibEntryExample();
+
+        dbmsProcessor.insertEntry(firstEntry);
+        long boundAfterFirstInsertion = dbmsProcessor.getCompletedTransactionsBound();
+        dbmsProcessor.insertEntry(secondEntry);
+        dbmsProcessor.updateEntry(secondEntry);
+        dbmsProcessor.removeEntries(List.of(firstEntry));
+
+        List<SharedEntryChange> changes = dbmsProcessor.getChangesBetween(boundAfterFirstInsertion, dbmsProcessor.getCompletedTransactionsBound());
+
+        int firstID = firstEntry.getSharedBibEntryData().getSharedID();
+        int secondID = secondEntry.getSharedBibEntryData().getSharedID();
+        assertEquals(List.of(secondID, secondID, firstID), changes.stream().map(SharedEntryChange::sharedID).toList());
+        assertEquals(List.of(1, 2, 1), changes.stream().map(SharedEntryChange::version).toList());
+        assertEquals(List.of(false, false, true), changes.stream().map(SharedEntryChange::removed).toList());
+    }
+
+    @Test
+    void getChangesBetweenReturnsChangesOfRunningTransactionAfterItsCompletion() throws SQLException {
+        BibEntry entry = getBibEntryExample();
+        dbmsProcessor.insertEntry(entry);
+        long boundBeforeTransaction = dbmsProcessor.getCompletedTransactionsBound();
+
+        Connection connection = dbmsConnection.getConnection();
+        connection.setAutoCommit(false);
+        long boundDuringTransaction;
+        try {
+            connection.createStatement().executeUpdate("INSERT INTO " + escape_Table("ENTRY_CHANGE", dbmsProcessor) + "("
+                    + escape("ENTRY_SHARED_ID", dbmsProcessor) + ", " + escape("VERSION", dbmsProcessor) + ") VALUES("
+                    + entry.getSharedBibEntryData().getSharedID() + ", 2)");
+            boundDuringTransaction = dbmsProcessor.getCompletedTransactionsBound();
+            connection.commit();
+        } finally {
+            connection.setAutoCommit(true);
+        }
+
+        // Not yet completed, thus not part of the changes up to the bound read while the transaction was running
+        assertEquals(List.of(), dbmsProcessor.getChangesBetween(boundBeforeTransaction, boundDuringTransaction));
+        List<SharedEntryChange> changes = dbmsProcessor.getChangesBetween(boundDuringTransaction, dbmsProcessor.getCompletedTransactionsBound());
+        assertEquals(List.of(2), changes.stream().map(SharedEntryChange::version).toList());
+    }
+
     @Test
     void getSharedMetaData() {
         insertMetaData("databaseType", "bibtex;", dbmsConnection, dbmsProcessor);
@@ -212,6 +212,23 @@ class DBMSSynchronizerTest {
         assertEquals(List.of(modifiedBibEntry), dbmsProcessor.getSharedEntries());
     }
 
+    @Test
+    void synchronizeLocalDatabaseWithEntryUpdateAndInsertion() throws SQLException, OfflineLockException {
+        BibEntry bibEntry = createExampleBibEntry(1);
+        bibDatabase.insertEntry(bibEntry);
+
+        BibEntry modifiedBibEntry = createExampleBibEntry(1)
+                .withField(new UnknownField("custom"), "custom value");
+        dbmsProcessor.updateEntry(modifiedBibEntry);
+        BibEntry newBibEntry = createExampleBibEntry(2);
+        dbmsProcessor.insertEntry(newBibEntry);
+
+        dbmsSynchronizer.synchronizeLocalDatabase();
+
+        assertEquals(List.of(modifiedBibEntry, newBibEntry), bibDatabase.getEntries());
+        assertEquals(List.of(modifiedBibEntry, newBibEntry), dbmsProcessor.getSharedEntries());
+    }
+
     @Test
     void updateEntryDoesNotModifyLocalDatabase() throws SQLException, OfflineLockException {
         BibEntry bibEntry = createExampleBibEntry(1);
@@ -0,0 +1,54 @@
+package org.jabref.logic.shared;
+
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class LiveUpdateNotificationTest {
+
+    @Test
+    void deltaSurvivesRoundTrip() {
+        LiveUpdateNotification notification = LiveUpdateNotification.ofChanges("processor", Map.of(1, 2, 3, 4), Set.of(5, 6));
+
+        assertEquals(notification, LiveUpdateNotification.fromPayload(notification.toPayload()));
+    }
+
+    @Test
+    void processorIdOnlyRequestsFullSync() {
+        assertEquals(LiveUpdateNotification.fullSync("processor"), LiveUpdateNotification.fromPayload("processor"));
+    }
+
+    @Test
+    void malformedPayloadRequestsFullSync() {
+        assertEquals(LiveUpdateNotification.fullSync("processor"), LiveUpdateNotification.fromPayload("processor;1:x;"));
+    }
+
+    @Test
+    void tooLargeDeltaFallsBackToFullSync() {
+        Map<Integer, Integer> changes = IntStream.range(0, 2000).boxed().collect(Collectors.toMap(id -> id, _ -> 1));
+        LiveUpdateNotification notification = LiveUpdateNotification.ofChanges("processor", changes, Set.of());
+
+        assertEquals("processor", notification.toPayload());
+    }
+
+    @Test
+    void mergeKeepsHighestVersionAndRemovals() {
+        LiveUpdateNotification first = LiveUpdateNotification.ofChanges("processor", Map.of(1, 2, 3, 1), Set.of());
+        LiveUpdateNotification second = LiveUpdateNotification.ofChanges("processor", Map.of(1, 3), Set.of(3));
+
+        assertEquals(LiveUpdateNotification.ofChanges("processor", Map.of(1, 3), Set.of(3)), first.merge(second));
+    }
+
+    @Test
+    void mergeWithFullSyncIsFullSync() {
+        LiveUpdateNotification delta = LiveUpdateNotification.ofChanges("processor", Map.of(1, 2), Set.of());
+
+        assertTrue(delta.merge(LiveUpdateNotification.fullSync("processor")).fullSync());
+    }
+}
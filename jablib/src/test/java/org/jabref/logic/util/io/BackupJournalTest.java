@@ -0,0 +1,109 @@
+package org.jabref.logic.util.io;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
+
+import org.jabref.logic.importer.ImportFormatPreferences;
+import org.jabref.model.database.BibDatabase;
+import org.jabref.model.entry.BibEntry;
+import org.jabref.model.entry.field.StandardField;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.Answers;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class BackupJournalTest {
+
+    private static final Instant FIRST = Instant.ofEpochMilli(1000);
+    private static final Instant SECOND = Instant.ofEpochMilli(2000);
+
+    private BackupJournal journal;
+    private ImportFormatPreferences importFormatPreferences;
+
+    @BeforeEach
+    void setUp(@TempDir Path tempDir) {
+        journal = BackupJournal.forBackup(tempDir.resolve("library.bib--2025-01-01--00.00.00.bak"));
+        importFormatPreferences = mock(ImportFormatPreferences.class, Answers.RETURNS_DEEP_STUBS);
+        when(importFormatPreferences.bibEntryPreferences().getKeywordSeparator()).thenReturn(',');
+    }
+
+    @Test
+    void appendedBatchesAreRead() throws IOException {
+        BackupJournal.Batch first = new BackupJournal.Batch(FIRST, List.of(new BackupJournal.EntryWritten(0, "@Misc{a,\n  title = {First},\n}\n")));
+        BackupJournal.Batch second = new BackupJournal.Batch(SECOND, List.of(new BackupJournal.EntryRemoved(1)));
+
+        journal.append(2, first);
+        journal.append(2, second);
+
+        assertEquals(new BackupJournal.Journal(2, List.of(first, second)), journal.read());
+    }
+
+    @Test
+    void incompleteBatchIsIgnored() throws IOException {
+        BackupJournal.Batch first = new BackupJournal.Batch(FIRST, List.of(new BackupJournal.EntryRemoved(0)));
+        journal.append(1, first);
+        Files.writeString(journal.getPath(), "@batch 2000 30 0\nW 1 100\n@Misc{b,", StandardCharsets.UTF_8, StandardOpenOption.APPEND);
+
+        assertEquals(List.of(first), journal.read().batches());
+    }
+
+    @Test
+    void batchesAfterIncompleteBatchAreRead() throws IOException {
+        BackupJournal.Batch first = new BackupJournal.Batch(FIRST, List.of(new BackupJournal.EntryRemoved(0)));
+        BackupJournal.Batch second = new BackupJournal.Batch(SECOND, List.of(new BackupJournal.EntryRemoved(1)));
+        journal.append(2, first);
+        Files.writeString(journal.getPath(), "@batch 1500 30 0\nW 1 100\n@Misc{b,", StandardCharsets.UTF_8, StandardOpenOption.APPEND);
+        journal.append(2, second);
+
+        assertEquals(List.of(first, second), journal.read().batches());
+    }
+
+    @Test
+    void corruptedBatchIsSkipped() throws IOException {
+        BackupJournal.Batch first = new BackupJournal.Batch(FIRST, List.of(new BackupJournal.EntryWritten(0, "@Misc{a,\n  title = {First},\n}\n")));
+        BackupJournal.Batch second = new BackupJournal.Batch(SECOND, List.of(new BackupJournal.EntryRemoved(1)));
+        journal.append(2, first);
+        journal.append(2, second);
+        Files.writeString(journal.getPath(), Files.readString(journal.getPath()).replace("First", "Fir5t"));
+
+        assertEquals(List.of(second), journal.read().batches());
+    }
+
+    @Test
+    void replayAppliesBatchesUntilPointInTime() throws IOException {
+        BibEntry unchanged = new BibEntry().withCitationKey("unchanged");
+        BibEntry modified = new BibEntry().withCitationKey("modified");
+        BibDatabase database = new BibDatabase(List.of(unchanged, modified));
+        journal.append(2, new BackupJournal.Batch(FIRST, List.of(
+                new BackupJournal.EntryWritten(1, "@Misc{modified,\n  title = {Title},\n}\n"),
+                new BackupJournal.EntryWritten(2, "@Misc{added,\n}\n"))));
+        journal.append(2, new BackupJournal.Batch(SECOND, List.of(new BackupJournal.EntryRemoved(0))));
+
+        BackupJournal.replay(database, journal.read(), FIRST, importFormatPreferences);
+
+        assertEquals(List.of("unchanged", "modified", "added"),
+                database.getEntries().stream().map(entry -> entry.getCitationKey().orElseThrow()).toList());
+        assertEquals(Optional.of("Title"), database.getEntries().get(1).getField(StandardField.TITLE));
+    }
+
+    @Test
+    void replayIgnoresJournalOfOtherBase() throws IOException {
+        BibDatabase database = new BibDatabase(List.of(new BibEntry().withCitationKey("only")));
+        journal.append(2, new BackupJournal.Batch(FIRST, List.of(new BackupJournal.EntryRemoved(0))));
+
+        assertFalse(BackupJournal.replay(database, journal.read(), Instant.MAX, importFormatPreferences));
+        assertEquals(1, database.getEntryCount());
+    }
+}
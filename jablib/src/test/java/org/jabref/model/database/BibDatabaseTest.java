@@ -11,6 +11,7 @@ import java.util.Set;
 
 import org.jabref.model.entry.BibEntry;
 import org.jabref.model.entry.BibtexString;
+import org.jabref.model.entry.event.FieldChangedEvent;
 import org.jabref.model.entry.field.StandardField;
 import org.jabref.model.entry.field.UnknownField;
 import org.jabref.model.entry.types.StandardEntryType;
@@ -22,6 +23,7 @@ import org.junit.jupiter.api.Test;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
@@ -44,6 +46,20 @@ class BibDatabaseTest {
         assertEquals(entry, database.getEntries().getFirst());
     }
 
+    @Test
+    void entriesSnapshotIsReusedUntilEntriesAreInsertedOrRemoved() {
+        BibEntry entry = new BibEntry();
+        database.insertEntry(entry);
+        List<BibEntry> snapshot = database.getEntriesSnapshot();
+
+        entry.setField(StandardField.TITLE, "title");
+        assertSame(snapshot, database.getEntriesSnapshot());
+
+        database.removeEntry(entry);
+        assertEquals(List.of(entry), snapshot);
+        assertEquals(List.of(), database.getEntriesSnapshot());
+    }
+
     @Test
     void containsEntryIdFindsEntry() {
         BibEntry entry = new BibEntry();
@@ -313,6 +329,92 @@ class BibDatabaseTest {
         assertEquals(entry, tel.getChangedEntry());
     }
 
+    @Test
+    void batchEditPostsOneBatchEventAtTheEnd() {
+        BibEntry first = new BibEntry();
+        BibEntry second = new BibEntry();
+        database.insertEntries(first, second);
+        EventListenerTest tel = new EventListenerTest();
+        database.registerListener(tel);
+
+        try (BatchEdit _ = database.beginBatchEdit()) {
+            first.setField(StandardField.TITLE, "first");
+            second.setField(StandardField.TITLE, "second");
+            first.setField(StandardField.YEAR, "2025");
+
+            assertNull(tel.getChangedEntry());
+            assertEquals(List.of(), tel.getBatchEvents());
+        }
+
+        assertNull(tel.getChangedEntry());
+        assertEquals(1, tel.getBatchEvents().size());
+        assertEquals(List.of(first, second), tel.getBatchEvents().getFirst().getBibEntries());
+        assertEquals(3, tel.getBatchEvents().getFirst().getFieldChanges().size());
+    }
+
+    @Test
+    void nestedBatchEditPostsEventAtTheEndOfOutermostBatchEdit() {
+        BibEntry entry = new BibEntry();
+        database.insertEntry(entry);
+        EventListenerTest tel = new EventListenerTest();
+        database.registerListener(tel);
+
+        try (BatchEdit _ = database.beginBatchEdit()) {
+            try (BatchEdit _ = database.beginBatchEdit()) {
+                entry.setField(StandardField.TITLE, "title");
+            }
+            assertEquals(List.of(), tel.getBatchEvents());
+        }
+
+        assertEquals(1, tel.getBatchEvents().size());
+    }
+
+    @Test
+    void changesOfBatchEditCompletionArePartOfBatchEvent() {
+        BibEntry entry = new BibEntry();
+        database.insertEntry(entry);
+        database.addBatchEditCompletion(fieldChanges -> fieldChanges.forEach(change -> change.getBibEntry().setField(StandardField.NOTE, "completed")));
+        EventListenerTest tel = new EventListenerTest();
+        database.registerListener(tel);
+
+        try (BatchEdit _ = database.beginBatchEdit()) {
+            entry.setField(StandardField.TITLE, "title");
+        }
+
+        assertNull(tel.getChangedEntry());
+        assertEquals(1, tel.getBatchEvents().size());
+        assertEquals(List.of(StandardField.TITLE, StandardField.NOTE),
+                tel.getBatchEvents().getFirst().getFieldChanges().stream().map(FieldChangedEvent::getField).toList());
+    }
+
+    @Test
+    void batchEditWithoutChangesPostsNoEvent() {
+        EventListenerTest tel = new EventListenerTest();
+        database.registerListener(tel);
+
+        try (BatchEdit _ = database.beginBatchEdit()) {
+            database.insertEntry(new BibEntry());
+        }
+
+        assertEquals(List.of(), tel.getBatchEvents());
+    }
+
+    @Test
+    void changesAfterBatchEditArePostedAsUsual() {
+        BibEntry entry = new BibEntry();
+        database.insertEntry(entry);
+        EventListenerTest tel = new EventListenerTest();
+        database.registerListener(tel);
+
+        try (BatchEdit _ = database.beginBatchEdit()) {
+            entry.setField(StandardField.TITLE, "title");
+        }
+        entry.setField(StandardField.YEAR, "2025");
+
+        assertEquals(entry, tel.getChangedEntry());
+        assertEquals(1, tel.getBatchEvents().size());
+    }
+
     @Test
     void correctKeyCountOne() {
         BibEntry entry = new BibEntry();
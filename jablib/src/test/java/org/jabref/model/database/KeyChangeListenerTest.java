@@ -52,6 +52,16 @@ class KeyChangeListenerTest {
         assertEquals(Optional.of("Banana"), entry1.getField(StandardField.CROSSREF));
     }
 
+    @Test
+    void crossrefChangedDuringBatchEdit() {
+        try (BatchEdit _ = db.beginBatchEdit()) {
+            entry4.setCitationKey("Banana");
+            assertEquals(Optional.of("Banana"), entry1.getField(StandardField.CROSSREF));
+            assertEquals(Optional.of(entry4), db.getReferencedEntry(entry1));
+        }
+        assertEquals(Optional.of("Banana"), entry1.getField(StandardField.CROSSREF));
+    }
+
     @Test
     void relatedChanged() {
         assertEquals(Optional.of("Entry1,Entry3"), entry2.getField(StandardField.RELATED));
@@ -0,0 +1,45 @@
+package org.jabref.model.entry;
+
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.Set;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+class AuthorListCacheTest {
+
+    private static final String AUTHORS = "Knuth, Donald E. and Kurt G{\\\"{o}}del";
+
+    @Test
+    void parseVariantsShareParsedList() {
+        AuthorList authorList = AuthorList.parse(AUTHORS);
+
+        assertEquals(2, authorList.getNumberOfAuthors());
+        assertSame(authorList, AuthorList.parse(new String(AUTHORS)));
+        assertSame(authorList, AuthorListCache.getDefault().parse(AUTHORS));
+    }
+
+    @Test
+    void parseVariantsShareFormattedNames() {
+        assertSame(AuthorList.parse(AUTHORS).getAsLastFirstNamesWithAnd(false), AuthorList.fixAuthorLastNameFirst(AUTHORS));
+        assertSame(AuthorList.parse(AUTHORS).getAsFirstLastNamesWithAnd(), AuthorList.fixAuthorFirstNameFirst(AUTHORS));
+    }
+
+    @Test
+    void authorsParsedByManyThreadsAreParsedOnce() {
+        AuthorListCache cache = new AuthorListCache(100);
+        Set<AuthorList> authorLists = Collections.synchronizedSet(Collections.newSetFromMap(new IdentityHashMap<>()));
+
+        IntStream.range(0, 10_000)
+                 .parallel()
+                 .mapToObj(i -> cache.parse("Author " + (i % 10) + " and Second Author"))
+                 .forEach(authorLists::add);
+
+        assertEquals(10, authorLists.size());
+        assertEquals(10, cache.getStatistics().missCount());
+    }
+}
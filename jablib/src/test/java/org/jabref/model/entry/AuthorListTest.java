@@ -1242,4 +1242,22 @@ public class AuthorListTest {
         assertEquals("al-Khw{\\={a}}rizm{\\={i}}, M. and C. B{\\\"o}hm and K. G{\\\"{o}}del",
                 THREE_AUTHORS_WITH_LATEX.getAsLastFirstFirstLastNamesWithAnd(true));
     }
+
+    @Test
+    void memoizedFormattedNamesEqualNamesOfNewList() {
+        for (boolean abbreviate : List.of(false, true)) {
+            for (boolean oxfordComma : List.of(false, true)) {
+                assertEquals(AuthorList.of(THREE_AUTHORS_WITH_LATEX.getAuthors()).getAsLastFirstNames(abbreviate, oxfordComma),
+                        THREE_AUTHORS_WITH_LATEX.getAsLastFirstNames(abbreviate, oxfordComma));
+                assertEquals(AuthorList.of(THREE_AUTHORS_WITH_LATEX.getAuthors()).getAsFirstLastNames(abbreviate, oxfordComma),
+                        THREE_AUTHORS_WITH_LATEX.getAsFirstLastNames(abbreviate, oxfordComma));
+            }
+            assertEquals(AuthorList.of(THREE_AUTHORS_WITH_LATEX.getAuthors()).getAsLastFirstNamesWithAnd(abbreviate),
+                    THREE_AUTHORS_WITH_LATEX.getAsLastFirstNamesWithAnd(abbreviate));
+            assertEquals(AuthorList.of(THREE_AUTHORS_WITH_LATEX.getAuthors()).getAsLastFirstFirstLastNamesWithAnd(abbreviate),
+                    THREE_AUTHORS_WITH_LATEX.getAsLastFirstFirstLastNamesWithAnd(abbreviate));
+            assertEquals(AuthorList.of(THREE_AUTHORS_WITH_LATEX.getAuthors()).getAsLastNames(abbreviate),
+                    THREE_AUTHORS_WITH_LATEX.getAsLastNames(abbreviate));
+        }
+    }
 }
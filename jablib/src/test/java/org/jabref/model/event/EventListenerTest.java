@@ -1,8 +1,10 @@
 package org.jabref.model.event;
 
+import java.util.ArrayList;
 import java.util.List;
 
 import org.jabref.model.database.event.EntriesAddedEvent;
+import org.jabref.model.database.event.EntriesChangedBatchEvent;
 import org.jabref.model.database.event.EntriesRemovedEvent;
 import org.jabref.model.entry.BibEntry;
 import org.jabref.model.entry.event.EntryChangedEvent;
@@ -15,6 +17,7 @@ public class EventListenerTest {
     private BibEntry firstInsertedEntry;
     private List<BibEntry> removedEntries;
     private BibEntry changedEntry;
+    private final List<EntriesChangedBatchEvent> batchEvents = new ArrayList<>();
 
     @Subscribe
     public void listen(EntriesAddedEvent event) {
@@ -32,6 +35,11 @@ public class EventListenerTest {
         this.changedEntry = event.getBibEntry();
     }
 
+    @Subscribe
+    public void listen(EntriesChangedBatchEvent event) {
+        this.batchEvents.add(event);
+    }
+
     public List<BibEntry> getAddedEntries() {
         return addedEntries;
     }
@@ -47,4 +55,8 @@ public class EventListenerTest {
     public BibEntry getChangedEntry() {
         return changedEntry;
     }
+
+    public List<EntriesChangedBatchEvent> getBatchEvents() {
+        return batchEvents;
+    }
 }
@@ -0,0 +1,29 @@
+package org.jabref.model.strings;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+class LatexFreeValueCacheTest {
+
+    private final LatexFreeValueCache cache = new LatexFreeValueCache(1_000);
+
+    @Test
+    void valueIsConvertedOnce() {
+        String first = cache.format("M{\\\"{o}}nch");
+        String second = cache.format("M{\\\"{o}}nch");
+
+        assertEquals("Mönch", first);
+        assertSame(first, second);
+        assertEquals(1, cache.size());
+    }
+
+    @Test
+    void valueLongerThanMaximumIsNotKept() {
+        String value = "a".repeat(1_000);
+
+        assertEquals(value, cache.format(value));
+        assertEquals(0, cache.size());
+    }
+}
@@ -0,0 +1,137 @@
+package org.jabref.model.strings;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+import org.jabref.logic.importer.ImportFormatPreferences;
+import org.jabref.logic.importer.Importer;
+import org.jabref.logic.importer.fileformat.BibtexParser;
+import org.jabref.model.entry.BibEntry;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+import org.junit.jupiter.params.provider.MethodSource;
+import org.mockito.Answers;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class SimpleLatexToUnicodeTest {
+
+    private static final List<String> SYMBOL_ACCENTS = List.of("\"", "'", "`", "^", "~", "=", ".");
+    private static final List<String> LETTER_ACCENTS = List.of("u", "v", "H", "c", "k", "d", "r", "b");
+    private static final List<String> LETTER_COMMANDS = List.of("i", "j", "o", "O", "l", "L", "ss", "ae", "AE", "oe", "OE", "aa", "AA");
+    private static final String LETTERS = "aeiouyAEIOUYcCgGnNrRsSzZ";
+
+    @Test
+    void plainTextIsReturnedWithoutCopy() {
+        String value = "A title without any LaTeX";
+
+        assertSame(value, SimpleLatexToUnicode.convert(value).orElseThrow());
+    }
+
+    @ParameterizedTest
+    @CsvSource(delimiter = ';', quoteCharacter = '|', value = {
+            "ü; {\\\"u}",
+            "ü; \\\"{u}",
+            "ü; \\\"u",
+            "é; \\'{e}",
+            "č; \\v{c}",
+            "ı; {\\i}",
+            "ß; {\\ss}",
+            "Universität München; Universit{\\\"a}t M{\\\"u}nchen",
+            "50% & more; 50\\% \\& more",
+            "Non breaking; Non~breaking"
+    })
+    void simpleLatexIsConverted(String expected, String value) {
+        assertEquals(Optional.of(expected), SimpleLatexToUnicode.convert(value));
+    }
+
+    @ParameterizedTest
+    @CsvSource(delimiter = ';', quoteCharacter = '|', value = {
+            "$\\alpha$",
+            "\\textbf{bold}",
+            "pages 1--2",
+            "``quoted''",
+            "x^2",
+            "two  spaces",
+            "{unbalanced",
+            "unbalanced}",
+            "\\ss followed by space"
+    })
+    void unsupportedLatexIsRejected(String value) {
+        assertEquals(Optional.empty(), SimpleLatexToUnicode.convert(value));
+    }
+
+    /**
+     * Compares the results with the ones of latex2unicode. Values which are not supported are skipped, as they are
+     * converted by latex2unicode anyway.
+     */
+    @ParameterizedTest
+    @MethodSource("corpus")
+    void resultEqualsLatex2Unicode(String value) {
+        Optional<String> converted = SimpleLatexToUnicode.convert(value);
+        if (converted.isPresent()) {
+            assertEquals(LatexToUnicodeAdapter.parseWithLatex2Unicode(value), converted, value);
+        }
+    }
+
+    static Stream<String> corpus() throws IOException {
+        List<String> values = new ArrayList<>();
+        for (char letter : LETTERS.toCharArray()) {
+            for (String accent : SYMBOL_ACCENTS) {
+                values.add("\\" + accent + letter);
+                values.add("\\" + accent + "{" + letter + "}");
+                values.add("{\\" + accent + letter + "}");
+                values.add("{\\" + accent + "{" + letter + "}}");
+                values.add("Word{\\" + accent + letter + "}word");
+            }
+            for (String accent : LETTER_ACCENTS) {
+                values.add("\\" + accent + "{" + letter + "}");
+                values.add("{\\" + accent + "{" + letter + "}}");
+                values.add("Word\\" + accent + "{" + letter + "}word");
+            }
+        }
+        for (String command : LETTER_COMMANDS) {
+            values.add("\\" + command);
+            values.add("{\\" + command + "}");
+            values.add("Word{\\" + command + "}word");
+            values.add("\\'{\\" + command + "}");
+            values.add("\\\"{\\" + command + "}");
+        }
+        values.addAll(List.of(
+                "",
+                "Plain",
+                "{Braced} Title",
+                "{{Double Braced}}",
+                "O'Reilly",
+                "Jean-Pierre",
+                "50\\% \\& 10\\$",
+                "A~B",
+                "Ren\\'{e} Descartes and Erd\\H{o}s, P\\'{a}l"));
+        values.addAll(fieldValues(Path.of("src/main/resources/Chocolate.bib")));
+        try (Stream<Path> libraries = Files.list(Path.of("src/test/resources/testbib"))) {
+            for (Path library : libraries.filter(path -> path.toString().endsWith(".bib")).sorted().toList()) {
+                values.addAll(fieldValues(library));
+            }
+        }
+        return values.stream().distinct();
+    }
+
+    private static List<String> fieldValues(Path library) throws IOException {
+        ImportFormatPreferences importFormatPreferences = mock(ImportFormatPreferences.class, Answers.RETURNS_DEEP_STUBS);
+        when(importFormatPreferences.bibEntryPreferences().getKeywordSeparator()).thenReturn(',');
+        List<BibEntry> entries = new BibtexParser(importFormatPreferences).parse(Importer.getReader(library)).getDatabase().getEntries();
+        return entries.stream()
+                      .flatMap(entry -> entry.getFieldMap().values().stream())
+                      .toList();
+    }
+}
@@ -0,0 +1,185 @@
+package org.jabref.languageserver;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+
+import org.jabref.logic.importer.fileformat.SourceLocations;
+import org.jabref.model.entry.BibEntry;
+import org.jabref.model.entry.field.Field;
+import org.jabref.model.entry.field.FieldProperty;
+import org.jabref.model.entry.field.StandardField;
+
+import org.eclipse.lsp4j.CompletionItem;
+import org.eclipse.lsp4j.CompletionItemKind;
+import org.eclipse.lsp4j.CompletionList;
+import org.eclipse.lsp4j.DocumentSymbol;
+import org.eclipse.lsp4j.Hover;
+import org.eclipse.lsp4j.Location;
+import org.eclipse.lsp4j.MarkupContent;
+import org.eclipse.lsp4j.MarkupKind;
+import org.eclipse.lsp4j.Range;
+import org.eclipse.lsp4j.SymbolKind;
+import org.eclipse.lsp4j.TextEdit;
+import org.eclipse.lsp4j.jsonrpc.messages.Either;
+
+/// Implements the navigation features of the language server on a [ParsedDocument].
+///
+/// The entry at a position is found by a binary search in the [SourceLocations] recorded by the parser, and citation
+/// keys are looked up in a map. Thus, the features stay fast in large documents.
+class BibtexLanguageFeatures {
+
+    static final int MAX_COMPLETION_ITEMS = 1000;
+
+    private final ParsedDocument parsedDocument;
+    private final String uri;
+
+    BibtexLanguageFeatures(ParsedDocument parsedDocument, String uri) {
+        this.parsedDocument = parsedDocument;
+        this.uri = uri;
+    }
+
+    /// Returns the location of the entry referenced by the citation key at the given offset
+    Optional<Location> getDefinition(int offset) {
+        return getReferencedCitationKey(offset)
+                .flatMap(reference -> parsedDocument.getEntry(reference.key()))
+                .map(target -> new Location(uri, toRange(target.span())));
+    }
+
+    /// Shows the main fields of the entry whose citation key is at the given offset, either as a reference in an entry
+    /// link field (e.g., `crossref`) or as the key of the entry itself.
+    Optional<Hover> getHover(int offset) {
+        Optional<CitationKeyAt> reference = getReferencedCitationKey(offset);
+        if (reference.isPresent()) {
+            return parsedDocument.getEntry(reference.get().key())
+                                 .map(target -> new Hover(describe(target.entry()), toRange(reference.get().span())));
+        }
+        return parsedDocument.sourceLocations().getEntryLocationAt(offset)
+                             .filter(location -> (location.citationKey().start() <= offset) && (offset <= location.citationKey().end()))
+                             .map(location -> new Hover(describe(location.entry()), toRange(location.citationKey())));
+    }
+
+    /// Returns one symbol per entry, named by its citation key, with the fields as children
+    List<DocumentSymbol> getDocumentSymbols() {
+        List<SourceLocations.EntryLocation> entryLocations = parsedDocument.sourceLocations().getEntryLocations();
+        List<DocumentSymbol> symbols = new ArrayList<>(entryLocations.size());
+        for (SourceLocations.EntryLocation location : entryLocations) {
+            List<DocumentSymbol> fieldSymbols = new ArrayList<>(location.fields().size());
+            for (Map.Entry<Field, SourceLocations.Span> field : location.fields().entrySet()) {
+                fieldSymbols.add(new DocumentSymbol(field.getKey().getName(), SymbolKind.Field, toRange(field.getValue()), toRange(field.getValue())));
+            }
+            BibEntry entry = location.entry();
+            DocumentSymbol symbol = new DocumentSymbol(
+                    entry.getCitationKey().filter(key -> !key.isEmpty()).orElse("(no citation key)"),
+                    SymbolKind.Class,
+                    toRange(location.span()),
+                    toRange(location.citationKey()),
+                    entry.getType().getDisplayName(),
+                    fieldSymbols);
+            symbols.add(symbol);
+        }
+        return symbols;
+    }
+
+    /// Completes citation keys inside entry link fields (e.g., `crossref`). At most [#MAX_COMPLETION_ITEMS] keys
+    /// starting with the typed prefix are returned; the list is marked incomplete if there are more.
+    Optional<CompletionList> getCompletion(int offset) {
+        Optional<SourceLocations.Span> valueSpan = getEntryLinkValue(offset);
+        if (valueSpan.isEmpty()) {
+            return Optional.empty();
+        }
+        String content = parsedDocument.document().getContent();
+        int prefixStart = offset;
+        while ((prefixStart > valueSpan.get().start()) && isCitationKeyChar(content.charAt(prefixStart - 1))) {
+            prefixStart--;
+        }
+        String prefix = content.substring(prefixStart, offset).toLowerCase(Locale.ROOT);
+        Range replacedRange = parsedDocument.document().rangeOf(prefixStart, offset);
+
+        List<CompletionItem> items = new ArrayList<>();
+        boolean incomplete = false;
+        for (Map.Entry<String, SourceLocations.EntryLocation> candidate : parsedDocument.entriesByCitationKey().entrySet()) {
+            String key = candidate.getKey();
+            if (!key.toLowerCase(Locale.ROOT).startsWith(prefix)) {
+                continue;
+            }
+            if (items.size() == MAX_COMPLETION_ITEMS) {
+                incomplete = true;
+                break;
+            }
+            CompletionItem item = new CompletionItem(key);
+            item.setKind(CompletionItemKind.Reference);
+            item.setDetail(candidate.getValue().entry().getTitle().orElse(""));
+            item.setTextEdit(Either.forLeft(new TextEdit(replacedRange, key)));
+            items.add(item);
+        }
+        return Optional.of(new CompletionList(incomplete, items));
+    }
+
+    private record CitationKeyAt(String key, SourceLocations.Span span) {
+    }
+
+    /// Returns the citation key at the given offset if the offset is inside the value of an entry link field
+    private Optional<CitationKeyAt> getReferencedCitationKey(int offset) {
+        return getEntryLinkValue(offset).flatMap(valueSpan -> {
+            String content = parsedDocument.document().getContent();
+            int start = offset;
+            while ((start > valueSpan.start()) && isCitationKeyChar(content.charAt(start - 1))) {
+                start--;
+            }
+            int end = offset;
+            while ((end < valueSpan.end()) && isCitationKeyChar(content.charAt(end))) {
+                end++;
+            }
+            if (start == end) {
+                return Optional.empty();
+            }
+            return Optional.of(new CitationKeyAt(content.substring(start, end), new SourceLocations.Span(start, end)));
+        });
+    }
+
+    /// Returns the span of the value of the entry link field containing the given offset
+    private Optional<SourceLocations.Span> getEntryLinkValue(int offset) {
+        Optional<SourceLocations.EntryLocation> entryLocation = parsedDocument.sourceLocations().getEntryLocationAt(offset);
+        if (entryLocation.isEmpty()) {
+            return Optional.empty();
+        }
+        String content = parsedDocument.document().getContent();
+        for (Map.Entry<Field, SourceLocations.Span> field : entryLocation.get().fields().entrySet()) {
+            SourceLocations.Span span = field.getValue();
+            // the end is inclusive to allow completion directly after the last character of the value
+            if (isEntryLink(field.getKey()) && (span.start() <= offset) && (offset <= span.end())) {
+                int valueStart = content.indexOf('=', span.start()) + 1;
+                if ((valueStart > 0) && (valueStart <= offset)) {
+                    return Optional.of(new SourceLocations.Span(valueStart, span.end()));
+                }
+            }
+        }
+        return Optional.empty();
+    }
+
+    private static boolean isEntryLink(Field field) {
+        return field.getProperties().contains(FieldProperty.SINGLE_ENTRY_LINK)
+                || field.getProperties().contains(FieldProperty.MULTIPLE_ENTRY_LINK);
+    }
+
+    private static boolean isCitationKeyChar(char character) {
+        return !Character.isWhitespace(character) && ("{}\",#=".indexOf(character) == -1);
+    }
+
+    private MarkupContent describe(BibEntry entry) {
+        StringBuilder description = new StringBuilder()
+                .append("**").append(entry.getType().getDisplayName()).append("** `")
+                .append(entry.getCitationKey().orElse("")).append('`');
+        for (Field field : List.of(StandardField.AUTHOR, StandardField.TITLE, StandardField.YEAR, StandardField.JOURNAL, StandardField.BOOKTITLE)) {
+            entry.getField(field).ifPresent(value -> description.append("\n\n").append(field.getDisplayName()).append(": ").append(value));
+        }
+        return new MarkupContent(MarkupKind.MARKDOWN, description.toString());
+    }
+
+    private Range toRange(SourceLocations.Span span) {
+        return parsedDocument.document().rangeOf(span.start(), span.end());
+    }
+}
@@ -1,34 +1,71 @@
 package org.jabref.languageserver;
 
+import java.io.IOException;
+import java.time.Duration;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
 
 import org.jabref.logic.integrity.IntegrityCheck;
 import org.jabref.logic.journals.JournalAbbreviationRepository;
 import org.jabref.logic.preferences.CliPreferences;
-import org.jabref.model.database.BibDatabaseContext;
 
 import org.eclipse.lsp4j.CompletionItem;
 import org.eclipse.lsp4j.CompletionList;
 import org.eclipse.lsp4j.CompletionParams;
+import org.eclipse.lsp4j.DefinitionParams;
 import org.eclipse.lsp4j.Diagnostic;
 import org.eclipse.lsp4j.DiagnosticSeverity;
 import org.eclipse.lsp4j.DidChangeTextDocumentParams;
 import org.eclipse.lsp4j.DidCloseTextDocumentParams;
 import org.eclipse.lsp4j.DidOpenTextDocumentParams;
 import org.eclipse.lsp4j.DidSaveTextDocumentParams;
+import org.eclipse.lsp4j.DocumentSymbol;
+import org.eclipse.lsp4j.DocumentSymbolParams;
+import org.eclipse.lsp4j.Hover;
+import org.eclipse.lsp4j.HoverParams;
+import org.eclipse.lsp4j.Location;
+import org.eclipse.lsp4j.LocationLink;
 import org.eclipse.lsp4j.Position;
 import org.eclipse.lsp4j.PublishDiagnosticsParams;
 import org.eclipse.lsp4j.Range;
+import org.eclipse.lsp4j.SymbolInformation;
 import org.eclipse.lsp4j.jsonrpc.messages.Either;
 import org.eclipse.lsp4j.services.LanguageClient;
 import org.eclipse.lsp4j.services.TextDocumentService;
-
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/// Keeps the documents opened in the client in sync, publishes their integrity diagnostics, and answers navigation
+/// requests (see [BibtexLanguageFeatures]).
+///
+/// The client sends incremental changes (see [LSPServer#initialize]). Diagnostics are computed on a single
+/// background thread, [#DIAGNOSTICS_DELAY] after the last change. A change arriving in the meantime postpones the
+/// computation; a change arriving during the computation cancels it. The parsed version of a document is kept until
+/// the document changes, thus navigation requests do not parse the document again.
 public class BibtexTextDocumentService implements TextDocumentService {
 
+    private static final Logger LOGGER = LoggerFactory.getLogger(BibtexTextDocumentService.class);
+
     private static final Range NULL_RANGE = new Range(new Position(0, 0), new Position(0, 0));
+    private static final Duration DIAGNOSTICS_DELAY = Duration.ofMillis(300);
+
     private final CliPreferences jabRefCliPreferences;
     private final JournalAbbreviationRepository abbreviationRepository;
+    private final Map<String, TextDocument> documents = new ConcurrentHashMap<>();
+    private final Map<String, ParsedDocument> parsedDocuments = new ConcurrentHashMap<>();
+    private final Map<String, ScheduledFuture<?>> scheduledDiagnostics = new ConcurrentHashMap<>();
+    // Only accessed by the diagnostics thread
+    private final Map<String, IntegrityDiagnostics> integrityDiagnostics = new HashMap<>();
+    private final ScheduledExecutorService diagnosticsExecutor = Executors.newSingleThreadScheduledExecutor(
+            Thread.ofPlatform().name("jabls-diagnostics").daemon().factory());
     private LanguageClient client;
 
     public BibtexTextDocumentService(CliPreferences cliPreferences, JournalAbbreviationRepository abbreviationRepository) {
@@ -42,17 +79,34 @@ public class BibtexTextDocumentService implements TextDocumentService {
 
     @Override
     public void didOpen(DidOpenTextDocumentParams params) {
-        handleDiagnostics(params.getTextDocument().getUri(), params.getTextDocument().getText(), params.getTextDocument().getVersion());
+        String uri = params.getTextDocument().getUri();
+        documents.put(uri, new TextDocument(params.getTextDocument().getText(), params.getTextDocument().getVersion()));
+        scheduleDiagnostics(uri, Duration.ZERO);
     }
 
     @Override
     public void didChange(DidChangeTextDocumentParams params) {
-        handleDiagnostics(params.getTextDocument().getUri(), params.getContentChanges().getFirst().getText(), params.getTextDocument().getVersion());
+        String uri = params.getTextDocument().getUri();
+        TextDocument document = documents.computeIfPresent(uri, (_, current) ->
+                current.applyChanges(params.getContentChanges(), params.getTextDocument().getVersion()));
+        if (document == null) {
+            LOGGER.warn("Received change of document {}, which is not open", uri);
+            return;
+        }
+        scheduleDiagnostics(uri, DIAGNOSTICS_DELAY);
     }
 
     @Override
     public void didClose(DidCloseTextDocumentParams params) {
-        client.publishDiagnostics(new PublishDiagnosticsParams(params.getTextDocument().getUri(), List.of()));
+        String uri = params.getTextDocument().getUri();
+        documents.remove(uri);
+        parsedDocuments.remove(uri);
+        ScheduledFuture<?> scheduled = scheduledDiagnostics.remove(uri);
+        if (scheduled != null) {
+            scheduled.cancel(false);
+        }
+        diagnosticsExecutor.execute(() -> integrityDiagnostics.remove(uri));
+        client.publishDiagnostics(new PublishDiagnosticsParams(uri, List.of()));
     }
 
     @Override
@@ -60,67 +114,123 @@ public class BibtexTextDocumentService implements TextDocumentService {
     }
 
     @Override
-    public CompletableFuture<Either<List<CompletionItem>, CompletionList>> completion(CompletionParams position) {
-        return TextDocumentService.super.completion(position);
+    public CompletableFuture<Either<List<CompletionItem>, CompletionList>> completion(CompletionParams params) {
+        Either<List<CompletionItem>, CompletionList> completion = withFeatures(params.getTextDocument().getUri(), params.getPosition(), BibtexLanguageFeatures::getCompletion)
+                .map(Either::<List<CompletionItem>, CompletionList>forRight)
+                .orElse(Either.forLeft(List.of()));
+        return CompletableFuture.completedFuture(completion);
+    }
+
+    @Override
+    public CompletableFuture<Either<List<? extends Location>, List<? extends LocationLink>>> definition(DefinitionParams params) {
+        List<Location> locations = withFeatures(params.getTextDocument().getUri(), params.getPosition(), BibtexLanguageFeatures::getDefinition)
+                .map(List::of)
+                .orElse(List.of());
+        return CompletableFuture.completedFuture(Either.forLeft(locations));
+    }
+
+    @Override
+    public CompletableFuture<Hover> hover(HoverParams params) {
+        return CompletableFuture.completedFuture(withFeatures(params.getTextDocument().getUri(), params.getPosition(), BibtexLanguageFeatures::getHover)
+                .orElse(null));
+    }
+
+    @Override
+    public CompletableFuture<List<Either<SymbolInformation, DocumentSymbol>>> documentSymbol(DocumentSymbolParams params) {
+        String uri = params.getTextDocument().getUri();
+        List<Either<SymbolInformation, DocumentSymbol>> symbols = getParsedDocument(uri)
+                .map(parsedDocument -> new BibtexLanguageFeatures(parsedDocument, uri).getDocumentSymbols().stream()
+                                                                                      .map(Either::<SymbolInformation, DocumentSymbol>forRight)
+                                                                                      .toList())
+                .orElse(List.of());
+        return CompletableFuture.completedFuture(symbols);
+    }
+
+    public void shutdown() {
+        diagnosticsExecutor.shutdownNow();
+    }
+
+    private void scheduleDiagnostics(String uri, Duration delay) {
+        scheduledDiagnostics.compute(uri, (_, previous) -> {
+            if (previous != null) {
+                previous.cancel(false);
+            }
+            return diagnosticsExecutor.schedule(() -> {
+                try {
+                    publishDiagnostics(uri);
+                } catch (RuntimeException e) {
+                    LOGGER.error("Could not compute diagnostics of {}", uri, e);
+                }
+            }, delay.toMillis(), TimeUnit.MILLISECONDS);
+        });
+    }
+
+    private <T> Optional<T> withFeatures(String uri, Position position, FeatureRequest<T> request) {
+        return getParsedDocument(uri).flatMap(parsedDocument ->
+                request.apply(new BibtexLanguageFeatures(parsedDocument, uri), parsedDocument.document().offsetAt(position)));
+    }
+
+    @FunctionalInterface
+    private interface FeatureRequest<T> {
+        Optional<T> apply(BibtexLanguageFeatures features, int offset);
     }
 
-    private void handleDiagnostics(String uri, String content, int version) {
-        BibDatabaseContext bibDatabaseContext;
+    /// Returns the parsed current version of the given document, parsing it if required
+    private Optional<ParsedDocument> getParsedDocument(String uri) {
+        TextDocument document = documents.get(uri);
+        if (document == null) {
+            return Optional.empty();
+        }
         try {
-            bibDatabaseContext = BibDatabaseContext.of(content, jabRefCliPreferences.getImportFormatPreferences());
-        } catch (Exception e) {
+            return Optional.of(parse(uri, document));
+        } catch (IOException e) {
+            LOGGER.debug("Could not parse {}", uri, e);
+            return Optional.empty();
+        }
+    }
+
+    private ParsedDocument parse(String uri, TextDocument document) throws IOException {
+        ParsedDocument parsedDocument = parsedDocuments.get(uri);
+        if ((parsedDocument != null) && (parsedDocument.document() == document)) {
+            return parsedDocument;
+        }
+        parsedDocument = ParsedDocument.parse(document, jabRefCliPreferences.getImportFormatPreferences());
+        // Do not replace a newer version parsed concurrently
+        parsedDocuments.merge(uri, parsedDocument, (current, parsed) -> current.document().getVersion() > parsed.document().getVersion() ? current : parsed);
+        return parsedDocument;
+    }
+
+    private void publishDiagnostics(String uri) {
+        TextDocument document = documents.get(uri);
+        if (document == null) {
+            return;
+        }
+
+        ParsedDocument parsedDocument;
+        try {
+            parsedDocument = parse(uri, document);
+        } catch (IOException e) {
             Diagnostic parseDiagnostic = new Diagnostic(
                     NULL_RANGE,
                     "Parse error: " + e.getMessage(),
                     DiagnosticSeverity.Error,
-                    "JabRef"
+                    IntegrityDiagnostics.SOURCE
             );
-            client.publishDiagnostics(new PublishDiagnosticsParams(uri, List.of(parseDiagnostic), version));
+            client.publishDiagnostics(new PublishDiagnosticsParams(uri, List.of(parseDiagnostic), document.getVersion()));
             return;
         }
 
-        IntegrityCheck integrityCheck = new IntegrityCheck(
-                bibDatabaseContext,
-                jabRefCliPreferences.getFilePreferences(),
-                jabRefCliPreferences.getCitationKeyPatternPreferences(),
-                abbreviationRepository,
-                true
-        );
-
-        List<Diagnostic> diagnostics = bibDatabaseContext.getEntries().stream()
-                                                         .flatMap(entry -> integrityCheck.checkEntry(entry).stream()
-                                                                                         .map(message -> new Diagnostic(
-                                                                                                 findTextRange(content, entry.getParsedSerialization()),
-                                                                                                 message.message(),
-                                                                                                 DiagnosticSeverity.Warning,
-                                                                                                 "JabRef"
-                                                                                         ))
-                                                         )
-                                                         .toList();
-
-        client.publishDiagnostics(new PublishDiagnosticsParams(uri, diagnostics, version));
-    }
-
-    private static Range findTextRange(String content, String searchText) {
-        int startOffset = content.indexOf(searchText);
-        if (startOffset == -1) {
-            return NULL_RANGE;
-        }
-        int endOffset = startOffset + searchText.length();
-        return new Range(offsetToPosition(content, startOffset), offsetToPosition(content, endOffset));
-    }
-
-    private static Position offsetToPosition(String content, int offset) {
-        int line = 0;
-        int col = 0;
-        for (int i = 0; i < offset; i++) {
-            if (content.charAt(i) == '\n') {
-                line++;
-                col = 0;
-            } else {
-                col++;
-            }
-        }
-        return new Position(line, col);
+        Optional<List<Diagnostic>> diagnostics = integrityDiagnostics
+                .computeIfAbsent(uri, _ -> new IntegrityDiagnostics())
+                .compute(parsedDocument,
+                        databaseContext -> new IntegrityCheck(
+                                databaseContext,
+                                jabRefCliPreferences.getFilePreferences(),
+                                jabRefCliPreferences.getCitationKeyPatternPreferences(),
+                                abbreviationRepository,
+                                true),
+                        () -> documents.get(uri) != document);
+        // If the document was changed in the meantime, new diagnostics are already scheduled
+        diagnostics.ifPresent(list -> client.publishDiagnostics(new PublishDiagnosticsParams(uri, list, document.getVersion())));
     }
 }
@@ -0,0 +1,121 @@
+package org.jabref.languageserver;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.BooleanSupplier;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import org.jabref.logic.importer.fileformat.SourceLocations;
+import org.jabref.logic.integrity.IntegrityCheck;
+import org.jabref.logic.integrity.IntegrityMessage;
+import org.jabref.model.database.BibDatabaseContext;
+import org.jabref.model.database.BibDatabaseMode;
+import org.jabref.model.entry.BibEntry;
+import org.jabref.model.entry.EntryLinkList;
+import org.jabref.model.entry.field.Field;
+import org.jabref.model.entry.field.FieldProperty;
+import org.jabref.model.entry.field.InternalField;
+
+import org.eclipse.lsp4j.Diagnostic;
+import org.eclipse.lsp4j.DiagnosticSeverity;
+
+/// Computes the integrity diagnostics of one document.
+///
+/// The messages of each entry are cached by the text of the entry. At the next run, only entries whose text changed
+/// are checked again, together with the entries depending on a citation key whose number of occurrences changed:
+/// the entries having that key or a key starting with it (duplicate keys, keys generated with a letter appended), and
+/// the entries linking to it (e.g., using crossref). All entries are checked again if the database mode changed.
+///
+/// Not thread-safe: each instance must be used by one thread at a time.
+class IntegrityDiagnostics {
+
+    static final String SOURCE = "JabRef";
+
+    private Map<String, List<IntegrityMessage>> messagesByEntryText = Map.of();
+    private Map<String, Long> citationKeys = Map.of();
+    private BibDatabaseMode mode;
+
+    /// @param integrityCheckFactory creates the integrity check for the parsed library
+    /// @param isOutdated            called between entries; if it returns `true`, the computation is cancelled
+    /// @return the diagnostics, or an empty Optional if the computation was cancelled
+    Optional<List<Diagnostic>> compute(ParsedDocument parsedDocument,
+                                       Function<BibDatabaseContext, IntegrityCheck> integrityCheckFactory,
+                                       BooleanSupplier isOutdated) {
+        BibDatabaseContext databaseContext = parsedDocument.databaseContext();
+        Map<String, Long> currentCitationKeys = databaseContext.getEntries().stream()
+                                                               .flatMap(entry -> entry.getCitationKey().stream())
+                                                               .collect(Collectors.groupingBy(Function.identity(), Collectors.counting()));
+        boolean modeChanged = databaseContext.getMode() != mode;
+        Set<String> affectedKeys = new HashSet<>();
+        currentCitationKeys.forEach((key, count) -> {
+            if (!count.equals(citationKeys.get(key))) {
+                affectedKeys.add(key);
+            }
+        });
+        citationKeys.keySet().stream()
+                    .filter(key -> !currentCitationKeys.containsKey(key))
+                    .forEach(affectedKeys::add);
+
+        IntegrityCheck integrityCheck = integrityCheckFactory.apply(databaseContext);
+        Map<String, List<IntegrityMessage>> currentMessages = new HashMap<>();
+        List<Diagnostic> diagnostics = new ArrayList<>();
+        for (SourceLocations.EntryLocation location : parsedDocument.sourceLocations().getEntryLocations()) {
+            if (isOutdated.getAsBoolean()) {
+                return Optional.empty();
+            }
+            BibEntry entry = location.entry();
+            String entryText = entry.getParsedSerialization();
+            List<IntegrityMessage> messages = modeChanged || dependsOn(entry, affectedKeys) ? null : messagesByEntryText.get(entryText);
+            if (messages == null) {
+                messages = integrityCheck.checkEntry(entry);
+            }
+            currentMessages.put(entryText, messages);
+            for (IntegrityMessage message : messages) {
+                SourceLocations.Span span = getSpan(location, message);
+                diagnostics.add(new Diagnostic(
+                        parsedDocument.document().rangeOf(span.start(), span.end()),
+                        message.message(),
+                        DiagnosticSeverity.Warning,
+                        SOURCE));
+            }
+        }
+
+        messagesByEntryText = currentMessages;
+        citationKeys = currentCitationKeys;
+        mode = databaseContext.getMode();
+        return Optional.of(diagnostics);
+    }
+
+    /// Returns the span of the field the message is about, or of the whole entry if the field is not found
+    private static SourceLocations.Span getSpan(SourceLocations.EntryLocation location, IntegrityMessage message) {
+        if (message.field() == InternalField.KEY_FIELD) {
+            return location.citationKey();
+        }
+        return location.getField(message.field()).orElse(location.span());
+    }
+
+    private static boolean dependsOn(BibEntry entry, Set<String> citationKeys) {
+        if (citationKeys.isEmpty()) {
+            return false;
+        }
+        Optional<String> citationKey = entry.getCitationKey();
+        if (citationKey.isPresent() && citationKeys.stream().anyMatch(citationKey.get()::startsWith)) {
+            return true;
+        }
+        for (Map.Entry<Field, String> field : entry.getFieldMap().entrySet()) {
+            Set<FieldProperty> properties = field.getKey().getProperties();
+            if ((properties.contains(FieldProperty.MULTIPLE_ENTRY_LINK) || properties.contains(FieldProperty.SINGLE_ENTRY_LINK))
+                    && Arrays.stream(field.getValue().split(EntryLinkList.SEPARATOR)).anyMatch(citationKeys::contains)) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
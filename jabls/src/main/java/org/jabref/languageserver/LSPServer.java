@@ -1,10 +1,12 @@
 package org.jabref.languageserver;
 
+import java.util.List;
 import java.util.concurrent.CompletableFuture;
 
 import org.jabref.logic.journals.JournalAbbreviationRepository;
 import org.jabref.logic.preferences.CliPreferences;
 
+import org.eclipse.lsp4j.CompletionOptions;
 import org.eclipse.lsp4j.InitializeParams;
 import org.eclipse.lsp4j.InitializeResult;
 import org.eclipse.lsp4j.MessageParams;
@@ -39,16 +41,21 @@ public class LSPServer implements LanguageServer, LanguageClientAware {
 
         TextDocumentSyncOptions syncOptions = new TextDocumentSyncOptions();
         syncOptions.setSave(true);
-        syncOptions.setChange(TextDocumentSyncKind.Full);
+        syncOptions.setChange(TextDocumentSyncKind.Incremental);
         syncOptions.setOpenClose(true);
 
         capabilities.setTextDocumentSync(syncOptions);
+        capabilities.setDefinitionProvider(true);
+        capabilities.setHoverProvider(true);
+        capabilities.setDocumentSymbolProvider(true);
+        capabilities.setCompletionProvider(new CompletionOptions(false, List.of("{", ",")));
 
         return CompletableFuture.completedFuture(new InitializeResult(capabilities));
     }
 
     @Override
     public CompletableFuture<Object> shutdown() {
+        textDocumentService.shutdown();
         return CompletableFuture.completedFuture(null);
     }
 
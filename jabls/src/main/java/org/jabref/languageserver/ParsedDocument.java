@@ -0,0 +1,39 @@
+package org.jabref.languageserver;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+
+import org.jabref.logic.importer.ImportFormatPreferences;
+import org.jabref.logic.importer.ParserResult;
+import org.jabref.logic.importer.fileformat.BibtexParser;
+import org.jabref.logic.importer.fileformat.SourceLocations;
+import org.jabref.model.database.BibDatabaseContext;
+import org.jabref.model.util.DummyFileUpdateMonitor;
+
+/// A parsed [TextDocument] together with the locations of the entries in the text
+///
+/// @param entriesByCitationKey the first entry of each citation key
+record ParsedDocument(TextDocument document,
+                      BibDatabaseContext databaseContext,
+                      SourceLocations sourceLocations,
+                      Map<String, SourceLocations.EntryLocation> entriesByCitationKey) {
+
+    static ParsedDocument parse(TextDocument document, ImportFormatPreferences importFormatPreferences) throws IOException {
+        ParserResult parserResult = new BibtexParser(importFormatPreferences, new DummyFileUpdateMonitor(), true)
+                .parse(Reader.of(document.getContent()));
+        SourceLocations sourceLocations = parserResult.getSourceLocations().orElseThrow();
+
+        Map<String, SourceLocations.EntryLocation> entriesByCitationKey = new HashMap<>();
+        for (SourceLocations.EntryLocation location : sourceLocations.getEntryLocations()) {
+            location.entry().getCitationKey().ifPresent(key -> entriesByCitationKey.putIfAbsent(key, location));
+        }
+        return new ParsedDocument(document, parserResult.getDatabaseContext(), sourceLocations, entriesByCitationKey);
+    }
+
+    Optional<SourceLocations.EntryLocation> getEntry(String citationKey) {
+        return Optional.ofNullable(entriesByCitationKey.get(citationKey));
+    }
+}
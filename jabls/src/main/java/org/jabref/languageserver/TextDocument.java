@@ -0,0 +1,97 @@
+package org.jabref.languageserver;
+
+import java.util.Arrays;
+import java.util.List;
+
+import org.eclipse.lsp4j.Position;
+import org.eclipse.lsp4j.Range;
+import org.eclipse.lsp4j.TextDocumentContentChangeEvent;
+
+/// An immutable version of a document opened in the client.
+///
+/// Changes sent by the client are applied using [#applyChanges], which returns a new version. Positions are converted
+/// to offsets using an index of the line starts. As in Java strings, LSP positions count UTF-16 code units.
+final class TextDocument {
+
+    private final String content;
+    private final int version;
+    private final int[] lineStarts;
+
+    TextDocument(String content, int version) {
+        this.content = content;
+        this.version = version;
+        this.lineStarts = computeLineStarts(content);
+    }
+
+    String getContent() {
+        return content;
+    }
+
+    int getVersion() {
+        return version;
+    }
+
+    /// Applies the given changes in the given order. A change without range replaces the whole content.
+    TextDocument applyChanges(List<TextDocumentContentChangeEvent> changes, int newVersion) {
+        TextDocument document = this;
+        for (TextDocumentContentChangeEvent change : changes) {
+            String newContent;
+            if (change.getRange() == null) {
+                newContent = change.getText();
+            } else {
+                int start = document.offsetAt(change.getRange().getStart());
+                int end = document.offsetAt(change.getRange().getEnd());
+                newContent = new StringBuilder(document.content.length() - (end - start) + change.getText().length())
+                        .append(document.content, 0, start)
+                        .append(change.getText())
+                        .append(document.content, end, document.content.length())
+                        .toString();
+            }
+            document = new TextDocument(newContent, newVersion);
+        }
+        return document;
+    }
+
+    /// Returns the offset of the given position. Positions beyond the end of a line or of the document are clamped.
+    int offsetAt(Position position) {
+        if (position.getLine() >= lineStarts.length) {
+            return content.length();
+        }
+        int lineStart = lineStarts[position.getLine()];
+        int lineEnd = (position.getLine() + 1 < lineStarts.length) ? lineStarts[position.getLine() + 1] : content.length();
+        while ((lineEnd > lineStart) && ((content.charAt(lineEnd - 1) == '\n') || (content.charAt(lineEnd - 1) == '\r'))) {
+            lineEnd--;
+        }
+        return Math.min(lineStart + Math.max(0, position.getCharacter()), lineEnd);
+    }
+
+    Position positionAt(int offset) {
+        int clampedOffset = Math.clamp(offset, 0, content.length());
+        int line = Arrays.binarySearch(lineStarts, clampedOffset);
+        if (line < 0) {
+            // not a line start: the insertion point is the line after the one containing the offset
+            line = -line - 2;
+        }
+        return new Position(line, clampedOffset - lineStarts[line]);
+    }
+
+    Range rangeOf(int startOffset, int endOffset) {
+        return new Range(positionAt(startOffset), positionAt(endOffset));
+    }
+
+    private static int[] computeLineStarts(String content) {
+        int[] starts = new int[16];
+        int count = 1;
+        for (int i = 0; i < content.length(); i++) {
+            char character = content.charAt(i);
+            boolean lineBreak = (character == '\n') || ((character == '\r') && ((i + 1 == content.length()) || (content.charAt(i + 1) != '\n')));
+            if (lineBreak) {
+                if (count == starts.length) {
+                    starts = Arrays.copyOf(starts, count * 2);
+                }
+                starts[count++] = i + 1;
+            }
+        }
+        return Arrays.copyOf(starts, count);
+    }
+}
@@ -0,0 +1,56 @@
+package org.jabref.languageserver;
+
+import java.util.List;
+
+import org.eclipse.lsp4j.Position;
+import org.eclipse.lsp4j.Range;
+import org.eclipse.lsp4j.TextDocumentContentChangeEvent;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class TextDocumentTest {
+
+    private final TextDocument document = new TextDocument("@Misc{a,\n  title = {A},\n}\n", 1);
+
+    @Test
+    void incrementalChangeIsApplied() {
+        TextDocumentContentChangeEvent change = new TextDocumentContentChangeEvent(new Range(new Position(1, 11), new Position(1, 12)), "Another");
+
+        TextDocument changed = document.applyChanges(List.of(change), 2);
+
+        assertEquals("@Misc{a,\n  title = {Another},\n}\n", changed.getContent());
+        assertEquals(2, changed.getVersion());
+    }
+
+    @Test
+    void changesAreAppliedInOrder() {
+        TextDocumentContentChangeEvent insertLine = new TextDocumentContentChangeEvent(new Range(new Position(1, 0), new Position(1, 0)), "  year = {2000},\n");
+        TextDocumentContentChangeEvent renameKey = new TextDocumentContentChangeEvent(new Range(new Position(0, 6), new Position(0, 7)), "b");
+
+        TextDocument changed = document.applyChanges(List.of(insertLine, renameKey), 2);
+
+        assertEquals("@Misc{b,\n  year = {2000},\n  title = {A},\n}\n", changed.getContent());
+    }
+
+    @Test
+    void changeWithoutRangeReplacesContent() {
+        TextDocument changed = document.applyChanges(List.of(new TextDocumentContentChangeEvent("@Misc{c,}")), 2);
+
+        assertEquals("@Misc{c,}", changed.getContent());
+    }
+
+    @Test
+    void positionsAndOffsetsAreConverted() {
+        TextDocument windowsDocument = new TextDocument("ab\r\ncd\ne", 1);
+
+        assertEquals(new Position(1, 1), windowsDocument.positionAt(5));
+        assertEquals(5, windowsDocument.offsetAt(new Position(1, 1)));
+        assertEquals(new Position(2, 0), windowsDocument.positionAt(7));
+    }
+
+    @Test
+    void characterBeyondLineEndIsClamped() {
+        assertEquals(8, document.offsetAt(new Position(0, 100)));
+    }
+}
@@ -39,6 +39,7 @@ module org.jabref.jabsrv.cli {
 
     requires transitive org.jspecify;
     requires java.logging;
+    requires java.net.http;
     requires jersey.container.grizzly2.http;
     requires jersey.server;
 }
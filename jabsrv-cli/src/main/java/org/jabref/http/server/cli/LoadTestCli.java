@@ -0,0 +1,156 @@
+package org.jabref.http.server.cli;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import org.jabref.architecture.AllowedToUseStandardStreams;
+
+import picocli.CommandLine;
+
+/// Sends requests to a running jabsrv from many concurrent clients and reports throughput and latencies.
+///
+/// Example: `server load-test --clients 64 --duration 30 http://localhost:23119/libraries/demo`
+@AllowedToUseStandardStreams("Reports the results of the load test on the console")
+@CommandLine.Command(name = "load-test", mixinStandardHelpOptions = true, description = "Load test a running JabSrv")
+public class LoadTestCli implements Callable<Integer> {
+
+    @CommandLine.Parameters(arity = "1..*", paramLabel = "URL", description = "the URLs to request; the clients request them in turns")
+    private List<URI> uris;
+
+    @CommandLine.Option(names = {"-c", "--clients"}, description = "the number of concurrent clients (default: ${DEFAULT-VALUE})")
+    private int clients = 32;
+
+    @CommandLine.Option(names = {"-d", "--duration"}, description = "the duration of the test in seconds (default: ${DEFAULT-VALUE})")
+    private int durationSeconds = 10;
+
+    @CommandLine.Option(names = {"-a", "--accept"}, description = "the Accept header of the requests (default: ${DEFAULT-VALUE})")
+    private String accept = "application/json";
+
+    @Override
+    public Integer call() throws Exception {
+        HttpClient httpClient = HttpClient.newBuilder()
+                                          .executor(Executors.newVirtualThreadPerTaskExecutor())
+                                          .build();
+        List<HttpRequest> requests = uris.stream()
+                                         .map(uri -> HttpRequest.newBuilder(uri).header("Accept", accept).build())
+                                         .toList();
+
+        long deadline = System.nanoTime() + Duration.ofSeconds(durationSeconds).toNanos();
+        List<ClientResult> results = new ArrayList<>();
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            List<Future<ClientResult>> futures = new ArrayList<>();
+            for (int i = 0; i < clients; i++) {
+                int firstRequest = i;
+                futures.add(executor.submit(() -> runClient(httpClient, requests, firstRequest, deadline)));
+            }
+            for (Future<ClientResult> future : futures) {
+                results.add(future.get());
+            }
+        }
+
+        report(results);
+        printServerMetrics(httpClient, uris.getFirst().resolve("/metrics"));
+        return 0;
+    }
+
+    private static ClientResult runClient(HttpClient httpClient, List<HttpRequest> requests, int firstRequest, long deadline) {
+        ClientResult result = new ClientResult();
+        int next = firstRequest;
+        while (System.nanoTime() < deadline) {
+            HttpRequest request = requests.get(next++ % requests.size());
+            long start = System.nanoTime();
+            try {
+                int status = httpClient.send(request, HttpResponse.BodyHandlers.discarding()).statusCode();
+                result.record(status, System.nanoTime() - start);
+            } catch (IOException e) {
+                result.failed++;
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                break;
+            }
+        }
+        return result;
+    }
+
+    private void report(List<ClientResult> results) {
+        long succeeded = 0;
+        long rejected = 0;
+        long failed = 0;
+        int latencyCount = 0;
+        for (ClientResult result : results) {
+            succeeded += result.succeeded;
+            rejected += result.rejected;
+            failed += result.failed;
+            latencyCount += result.latencyCount;
+        }
+
+        long[] latencies = new long[latencyCount];
+        int position = 0;
+        for (ClientResult result : results) {
+            System.arraycopy(result.latencies, 0, latencies, position, result.latencyCount);
+            position += result.latencyCount;
+        }
+        Arrays.sort(latencies);
+
+        System.out.printf("Clients: %d, duration: %d s%n", clients, durationSeconds);
+        System.out.printf("Succeeded: %d, rejected (503): %d, failed: %d%n", succeeded, rejected, failed);
+        System.out.printf("Throughput: %.1f responses/s%n", (double) latencyCount / durationSeconds);
+        if (latencyCount > 0) {
+            System.out.printf("Latency (ms): p50 %.2f, p95 %.2f, p99 %.2f, max %.2f%n",
+                    percentile(latencies, 0.5), percentile(latencies, 0.95), percentile(latencies, 0.99), latencies[latencyCount - 1] / 1_000_000.0);
+        }
+    }
+
+    private static double percentile(long[] sortedLatencies, double percentile) {
+        int index = (int) Math.ceil(percentile * sortedLatencies.length) - 1;
+        return sortedLatencies[Math.max(0, index)] / 1_000_000.0;
+    }
+
+    private static void printServerMetrics(HttpClient httpClient, URI metricsUri) {
+        try {
+            HttpResponse<String> response = httpClient.send(HttpRequest.newBuilder(metricsUri).build(), HttpResponse.BodyHandlers.ofString());
+            if (response.statusCode() == 200) {
+                System.out.println("Server metrics:");
+                System.out.println(response.body());
+            }
+        } catch (IOException e) {
+            System.out.println("Could not fetch server metrics: " + e.getMessage());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /// The results of a single client. Each client has its own instance, thus no synchronization is required.
+    private static class ClientResult {
+        private long succeeded;
+        private long rejected;
+        private long failed;
+        private long[] latencies = new long[1024];
+        private int latencyCount;
+
+        void record(int status, long latencyNanos) {
+            if (status == 503) {
+                rejected++;
+            } else if (status < 400) {
+                succeeded++;
+            } else {
+                failed++;
+            }
+            if (latencyCount == latencies.length) {
+                latencies = Arrays.copyOf(latencies, latencies.length * 2);
+            }
+            latencies[latencyCount++] = latencyNanos;
+        }
+    }
+}
@@ -9,6 +9,7 @@ import java.util.concurrent.Callable;
 
 import org.jabref.architecture.AllowedToUseStandardStreams;
 import org.jabref.http.server.Server;
+import org.jabref.http.server.ServerConfiguration;
 import org.jabref.logic.preferences.JabRefCliPreferences;
 
 import org.glassfish.grizzly.http.server.HttpServer;
@@ -18,7 +19,8 @@ import org.slf4j.bridge.SLF4JBridgeHandler;
 import picocli.CommandLine;
 
 @AllowedToUseStandardStreams("This is a CLI application. It resides in the package http.server to be close to the other http server related classes.")
-@CommandLine.Command(name = "server", mixinStandardHelpOptions = true, description = "JabSrv - JabRef HTTP server")
+@CommandLine.Command(name = "server", mixinStandardHelpOptions = true, description = "JabSrv - JabRef HTTP server",
+        subcommands = LoadTestCli.class)
 public class ServerCli implements Callable<Void> {
     private static final Logger LOGGER = LoggerFactory.getLogger(ServerCli.class);
 
@@ -31,6 +33,9 @@ public class ServerCli implements Callable<Void> {
     @CommandLine.Option(names = {"-p", "--port"}, description = "the port")
     private Integer port = 23119;
 
+    @CommandLine.Option(names = {"--worker-threads"}, description = "handle requests using a fixed pool of this many platform threads instead of one virtual thread per request")
+    private Integer workerThreads;
+
     /**
      * Starts an http server serving the last files opened in JabRef<br>
      * More files can be provided as args.
@@ -70,7 +75,10 @@ public class ServerCli implements Callable<Void> {
         URI uri = URI.create(url);
 
         Server server = new Server();
-        HttpServer httpServer = server.run(filesToServe, uri);
+        ServerConfiguration configuration = workerThreads == null
+                                            ? ServerConfiguration.DEFAULT
+                                            : new ServerConfiguration(false, workerThreads);
+        HttpServer httpServer = server.run(filesToServe, uri, configuration);
 
         // Keep the http server running until user kills the process (e.g., presses Ctrl+C)
         Thread.currentThread().join();
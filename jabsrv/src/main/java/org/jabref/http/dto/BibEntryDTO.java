@@ -1,12 +1,11 @@
 package org.jabref.http.dto;
 
 import java.io.IOException;
-import java.io.StringWriter;
 
+import org.jabref.logic.bibtex.BibEntrySerializationCache;
 import org.jabref.logic.bibtex.BibEntryWriter;
 import org.jabref.logic.bibtex.FieldPreferences;
 import org.jabref.logic.bibtex.FieldWriter;
-import org.jabref.logic.exporter.BibWriter;
 import org.jabref.model.database.BibDatabaseMode;
 import org.jabref.model.entry.BibEntry;
 import org.jabref.model.entry.BibEntryTypesManager;
@@ -28,25 +27,32 @@ public record BibEntryDTO(SharedBibEntryData sharingMetadata, String userComment
 
     public static final Logger LOGGER = LoggerFactory.getLogger(BibEntryDTO.class);
 
-    public BibEntryDTO(BibEntry bibEntry, BibDatabaseMode bibDatabaseMode, FieldPreferences fieldWriterPreferences, BibEntryTypesManager bibEntryTypesManager) {
-        this(bibEntry.getSharedBibEntryData(),
+    /**
+     * @param serializationCache the cache shared with all other writers, avoids serializing unmodified entries again
+     */
+    public BibEntryDTO(BibEntry bibEntry, BibDatabaseMode bibDatabaseMode, FieldPreferences fieldWriterPreferences, BibEntryTypesManager bibEntryTypesManager, BibEntrySerializationCache serializationCache) {
+        this(bibEntry.getSharedBibEntryData(), bibEntry, bibDatabaseMode, fieldWriterPreferences, bibEntryTypesManager, serializationCache);
+    }
+
+    /**
+     * @param sharingMetadata the data used for sharing, replacing the one of the entry
+     */
+    public BibEntryDTO(SharedBibEntryData sharingMetadata, BibEntry bibEntry, BibDatabaseMode bibDatabaseMode, FieldPreferences fieldWriterPreferences, BibEntryTypesManager bibEntryTypesManager, BibEntrySerializationCache serializationCache) {
+        this(sharingMetadata,
                 bibEntry.getUserComments(),
                 bibEntry.getCitationKey().orElse(""),
-                convertToString(bibEntry, bibDatabaseMode, fieldWriterPreferences, bibEntryTypesManager)
+                convertToString(bibEntry, bibDatabaseMode, fieldWriterPreferences, bibEntryTypesManager, serializationCache)
         );
     }
 
-    private static String convertToString(BibEntry entry, BibDatabaseMode bibDatabaseMode, FieldPreferences fieldWriterPreferences, BibEntryTypesManager bibEntryTypesManager) {
-        StringWriter rawEntry = new StringWriter();
-        BibWriter bibWriter = new BibWriter(rawEntry, "\n");
+    private static String convertToString(BibEntry entry, BibDatabaseMode bibDatabaseMode, FieldPreferences fieldWriterPreferences, BibEntryTypesManager bibEntryTypesManager, BibEntrySerializationCache serializationCache) {
         BibEntryWriter bibtexEntryWriter = new BibEntryWriter(new FieldWriter(fieldWriterPreferences), bibEntryTypesManager);
         try {
-            bibtexEntryWriter.write(entry, bibWriter, bibDatabaseMode);
+            return serializationCache.getSerialization(entry, bibtexEntryWriter, bibDatabaseMode, false, "\n");
         } catch (IOException e) {
             LOGGER.warn("Problem creating BibTeX entry.", e);
             return "error";
         }
-        return rawEntry.toString();
     }
 
     @Override
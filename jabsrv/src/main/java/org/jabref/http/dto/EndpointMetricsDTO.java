@@ -0,0 +1,18 @@
+package org.jabref.http.dto;
+
+/**
+ * The request statistics of one endpoint. All durations are given in milliseconds.
+ *
+ * @param rejected the number of requests answered with "503 Service Unavailable", usually because the concurrency
+ *                 limit of the endpoint was reached
+ */
+public record EndpointMetricsDTO(
+        String endpoint,
+        long requests,
+        long rejected,
+        double meanMillis,
+        double p50Millis,
+        double p95Millis,
+        double p99Millis,
+        double maxMillis) {
+}
@@ -0,0 +1,21 @@
+package org.jabref.http.server;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/// Limits the number of requests a resource method handles at the same time.
+///
+/// Requests exceeding the limit are not queued, but answered immediately with `503 Service Unavailable` and a
+/// `Retry-After` header. This keeps expensive endpoints (parsing, rendering, file system access) from occupying all
+/// resources of the server.
+///
+/// @see ConcurrencyLimitFeature
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface ConcurrencyLimit {
+
+    /// The maximum number of requests handled at the same time
+    int value();
+}
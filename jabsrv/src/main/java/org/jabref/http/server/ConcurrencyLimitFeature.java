@@ -0,0 +1,63 @@
+package org.jabref.http.server;
+
+import java.util.concurrent.Semaphore;
+
+import jakarta.ws.rs.Priorities;
+import jakarta.ws.rs.container.ContainerRequestContext;
+import jakarta.ws.rs.container.ContainerRequestFilter;
+import jakarta.ws.rs.container.ContainerResponseContext;
+import jakarta.ws.rs.container.ContainerResponseFilter;
+import jakarta.ws.rs.container.DynamicFeature;
+import jakarta.ws.rs.container.ResourceInfo;
+import jakarta.ws.rs.core.FeatureContext;
+import jakarta.ws.rs.core.HttpHeaders;
+import jakarta.ws.rs.core.Response;
+import jakarta.ws.rs.ext.Provider;
+
+/// Enforces the [ConcurrencyLimit]s of the resource methods. Each annotated method gets its own filter with its own
+/// permits.
+@Provider
+public class ConcurrencyLimitFeature implements DynamicFeature {
+
+    static final String RETRY_AFTER_SECONDS = "1";
+
+    @Override
+    public void configure(ResourceInfo resourceInfo, FeatureContext context) {
+        ConcurrencyLimit limit = resourceInfo.getResourceMethod().getAnnotation(ConcurrencyLimit.class);
+        if (limit != null) {
+            context.register(new ConcurrencyLimitFilter(limit.value()), Priorities.AUTHENTICATION - 100);
+        }
+    }
+
+    static class ConcurrencyLimitFilter implements ContainerRequestFilter, ContainerResponseFilter {
+
+        private static final String PERMIT_PROPERTY = ConcurrencyLimitFilter.class.getName() + ".permit";
+
+        private final Semaphore permits;
+
+        ConcurrencyLimitFilter(int limit) {
+            this.permits = new Semaphore(limit);
+        }
+
+        @Override
+        public void filter(ContainerRequestContext requestContext) {
+            if (permits.tryAcquire()) {
+                requestContext.setProperty(PERMIT_PROPERTY, this);
+            } else {
+                requestContext.abortWith(Response.status(Response.Status.SERVICE_UNAVAILABLE)
+                                                 .header(HttpHeaders.RETRY_AFTER, RETRY_AFTER_SECONDS)
+                                                 .build());
+            }
+        }
+
+        /// Releases the permit as soon as the response is created. Writing a streamed entity thus does not count
+        /// towards the limit.
+        @Override
+        public void filter(ContainerRequestContext requestContext, ContainerResponseContext responseContext) {
+            if (requestContext.getProperty(PERMIT_PROPERTY) == this) {
+                requestContext.removeProperty(PERMIT_PROPERTY);
+                permits.release();
+            }
+        }
+    }
+}
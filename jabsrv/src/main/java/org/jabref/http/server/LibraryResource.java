@@ -2,30 +2,51 @@ package org.jabref.http.server;
 
 import java.io.IOException;
 import java.io.InputStream;
+import java.io.OutputStreamWriter;
+import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.util.ArrayList;
+import java.util.Comparator;
 import java.util.List;
 import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Function;
 
 import org.jabref.http.JabrefMediaType;
 import org.jabref.http.SrvStateManager;
 import org.jabref.http.dto.BibEntryDTO;
 import org.jabref.http.dto.LinkedPdfFileDTO;
 import org.jabref.http.server.services.FilesToServe;
+import org.jabref.http.server.services.LibraryCache;
 import org.jabref.http.server.services.ServerUtils;
+import org.jabref.logic.bibtex.BibEntrySerializationCache;
 import org.jabref.logic.citationstyle.JabRefItemDataProvider;
 import org.jabref.logic.preferences.CliPreferences;
+import org.jabref.logic.search.IndexManager;
+import org.jabref.logic.search.PostgreServer;
+import org.jabref.logic.util.CurrentThreadTaskExecutor;
 import org.jabref.model.database.BibDatabase;
 import org.jabref.model.database.BibDatabaseContext;
+import org.jabref.model.database.BibDatabaseMode;
 import org.jabref.model.entry.BibEntry;
 import org.jabref.model.entry.BibEntryTypesManager;
 import org.jabref.model.entry.LinkedFile;
+import org.jabref.model.entry.SharedBibEntryData;
+import org.jabref.model.entry.field.Field;
+import org.jabref.model.entry.field.FieldFactory;
 import org.jabref.model.entry.field.StandardField;
+import org.jabref.model.search.query.SearchQuery;
+import org.jabref.model.search.query.SearchResults;
+import org.jabref.model.strings.StringUtil;
 
 import com.airhacks.afterburner.injection.Injector;
 import com.google.gson.Gson;
+import com.google.gson.stream.JsonWriter;
 import jakarta.inject.Inject;
+import jakarta.ws.rs.BadRequestException;
 import jakarta.ws.rs.Consumes;
+import jakarta.ws.rs.DefaultValue;
 import jakarta.ws.rs.GET;
 import jakarta.ws.rs.InternalServerErrorException;
 import jakarta.ws.rs.NotFoundException;
@@ -33,9 +54,15 @@ import jakarta.ws.rs.PUT;
 import jakarta.ws.rs.Path;
 import jakarta.ws.rs.PathParam;
 import jakarta.ws.rs.Produces;
+import jakarta.ws.rs.QueryParam;
+import jakarta.ws.rs.ServiceUnavailableException;
+import jakarta.ws.rs.core.Context;
+import jakarta.ws.rs.core.EntityTag;
 import jakarta.ws.rs.core.MediaType;
+import jakarta.ws.rs.core.Request;
 import jakarta.ws.rs.core.Response;
 import jakarta.ws.rs.core.StreamingOutput;
+import jakarta.ws.rs.core.UriInfo;
 import org.jspecify.annotations.Nullable;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -44,6 +71,9 @@ import org.slf4j.LoggerFactory;
 public class LibraryResource {
     private static final Logger LOGGER = LoggerFactory.getLogger(LibraryResource.class);
 
+    // A library modified while it is searched is searched again, but not endlessly if it is modified all the time
+    private static final int MAX_SEARCH_ATTEMPTS = 3;
+
     @Inject
     CliPreferences preferences;
 
@@ -53,26 +83,182 @@ public class LibraryResource {
     @Inject
     FilesToServe filesToServe;
 
+    @Inject
+    LibraryCache libraryCache;
+
     @Inject
     Gson gson;
 
     /**
      * At http://localhost:23119/libraries/{id}
+     * <p>
+     * The entries are streamed as JSON array. Large libraries can be fetched page by page: <code>limit</code> restricts
+     * the number of returned entries, the <code>next</code> link of the response points to the following page.
+     * For libraries read from disk, the response carries an <code>ETag</code> based on the version of the parsed
+     * library. If it matches <code>If-None-Match</code>, <code>304 Not Modified</code> is returned.
      *
-     * @param id The specified library
+     * @param id     The specified library
+     * @param cursor The index of the first entry to return
+     * @param limit  The maximum number of entries to return; all entries if not given
+     * @param fields Comma-separated list of the fields to include in the BibTeX of the entries; all fields if not given
      * @return specified library in JSON format
      * @throws IOException
      */
+    @ConcurrencyLimit(16)
     @GET
     @Produces(MediaType.APPLICATION_JSON)
-    public String getJson(@PathParam("id") String id) throws IOException {
-        BibDatabaseContext databaseContext = getDatabaseContext(id);
+    public Response getJson(@PathParam("id") String id,
+                            @QueryParam("cursor") @DefaultValue("0") int cursor,
+                            @QueryParam("limit") @Nullable Integer limit,
+                            @QueryParam("fields") @Nullable String fields,
+                            @Context Request request,
+                            @Context UriInfo uriInfo) throws IOException {
+        Optional<LibraryCache.CachedLibrary> cachedLibrary = ServerUtils.getCachedLibrary(id, filesToServe, libraryCache, preferences.getImportFormatPreferences());
+        // Libraries opened in the GUI have no version, thus no entity tag
+        EntityTag entityTag = cachedLibrary.map(library -> new EntityTag(Long.toString(library.getVersion()))).orElse(null);
+        if (entityTag != null) {
+            Response.ResponseBuilder notModified = request.evaluatePreconditions(entityTag);
+            if (notModified != null) {
+                return notModified.build();
+            }
+        }
+
+        BibDatabaseContext databaseContext = cachedLibrary.isPresent() ? cachedLibrary.get().getDatabaseContext() : getDatabaseContext(id);
+        Response.ResponseBuilder response = getEntriesPage(databaseContext.getDatabase().getEntries(), databaseContext.getMode(), cursor, limit, fields, uriInfo);
+        if (entityTag != null) {
+            response.tag(entityTag);
+        }
+        return response.build();
+    }
+
+    /**
+     * At http://localhost:23119/libraries/{id}/search?q={query}
+     * <p>
+     * Searches the library using JabRef's search syntax. The index of a library read from disk is built at the first
+     * search and rebuilt as soon as the library file is modified. Libraries opened in the GUI use the index of the GUI.
+     * The matches are returned in the same format and with the same paging parameters as {@link #getJson}. Entries
+     * with more full-text matches are returned first, otherwise the matches are in library order.
+     *
+     * @param id    The specified library
+     * @param query The search query
+     */
+    @ConcurrencyLimit(8)
+    @GET
+    @Path("search")
+    @Produces(MediaType.APPLICATION_JSON)
+    public Response search(@PathParam("id") String id,
+                           @QueryParam("q") @Nullable String query,
+                           @QueryParam("cursor") @DefaultValue("0") int cursor,
+                           @QueryParam("limit") @Nullable Integer limit,
+                           @QueryParam("fields") @Nullable String fields,
+                           @Context UriInfo uriInfo) throws IOException {
+        if (StringUtil.isBlank(query)) {
+            throw new BadRequestException("Query parameter q is required");
+        }
+        SearchQuery searchQuery = new SearchQuery(query, preferences.getSearchPreferences().getSearchFlags());
+        if (!searchQuery.isValid()) {
+            throw new BadRequestException("Invalid search query " + query);
+        }
+
+        Optional<LibraryCache.CachedLibrary> cachedLibrary = ServerUtils.getCachedLibrary(id, filesToServe, libraryCache, preferences.getImportFormatPreferences());
+        if (cachedLibrary.isEmpty()) {
+            BibDatabaseContext databaseContext = getDatabaseContext(id);
+            IndexManager indexManager = srvStateManager.getIndexManager(databaseContext)
+                                                       .orElseThrow(() -> new ServiceUnavailableException("Search index of library " + id + " is not available"));
+            return getEntriesPage(search(databaseContext, indexManager, searchQuery), databaseContext.getMode(), cursor, limit, fields, uriInfo).build();
+        }
+
+        // Index synchronously, so that the first search finds all entries
+        Function<BibDatabaseContext, IndexManager> indexManagerFactory = context ->
+                new IndexManager(context, new CurrentThreadTaskExecutor(), preferences, Injector.instantiateModelOrService(PostgreServer.class));
+        for (int attempt = 0; attempt < MAX_SEARCH_ATTEMPTS; attempt++) {
+            BibDatabaseContext databaseContext = cachedLibrary.get().getDatabaseContext();
+            Optional<LibraryCache.IndexUsage> indexUsage = cachedLibrary.get().useIndexManager(indexManagerFactory);
+            if (indexUsage.isPresent()) {
+                // The index stays open until the search is done, even if the library is parsed again in the meantime
+                try (LibraryCache.IndexUsage usage = indexUsage.get()) {
+                    return getEntriesPage(search(databaseContext, usage.getIndexManager(), searchQuery), databaseContext.getMode(), cursor, limit, fields, uriInfo).build();
+                }
+            }
+            // The library was parsed again before its index was used, thus search the newly parsed library
+            cachedLibrary = ServerUtils.getCachedLibrary(id, filesToServe, libraryCache, preferences.getImportFormatPreferences());
+            if (cachedLibrary.isEmpty()) {
+                break;
+            }
+        }
+        throw new ServiceUnavailableException("Library " + id + " is being modified, please retry");
+    }
+
+    /**
+     * Returns the entries matching the given query. Entries with more full-text matches come first, otherwise the
+     * matches are in library order.
+     */
+    private static List<BibEntry> search(BibDatabaseContext databaseContext, IndexManager indexManager, SearchQuery searchQuery) {
+        SearchResults searchResults = indexManager.search(searchQuery);
+        return databaseContext.getDatabase().getEntries().stream()
+                              .filter(searchResults::isMatched)
+                              .sorted(Comparator.comparingInt((BibEntry entry) -> countFulltextMatches(searchResults, entry)).reversed())
+                              .toList();
+    }
+
+    private static int countFulltextMatches(SearchResults searchResults, BibEntry entry) {
+        return searchResults.getFileSearchResultsForEntry(entry).values().stream().mapToInt(List::size).sum();
+    }
+
+    /**
+     * Creates a response streaming the given page of the given entries as JSON array
+     *
+     * @param cursor The index of the first entry to return
+     * @param limit  The maximum number of entries to return; all entries if <code>null</code>
+     * @param fields Comma-separated list of the fields to include in the BibTeX of the entries; all fields if <code>null</code>
+     * @throws BadRequestException if cursor or limit are out of range
+     */
+    private Response.ResponseBuilder getEntriesPage(List<BibEntry> entries, BibDatabaseMode mode, int cursor, @Nullable Integer limit, @Nullable String fields, UriInfo uriInfo) {
+        if ((cursor < 0) || (cursor > entries.size())) {
+            throw new BadRequestException("Cursor " + cursor + " is out of range");
+        }
+        if ((limit != null) && (limit <= 0)) {
+            throw new BadRequestException("Limit has to be positive");
+        }
+        int end = (limit == null) ? entries.size() : (int) Math.min(entries.size(), (long) cursor + limit);
+        // Copied, because a library opened in the GUI may be modified while the response is streamed
+        List<BibEntry> page = List.copyOf(entries.subList(cursor, end));
+        Optional<Set<Field>> projection = Optional.ofNullable(fields).map(FieldFactory::parseFieldList);
+
         BibEntryTypesManager entryTypesManager = Injector.instantiateModelOrService(BibEntryTypesManager.class);
-        List<BibEntryDTO> list = databaseContext.getDatabase().getEntries().stream()
-                                                .peek(bibEntry -> bibEntry.getSharedBibEntryData().setSharedID(Objects.hash(bibEntry)))
-                                                .map(entry -> new BibEntryDTO(entry, databaseContext.getMode(), preferences.getFieldPreferences(), entryTypesManager))
-                                                .toList();
-        return gson.toJson(list);
+        BibEntrySerializationCache serializationCache = Injector.instantiateModelOrService(BibEntrySerializationCache.class);
+        StreamingOutput stream = output -> {
+            try (JsonWriter writer = gson.newJsonWriter(new OutputStreamWriter(output, StandardCharsets.UTF_8))) {
+                writer.beginArray();
+                for (BibEntry entry : page) {
+                    // The entries are shared between requests, thus the ID is computed for the response instead of being set at the entry
+                    SharedBibEntryData sharingMetadata = new SharedBibEntryData();
+                    sharingMetadata.setSharedID(Objects.hash(entry));
+                    sharingMetadata.setVersion(entry.getSharedBibEntryData().getVersion());
+                    BibEntry entryToWrite = projection.map(projectedFields -> project(entry, projectedFields)).orElse(entry);
+                    gson.toJson(new BibEntryDTO(sharingMetadata, entryToWrite, mode, preferences.getFieldPreferences(), entryTypesManager, serializationCache), BibEntryDTO.class, writer);
+                }
+                writer.endArray();
+            }
+        };
+
+        Response.ResponseBuilder response = Response.ok(stream);
+        if (end < entries.size()) {
+            response.link(uriInfo.getRequestUriBuilder().replaceQueryParam("cursor", end).build(), "next");
+        }
+        return response;
+    }
+
+    /**
+     * Creates an entry containing the type, the citation key, and the given fields of the given entry only
+     */
+    private static BibEntry project(BibEntry entry, Set<Field> fields) {
+        BibEntry projection = new BibEntry(entry.getType()).withUserComments(entry.getUserComments());
+        entry.getCitationKey().ifPresent(projection::setCitationKey);
+        for (Field field : fields) {
+            entry.getField(field).ifPresent(value -> projection.setField(field, value));
+        }
+        return projection;
     }
 
     /**
@@ -144,13 +330,15 @@ public class LibraryResource {
         Files.writeString(targetPath, fileContent);
     }
 
+    @ConcurrencyLimit(8)
     @GET
     @Produces(JabrefMediaType.JSON_CSL_ITEM)
     public String getClsItemJson(@PathParam("id") String id) throws IOException {
-        BibDatabaseContext databaseContext = getDatabaseContext(id);
-        JabRefItemDataProvider jabRefItemDataProvider = new JabRefItemDataProvider();
-        jabRefItemDataProvider.setData(databaseContext, new BibEntryTypesManager());
-        return jabRefItemDataProvider.toJson();
+        return render(id, JabrefMediaType.JSON_CSL_ITEM, databaseContext -> {
+            JabRefItemDataProvider jabRefItemDataProvider = new JabRefItemDataProvider();
+            jabRefItemDataProvider.setData(databaseContext, new BibEntryTypesManager());
+            return jabRefItemDataProvider.toJson();
+        });
     }
 
     @GET
@@ -199,7 +387,21 @@ public class LibraryResource {
      * @param id - also "demo" for the Chocolate.bib file
      */
     private BibDatabaseContext getDatabaseContext(String id) throws IOException {
-        return ServerUtils.getBibDatabaseContext(id, filesToServe, srvStateManager, preferences.getImportFormatPreferences());
+        return ServerUtils.getBibDatabaseContext(id, filesToServe, srvStateManager, libraryCache, preferences.getImportFormatPreferences());
+    }
+
+    /**
+     * Renders the given library. The rendering is cached as long as the library read from disk is not modified.
+     *
+     * @param renderingName identifies the rendering, e.g., the media type
+     */
+    private String render(String id, String renderingName, Function<BibDatabaseContext, String> renderer) throws IOException {
+        Optional<LibraryCache.CachedLibrary> cachedLibrary = ServerUtils.getCachedLibrary(id, filesToServe, libraryCache, preferences.getImportFormatPreferences());
+        if (cachedLibrary.isPresent()) {
+            return cachedLibrary.get().getRendering(renderingName, renderer);
+        }
+        // Libraries opened in the GUI may change at any time, thus their renderings are not cached
+        return renderer.apply(getDatabaseContext(id));
     }
 
     /**
@@ -304,6 +506,7 @@ public class LibraryResource {
      * Loops through all entries in the specified library and adds attached files of type "PDF" to
      * a list and JSON serialises it.
      */
+    @ConcurrencyLimit(4)
     @GET
     @Path("entries/pdffiles")
     @Produces(MediaType.APPLICATION_JSON + ";charset=UTF-8")
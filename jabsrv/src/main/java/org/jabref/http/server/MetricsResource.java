@@ -0,0 +1,34 @@
+package org.jabref.http.server;
+
+import org.jabref.http.server.services.RequestMetrics;
+
+import com.google.gson.Gson;
+import jakarta.inject.Inject;
+import jakarta.ws.rs.DELETE;
+import jakarta.ws.rs.GET;
+import jakarta.ws.rs.Path;
+import jakarta.ws.rs.Produces;
+import jakarta.ws.rs.core.MediaType;
+
+/// Exposes the request statistics collected by [RequestMetricsFilter]
+@Path("metrics")
+public class MetricsResource {
+
+    @Inject
+    private RequestMetrics requestMetrics;
+
+    @Inject
+    private Gson gson;
+
+    @GET
+    @Produces(MediaType.APPLICATION_JSON)
+    public String get() {
+        return gson.toJson(requestMetrics.getMetrics());
+    }
+
+    /// Resets the statistics, e.g., before a load test
+    @DELETE
+    public void reset() {
+        requestMetrics.reset();
+    }
+}
@@ -0,0 +1,55 @@
+package org.jabref.http.server;
+
+import java.lang.reflect.Method;
+
+import org.jabref.http.server.services.RequestMetrics;
+
+import jakarta.annotation.Priority;
+import jakarta.inject.Inject;
+import jakarta.ws.rs.Priorities;
+import jakarta.ws.rs.container.ContainerRequestContext;
+import jakarta.ws.rs.container.ContainerRequestFilter;
+import jakarta.ws.rs.container.ContainerResponseContext;
+import jakarta.ws.rs.container.ContainerResponseFilter;
+import jakarta.ws.rs.container.ResourceInfo;
+import jakarta.ws.rs.core.Context;
+import jakarta.ws.rs.core.Response;
+import jakarta.ws.rs.ext.Provider;
+
+/// Records the latency of each request in [RequestMetrics]. The latency is measured from the start of request
+/// filtering until the response is handed to the container, i.e., the time to write a streamed entity is not included.
+@Provider
+@Priority(Priorities.AUTHENTICATION - 200)
+public class RequestMetricsFilter implements ContainerRequestFilter, ContainerResponseFilter {
+
+    private static final String START_PROPERTY = RequestMetricsFilter.class.getName() + ".start";
+
+    @Inject
+    private RequestMetrics requestMetrics;
+
+    @Context
+    private ResourceInfo resourceInfo;
+
+    @Override
+    public void filter(ContainerRequestContext requestContext) {
+        requestContext.setProperty(START_PROPERTY, System.nanoTime());
+    }
+
+    @Override
+    public void filter(ContainerRequestContext requestContext, ContainerResponseContext responseContext) {
+        if (!(requestContext.getProperty(START_PROPERTY) instanceof Long start)) {
+            // request was not matched to a resource method, e.g., 404
+            return;
+        }
+        boolean rejected = responseContext.getStatus() == Response.Status.SERVICE_UNAVAILABLE.getStatusCode();
+        requestMetrics.record(getEndpointName(), System.nanoTime() - start, rejected);
+    }
+
+    private String getEndpointName() {
+        Method method = resourceInfo.getResourceMethod();
+        if (method == null) {
+            return "unknown";
+        }
+        return resourceInfo.getResourceClass().getSimpleName() + "." + method.getName();
+    }
+}
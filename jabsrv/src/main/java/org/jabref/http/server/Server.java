@@ -4,6 +4,7 @@ import java.net.URI;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.List;
+import java.util.concurrent.ExecutorService;
 
 import javax.net.ssl.SSLContext;
 
@@ -15,10 +16,13 @@ import org.jabref.http.server.cayw.CAYWResource;
 import org.jabref.http.server.cayw.format.FormatterService;
 import org.jabref.http.server.command.CommandResource;
 import org.jabref.http.server.services.FilesToServe;
+import org.jabref.http.server.services.LibraryCache;
+import org.jabref.http.server.services.RequestMetrics;
 import org.jabref.logic.os.OS;
 
 import net.harawata.appdirs.AppDirsFactory;
 import org.glassfish.grizzly.http.server.HttpServer;
+import org.glassfish.grizzly.http.server.NetworkListener;
 import org.glassfish.grizzly.ssl.SSLContextConfigurator;
 import org.glassfish.hk2.api.ServiceLocator;
 import org.glassfish.hk2.utilities.ServiceLocatorUtilities;
@@ -33,6 +37,11 @@ public class Server {
 
     /// Entry point for the CLI
     public HttpServer run(List<Path> files, URI uri) {
+        return run(files, uri, ServerConfiguration.DEFAULT);
+    }
+
+    /// Entry point for the CLI
+    public HttpServer run(List<Path> files, URI uri, ServerConfiguration configuration) {
         List<Path> filesToServeList;
         if (files == null || files.isEmpty()) {
             LOGGER.debug("No library available to serve, serving the demo library...");
@@ -55,7 +64,7 @@ public class Server {
         ServiceLocator serviceLocator = ServiceLocatorUtilities.createAndPopulateServiceLocator();
         ServiceLocatorUtilities.addOneConstant(serviceLocator, filesToServe);
         ServiceLocatorUtilities.addOneConstant(serviceLocator, srvStateManager, "statemanager", SrvStateManager.class);
-        HttpServer httpServer = startServer(serviceLocator, uri);
+        HttpServer httpServer = startServer(serviceLocator, uri, configuration);
 
         // Required for CLI only
         // GUI uses HttpServerManager
@@ -80,12 +89,14 @@ public class Server {
         ServiceLocatorUtilities.addOneConstant(serviceLocator, filesToServe);
         ServiceLocatorUtilities.addOneConstant(serviceLocator, srvStateManager, "statemanager", SrvStateManager.class);
 
-        return startServer(serviceLocator, uri);
+        return startServer(serviceLocator, uri, ServerConfiguration.DEFAULT);
     }
 
-    private HttpServer startServer(ServiceLocator serviceLocator, URI uri) {
+    private HttpServer startServer(ServiceLocator serviceLocator, URI uri, ServerConfiguration configuration) {
         ServiceLocatorUtilities.addFactoryConstants(serviceLocator, new GsonFactory());
         ServiceLocatorUtilities.addOneConstant(serviceLocator, new FormatterService());
+        ServiceLocatorUtilities.addOneConstant(serviceLocator, new LibraryCache());
+        ServiceLocatorUtilities.addOneConstant(serviceLocator, new RequestMetrics());
         ServiceLocatorUtilities.addFactoryConstants(serviceLocator, new PreferencesFactory());
 
         // see https://stackoverflow.com/a/33794265/873282
@@ -97,17 +108,37 @@ public class Server {
         resourceConfig.register(LibraryResource.class);
         resourceConfig.register(CAYWResource.class);
         resourceConfig.register(CommandResource.class);
+        resourceConfig.register(MetricsResource.class);
         resourceConfig.register(CORSFilter.class);
+        resourceConfig.register(ConcurrencyLimitFeature.class);
+        resourceConfig.register(RequestMetricsFilter.class);
         resourceConfig.register(GlobalExceptionMapper.class);
 
         LOGGER.debug("Starting HTTP server...");
         final HttpServer httpServer =
                 GrizzlyHttpServerFactory
                         .createHttpServer(uri, resourceConfig, serviceLocator);
+        useWorkerPool(httpServer, configuration);
 
         return httpServer;
     }
 
+    /// Replaces Grizzly's default worker pool by the one of the given configuration.
+    ///
+    /// The factory method accepting a service locator always starts the server, thus the pool is replaced afterwards.
+    /// Grizzly does not shut down pools set from outside. This is not required, because the threads of the pool are
+    /// daemon threads (platform threads) or do not keep the JVM alive anyway (virtual threads).
+    private void useWorkerPool(HttpServer httpServer, ServerConfiguration configuration) {
+        LOGGER.debug("Using {}", configuration.virtualThreads() ? "virtual threads" : configuration.workerThreads() + " worker threads");
+        for (NetworkListener listener : httpServer.getListeners()) {
+            ExecutorService defaultPool = listener.getTransport().getWorkerThreadPool();
+            listener.getTransport().setWorkerThreadPool(configuration.createWorkerPool());
+            if (defaultPool != null) {
+                defaultPool.shutdown();
+            }
+        }
+    }
+
     private boolean sslCertExists() {
         Path serverKeyStore = getSslCert();
         return Files.exists(serverKeyStore);
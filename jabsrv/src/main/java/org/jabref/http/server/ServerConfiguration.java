@@ -0,0 +1,27 @@
+package org.jabref.http.server;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/// Configures how jabsrv executes requests.
+///
+/// @param virtualThreads if `true`, each request is handled on its own virtual thread. Otherwise, the requests are
+///                       handled by a fixed pool of platform threads.
+/// @param workerThreads  the number of platform threads handling requests. Only used if `virtualThreads` is `false`.
+public record ServerConfiguration(boolean virtualThreads, int workerThreads) {
+
+    public static final ServerConfiguration DEFAULT = new ServerConfiguration(true, Runtime.getRuntime().availableProcessors() * 2);
+
+    public ServerConfiguration {
+        if (workerThreads < 1) {
+            throw new IllegalArgumentException("At least one worker thread is required, but got " + workerThreads);
+        }
+    }
+
+    ExecutorService createWorkerPool() {
+        if (virtualThreads) {
+            return Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name("jabsrv-worker-", 0).factory());
+        }
+        return Executors.newFixedThreadPool(workerThreads, Thread.ofPlatform().name("jabsrv-worker-", 0).daemon().factory());
+    }
+}
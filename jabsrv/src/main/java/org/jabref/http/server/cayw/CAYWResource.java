@@ -3,11 +3,7 @@ package org.jabref.http.server.cayw;
 import java.awt.Toolkit;
 import java.awt.datatransfer.Clipboard;
 import java.awt.datatransfer.StringSelection;
-import java.io.BufferedReader;
 import java.io.IOException;
-import java.io.InputStream;
-import java.io.InputStreamReader;
-import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.util.ArrayList;
 import java.util.List;
@@ -27,23 +23,20 @@ import org.jabref.http.server.cayw.format.FormatterService;
 import org.jabref.http.server.cayw.gui.CAYWEntry;
 import org.jabref.http.server.cayw.gui.SearchDialog;
 import org.jabref.http.server.services.FilesToServe;
+import org.jabref.http.server.services.LibraryCache;
 import org.jabref.http.server.services.ServerUtils;
-import org.jabref.logic.importer.fileformat.BibtexImporter;
 import org.jabref.logic.preferences.CliPreferences;
 import org.jabref.logic.push.CitationCommandString;
 import org.jabref.logic.push.PushToApplications;
-import org.jabref.model.database.BibDatabase;
 import org.jabref.model.database.BibDatabaseContext;
 import org.jabref.model.entry.BibEntry;
 import org.jabref.model.entry.field.StandardField;
-import org.jabref.model.util.DummyFileUpdateMonitor;
 
 import jakarta.inject.Inject;
 import jakarta.ws.rs.BeanParam;
 import jakarta.ws.rs.GET;
 import jakarta.ws.rs.Path;
 import jakarta.ws.rs.core.Response;
-import org.jspecify.annotations.Nullable;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -51,7 +44,6 @@ import org.slf4j.LoggerFactory;
 @Path("better-bibtex/cayw")
 public class CAYWResource {
     private static final Logger LOGGER = LoggerFactory.getLogger(CAYWResource.class);
-    private static final String CHOCOLATEBIB_PATH = "/Chocolate.bib";
     private static boolean initialized = false;
 
     @Inject
@@ -66,6 +58,9 @@ public class CAYWResource {
     @Inject
     private SrvStateManager srvStateManager;
 
+    @Inject
+    private LibraryCache libraryCache;
+
     @GET
     public Response getCitation(
             @BeanParam CAYWQueryParams queryParams
@@ -165,61 +160,47 @@ public class CAYWResource {
     private BibDatabaseContext getBibDatabaseContext(CAYWQueryParams queryParams) throws IOException {
         Optional<String> libraryId = queryParams.getLibraryId();
         if (libraryId.isPresent()) {
-            return ServerUtils.getBibDatabaseContext(libraryId.get(), filesToServe, srvStateManager, preferences.getImportFormatPreferences());
+            return ServerUtils.getBibDatabaseContext(libraryId.get(), filesToServe, srvStateManager, libraryCache, preferences.getImportFormatPreferences());
         }
 
         Optional<String> libraryPath = queryParams.getLibraryPath();
         if (libraryPath.isPresent() && "demo".equals(libraryPath.get())) {
-            return ServerUtils.getBibDatabaseContext("demo", filesToServe, srvStateManager, preferences.getImportFormatPreferences());
+            return ServerUtils.getBibDatabaseContext("demo", filesToServe, srvStateManager, libraryCache, preferences.getImportFormatPreferences());
         }
 
         if (libraryPath.isPresent()) {
             assert !"demo".equalsIgnoreCase(libraryPath.get());
-            InputStream inputStream = getDatabaseStreamFromPath(java.nio.file.Path.of(libraryPath.get()));
-            return getDatabaseContextFromStream(inputStream);
+            return getDatabaseContextFromPath(java.nio.file.Path.of(libraryPath.get()));
         }
 
         if (srvStateManager.getActiveDatabase().isPresent()) {
             return srvStateManager.getActiveDatabase().get();
         }
 
-        return getDatabaseContextFromStream(getLatestDatabaseStream());
+        return getLatestDatabaseContext();
     }
 
-    private InputStream getLatestDatabaseStream() throws IOException {
-        InputStream libraryStream;
+    private BibDatabaseContext getLatestDatabaseContext() throws IOException {
         // Use the latest opened library as the default library
         final List<java.nio.file.Path> lastOpenedLibraries = new ArrayList<>(preferences.getLastFilesOpenedPreferences().getLastFilesOpened());
         if (lastOpenedLibraries.isEmpty()) {
             LOGGER.warn("No library path provided and no last opened libraries found, using the default chocolate.bib.");
-            libraryStream = getChocolateBibAsStream();
-        } else {
-            java.nio.file.Path lastOpenedLibrary = lastOpenedLibraries.getFirst();
-            if (!Files.exists(lastOpenedLibrary)) {
-                LOGGER.error("Last opened library does not exist, using the default chocolate.bib: {}", lastOpenedLibrary);
-                libraryStream = getChocolateBibAsStream();
-            } else {
-                libraryStream = Files.newInputStream(lastOpenedLibrary);
-            }
+            return libraryCache.getDemoLibrary(preferences.getImportFormatPreferences()).getDatabaseContext();
+        }
+        java.nio.file.Path lastOpenedLibrary = lastOpenedLibraries.getFirst();
+        if (!Files.exists(lastOpenedLibrary)) {
+            LOGGER.error("Last opened library does not exist, using the default chocolate.bib: {}", lastOpenedLibrary);
+            return libraryCache.getDemoLibrary(preferences.getImportFormatPreferences()).getDatabaseContext();
         }
-        return libraryStream;
+        return libraryCache.getLibrary(lastOpenedLibrary, preferences.getImportFormatPreferences()).getDatabaseContext();
     }
 
-    private InputStream getDatabaseStreamFromPath(java.nio.file.Path path) throws IOException {
+    private BibDatabaseContext getDatabaseContextFromPath(java.nio.file.Path path) throws IOException {
         if (!Files.exists(path)) {
             LOGGER.warn("The provided library path does not exist: {}. Using the default chocolate.bib.", path);
-            return getChocolateBibAsStream();
+            return libraryCache.getDemoLibrary(preferences.getImportFormatPreferences()).getDatabaseContext();
         }
-        return Files.newInputStream(path);
-    }
-
-    private BibDatabaseContext getDatabaseContextFromStream(InputStream inputStream) throws IOException {
-        BibtexImporter bibtexImporter = new BibtexImporter(preferences.getImportFormatPreferences(), new DummyFileUpdateMonitor());
-        BibDatabaseContext databaseContext;
-        try (BufferedReader reader = new BufferedReader(new InputStreamReader(inputStream, StandardCharsets.UTF_8))) {
-            databaseContext = bibtexImporter.importDatabase(reader).getDatabaseContext();
-        }
-        return databaseContext;
+        return libraryCache.getLibrary(path, preferences.getImportFormatPreferences()).getDatabaseContext();
     }
 
     private synchronized void initializeGUI() {
@@ -246,11 +227,6 @@ public class CAYWResource {
         }
     }
 
-    /// @return a stream to the `Chocolate.bib` file in the classpath (is null only if the file was moved or there are issues with the classpath)
-    private @Nullable InputStream getChocolateBibAsStream() {
-        return BibDatabase.class.getResourceAsStream(CHOCOLATEBIB_PATH);
-    }
-
     private CAYWEntry createCAYWEntry(BibEntry entry) {
         String label = entry.getCitationKey().orElse("");
         String shortLabel = label;
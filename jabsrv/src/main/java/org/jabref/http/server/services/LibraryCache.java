@@ -0,0 +1,233 @@
+package org.jabref.http.server.services;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.nio.file.attribute.FileTime;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+
+import org.jabref.logic.importer.ImportFormatPreferences;
+import org.jabref.logic.importer.fileformat.BibtexImporter;
+import org.jabref.logic.search.IndexManager;
+import org.jabref.model.database.BibDatabase;
+import org.jabref.model.database.BibDatabaseContext;
+import org.jabref.model.util.DummyFileUpdateMonitor;
+
+import jakarta.inject.Singleton;
+import org.jspecify.annotations.Nullable;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Caches the libraries parsed from disk, so that a library is not parsed again for each request.
+ * <p>
+ * Before a cached library is returned, the last modification time and the size of its file are compared with the ones
+ * at parsing time. If one of them changed, the library is parsed again. Renderings derived from a library (e.g., its
+ * JSON representation) are cached together with the parsed library and are thus dropped when the library is parsed
+ * again. The same applies to the search index of a library, which is closed as soon as no request uses it anymore.
+ * <p>
+ * The parsed library depends on the keyword separator of the {@link ImportFormatPreferences} only. As a new instance of
+ * the preferences is created for each request, the separator is compared, not the instance.
+ * <p>
+ * The returned {@link BibDatabaseContext}s are shared between requests and must not be modified.
+ */
+@Singleton
+public class LibraryCache {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(LibraryCache.class);
+
+    private static final String DEMO_LIBRARY = "/Chocolate.bib";
+
+    private final Map<Path, CachedLibrary> libraries = new ConcurrentHashMap<>();
+    private final AtomicLong lastVersion = new AtomicLong();
+    private volatile @Nullable CachedLibrary demoLibrary;
+
+    /**
+     * Returns the parsed library stored at the given path, parsing it if it was not parsed yet or if it was modified
+     * since it was parsed.
+     */
+    public CachedLibrary getLibrary(Path library, ImportFormatPreferences importFormatPreferences) throws IOException {
+        FileState fileState = FileState.of(library);
+        CachedLibrary cached = libraries.get(library);
+        if ((cached != null) && cached.isUpToDate(fileState, importFormatPreferences)) {
+            return cached;
+        }
+
+        try {
+            // compute blocks concurrent requests for the same library until it is parsed, thus it is parsed only once
+            return libraries.compute(library, (path, current) -> {
+                if (current != null) {
+                    if (current.isUpToDate(fileState, importFormatPreferences)) {
+                        return current;
+                    }
+                    current.close();
+                }
+                LOGGER.debug("Parsing library {}", path);
+                try {
+                    BibDatabaseContext databaseContext = newImporter(importFormatPreferences).importDatabase(path).getDatabaseContext();
+                    return new CachedLibrary(lastVersion.incrementAndGet(), fileState, getKeywordSeparator(importFormatPreferences), databaseContext);
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            });
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+    }
+
+    /**
+     * Returns the parsed demo library (Chocolate.bib), which is part of JabRef and thus never changes.
+     */
+    public CachedLibrary getDemoLibrary(ImportFormatPreferences importFormatPreferences) throws IOException {
+        Character keywordSeparator = getKeywordSeparator(importFormatPreferences);
+        CachedLibrary cached = demoLibrary;
+        if ((cached != null) && cached.keywordSeparator.equals(keywordSeparator)) {
+            return cached;
+        }
+
+        synchronized (this) {
+            cached = demoLibrary;
+            if ((cached == null) || !cached.keywordSeparator.equals(keywordSeparator)) {
+                if (cached != null) {
+                    cached.close();
+                }
+                try (InputStream chocolateBibInputStream = BibDatabase.class.getResourceAsStream(DEMO_LIBRARY)) {
+                    BufferedReader reader = new BufferedReader(new InputStreamReader(chocolateBibInputStream, StandardCharsets.UTF_8));
+                    BibDatabaseContext databaseContext = newImporter(importFormatPreferences).importDatabase(reader).getDatabaseContext();
+                    cached = new CachedLibrary(lastVersion.incrementAndGet(), null, keywordSeparator, databaseContext);
+                }
+                demoLibrary = cached;
+            }
+            return cached;
+        }
+    }
+
+    private static BibtexImporter newImporter(ImportFormatPreferences importFormatPreferences) {
+        return new BibtexImporter(importFormatPreferences, new DummyFileUpdateMonitor());
+    }
+
+    private static Character getKeywordSeparator(ImportFormatPreferences importFormatPreferences) {
+        return importFormatPreferences.bibEntryPreferences().getKeywordSeparator();
+    }
+
+    /**
+     * A parsed library together with the renderings derived from it
+     */
+    public static class CachedLibrary {
+        private final long version;
+        private final @Nullable FileState fileState;
+        private final Character keywordSeparator;
+        private final BibDatabaseContext databaseContext;
+        private final Map<String, String> renderings = new ConcurrentHashMap<>();
+        private @Nullable IndexManager indexManager;
+        // Number of requests currently using the index
+        private int indexUsers;
+        private boolean closed;
+
+        private CachedLibrary(long version, @Nullable FileState fileState, Character keywordSeparator, BibDatabaseContext databaseContext) {
+            this.version = version;
+            this.fileState = fileState;
+            this.keywordSeparator = keywordSeparator;
+            this.databaseContext = databaseContext;
+        }
+
+        /**
+         * Returns a number identifying the parsed state of the library. A library parsed again gets a higher version.
+         */
+        public long getVersion() {
+            return version;
+        }
+
+        public BibDatabaseContext getDatabaseContext() {
+            return databaseContext;
+        }
+
+        /**
+         * Returns the rendering with the given name, creating it using the given renderer if it was not created yet
+         */
+        public String getRendering(String name, Function<BibDatabaseContext, String> renderer) {
+            return renderings.computeIfAbsent(name, _ -> renderer.apply(databaseContext));
+        }
+
+        /**
+         * Returns the search index of the library, creating it using the given factory at the first call. The index is
+         * kept open until the returned usage is closed, even if the library is parsed again in the meantime.
+         *
+         * @return an empty Optional if the library was parsed again before the index was requested
+         */
+        public synchronized Optional<IndexUsage> useIndexManager(Function<BibDatabaseContext, IndexManager> indexManagerFactory) {
+            if (closed) {
+                return Optional.empty();
+            }
+            if (indexManager == null) {
+                indexManager = indexManagerFactory.apply(databaseContext);
+            }
+            indexUsers++;
+            return Optional.of(new IndexUsage(this, indexManager));
+        }
+
+        private synchronized void releaseIndexManager() {
+            indexUsers--;
+            closeIndexManagerIfUnused();
+        }
+
+        private synchronized void close() {
+            closed = true;
+            closeIndexManagerIfUnused();
+        }
+
+        private void closeIndexManagerIfUnused() {
+            if (closed && (indexUsers == 0) && (indexManager != null)) {
+                indexManager.close();
+                indexManager = null;
+            }
+        }
+
+        private boolean isUpToDate(FileState currentFileState, ImportFormatPreferences currentImportFormatPreferences) {
+            return currentFileState.equals(fileState) && keywordSeparator.equals(getKeywordSeparator(currentImportFormatPreferences));
+        }
+    }
+
+    /**
+     * The use of the search index of a {@link CachedLibrary} by one request. Closing it releases the index.
+     */
+    public static class IndexUsage implements AutoCloseable {
+        private final CachedLibrary library;
+        private final IndexManager indexManager;
+        private boolean released;
+
+        private IndexUsage(CachedLibrary library, IndexManager indexManager) {
+            this.library = library;
+            this.indexManager = indexManager;
+        }
+
+        public IndexManager getIndexManager() {
+            return indexManager;
+        }
+
+        @Override
+        public synchronized void close() {
+            if (!released) {
+                released = true;
+                library.releaseIndexManager();
+            }
+        }
+    }
+
+    private record FileState(FileTime lastModifiedTime, long size) {
+        static FileState of(Path file) throws IOException {
+            BasicFileAttributes attributes = Files.readAttributes(file, BasicFileAttributes.class);
+            return new FileState(attributes.lastModifiedTime(), attributes.size());
+        }
+    }
+}
@@ -0,0 +1,106 @@
+package org.jabref.http.server.services;
+
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.jabref.http.dto.EndpointMetricsDTO;
+
+import jakarta.inject.Singleton;
+
+/**
+ * Collects the number of requests and their latencies per endpoint.
+ * <p>
+ * Latencies are recorded in a histogram with exponentially growing buckets (1µs, 2µs, 4µs, ...), thus recording is
+ * lock-free and needs constant memory. The reported percentiles are the upper bounds of the respective buckets and
+ * thus overestimate the real value by at most a factor of two.
+ */
+@Singleton
+public class RequestMetrics {
+
+    private static final int BUCKETS = 40;
+
+    private final Map<String, Endpoint> endpoints = new ConcurrentHashMap<>();
+
+    /**
+     * @param endpoint       the name of the endpoint, e.g. <code>LibraryResource.getJson</code>
+     * @param durationNanos  the time it took to create the response
+     * @param rejected       whether the request was rejected because the server was overloaded
+     */
+    public void record(String endpoint, long durationNanos, boolean rejected) {
+        endpoints.computeIfAbsent(endpoint, _ -> new Endpoint()).record(durationNanos, rejected);
+    }
+
+    public List<EndpointMetricsDTO> getMetrics() {
+        return endpoints.entrySet().stream()
+                        .map(entry -> entry.getValue().toDTO(entry.getKey()))
+                        .sorted(Comparator.comparing(EndpointMetricsDTO::endpoint))
+                        .toList();
+    }
+
+    public void reset() {
+        endpoints.clear();
+    }
+
+    private static class Endpoint {
+        private final LongAdder requests = new LongAdder();
+        private final LongAdder rejected = new LongAdder();
+        private final LongAdder totalMicros = new LongAdder();
+        private final LongAccumulator maxMicros = new LongAccumulator(Math::max, 0);
+        private final AtomicLongArray histogram = new AtomicLongArray(BUCKETS);
+
+        void record(long durationNanos, boolean isRejected) {
+            long micros = TimeUnit.NANOSECONDS.toMicros(durationNanos);
+            requests.increment();
+            if (isRejected) {
+                rejected.increment();
+            }
+            totalMicros.add(micros);
+            maxMicros.accumulate(micros);
+            // bucket i contains the durations in [2^i, 2^(i+1)) µs
+            int bucket = Math.min(BUCKETS - 1, 63 - Long.numberOfLeadingZeros(Math.max(1, micros)));
+            histogram.incrementAndGet(bucket);
+        }
+
+        EndpointMetricsDTO toDTO(String name) {
+            long count = requests.sum();
+            long max = maxMicros.get();
+            return new EndpointMetricsDTO(
+                    name,
+                    count,
+                    rejected.sum(),
+                    count == 0 ? 0 : toMillis(totalMicros.sum() / count),
+                    toMillis(percentile(0.5, max)),
+                    toMillis(percentile(0.95, max)),
+                    toMillis(percentile(0.99, max)),
+                    toMillis(max));
+        }
+
+        private long percentile(double percentile, long max) {
+            long[] counts = new long[BUCKETS];
+            long count = 0;
+            for (int i = 0; i < BUCKETS; i++) {
+                counts[i] = histogram.get(i);
+                count += counts[i];
+            }
+            long rank = (long) Math.ceil(percentile * count);
+            long seen = 0;
+            for (int i = 0; i < BUCKETS; i++) {
+                seen += counts[i];
+                if ((seen >= rank) && (seen > 0)) {
+                    return Math.min(max, (1L << (i + 1)) - 1);
+                }
+            }
+            return max;
+        }
+
+        private static double toMillis(long micros) {
+            return micros / 1000.0;
+        }
+    }
+}
@@ -1,19 +1,13 @@
 package org.jabref.http.server.services;
 
-import java.io.BufferedReader;
 import java.io.IOException;
-import java.io.InputStream;
-import java.io.InputStreamReader;
-import java.nio.charset.StandardCharsets;
 import java.nio.file.Path;
+import java.util.Optional;
 
 import org.jabref.http.SrvStateManager;
 import org.jabref.logic.importer.ImportFormatPreferences;
-import org.jabref.logic.importer.fileformat.BibtexImporter;
 import org.jabref.logic.util.io.BackupFileUtil;
-import org.jabref.model.database.BibDatabase;
 import org.jabref.model.database.BibDatabaseContext;
-import org.jabref.model.util.DummyFileUpdateMonitor;
 
 import jakarta.ws.rs.InternalServerErrorException;
 import jakarta.ws.rs.NotFoundException;
@@ -53,29 +47,39 @@ public class ServerUtils {
 
     /// @param id - also "demo" for the demo library
     /// @throws NotFoundException if no file with the given id is found in either filesToServe or contextsToServe
-    public static @NonNull BibDatabaseContext getBibDatabaseContext(String id, FilesToServe filesToServe, SrvStateManager srvStateManager, ImportFormatPreferences importFormatPreferences) throws IOException {
-        BibtexImporter bibtexImporter = new BibtexImporter(importFormatPreferences, new DummyFileUpdateMonitor());
+    public static @NonNull BibDatabaseContext getBibDatabaseContext(String id, FilesToServe filesToServe, SrvStateManager srvStateManager, LibraryCache libraryCache, ImportFormatPreferences importFormatPreferences) throws IOException {
+        Optional<LibraryCache.CachedLibrary> cachedLibrary = getCachedLibrary(id, filesToServe, libraryCache, importFormatPreferences);
+        if (cachedLibrary.isPresent()) {
+            return cachedLibrary.get().getDatabaseContext();
+        }
+
+        return srvStateManager.getOpenDatabases().stream()
+                              .filter(context -> context.getDatabasePath().isPresent())
+                              .filter(context -> {
+                                  Path p = context.getDatabasePath().get();
+                                  return (p.getFileName() + "-" + BackupFileUtil.getUniqueFilePrefix(p)).equals(id);
+                              })
+                              .findFirst()
+                              .orElseThrow(() -> new NotFoundException("No library with id " + id + " found"));
+    }
+
+    /// Returns the parsed library if the library is read from disk. Libraries opened in the GUI are not read from disk
+    /// and thus not cached: an empty Optional is returned for them.
+    ///
+    /// @param id - also "demo" for the demo library
+    /// @throws NotFoundException if filesToServe is used and no file with the given id is found in it
+    public static Optional<LibraryCache.CachedLibrary> getCachedLibrary(String id, FilesToServe filesToServe, LibraryCache libraryCache, ImportFormatPreferences importFormatPreferences) throws IOException {
         if ("demo".equals(id)) {
-            try (InputStream chocolateBibInputStream = BibDatabase.class.getResourceAsStream("/Chocolate.bib")) {
-                BufferedReader reader = new BufferedReader(new InputStreamReader(chocolateBibInputStream, StandardCharsets.UTF_8));
-                return bibtexImporter.importDatabase(reader).getDatabaseContext();
-            }
+            return Optional.of(libraryCache.getDemoLibrary(importFormatPreferences));
         }
 
         if (filesToServe.isEmpty()) {
-            return srvStateManager.getOpenDatabases().stream()
-                                  .filter(context -> context.getDatabasePath().isPresent())
-                                  .filter(context -> {
-                                      Path p = context.getDatabasePath().get();
-                                      return (p.getFileName() + "-" + BackupFileUtil.getUniqueFilePrefix(p)).equals(id);
-                                  })
-                                  .findFirst()
-                                  .orElseThrow(() -> new NotFoundException("No library with id " + id + " found"));
+            return Optional.empty();
         }
 
         Path library = getLibraryPath(id, filesToServe);
         try {
-            return bibtexImporter.importDatabase(library).getDatabaseContext();
+            return Optional.of(libraryCache.getLibrary(library, importFormatPreferences));
         } catch (IOException e) {
             LOGGER.warn("Could not find open library file {}", library, e);
             throw new InternalServerErrorException("Could not parse library", e);
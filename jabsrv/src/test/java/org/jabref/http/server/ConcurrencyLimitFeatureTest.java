@@ -0,0 +1,72 @@
+package org.jabref.http.server;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import org.jabref.http.server.services.RequestMetrics;
+
+import jakarta.ws.rs.GET;
+import jakarta.ws.rs.Path;
+import jakarta.ws.rs.core.Application;
+import jakarta.ws.rs.core.HttpHeaders;
+import jakarta.ws.rs.core.Response;
+import org.glassfish.hk2.utilities.binding.AbstractBinder;
+import org.glassfish.jersey.server.ResourceConfig;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ConcurrencyLimitFeatureTest extends ServerTest {
+
+    private static final CountDownLatch STARTED = new CountDownLatch(1);
+    private static final CountDownLatch RELEASE = new CountDownLatch(1);
+
+    private final RequestMetrics requestMetrics = new RequestMetrics();
+
+    @Path("slow")
+    public static class SlowResource {
+        @GET
+        @ConcurrencyLimit(1)
+        public String get() throws InterruptedException {
+            STARTED.countDown();
+            RELEASE.await(10, TimeUnit.SECONDS);
+            return "done";
+        }
+    }
+
+    @Override
+    protected Application configure() {
+        ResourceConfig resourceConfig = new ResourceConfig(SlowResource.class, MetricsResource.class, ConcurrencyLimitFeature.class, RequestMetricsFilter.class);
+        addGsonToResourceConfig(resourceConfig);
+        resourceConfig.register(new AbstractBinder() {
+            @Override
+            protected void configure() {
+                bind(requestMetrics).to(RequestMetrics.class);
+            }
+        });
+        return resourceConfig.getApplication();
+    }
+
+    @Test
+    void requestExceedingLimitIsRejected() throws Exception {
+        Future<String> first = target("/slow").request().async().get(String.class);
+        assertTrue(STARTED.await(10, TimeUnit.SECONDS));
+
+        try (Response second = target("/slow").request().get()) {
+            assertEquals(503, second.getStatus());
+            assertEquals(ConcurrencyLimitFeature.RETRY_AFTER_SECONDS, second.getHeaderString(HttpHeaders.RETRY_AFTER));
+        }
+
+        RELEASE.countDown();
+        assertEquals("done", first.get(10, TimeUnit.SECONDS));
+        // the permit is released again
+        assertEquals("done", target("/slow").request().get(String.class));
+
+        String metrics = target("/metrics").request().get(String.class);
+        assertTrue(metrics.contains("\"endpoint\": \"SlowResource.get\""), metrics);
+        assertTrue(metrics.contains("\"requests\": 3"), metrics);
+        assertTrue(metrics.contains("\"rejected\": 1"), metrics);
+    }
+}
@@ -1,15 +1,41 @@
 package org.jabref.http.server;
 
 import org.jabref.http.JabrefMediaType;
+import org.jabref.logic.search.PostgreServer;
 
+import com.airhacks.afterburner.injection.Injector;
 import jakarta.ws.rs.core.Application;
+import jakarta.ws.rs.core.HttpHeaders;
+import jakarta.ws.rs.core.MediaType;
+import jakarta.ws.rs.core.Response;
 import org.glassfish.jersey.server.ResourceConfig;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
 import org.junit.jupiter.api.Test;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 class LibraryResourceTest extends ServerTest {
 
+    private static PostgreServer postgreServer;
+
+    @BeforeAll
+    static void startPostgreServer() {
+        // The search of libraries read from disk gets the server from the injector
+        postgreServer = new PostgreServer();
+        Injector.setModelOrService(PostgreServer.class, postgreServer);
+    }
+
+    @AfterAll
+    static void shutdownPostgreServer() {
+        postgreServer.shutdown();
+    }
+
     @Override
     protected Application configure() {
         ResourceConfig resourceConfig = new ResourceConfig(LibraryResource.class, LibrariesResource.class);
@@ -33,9 +59,82 @@ class LibraryResourceTest extends ServerTest {
                 """, target("/libraries/" + TestBibFile.GENERAL_SERVER_TEST.id).request(JabrefMediaType.BIBTEX).get(String.class));
     }
 
+    @Test
+    void unmodifiedLibraryIsNotSentAgain() {
+        Response first = target("/libraries/" + TestBibFile.GENERAL_SERVER_TEST.id).request(MediaType.APPLICATION_JSON).get();
+        assertNotNull(first.getEntityTag());
+
+        Response second = target("/libraries/" + TestBibFile.GENERAL_SERVER_TEST.id).request(MediaType.APPLICATION_JSON)
+                                                                                      .header(HttpHeaders.IF_NONE_MATCH, first.getEntityTag())
+                                                                                      .get();
+        assertEquals(Response.Status.NOT_MODIFIED.getStatusCode(), second.getStatus());
+    }
+
+    @Test
+    void jsonIsProjectedToGivenFields() {
+        String json = target("/libraries/" + TestBibFile.GENERAL_SERVER_TEST.id).queryParam("fields", "title").request(MediaType.APPLICATION_JSON).get(String.class);
+
+        assertTrue(json.contains("Demo Title"));
+        assertFalse(json.contains("Demo Author"));
+    }
+
+    @Test
+    void jsonIsPaginated() {
+        Response firstPage = target("/libraries/demo").queryParam("limit", 2).request(MediaType.APPLICATION_JSON).get();
+        assertTrue(firstPage.getLink("next").getUri().getQuery().contains("cursor=2"));
+
+        Response lastPage = target("/libraries/demo").queryParam("cursor", 1).queryParam("limit", 1000).request(MediaType.APPLICATION_JSON).get();
+        assertNull(lastPage.getLink("next"));
+    }
+
     @Test
     void getClsItemJson() {
         assertEquals("""
                 [{"id":"Author2023test","type":"article","author":[{"family":"Author","given":"Demo"}],"event-date":{"date-parts":[[2023]]},"issued":{"date-parts":[[2023]]},"title":"Demo Title"}]""", target("/libraries/" + TestBibFile.GENERAL_SERVER_TEST.id).request(JabrefMediaType.JSON_CSL_ITEM).get(String.class));
     }
+
+    @Test
+    void searchReturnsMatchingEntries() {
+        String matches = target("/libraries/" + TestBibFile.GENERAL_SERVER_TEST.id + "/search").queryParam("q", "title=Demo").request(MediaType.APPLICATION_JSON).get(String.class);
+        String noMatches = target("/libraries/" + TestBibFile.GENERAL_SERVER_TEST.id + "/search").queryParam("q", "title=Unknown").request(MediaType.APPLICATION_JSON).get(String.class);
+
+        assertTrue(matches.contains("Author2023test"));
+        assertEquals("[]", noMatches);
+    }
+
+    @Test
+    void searchIsPaginated() {
+        Response firstPage = target("/libraries/demo/search").queryParam("q", "chocolate").queryParam("limit", 2).request(MediaType.APPLICATION_JSON).get();
+        String nextQuery = firstPage.getLink("next").getUri().getQuery();
+        assertTrue(nextQuery.contains("cursor=2"));
+        assertTrue(nextQuery.contains("q=chocolate"));
+
+        Response secondPage = client().target(firstPage.getLink("next").getUri()).request(MediaType.APPLICATION_JSON).get();
+        assertEquals(Response.Status.OK.getStatusCode(), secondPage.getStatus());
+        assertNotEquals(firstPage.readEntity(String.class), secondPage.readEntity(String.class));
+
+        Response lastPage = target("/libraries/demo/search").queryParam("q", "chocolate").queryParam("cursor", 2).queryParam("limit", 1000).request(MediaType.APPLICATION_JSON).get();
+        assertNull(lastPage.getLink("next"));
+    }
+
+    @Test
+    void blankSearchQueryIsRejected() {
+        Response response = target("/libraries/demo/search").queryParam("q", " ").request(MediaType.APPLICATION_JSON).get();
+
+        assertEquals(Response.Status.BAD_REQUEST.getStatusCode(), response.getStatus());
+    }
+
+    @Test
+    void missingSearchQueryIsRejected() {
+        Response response = target("/libraries/demo/search").request(MediaType.APPLICATION_JSON).get();
+
+        assertEquals(Response.Status.BAD_REQUEST.getStatusCode(), response.getStatus());
+    }
+
+    @Test
+    void invalidSearchQueryIsRejected() {
+        Response response = target("/libraries/demo/search").queryParam("q", "term AND").request(MediaType.APPLICATION_JSON).get();
+
+        assertEquals(Response.Status.BAD_REQUEST.getStatusCode(), response.getStatus());
+    }
 }
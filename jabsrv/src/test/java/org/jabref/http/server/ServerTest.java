@@ -3,15 +3,21 @@ package org.jabref.http.server;
 import java.util.EnumSet;
 import java.util.List;
 
+import javafx.beans.property.SimpleBooleanProperty;
+
 import org.jabref.http.JabRefSrvStateManager;
 import org.jabref.http.SrvStateManager;
 import org.jabref.http.dto.GlobalExceptionMapper;
 import org.jabref.http.dto.GsonFactory;
 import org.jabref.http.server.services.FilesToServe;
+import org.jabref.http.server.services.LibraryCache;
+import org.jabref.logic.FilePreferences;
 import org.jabref.logic.bibtex.FieldPreferences;
 import org.jabref.logic.importer.ImportFormatPreferences;
 import org.jabref.logic.preferences.CliPreferences;
+import org.jabref.logic.search.SearchPreferences;
 import org.jabref.model.entry.BibEntryPreferences;
+import org.jabref.model.search.SearchFlags;
 
 import com.google.gson.Gson;
 import org.glassfish.hk2.utilities.binding.AbstractBinder;
@@ -58,6 +64,7 @@ abstract class ServerTest extends JerseyTest {
             @Override
             protected void configure() {
                 bind(FILES_TO_SERVE).to(FilesToServe.class);
+                bind(new LibraryCache()).to(LibraryCache.class);
             }
         });
     }
@@ -102,15 +109,23 @@ abstract class ServerTest extends JerseyTest {
         BibEntryPreferences bibEntryPreferences = mock(BibEntryPreferences.class);
         when(importFormatPreferences.bibEntryPreferences()).thenReturn(bibEntryPreferences);
         when(bibEntryPreferences.getKeywordSeparator()).thenReturn(',');
+        when(preferences.getBibEntryPreferences()).thenReturn(bibEntryPreferences);
 
-        FieldPreferences fieldWriterPreferences = mock(FieldPreferences.class);
+        FieldPreferences fieldWriterPreferences = new FieldPreferences(false, List.of(), List.of());
         when(preferences.getFieldPreferences()).thenReturn(fieldWriterPreferences);
-        when(fieldWriterPreferences.shouldResolveStrings()).thenReturn(false);
 
         // defaults are in {@link org.jabref.logic.preferences.JabRefPreferences.NON_WRAPPABLE_FIELDS}
         FieldPreferences fieldContentFormatterPreferences = new FieldPreferences(false, List.of(), List.of());
         // used twice, once for reading and once for writing
         when(importFormatPreferences.fieldPreferences()).thenReturn(fieldContentFormatterPreferences);
+
+        // used by the search, which does not index linked files
+        SearchPreferences searchPreferences = mock(SearchPreferences.class);
+        when(preferences.getSearchPreferences()).thenReturn(searchPreferences);
+        when(searchPreferences.getSearchFlags()).thenReturn(EnumSet.noneOf(SearchFlags.class));
+        FilePreferences filePreferences = mock(FilePreferences.class);
+        when(preferences.getFilePreferences()).thenReturn(filePreferences);
+        when(filePreferences.fulltextIndexLinkedFilesProperty()).thenReturn(new SimpleBooleanProperty(false));
     }
 
     protected void addGlobalExceptionMapperToResourceConfig(ResourceConfig resourceConfig) {
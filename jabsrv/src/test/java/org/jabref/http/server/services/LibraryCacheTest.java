@@ -0,0 +1,112 @@
+package org.jabref.http.server.services;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.jabref.logic.importer.ImportFormatPreferences;
+import org.jabref.logic.search.IndexManager;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.Answers;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class LibraryCacheTest {
+
+    private final LibraryCache libraryCache = new LibraryCache();
+    private ImportFormatPreferences importFormatPreferences;
+    private Path library;
+
+    @BeforeEach
+    void setUp(@TempDir Path tempDir) throws IOException {
+        importFormatPreferences = mock(ImportFormatPreferences.class, Answers.RETURNS_DEEP_STUBS);
+        when(importFormatPreferences.bibEntryPreferences().getKeywordSeparator()).thenReturn(',');
+        library = tempDir.resolve("library.bib");
+        Files.writeString(library, "@Misc{first,}\n");
+    }
+
+    @Test
+    void unmodifiedLibraryIsParsedOnce() throws IOException {
+        LibraryCache.CachedLibrary first = libraryCache.getLibrary(library, importFormatPreferences);
+
+        assertSame(first, libraryCache.getLibrary(library, importFormatPreferences));
+    }
+
+    @Test
+    void modifiedLibraryIsParsedAgain() throws IOException {
+        LibraryCache.CachedLibrary first = libraryCache.getLibrary(library, importFormatPreferences);
+        first.getRendering("keys", _ -> "first");
+
+        Files.writeString(library, "@Misc{first,}\n@Misc{second,}\n");
+        Files.setLastModifiedTime(library, FileTime.from(Instant.now().plusSeconds(10)));
+        LibraryCache.CachedLibrary second = libraryCache.getLibrary(library, importFormatPreferences);
+
+        assertNotEquals(first.getVersion(), second.getVersion());
+        assertEquals(List.of("first", "second"),
+                second.getDatabaseContext().getEntries().stream().map(entry -> entry.getCitationKey().orElseThrow()).toList());
+        assertEquals("second", second.getRendering("keys", _ -> "second"));
+    }
+
+    @Test
+    void libraryIsCachedForEqualPreferences() throws IOException {
+        ImportFormatPreferences equalImportFormatPreferences = mock(ImportFormatPreferences.class, Answers.RETURNS_DEEP_STUBS);
+        when(equalImportFormatPreferences.bibEntryPreferences().getKeywordSeparator()).thenReturn(',');
+        LibraryCache.CachedLibrary first = libraryCache.getLibrary(library, importFormatPreferences);
+
+        assertSame(first, libraryCache.getLibrary(library, equalImportFormatPreferences));
+    }
+
+    @Test
+    void renderingIsCreatedOnce() throws IOException {
+        AtomicInteger renderings = new AtomicInteger();
+        LibraryCache.CachedLibrary cachedLibrary = libraryCache.getLibrary(library, importFormatPreferences);
+
+        cachedLibrary.getRendering("count", _ -> String.valueOf(renderings.incrementAndGet()));
+        String rendering = libraryCache.getLibrary(library, importFormatPreferences).getRendering("count", _ -> String.valueOf(renderings.incrementAndGet()));
+
+        assertEquals("1", rendering);
+    }
+
+    @Test
+    void indexOfModifiedLibraryIsClosed() throws IOException {
+        IndexManager indexManager = mock(IndexManager.class);
+        LibraryCache.CachedLibrary first = libraryCache.getLibrary(library, importFormatPreferences);
+        first.useIndexManager(_ -> indexManager).orElseThrow().close();
+
+        Files.writeString(library, "@Misc{second,}\n");
+        Files.setLastModifiedTime(library, FileTime.from(Instant.now().plusSeconds(10)));
+        libraryCache.getLibrary(library, importFormatPreferences);
+
+        verify(indexManager).close();
+        assertEquals(Optional.empty(), first.useIndexManager(_ -> mock(IndexManager.class)));
+    }
+
+    @Test
+    void indexInUseIsClosedAfterUse() throws IOException {
+        IndexManager indexManager = mock(IndexManager.class);
+        LibraryCache.CachedLibrary first = libraryCache.getLibrary(library, importFormatPreferences);
+        LibraryCache.IndexUsage indexUsage = first.useIndexManager(_ -> indexManager).orElseThrow();
+
+        Files.writeString(library, "@Misc{second,}\n");
+        Files.setLastModifiedTime(library, FileTime.from(Instant.now().plusSeconds(10)));
+        libraryCache.getLibrary(library, importFormatPreferences);
+
+        verify(indexManager, never()).close();
+        indexUsage.close();
+        verify(indexManager).close();
+    }
+}